@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.j9ddr.tools.ddrinteractive;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ibm.j9ddr.command.CommandParser;
+
+/**
+ * Runs a script of DDR commands against one or more core files without user interaction.
+ * 
+ * Each core is opened once and every command of the script is run against it, so the
+ * cost of locating the runtime and loading the DDR structures is paid once per core
+ * rather than once per command. One JSON object is written per line for each command
+ * as soon as it completes:
+ * <pre>
+ * {"core":"core.dmp","command":"!threads","elapsedNanos":12345,"output":"..."}
+ * </pre>
+ * A record with an "error" member is written if a core cannot be opened or a command
+ * fails; the remaining commands still run.
+ * 
+ * Usage: DDRBatch -script &lt;file&gt; [-out &lt;file&gt;] &lt;core&gt; [&lt;core&gt; ...]
+ * <p>
+ * Cores are processed one after another: the DDR structure caches are static
+ * and not safe for concurrent use, so throughput across many cores is gained by
+ * running several DDRBatch processes on disjoint sets of cores.
+ */
+public class DDRBatch
+{
+	private final List<String> commands;
+	private final PrintStream out;
+	/* receives what DDRInteractive prints itself, e.g. the !context list */
+	private final ByteArrayOutputStream console = new ByteArrayOutputStream();
+
+	/**
+	 * @param commands the DDR commands to run against each core, e.g. "!threads"
+	 * @param out where the JSON records are written
+	 */
+	public DDRBatch(List<String> commands, PrintStream out)
+	{
+		this.commands = commands;
+		this.out = out;
+	}
+
+	public static void main(String[] args) throws Exception
+	{
+		String script = null;
+		String output = null;
+		List<String> cores = new ArrayList<>();
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-script") && (i + 1 < args.length)) {
+				script = args[++i];
+			} else if (args[i].equals("-out") && (i + 1 < args.length)) {
+				output = args[++i];
+			} else {
+				cores.add(args[i]);
+			}
+		}
+
+		if ((script == null) || cores.isEmpty()) {
+			System.err.println("Usage: DDRBatch -script <file> [-out <file>] <core> [<core> ...]");
+			System.exit(1);
+		}
+
+		OutputStream stream = (output == null) ? System.out : new FileOutputStream(output);
+		PrintStream out = new PrintStream(stream, false, "UTF-8");
+
+		try {
+			DDRBatch batch = new DDRBatch(readScript(script), out);
+
+			for (String core : cores) {
+				batch.run(core);
+			}
+		} finally {
+			out.flush();
+			if (output != null) {
+				out.close();
+			}
+		}
+	}
+
+	/**
+	 * Read a script: one command per line, ignoring blank lines and lines starting with '#'.
+	 * @param fileName the script file
+	 * @return the commands
+	 * @throws IOException if the script cannot be read
+	 */
+	public static List<String> readScript(String fileName) throws IOException
+	{
+		List<String> commands = new ArrayList<>();
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileName), StandardCharsets.UTF_8))) {
+			String line;
+
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if ((line.length() > 0) && !line.startsWith("#")) {
+					commands.add(line);
+				}
+			}
+		}
+
+		return commands;
+	}
+
+	/**
+	 * Open the core and run all the commands against it.
+	 * @param core path to the core file
+	 */
+	public void run(String core)
+	{
+		DDRInteractive ddr;
+
+		try {
+			ddr = new DDRInteractive(core, new PrintStream(console, true));
+		} catch (Throwable e) {
+			writeError(core, null, e);
+			return;
+		}
+
+		try {
+			for (String command : commands) {
+				runCommand(ddr, core, command);
+			}
+		} finally {
+			try {
+				ddr.close();
+			} catch (Throwable e) {
+				writeError(core, null, e);
+			}
+		}
+	}
+
+	private void runCommand(DDRInteractive ddr, String core, String command)
+	{
+		CommandParser parser;
+
+		try {
+			parser = new CommandParser(command);
+		} catch (ParseException e) {
+			writeError(core, command, e);
+			return;
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream commandOut = new PrintStream(buffer);
+		Throwable failure = null;
+
+		console.reset();
+
+		long start = System.nanoTime();
+
+		try {
+			/* look up the context every time: the script may switch it with !context */
+			ddr.getCurrentContext().execute(parser, commandOut);
+		} catch (Throwable e) {
+			/* a broken structure in one core can raise an Error; report it and run the next command */
+			failure = e;
+		}
+
+		long elapsed = System.nanoTime() - start;
+
+		commandOut.flush();
+		try {
+			console.writeTo(buffer);
+		} catch (IOException e) {
+			/* cannot happen: both streams are in memory */
+		}
+
+		StringBuilder record = new StringBuilder();
+
+		record.append("{\"core\":");
+		appendString(record, core);
+		record.append(",\"command\":");
+		appendString(record, command);
+		record.append(",\"elapsedNanos\":").append(elapsed);
+		record.append(",\"output\":");
+		appendString(record, new String(buffer.toByteArray()));
+		if (failure != null) {
+			record.append(",\"error\":");
+			appendString(record, stackTrace(failure));
+		}
+		record.append('}');
+
+		writeRecord(record);
+	}
+
+	private void writeError(String core, String command, Throwable e)
+	{
+		StringBuilder record = new StringBuilder();
+
+		record.append("{\"core\":");
+		appendString(record, core);
+		if (command != null) {
+			record.append(",\"command\":");
+			appendString(record, command);
+		}
+		record.append(",\"error\":");
+		appendString(record, stackTrace(e));
+		record.append('}');
+
+		writeRecord(record);
+	}
+
+	private static String stackTrace(Throwable e)
+	{
+		StringWriter trace = new StringWriter();
+		e.printStackTrace(new PrintWriter(trace));
+		return trace.toString();
+	}
+
+	private void writeRecord(StringBuilder record)
+	{
+		out.println(record);
+		/* let a downstream consumer start on this record while the next command runs */
+		out.flush();
+	}
+
+	private static void appendString(StringBuilder buffer, String value)
+	{
+		buffer.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+
+			switch (ch) {
+			case '"':
+				buffer.append("\\\"");
+				break;
+			case '\\':
+				buffer.append("\\\\");
+				break;
+			case '\n':
+				buffer.append("\\n");
+				break;
+			case '\r':
+				buffer.append("\\r");
+				break;
+			case '\t':
+				buffer.append("\\t");
+				break;
+			default:
+				if (ch < 0x20) {
+					buffer.append(String.format("\\u%04x", (int) ch));
+				} else {
+					buffer.append(ch);
+				}
+				break;
+			}
+		}
+		buffer.append('"');
+	}
+}
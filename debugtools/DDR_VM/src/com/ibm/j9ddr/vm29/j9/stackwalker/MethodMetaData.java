@@ -105,7 +105,10 @@ public class MethodMetaData
 	
 	public static VoidPointer getStackMapFromJitPC(J9JavaVMPointer javaVM, J9JITExceptionTablePointer methodMetaData, UDATA jitPC) throws CorruptDataException
 	{
-		return getImpl().getStackMapFromJitPC(javaVM,methodMetaData,jitPC);
+		JITMaps maps = new JITMaps();
+
+		jitGetMapsFromPC(javaVM, methodMetaData, jitPC, maps);
+		return VoidPointer.cast(maps.stackMap);
 	}
 	
 	public static J9JITStackAtlasPointer getJitGCStackAtlas(J9JITExceptionTablePointer md) throws CorruptDataException
@@ -248,7 +251,11 @@ public class MethodMetaData
 	public static void jitGetMapsFromPC(J9JavaVMPointer javaVM,
 			J9JITExceptionTablePointer methodMetaData, UDATA jitPC, JITMaps maps) throws CorruptDataException
 	{
-		getImpl().jitGetMapsFromPC(javaVM, methodMetaData, jitPC, maps);
+		/* the maps for a PC never change, and the same frames show up on many threads */
+		if (!StackWalkerCache.getJITMaps(methodMetaData.getAddress(), jitPC.longValue(), maps)) {
+			getImpl().jitGetMapsFromPC(javaVM, methodMetaData, jitPC, maps);
+			StackWalkerCache.putJITMaps(methodMetaData.getAddress(), jitPC.longValue(), maps);
+		}
 	}
 
 	
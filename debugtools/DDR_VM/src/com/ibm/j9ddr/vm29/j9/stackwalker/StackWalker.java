@@ -1017,12 +1017,17 @@ public class StackWalker
 		{
 			int errorCode;
 	
+			if (StackWalkerCache.getStackMap(romMethod.getAddress(), offsetPC.longValue(), pushCount.intValue(), result)) {
+				return;
+			}
+
 			errorCode = j9stackmap_StackBitsForPC(offsetPC, romClass, romMethod,
 					result, pushCount.intValue());
 			if (errorCode < 0) {
 				throw new AddressedCorruptDataException(romMethod.getAddress(),
 						"Stack map failed, result = " + errorCode);
 			}
+			StackWalkerCache.putStackMap(romMethod.getAddress(), offsetPC.longValue(), pushCount.intValue(), result);
 			return;
 		}
 	
@@ -1106,14 +1111,24 @@ public class StackWalker
 				canAccessLocalsBit = J9JavaVM.J9VM_DEBUG_ATTRIBUTE_CAN_ACCESS_LOCALS;
 			}
 
-			if (walkState.walkThread.javaVM().requiredDebugAttributes().anyBitsIn(canAccessLocalsBit)) {
+			boolean debugMapper = walkState.walkThread.javaVM().requiredDebugAttributes().anyBitsIn(canAccessLocalsBit);
+			UDATA pc = UDATA.cast(offsetPC);
+
+			/* report the mapper before looking in the cache so cached and uncached walks print the same */
+			if (debugMapper) {
 				swPrintf(walkState, 4, "\tUsing debug local mapper");
-				errorCode = j9localmap_DebugLocalBitsForPC(romMethod, UDATA
-						.cast(offsetPC), result);
 			} else {
 				swPrintf(walkState, 4, "\tUsing local mapper");
-				errorCode = j9localmap_LocalBitsForPC(romMethod, UDATA
-						.cast(offsetPC), result);
+			}
+
+			if (StackWalkerCache.getLocalMap(romMethod.getAddress(), pc.longValue(), debugMapper, result)) {
+				return;
+			}
+
+			if (debugMapper) {
+				errorCode = j9localmap_DebugLocalBitsForPC(romMethod, pc, result);
+			} else {
+				errorCode = j9localmap_LocalBitsForPC(romMethod, pc, result);
 			}
 	
 			if (errorCode < 0) {
@@ -1124,6 +1139,7 @@ public class StackWalker
 				 */
 				throw new CorruptDataException("Local map failed thread " + walkState.walkThread.getHexAddress() + ", romMethod = " + romMethod.getHexAddress() + ", result - " + errorCode);
 			}
+			StackWalkerCache.putLocalMap(romMethod.getAddress(), pc.longValue(), debugMapper, result);
 	
 			return;
 		}
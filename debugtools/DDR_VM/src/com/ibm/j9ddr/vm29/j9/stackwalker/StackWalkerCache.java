@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.j9ddr.vm29.j9.stackwalker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ibm.j9ddr.vm29.pointer.PointerPointer;
+
+/**
+ * Memoizes the decoding of stack walk metadata that only depends on the method and PC:
+ * bytecode local and pending stack maps, and the JIT stack and inline maps found for a
+ * JIT PC. Thread stacks in a core often share the same frames, so the same maps are
+ * otherwise decoded again for every thread.
+ * 
+ * The vm29 classes are loaded once per VM data, so the caches are scoped to one core.
+ * Each cache is bounded and is simply emptied when it fills up.
+ * 
+ * Setting the system property com.ibm.j9ddr.stackwalker.nocache to true bypasses the
+ * caches, so that walks can be checked against freshly decoded maps.
+ */
+final class StackWalkerCache
+{
+	private static final int MAX_ENTRIES = 1 << 16;
+
+	private static final String NOCACHE_PROPERTY = "com.ibm.j9ddr.stackwalker.nocache";
+
+	private static final Map<Key, int[]> localMaps = new HashMap<Key, int[]>();
+	private static final Map<Key, int[]> stackMaps = new HashMap<Key, int[]>();
+	private static final Map<Key, PointerPointer[]> jitMaps = new HashMap<Key, PointerPointer[]>();
+
+	private StackWalkerCache()
+	{
+	}
+
+	/**
+	 * Key made of a method (ROM method or JIT metadata) address, a PC and a discriminator
+	 * (map kind, slot count or result size).
+	 */
+	private static final class Key
+	{
+		private final long method;
+		private final long pc;
+		private final long extra;
+
+		Key(long method, long pc, long extra)
+		{
+			this.method = method;
+			this.pc = pc;
+			this.extra = extra;
+		}
+
+		public boolean equals(Object obj)
+		{
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return (method == other.method) && (pc == other.pc) && (extra == other.extra);
+		}
+
+		public int hashCode()
+		{
+			long hash = (method * 31 + pc) * 31 + extra;
+			return (int) (hash ^ (hash >>> 32));
+		}
+	}
+
+	/* read on every lookup so that the caches can be bypassed part way through a session */
+	private static boolean disabled()
+	{
+		return Boolean.getBoolean(NOCACHE_PROPERTY);
+	}
+
+	private static <V> void put(Map<Key, V> cache, Key key, V value)
+	{
+		if (disabled()) {
+			return;
+		}
+		if (cache.size() >= MAX_ENTRIES) {
+			cache.clear();
+		}
+		cache.put(key, value);
+	}
+
+	private static boolean copyCached(Map<Key, int[]> cache, Key key, int[] result)
+	{
+		if (disabled()) {
+			return false;
+		}
+		int[] cached = cache.get(key);
+		if (cached == null) {
+			return false;
+		}
+		System.arraycopy(cached, 0, result, 0, result.length);
+		return true;
+	}
+
+	/**
+	 * Copy a previously decoded local map into result.
+	 * @return true if the map was found in the cache
+	 */
+	static boolean getLocalMap(long romMethod, long offsetPC, boolean debugMapper, int[] result)
+	{
+		return copyCached(localMaps, new Key(romMethod, offsetPC, debugMapper ? -result.length : result.length), result);
+	}
+
+	static void putLocalMap(long romMethod, long offsetPC, boolean debugMapper, int[] result)
+	{
+		put(localMaps, new Key(romMethod, offsetPC, debugMapper ? -result.length : result.length), result.clone());
+	}
+
+	/**
+	 * Copy a previously decoded pending stack map into result.
+	 * @return true if the map was found in the cache
+	 */
+	static boolean getStackMap(long romMethod, long offsetPC, int pushCount, int[] result)
+	{
+		return copyCached(stackMaps, new Key(romMethod, offsetPC, ((long) pushCount << 32) | result.length), result);
+	}
+
+	static void putStackMap(long romMethod, long offsetPC, int pushCount, int[] result)
+	{
+		put(stackMaps, new Key(romMethod, offsetPC, ((long) pushCount << 32) | result.length), result.clone());
+	}
+
+	/**
+	 * Fill maps with the previously found JIT stack and inline maps for the PC.
+	 * @return true if the maps were found in the cache
+	 */
+	static boolean getJITMaps(long methodMetaData, long jitPC, MethodMetaData.JITMaps maps)
+	{
+		if (disabled()) {
+			return false;
+		}
+		PointerPointer[] cached = jitMaps.get(new Key(methodMetaData, jitPC, 0));
+		if (cached == null) {
+			return false;
+		}
+		maps.stackMap = cached[0];
+		maps.inlineMap = cached[1];
+		return true;
+	}
+
+	static void putJITMaps(long methodMetaData, long jitPC, MethodMetaData.JITMaps maps)
+	{
+		put(jitMaps, new Key(methodMetaData, jitPC, 0), new PointerPointer[] { maps.stackMap, maps.inlineMap });
+	}
+}
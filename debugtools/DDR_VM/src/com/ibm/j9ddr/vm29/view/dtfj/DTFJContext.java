@@ -39,6 +39,7 @@ import com.ibm.j9ddr.view.dtfj.image.J9DDRImageSection;
 import com.ibm.j9ddr.vm29.j9.DataType;
 import com.ibm.j9ddr.vm29.j9.J9VMThreadPointerUtil.ThreadInfo;
 import com.ibm.j9ddr.vm29.pointer.AbstractPointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ClassPointer;
 import com.ibm.j9ddr.vm29.pointer.generated.J9JITDataCacheHeaderPointer;
 import com.ibm.j9ddr.vm29.pointer.generated.J9JITExceptionTablePointer;
 import com.ibm.j9ddr.vm29.pointer.generated.J9JavaVMPointer;
@@ -49,6 +50,7 @@ import com.ibm.j9ddr.vm29.pointer.generated.J9VMThreadPointer;
 import com.ibm.j9ddr.vm29.pointer.helper.J9RASHelper;
 import com.ibm.j9ddr.vm29.structure.J9JITDataCacheHeader;
 import com.ibm.j9ddr.vm29.types.UDATA;
+import com.ibm.j9ddr.vm29.view.dtfj.java.DTFJJavaClassLayout;
 import com.ibm.j9ddr.vm29.view.dtfj.java.DTFJJavaRuntime;
 
 /**
@@ -75,6 +77,7 @@ public class DTFJContext {
 	private static DTFJJavaRuntime runtime;
 	private static J9DDRImageProcess imageProcess;
 	private static Map<J9MethodPointer, List<J9JITExceptionTablePointer>> jitMethodCache = null;
+	private static Map<J9ClassPointer, DTFJJavaClassLayout> classLayoutCache = null;
 	
 	static {
 		process = AbstractPointer.getProcess();
@@ -146,6 +149,18 @@ public class DTFJContext {
 		return jitMethodCache.get(j9ramMethod);
 	}
 	
+	/**
+	 * The instance field layouts decoded so far for the classes of this process.
+	 * @return the layouts, keyed by class
+	 */
+	public static Map<J9ClassPointer, DTFJJavaClassLayout> getClassLayoutCache()
+	{
+		if (classLayoutCache == null) {
+			classLayoutCache = new HashMap<J9ClassPointer, DTFJJavaClassLayout>();
+		}
+		return classLayoutCache;
+	}
+
 	private static void cacheJITMethodAddresses() {
 		jitMethodCache = new HashMap<J9MethodPointer, List<J9JITExceptionTablePointer>>();
 		
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.j9ddr.vm29.view.dtfj.java;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.dtfj.image.CorruptData;
+import com.ibm.dtfj.image.CorruptDataException;
+import com.ibm.dtfj.image.DataUnavailable;
+import com.ibm.dtfj.java.JavaClass;
+import com.ibm.dtfj.java.JavaReference;
+import com.ibm.j9ddr.view.dtfj.J9DDRDTFJUtils;
+import com.ibm.j9ddr.vm29.j9.ObjectModel;
+import com.ibm.j9ddr.vm29.pointer.AbstractPointer;
+import com.ibm.j9ddr.vm29.pointer.ObjectReferencePointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ClassPointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ObjectPointer;
+import com.ibm.j9ddr.vm29.view.dtfj.DTFJContext;
+
+/**
+ * Precomputed instance field layout of a class, covering the whole superclass chain.
+ * 
+ * Decoding the field shapes of a class (and its superclasses) and matching them to
+ * signatures is done once per class; walking the references of an instance then
+ * only requires reading the reference slots at the recorded offsets.
+ * 
+ * Layouts are kept in the cache of the process being inspected (see
+ * {@link DTFJContext#getClassLayoutCache()}); layouts of classes whose fields could
+ * not all be decoded are rebuilt on each use rather than cached. Setting the system
+ * property com.ibm.j9ddr.dtfj.nolayoutcache to true rebuilds every layout on each use.
+ */
+public final class DTFJJavaClassLayout {
+	private static final String NOCACHE_PROPERTY = "com.ibm.j9ddr.dtfj.nolayoutcache";
+
+	/* reference fields, in superclass walk order, or CorruptData found while decoding them */
+	private final List<Object> referenceFields = new ArrayList<Object>();
+	/* the field offset of each entry of referenceFields, or -1 for corrupt entries */
+	private long[] referenceOffsets;
+	/* true for the referent field declared by java/lang/ref/Reference */
+	private boolean[] isReferent;
+	private boolean isClass;
+	private boolean isClassLoader;
+	private int referentReachability = JavaReference.REACHABILITY_STRONG;
+	/* true if any field of the class or its superclasses is corrupt */
+	private boolean hasCorruptFields;
+
+	/**
+	 * Answers the layout for the given class, decoding it on first use.
+	 * 
+	 * @param jClass class of the object
+	 * @return the layout
+	 * @throws CorruptDataException if the superclass chain cannot be walked
+	 */
+	static DTFJJavaClassLayout forClass(DTFJJavaClass jClass) throws CorruptDataException {
+		if (Boolean.getBoolean(NOCACHE_PROPERTY)) {
+			return new DTFJJavaClassLayout(jClass);
+		}
+
+		J9ClassPointer key = jClass.getJ9Class();
+		Map<J9ClassPointer, DTFJJavaClassLayout> layoutCache = DTFJContext.getClassLayoutCache();
+		DTFJJavaClassLayout layout = layoutCache.get(key);
+
+		if (null == layout) {
+			layout = new DTFJJavaClassLayout(jClass);
+			if (!layout.hasCorruptFields) {
+				layoutCache.put(key, layout);
+			}
+		}
+		return layout;
+	}
+
+	private DTFJJavaClassLayout(DTFJJavaClass jClass) throws CorruptDataException {
+		boolean isWeakReference = false;
+		boolean isSoftReference = false;
+		boolean isPhantomReference = false;
+
+		isClass = jClass.getName().equals("java/lang/Class");
+		for (JavaClass clazz = jClass; clazz != null; clazz = clazz.getSuperclass()) {
+			String className = clazz.getName();
+			isClassLoader |= className.equals("java/lang/ClassLoader");
+			isWeakReference |= className.equals("java/lang/ref/WeakReference");
+			isSoftReference |= className.equals("java/lang/ref/SoftReference");
+			isPhantomReference |= className.equals("java/lang/ref/PhantomReference");
+			addFields(clazz);
+		}
+
+		referentReachability = isWeakReference ? JavaReference.REACHABILITY_WEAK :
+							isSoftReference ? JavaReference.REACHABILITY_SOFT :
+							isPhantomReference ? JavaReference.REACHABILITY_PHANTOM :
+							JavaReference.REACHABILITY_STRONG;
+
+		int count = referenceFields.size();
+		referenceOffsets = new long[count];
+		isReferent = new boolean[count];
+		for (int i = 0; i < count; i++) {
+			Object entry = referenceFields.get(i);
+			referenceOffsets[i] = -1;
+			if (entry instanceof DTFJJavaField) {
+				DTFJJavaField field = (DTFJJavaField) entry;
+				referenceOffsets[i] = field.fieldOffset.getOffsetOrAddress().longValue();
+				String declaringClassName = null;
+				try {
+					declaringClassName = field.getDeclaringClass().getName();
+				} catch (DataUnavailable e) {
+					// declaringClassName will be null, this will be a strong ref.
+				}
+				isReferent[i] = field.getName().equals("referent") && "java/lang/ref/Reference".equals(declaringClassName);
+			} else {
+				hasCorruptFields = true;
+			}
+		}
+	}
+
+	private void addFields(JavaClass clazz) throws CorruptDataException {
+		Iterator<?> fieldIt = clazz.getDeclaredFields();
+
+		while (fieldIt.hasNext()) {
+			Object fieldObj = fieldIt.next();
+
+			if (fieldObj instanceof DTFJJavaField) {
+				DTFJJavaField field = (DTFJJavaField) fieldObj;
+
+				if ((field.getModifiers() & Modifier.STATIC) == 0) {
+					String signature = field.getSignature();
+
+					//From a reference point of view, only objects are interesting
+					if (signature.startsWith("L") || signature.startsWith("[")) {
+						referenceFields.add(field);
+					}
+				}
+			} else if (fieldObj instanceof CorruptData) {
+				referenceFields.add(fieldObj);
+			} else {
+				referenceFields.add(J9DDRDTFJUtils.newCorruptData(DTFJContext.getProcess(), "Unexpected type from field iteration: " + fieldObj + ", class=" + fieldObj.getClass().getName()));
+			}
+		}
+	}
+
+	boolean isClass() {
+		return isClass;
+	}
+
+	boolean isClassLoader() {
+		return isClassLoader;
+	}
+
+	/**
+	 * Adds a reference for each non-null reference field of the given instance.
+	 * 
+	 * @param source the instance, which must be of the class this layout was built for
+	 * @param references list to add the references (or corrupt data) to
+	 */
+	void addFieldReferences(DTFJJavaObject source, List<Object> references) {
+		J9ObjectPointer object = source.getJ9ObjectPointer();
+		AbstractPointer fieldBase;
+
+		try {
+			fieldBase = object.addOffset(ObjectModel.getHeaderSize(object));
+		} catch (Throwable t) {
+			references.add(J9DDRDTFJUtils.handleAsCorruptData(DTFJContext.getProcess(), t));
+			return;
+		}
+
+		for (int i = 0; i < referenceOffsets.length; i++) {
+			Object entry = referenceFields.get(i);
+			if (referenceOffsets[i] < 0) {
+				references.add(entry);
+				continue;
+			}
+			try {
+				J9ObjectPointer target = ObjectReferencePointer.cast(fieldBase.addOffset(referenceOffsets[i])).at(0);
+				if (target.isNull()) {
+					continue;
+				}
+				String description = "Object Reference [field name:" + ((DTFJJavaField) entry).getName() + "]";
+				// Reachability only applies to the referent field declared in java/lang/ref/Reference.
+				// (Not any referent field declared in subclasses.)
+				int reachability = isReferent[i] ? referentReachability : JavaReference.REACHABILITY_STRONG;
+				references.add(new DTFJJavaReference(source, new DTFJJavaObject(null, target), description, JavaReference.REFERENCE_FIELD, JavaReference.HEAP_ROOT_UNKNOWN, reachability));
+			} catch (Throwable t) {
+				references.add(J9DDRDTFJUtils.handleAsCorruptData(DTFJContext.getProcess(), t));
+			}
+		}
+	}
+}
@@ -23,7 +23,6 @@ package com.ibm.j9ddr.vm29.view.dtfj.java;
 
 import static com.ibm.j9ddr.view.dtfj.J9DDRDTFJUtils.corruptIterator;
 
-import java.lang.reflect.Modifier;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -225,9 +224,6 @@ public class DTFJJavaObject implements JavaObject {
 	public Iterator getReferences() {
 		boolean isClass = false;
 		boolean isClassLoader = false;
-		boolean isWeakReference = false;
-		boolean isSoftReference = false;
-		boolean isPhantomReference = false;
 		
 		if (null == references) {
 			references = new LinkedList<Object>();
@@ -245,33 +241,12 @@ public class DTFJJavaObject implements JavaObject {
 					if (isObjectArray()) {
 						addObjectArrayReferences();
 					}
-				} else {
-					isClass = (jClass != null) && jClass.getName().equals("java/lang/Class");
-					
-					List<JavaClass> superClasses = new LinkedList<JavaClass>();
-					
-					//Do superclass walk
-					while (jClass != null) {
-						String className = jClass.getName();
-						isClassLoader |= className.equals("java/lang/ClassLoader");
-						isWeakReference |= className.equals("java/lang/ref/WeakReference");
-						isSoftReference |= className.equals("java/lang/ref/SoftReference");
-						isPhantomReference |= className.equals("java/lang/ref/PhantomReference");
-						
-						superClasses.add(jClass);
-						
-						jClass = jClass.getSuperclass();
-					}
-					
-					int reachability = isWeakReference ? JavaReference.REACHABILITY_WEAK : 
-									isSoftReference ? JavaReference.REACHABILITY_SOFT :
-									isPhantomReference ? JavaReference.REACHABILITY_PHANTOM : 
-									JavaReference.REACHABILITY_STRONG;
-					
-					
-					for (JavaClass clazz : superClasses) {
-						addFieldReferences(clazz,reachability);
-					}
+				} else if (null != jClass) {
+					// the layout of the class and its superclasses is only decoded once per class
+					DTFJJavaClassLayout layout = DTFJJavaClassLayout.forClass((DTFJJavaClass) jClass);
+					isClass = layout.isClass();
+					isClassLoader = layout.isClassLoader();
+					layout.addFieldReferences(this, references);
 				}
 				
 			} catch (CorruptDataException e) {
@@ -420,61 +395,6 @@ public class DTFJJavaObject implements JavaObject {
 		return null;
 	}
 
-	private void addFieldReferences(JavaClass jClass, int referentReachabilityType) throws CorruptDataException, MemoryAccessException
-	{
-		Iterator<?> fieldIt = jClass.getDeclaredFields();
-		
-		while (fieldIt.hasNext()) {
-			Object fieldObj = fieldIt.next();
-			
-			if (fieldObj instanceof JavaField) {
-				JavaField thisField = (JavaField)fieldObj;
-				
-				if ((thisField.getModifiers() & Modifier.STATIC) == 0) {
-					String signature = thisField.getSignature();
-					
-					//From a reference point of view, only objects are interesting
-					if (signature.startsWith("L") || signature.startsWith("[")) {
-						Object targetObj = thisField.get(this);
-						
-						if (targetObj == null) {
-							continue;
-						}
-						
-						if (targetObj instanceof JavaObject) {
-							String fieldName = thisField.getName();
-							String declaringClassName = null;
-							try {
-								declaringClassName = thisField.getDeclaringClass().getName();
-							} catch (DataUnavailable e) {
-								// declaringClassName will be null, we will add this as a strong ref.
-							}
-							String description = "Object Reference [field name:" + fieldName + "]";
-							
-							// Reachability only applies to the referent field declared in java/lang/ref/Reference.
-							// (Not any referent field declared in subclasses.)
-							if (fieldName.equals("referent") &&
-								"java/lang/ref/Reference".equals(declaringClassName)) {
-								references.add(new DTFJJavaReference(this,targetObj,description,JavaReference.REFERENCE_FIELD,JavaReference.HEAP_ROOT_UNKNOWN,referentReachabilityType));
-							} else {
-								references.add(new DTFJJavaReference(this,targetObj,description,JavaReference.REFERENCE_FIELD,JavaReference.HEAP_ROOT_UNKNOWN,JavaReference.REACHABILITY_STRONG));
-							}
-						} else if (targetObj instanceof CorruptData) {
-							references.add(targetObj);
-						} else {
-							references.add(J9DDRDTFJUtils.newCorruptData(DTFJContext.getProcess(), "Unexpected type from field get: " + targetObj + ", class=" + targetObj.getClass().getName()));
-						}
-					}
-				}
-				
-			} else if (fieldObj instanceof CorruptData) {
-				references.add(fieldObj);
-			} else {
-				references.add(J9DDRDTFJUtils.newCorruptData(DTFJContext.getProcess(), "Unexpected type from field iteration: " + fieldObj + ", class=" + fieldObj.getClass().getName()));
-			}
-		}
-	}
-
 	private void addObjectArrayReferences() throws CorruptDataException, MemoryAccessException
 	{
 		final int arraySize = this.getArraySize();
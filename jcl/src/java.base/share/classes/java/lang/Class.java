@@ -71,11 +71,13 @@ import java.io.IOException;
 import jdk.internal.reflect.Reflection;
 import jdk.internal.reflect.CallerSensitive;
 import jdk.internal.reflect.ConstantPool;
+import jdk.internal.reflect.ReflectionFactory;
 /*[ELSE]*/
 import sun.misc.Unsafe;
 import sun.reflect.Reflection;
 import sun.reflect.CallerSensitive;
 import sun.reflect.ConstantPool;
+import sun.reflect.ReflectionFactory;
 /*[ENDIF]*/
 
 import java.util.ArrayList;
@@ -170,6 +172,9 @@ public final class Class<T> implements java.io.Serializable, GenericDeclaration,
 	/* Cache filename on Class to avoid repeated lookups / allocations in stack traces */
 	private transient String fileNameString;
 
+	/* Cache StackTraceElements on Class so that repeated stack traces share them, managed by the VM */
+	private transient StackTraceElement[] stackTraceElementCache;
+
 	private static final class AnnotationVars {
 		AnnotationVars() {}
 		static long annotationTypeOffset = -1;
@@ -3603,10 +3608,10 @@ private String getParameterTypesSignature(boolean throwException, String name, C
 }
 
 /*[PR CMVC 114820, CMVC 115873, CMVC 116166] add reflection cache */
-private static Method copyMethod, copyField, copyConstructor;
+/* copies the cached root Method, Field and Constructor objects, null if the cache is disabled */
+private static ReflectionFactory reflectionFactory;
 private static Field methodParameterTypesField;
 private static Field constructorParameterTypesField;
-private static final Object[] NoArgs = new Object[0];
 
 /*[PR JAZZ 107786] constructorParameterTypesField should be initialized regardless of reflectCacheEnabled or not */
 static void initCacheIds(boolean cacheEnabled, boolean cacheDebug) {
@@ -3644,18 +3649,8 @@ static void doInitCacheIds() {
 	constructorParameterTypesField.setAccessible(true);
 	methodParameterTypesField.setAccessible(true);
 	if (reflectCacheEnabled) {
-		copyConstructor = getAccessibleMethod(Constructor.class, "copy");
-		copyMethod = getAccessibleMethod(Method.class, "copy");
-		copyField = getAccessibleMethod(Field.class, "copy");
-	}
-}
-private static Method getAccessibleMethod(Class<?> cls, String name) {
-	try {
-		Method method = cls.getDeclaredMethod(name, EmptyParameters);
-		method.setAccessible(true);
-		return method;
-	} catch (NoSuchMethodException e) {
-		throw newInternalError(e);
+		/* the copies are made with direct calls, rather than by invoking the copy() methods reflectively */
+		reflectionFactory = ReflectionFactory.getReflectionFactory();
 	}
 }
 
@@ -4103,14 +4098,10 @@ private Method lookupCachedMethod(String methodName, Class<?>[] parameters) {
 		// use a null returnType to find the Method with the largest depth
 		Method method = (Method) cache.find(CacheKey.newMethodKey(methodName, parameters, null));
 		if (method != null) {
-			try {
-				Class<?>[] orgParams = getParameterTypes(method);
-				// ensure the parameter classes are identical
-				if (sameTypes(parameters, orgParams)) {
-					return (Method) copyMethod.invoke(method, NoArgs);
-				}
-			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-				throw newInternalError(e);
+			Class<?>[] orgParams = getParameterTypes(method);
+			// ensure the parameter classes are identical
+			if (sameTypes(parameters, orgParams)) {
+				return reflectionFactory.copyMethod(method);
 			}
 		}
 	}
@@ -4123,35 +4114,31 @@ private Method cacheMethod(Method method) {
 	if (reflectCacheAppOnly && ClassLoader.getStackClassLoader(2) == ClassLoader.bootstrapClassLoader) {
 		return method;
 	}
-	if (copyMethod == null) return method;
+	if (reflectionFactory == null) return method;
 	if (reflectCacheDebug) {
 		reflectCacheDebugHelper(null, 0, "cache Method: ", getName(), ".", method.getName());	//$NON-NLS-1$ //$NON-NLS-2$
 	}
+	Class<?>[] parameterTypes = getParameterTypes(method);
+	CacheKey key = CacheKey.newMethodKey(method.getName(), parameterTypes, method.getReturnType());
+	Class<?> declaringClass = method.getDeclaringClass();
+	ReflectCache cache = declaringClass.acquireReflectCache();
 	try {
-		Class<?>[] parameterTypes = getParameterTypes(method);
-		CacheKey key = CacheKey.newMethodKey(method.getName(), parameterTypes, method.getReturnType());
-		Class<?> declaringClass = method.getDeclaringClass();
-		ReflectCache cache = declaringClass.acquireReflectCache();
-		try {
-			/*[PR CMVC 116493] store inherited methods in their declaringClass */
-			method = cache.insertIfAbsent(key, method);
-		} finally {
-			if (declaringClass != this) {
-				cache.release();
-				cache = acquireReflectCache();
-			}
-		}
-		try {
-			// cache the Method with the largest depth with a null returnType		
-			CacheKey lookupKey = CacheKey.newMethodKey(method.getName(), parameterTypes, null);
-			cache.insert(lookupKey, method);
-		} finally {
+		/*[PR CMVC 116493] store inherited methods in their declaringClass */
+		method = cache.insertIfAbsent(key, method);
+	} finally {
+		if (declaringClass != this) {
 			cache.release();
+			cache = acquireReflectCache();
 		}
-		return (Method)copyMethod.invoke(method, NoArgs);
-	} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-		throw newInternalError(e);
 	}
+	try {
+		// cache the Method with the largest depth with a null returnType		
+		CacheKey lookupKey = CacheKey.newMethodKey(method.getName(), parameterTypes, null);
+		cache.insert(lookupKey, method);
+	} finally {
+		cache.release();
+	}
+	return reflectionFactory.copyMethod(method);
 }
 
 private Field lookupCachedField(String fieldName) {
@@ -4164,11 +4151,7 @@ private Field lookupCachedField(String fieldName) {
 		/*[PR 124746] Field cache cannot handle same field name with multiple types */
 		Field field = (Field) cache.find(CacheKey.newFieldKey(fieldName, null));
 		if (field != null) {
-			try {
-				return (Field)copyField.invoke(field, NoArgs);
-			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-				throw newInternalError(e);
-			}
+			return reflectionFactory.copyField(field);
 		}
 	}
 	return null;
@@ -4180,7 +4163,7 @@ private Field cacheField(Field field) {
 	if (reflectCacheAppOnly && ClassLoader.getStackClassLoader(2) == ClassLoader.bootstrapClassLoader) {
 		return field;
 	}
-	if (copyField == null) return field;
+	if (reflectionFactory == null) return field;
 	if (reflectCacheDebug) {
 		reflectCacheDebugHelper(null, 0, "cache Field: ", getName(), ".", field.getName());	//$NON-NLS-1$ //$NON-NLS-2$
 	}
@@ -4199,11 +4182,7 @@ private Field cacheField(Field field) {
 	} finally {
 		cache.release();
 	}
-	try {
-		return (Field) copyField.invoke(field, NoArgs);
-	} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-		throw newInternalError(e);
-	}
+	return reflectionFactory.copyField(field);
 }
 
 private Constructor<T> lookupCachedConstructor(Class<?>[] parameters) {
@@ -4217,13 +4196,9 @@ private Constructor<T> lookupCachedConstructor(Class<?>[] parameters) {
 		Constructor<?> constructor = (Constructor<?>) cache.find(CacheKey.newConstructorKey(parameters));
 		if (constructor != null) {
 			Class<?>[] orgParams = getParameterTypes(constructor);
-			try {
-				// ensure the parameter classes are identical
-				if (sameTypes(orgParams, parameters)) {
-					return (Constructor<T>) copyConstructor.invoke(constructor, NoArgs);
-				}
-			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-				throw newInternalError(e);
+			// ensure the parameter classes are identical
+			if (sameTypes(orgParams, parameters)) {
+				return (Constructor<T>) reflectionFactory.copyConstructor(constructor);
 			}
 		}
 	}
@@ -4236,7 +4211,7 @@ private Constructor<T> cacheConstructor(Constructor<T> constructor) {
 	if (reflectCacheAppOnly && ClassLoader.getStackClassLoader(2) == ClassLoader.bootstrapClassLoader) {
 		return constructor;
 	}
-	if (copyConstructor == null) return constructor;
+	if (reflectionFactory == null) return constructor;
 	if (reflectCacheDebug) {
 		reflectCacheDebugHelper(constructor.getParameterTypes(), 1, "cache Constructor: ", getName());	//$NON-NLS-1$
 	}
@@ -4247,23 +4222,16 @@ private Constructor<T> cacheConstructor(Constructor<T> constructor) {
 	} finally {
 		cache.release();
 	}
-	try {
-		return (Constructor<T>) copyConstructor.invoke(constructor, NoArgs);
-	} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-		throw newInternalError(e);
-	}
+	return reflectionFactory.copyConstructor(constructor);
 }
 
 private static Method[] copyMethods(Method[] methods) {
+	ReflectionFactory factory = reflectionFactory;
 	Method[] result = new Method[methods.length];
-	try {
-		for (int i=0; i<methods.length; i++) {
-			result[i] = (Method)copyMethod.invoke(methods[i], NoArgs);
-		}
-		return result;
-	} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-		throw newInternalError(e);
+	for (int i=0; i<methods.length; i++) {
+		result[i] = factory.copyMethod(methods[i]);
 	}
+	return result;
 }
 
 private Method[] lookupCachedMethods(CacheKey cacheKey) {
@@ -4288,7 +4256,7 @@ private Method[] cacheMethods(Method[] methods, CacheKey cacheKey) {
 	if (reflectCacheAppOnly && ClassLoader.getStackClassLoader(2) == ClassLoader.bootstrapClassLoader) {
 		return methods;
 	}
-	if (copyMethod == null) return methods;
+	if (reflectionFactory == null) return methods;
 	if (reflectCacheDebug) {
 		reflectCacheDebugHelper(null, 0, "cache Methods in: ", getName());	//$NON-NLS-1$
 	}
@@ -4326,15 +4294,12 @@ private Method[] cacheMethods(Method[] methods, CacheKey cacheKey) {
 }
 
 private static Field[] copyFields(Field[] fields) {
+	ReflectionFactory factory = reflectionFactory;
 	Field[] result = new Field[fields.length];
-	try {
-		for (int i=0; i<fields.length; i++) {
-			result[i] = (Field)copyField.invoke(fields[i], NoArgs);
-		}
-		return result;
-	} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-		throw newInternalError(e);
+	for (int i=0; i<fields.length; i++) {
+		result[i] = factory.copyField(fields[i]);
 	}
+	return result;
 }
 
 private Field[] lookupCachedFields(CacheKey cacheKey) {
@@ -4359,7 +4324,7 @@ private Field[] cacheFields(Field[] fields, CacheKey cacheKey) {
 	if (reflectCacheAppOnly && ClassLoader.getStackClassLoader(2) == ClassLoader.bootstrapClassLoader) {
 		return fields;
 	}
-	if (copyField == null) return fields;
+	if (reflectionFactory == null) return fields;
 	if (reflectCacheDebug) {
 		reflectCacheDebugHelper(null, 0, "cache Fields in: ", getName());	//$NON-NLS-1$
 	}
@@ -4397,15 +4362,12 @@ private Field[] cacheFields(Field[] fields, CacheKey cacheKey) {
 }
 
 private static <T> Constructor<T>[] copyConstructors(Constructor<T>[] constructors) {
+	ReflectionFactory factory = reflectionFactory;
 	Constructor<T>[] result = new Constructor[constructors.length];
-	try {
-		for (int i=0; i<constructors.length; i++) {
-			result[i] = (Constructor<T>) copyConstructor.invoke(constructors[i], NoArgs);
-		}
-		return result;
-	} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-		throw newInternalError(e);
+	for (int i=0; i<constructors.length; i++) {
+		result[i] = factory.copyConstructor(constructors[i]);
 	}
+	return result;
 }
 
 private Constructor<T>[] lookupCachedConstructors(CacheKey cacheKey) {
@@ -4430,7 +4392,7 @@ private Constructor<T>[] cacheConstructors(Constructor<T>[] constructors, CacheK
 	if (reflectCacheAppOnly && ClassLoader.getStackClassLoader(2) == ClassLoader.bootstrapClassLoader) {
 		return constructors;
 	}
-	if (copyConstructor == null) return constructors;
+	if (reflectionFactory == null) return constructors;
 	if (reflectCacheDebug) {
 		reflectCacheDebugHelper(null, 0, "cache Constructors in: ", getName());	//$NON-NLS-1$
 	}
@@ -29,6 +29,7 @@ import java.lang.invoke.MethodType;
 import java.lang.module.ModuleDescriptor;
 import java.lang.module.ModuleDescriptor.Version;
 import java.security.Permission;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -51,6 +52,10 @@ import java.util.stream.Stream;
 public final class StackWalker {
 
 	private static final int DEFAULT_BUFFER_SIZE = 1;
+	/* number of frames fetched by the first native call of a walk, unless the walker asks for more */
+	private static final int MIN_BATCH_SIZE = 8;
+	/* number of frames fetched by each further native call */
+	private static final int MAX_BATCH_SIZE = 64;
 	private final static int J9_RETAIN_CLASS_REFERENCE = 1;
 	private final static int J9_SHOW_REFLECT_FRAMES = 2;
 	private final static int J9_SHOW_HIDDEN_FRAMES = 4;
@@ -153,7 +158,7 @@ public final class StackWalker {
 		walkWrapperImpl(flags, "forEach", s -> { //$NON-NLS-1$
 			s.forEach(action);
 			return null;
-		});
+		}, MAX_BATCH_SIZE);
 	}
 
 	/**
@@ -177,7 +182,7 @@ public final class StackWalker {
 		 * the client's caller. Ignore reflection and special frames.
 		 */
 		List<StackFrame> result = StackWalker.walkWrapperImpl(J9_RETAIN_CLASS_REFERENCE, "getCallerClass", //$NON-NLS-1$
-				s -> s.limit(2).collect(Collectors.toList()));
+				s -> s.limit(2).collect(Collectors.toList()), 2);
 		if (result.size() < 2) {
 			/*[MSG "K0640", "getCallerClass() called from method with no caller"]*/
 			throw new IllegalCallerException(com.ibm.oti.util.Msg.getString("K0640")); //$NON-NLS-1$
@@ -192,7 +197,7 @@ public final class StackWalker {
 	}
 
 	private native static <T> T walkWrapperImpl(int flags, String walkerMethod,
-			Function<? super Stream<StackFrame>, ? extends T> function);
+			Function<? super Stream<StackFrame>, ? extends T> function, int batchSize);
 
 	/**
 	 * Traverse the calling thread's stack at the time this method is called and
@@ -201,17 +206,73 @@ public final class StackWalker {
 	 * @param <T> the type of the return value from applying function to the stream 
 	 * @param function operation to apply to the stream
 	 * @param walkState Pointer to a J9StackWalkState struct
+	 * @param batchSize number of frames to fetch with the first native call
 	 * @return the value returned by {@code function}.
 	 */
-	private static <T> T walkImpl(Function<? super Stream<StackFrame>, ? extends T> function, long walkState) {
+	private static <T> T walkImpl(Function<? super Stream<StackFrame>, ? extends T> function, long walkState, int batchSize) {
 		T result;
-		try (Stream<StackFrame> frameStream = Stream.iterate(getImpl(walkState), x -> (null != x), x -> getImpl(walkState))) {
+		FrameBuffer frames = new FrameBuffer(walkState, batchSize);
+		try (Stream<StackFrame> frameStream = Stream.iterate(frames.next(), x -> (null != x), x -> frames.next())) {
 			result = function.apply(frameStream);
 		}
 		return result;
 	}
 
-	private static native StackFrameImpl getImpl(long walkState);
+	/**
+	 * Fill frames with the next frames of a walk.
+	 * 
+	 * @param walkState Pointer to a J9StackWalkState struct
+	 * @param frames array to fill from index 0
+	 * @return the number of frames stored, less than the length of frames at the end of the stack
+	 */
+	private static native int getBatchImpl(long walkState, StackFrameImpl[] frames);
+
+	/**
+	 * Fill in the method name, method signature and line number of a frame, then
+	 * release the method of the frame.
+	 * 
+	 * @param frame a frame created by {@link #getBatchImpl(long, StackFrameImpl[])}
+	 */
+	static native void resolveFrameImpl(StackFrameImpl frame);
+
+	/**
+	 * Hands out the frames of a walk, fetching them from the VM in batches.
+	 */
+	private static final class FrameBuffer {
+		private final long walkState;
+		private StackFrameImpl[] frames;
+		private int count;
+		private int index;
+		private boolean endOfStack;
+
+		FrameBuffer(long walkState, int batchSize) {
+			this.walkState = walkState;
+			frames = new StackFrameImpl[batchSize];
+		}
+
+		StackFrameImpl next() {
+			if (index == count) {
+				if (endOfStack) {
+					return null;
+				}
+				if (0 != count) {
+					/* the walk is longer than the first batch, so continue with full sized batches */
+					if (frames.length < MAX_BATCH_SIZE) {
+						frames = new StackFrameImpl[MAX_BATCH_SIZE];
+					} else {
+						Arrays.fill(frames, null);
+					}
+				}
+				count = getBatchImpl(walkState, frames);
+				index = 0;
+				endOfStack = count < frames.length;
+				if (0 == count) {
+					return null;
+				}
+			}
+			return frames[index++];
+		}
+	}
 
 	/**
 	 * Traverse the calling thread's stack at the time this method is called and
@@ -222,7 +283,8 @@ public final class StackWalker {
 	 * @return the value returned by {@code function}.
 	 */
 	public <T> T walk(Function<? super Stream<StackFrame>, ? extends T> function) {
-		return walkWrapperImpl(flags, "walk", function); //$NON-NLS-1$
+		int batchSize = Math.max(MIN_BATCH_SIZE, Math.min(bufferSize, MAX_BATCH_SIZE));
+		return walkWrapperImpl(flags, "walk", function, batchSize); //$NON-NLS-1$
 	}
 
 	/**
@@ -338,6 +400,26 @@ public final class StackWalker {
 		private String methodName;
 		private String methodSignature;
 		boolean callerSensitive;
+		/*
+		 * The method of the frame, which may be an obsolete version if the class has since been
+		 * redefined. Until the frame is resolved, methodClass keeps the class, and with it the
+		 * method, from being unloaded. Both are cleared by resolveFrameImpl().
+		 */
+		private Class<?> methodClass;
+		private long methodRef;
+		/* methodName, methodSignature and lineNumber are filled in on first use */
+		private volatile boolean resolved;
+
+		private void resolve() {
+			if (!resolved) {
+				synchronized (this) {
+					if (!resolved) {
+						resolveFrameImpl(this);
+						resolved = true;
+					}
+				}
+			}
+		}
 
 		@Override
 		public int getByteCodeIndex() {
@@ -366,17 +448,19 @@ public final class StackWalker {
 
 		@Override
 		public int getLineNumber() {
+			resolve();
 			return lineNumber;
 		}
 
 		@Override
 		public String getMethodName() {
+			resolve();
 			return methodName;
 		}
 
 		@Override
 		public boolean isNativeMethod() {
-			return -2 == lineNumber;
+			return -2 == getLineNumber();
 		}
 
 		@Override
@@ -391,6 +475,7 @@ public final class StackWalker {
 					moduleVersion = versionInfo.get().toString();
 				}
 			}
+			resolve();
 			return new StackTraceElement(classLoaderName, moduleName, moduleVersion, className, methodName, fileName,
 					lineNumber);
 		}
@@ -408,6 +493,7 @@ public final class StackWalker {
 				/*[MSG "K0639","Stack walker not configured with RETAIN_CLASS_REFERENCE"]*/
 				throw new UnsupportedOperationException(com.ibm.oti.util.Msg.getString("K0639")); //$NON-NLS-1$
 			}
+			resolve();
 			return MethodType.fromMethodDescriptorString(methodSignature, declaringClass.internalGetClassLoader());
 		}
 
@@ -418,6 +504,7 @@ public final class StackWalker {
 		 */
 		@Override
 		public java.lang.String getDescriptor() {
+			resolve();
 			return methodSignature;
 		}
 		/*[ENDIF]*/
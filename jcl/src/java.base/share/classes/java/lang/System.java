@@ -253,9 +253,10 @@ private static void initGPUAssist() {
 
 	if ((props.getProperty("com.ibm.gpu.enable") == null) //$NON-NLS-1$
 	&& (props.getProperty("com.ibm.gpu.enforce") == null) //$NON-NLS-1$
+	&& (props.getProperty("com.ibm.gpu.cpu.enable") == null) //$NON-NLS-1$
 	) {
 		/*
-		 * The CUDA implementation of GPUAssist is not enabled by default:
+		 * The CUDA and CPU implementations of GPUAssist are not enabled by default:
 		 * one of the above properties must be set.
 		 */
 		return;
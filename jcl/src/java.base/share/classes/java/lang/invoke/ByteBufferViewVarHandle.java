@@ -23,10 +23,10 @@
 package java.lang.invoke;
 
 import static java.lang.invoke.ByteBufferViewVarHandle.ByteBufferViewVarHandleOperations.*;
-import static java.lang.invoke.MethodHandles.Lookup.internalPrivilegedLookup;
 import static java.lang.invoke.MethodType.methodType;
 
 import com.ibm.oti.util.Msg;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.ReadOnlyBufferException;
@@ -89,130 +89,93 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 	static class ByteBufferViewVarHandleOperations extends ViewVarHandle.ViewVarHandleOperations {
 		
 		/**
-		 * A ByteBuffer may be on-heap or off-heap. On-heap buffers are backed by a byte[], 
-		 * and off-heap buffers have a base memory address. This class abstracts away the
-		 * difference so that a buffer element can simply be referenced by base and offset.
+		 * A ByteBuffer may be on-heap or off-heap. On-heap buffers are backed by a byte[],
+		 * and off-heap buffers have no backing array. In both cases the address field holds
+		 * the Unsafe offset of the first element relative to the backing array, which is
+		 * null for off-heap buffers, so a buffer element can be referenced by base and offset
+		 * without testing which kind of buffer is being accessed.
+		 * 
+		 * The fields are read directly with Unsafe so that the accessors below do not allocate
+		 * or call through MethodHandles, and compile down to a load or store of the element.
 		 */
-		private static class BufferElement {
-			private static final int INDEX_OFFSET = Unsafe.ARRAY_BYTE_BASE_OFFSET;
-			private static final MethodHandle directBufferAddressMH;
-			private static final MethodHandle onHeapBufferArrayMH;
-			private static final MethodHandle bufferOffsetMH;
-			
-			final Object base;
-			final long offset;
-			
-			static {
-				MethodHandle addressMH = null;
-				MethodHandle arrayMH = null;
-				MethodHandle offsetMH = null;
-				try {
-					addressMH = internalPrivilegedLookup.findGetter(ByteBuffer.class, "address", long.class);
-					arrayMH = internalPrivilegedLookup.findGetter(ByteBuffer.class, "hb", byte[].class);
-					offsetMH = internalPrivilegedLookup.findGetter(ByteBuffer.class, "offset", int.class);
-				} catch (Throwable t) {
-					throw new InternalError("Could not create MethodHandles for ByteBuffer fields", t);
-				}
-				directBufferAddressMH = addressMH;
-				onHeapBufferArrayMH = arrayMH;
-				bufferOffsetMH = offsetMH;
-			}
-			
-			BufferElement(ByteBuffer buffer, int viewTypeSize, int index) {
-				if (buffer.isDirect()) {
-					this.base = null;
-					this.offset = computeAddress(buffer, index, viewTypeSize);
-				} else {
-					this.base = getArray(buffer);
-					this.offset = computeOffset(buffer, index, viewTypeSize);
-				}
-			}
-			
-			private final byte[] getArray(ByteBuffer buffer) {
-				try {
-					return (byte[])onHeapBufferArrayMH.invokeExact(buffer);
-				} catch (Throwable e) {
-					throw new InternalError("Could not get ByteBuffer backing array", e);
-				}
-			}
-			
-			private static final long computeOffset(ByteBuffer buffer, int index, int viewTypeSize) {
-				int arrayOffset = 0;
-				try {
-					arrayOffset = (int)bufferOffsetMH.invokeExact(buffer);
-				} catch (Throwable e) {
-					throw new InternalError("Could not get ByteBuffer offset", e);
-				}
-				return (long)INDEX_OFFSET + arrayOffset + index;
-			}
-			
-			private static final long computeAddress(ByteBuffer buffer, int index, int viewTypeSize) {
-				long base = 0;
-				try {
-					base = (long)directBufferAddressMH.invokeExact(buffer);
-				} catch (Throwable e) {
-					throw new InternalError("Could not get ByteBuffer address", e);
-				}
-				return (long)base + index;
+		private static final long BUFFER_ADDRESS_OFFSET;
+		private static final long BUFFER_ARRAY_OFFSET;
+		
+		static {
+			try {
+				BUFFER_ADDRESS_OFFSET = _unsafe.objectFieldOffset(Buffer.class.getDeclaredField("address")); //$NON-NLS-1$
+				BUFFER_ARRAY_OFFSET = _unsafe.objectFieldOffset(ByteBuffer.class.getDeclaredField("hb")); //$NON-NLS-1$
+			} catch (Throwable t) {
+				throw new InternalError("Could not find ByteBuffer fields", t); //$NON-NLS-1$
 			}
 		}
+		
+		/**
+		 * @param receiver A checked ByteBuffer.
+		 * @return The array backing receiver, or null if receiver is off-heap.
+		 */
+		static final Object getBase(ByteBuffer receiver) {
+			return _unsafe.getObject(receiver, BUFFER_ARRAY_OFFSET);
+		}
 
-		static BufferElement checkAndGetBufferElement(ByteBuffer receiver, int viewTypeSize, int index, boolean readOnlyOperation, boolean allowUnaligned) {
-			receiver.getClass();
+		/**
+		 * Checks that an element can be accessed and computes its offset relative to {@link #getBase(ByteBuffer)}.
+		 */
+		static final long checkAndGetOffset(ByteBuffer receiver, int viewTypeSize, int index, boolean readOnlyOperation, boolean allowUnaligned) {
 			boundsCheck(receiver.limit(), viewTypeSize, index);
 			if ((!readOnlyOperation) && receiver.isReadOnly()) {
 				throw new ReadOnlyBufferException();
 			}
-			BufferElement be = new BufferElement(receiver, viewTypeSize, index);
-			alignmentCheck(be.offset, viewTypeSize, allowUnaligned);
-			return be;
+			long offset = _unsafe.getLong(receiver, BUFFER_ADDRESS_OFFSET) + index;
+			alignmentCheck(offset, viewTypeSize, allowUnaligned);
+			return offset;
 		}
 
 		static final class OpChar extends ByteBufferViewVarHandleOperations {
 			private static final int BYTES = Character.BYTES;
 			
 			private static final char get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getChar(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getChar(getBase(receiver), offset);
 
 			}
 
 			private static final void set(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putChar(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putChar(getBase(receiver), offset, value);
 			}
 
 			private static final char getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getCharVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getCharVolatile(getBase(receiver), offset);
 
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharVolatile(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharVolatile(getBase(receiver), offset, value);
 			}
 
 			private static final char getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getCharOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getCharOpaque(getBase(receiver), offset);
 
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharOpaque(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharOpaque(getBase(receiver), offset, value);
 			}
 
 			private static final char getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getCharAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getCharAcquire(getBase(receiver), offset);
 
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharRelease(getBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, char testValue, char newValue, VarHandle varHandle) {
@@ -312,122 +275,122 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Double.BYTES;
 			
 			private static final double get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getDouble(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getDouble(getBase(receiver), offset);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putDouble(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putDouble(getBase(receiver), offset, value);
 			}
 
 			private static final double getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getDoubleVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getDoubleVolatile(getBase(receiver), offset);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleVolatile(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleVolatile(getBase(receiver), offset, value);
 			}
 
 			private static final double getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getDoubleOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getDoubleOpaque(getBase(receiver), offset);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleOpaque(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleOpaque(getBase(receiver), offset, value);
 			}
 
 			private static final double getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getDoubleAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getDoubleAcquire(getBase(receiver), offset);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleRelease(getBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndSetDouble(be.base, be.offset, testValue, newValue);	
+				return _unsafe.compareAndSetDouble(getBase(receiver), offset, testValue, newValue);	
 /*[ELSE]
-				return _unsafe.compareAndSwapDouble(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndSwapDouble(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final double compareAndExchange(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndExchangeDouble(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndExchangeDouble(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.compareAndExchangeDoubleVolatile(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndExchangeDoubleVolatile(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final double compareAndExchangeAcquire(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeDoubleAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeDoubleAcquire(getBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final double compareAndExchangeRelease(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeDoubleRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeDoubleRelease(getBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetDoublePlain(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetDoublePlain(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapDouble(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapDouble(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetDoubleAcquire(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetDoubleAcquire(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapDoubleAcquire(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapDoubleAcquire(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetDoubleRelease(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetDoubleRelease(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapDoubleRelease(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapDoubleRelease(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetDoublePlain(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetDoublePlain(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapDouble(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapDouble(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/
 			}
 
 			private static final double getAndSet(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetDouble(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetDouble(getBase(receiver), offset, value);
 			}
 
 			private static final double getAndSetAcquire(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetDoubleAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetDoubleAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final double getAndSetRelease(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetDoubleRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetDoubleRelease(getBase(receiver), offset, value);
 			}
 
 			private static final double getAndAdd(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
@@ -483,122 +446,122 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Float.BYTES;
 			
 			private static final float get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getFloat(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getFloat(getBase(receiver), offset);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putFloat(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putFloat(getBase(receiver), offset, value);
 			}
 
 			private static final float getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getFloatVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getFloatVolatile(getBase(receiver), offset);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatVolatile(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatVolatile(getBase(receiver), offset, value);
 			}
 
 			private static final float getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getFloatOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getFloatOpaque(getBase(receiver), offset);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatOpaque(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatOpaque(getBase(receiver), offset, value);
 			}
 
 			private static final float getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getFloatAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getFloatAcquire(getBase(receiver), offset);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatRelease(getBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndSetFloat(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndSetFloat(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.compareAndSwapFloat(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndSwapFloat(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final float compareAndExchange(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndExchangeFloat(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndExchangeFloat(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.compareAndExchangeFloatVolatile(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndExchangeFloatVolatile(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final float compareAndExchangeAcquire(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeFloatAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeFloatAcquire(getBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final float compareAndExchangeRelease(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeFloatRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeFloatRelease(getBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetFloatPlain(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetFloatPlain(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapFloat(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapFloat(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetFloatAcquire(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetFloatAcquire(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapFloatAcquire(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapFloatAcquire(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetFloatRelease(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetFloatRelease(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapFloatRelease(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapFloatRelease(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetFloatPlain(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetFloatPlain(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapFloat(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapFloat(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final float getAndSet(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetFloat(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetFloat(getBase(receiver), offset, value);
 			}
 
 			private static final float getAndSetAcquire(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetFloatAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetFloatAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final float getAndSetRelease(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetFloatRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetFloatRelease(getBase(receiver), offset, value);
 			}
 
 			private static final float getAndAdd(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
@@ -654,182 +617,182 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Integer.BYTES;
 			
 			private static final int get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getInt(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getInt(getBase(receiver), offset);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putInt(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putInt(getBase(receiver), offset, value);
 			}
 
 			private static final int getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getIntVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getIntVolatile(getBase(receiver), offset);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntVolatile(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntVolatile(getBase(receiver), offset, value);
 			}
 
 			private static final int getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getIntOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getIntOpaque(getBase(receiver), offset);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntOpaque(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntOpaque(getBase(receiver), offset, value);
 			}
 
 			private static final int getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getIntAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getIntAcquire(getBase(receiver), offset);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntRelease(getBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndSetInt(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndSetInt(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.compareAndSwapInt(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndSwapInt(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final int compareAndExchange(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndExchangeInt(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndExchangeInt(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.compareAndExchangeIntVolatile(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndExchangeIntVolatile(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final int compareAndExchangeAcquire(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeIntAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeIntAcquire(getBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final int compareAndExchangeRelease(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeIntRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeIntRelease(getBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetIntPlain(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetIntPlain(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapInt(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapInt(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetIntAcquire(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetIntAcquire(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapIntAcquire(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapIntAcquire(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetIntRelease(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetIntRelease(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapIntRelease(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapIntRelease(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetIntPlain(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetIntPlain(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapInt(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapInt(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final int getAndSet(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetInt(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetInt(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndSetAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetIntAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetIntAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndSetRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetIntRelease(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndAdd(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddInt(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddInt(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndAddAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddIntAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddIntAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndAddRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddIntRelease(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseAnd(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndInt(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndInt(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseAndAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndIntAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndIntAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseAndRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndIntRelease(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseOr(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrInt(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrInt(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseOrAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrIntAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrIntAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseOrRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrIntRelease(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseXor(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorInt(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorInt(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseXorAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorIntAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorIntAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseXorRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorIntRelease(getBase(receiver), offset, value);
 			}
 		}
 		
@@ -837,182 +800,182 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Long.BYTES;
 			
 			private static final long get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getLong(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getLong(getBase(receiver), offset);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putLong(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putLong(getBase(receiver), offset, value);
 			}
 
 			private static final long getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getLongVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getLongVolatile(getBase(receiver), offset);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongVolatile(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongVolatile(getBase(receiver), offset, value);
 			}
 
 			private static final long getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getLongOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getLongOpaque(getBase(receiver), offset);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongOpaque(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongOpaque(getBase(receiver), offset, value);
 			}
 
 			private static final long getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getLongAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getLongAcquire(getBase(receiver), offset);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongRelease(getBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndSetLong(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndSetLong(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.compareAndSwapLong(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndSwapLong(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final long compareAndExchange(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndExchangeLong(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndExchangeLong(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.compareAndExchangeLongVolatile(be.base, be.offset, testValue, newValue);
+				return _unsafe.compareAndExchangeLongVolatile(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final long compareAndExchangeAcquire(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeLongAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeLongAcquire(getBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final long compareAndExchangeRelease(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeLongRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeLongRelease(getBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetLongPlain(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetLongPlain(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapLong(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapLong(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetLongAcquire(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetLongAcquire(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapLongAcquire(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapLongAcquire(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetLongRelease(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetLongRelease(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapLongRelease(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapLongRelease(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetLongPlain(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSetLongPlain(getBase(receiver), offset, testValue, newValue);
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapLong(be.base, be.offset, testValue, newValue);
+				return _unsafe.weakCompareAndSwapLong(getBase(receiver), offset, testValue, newValue);
 /*[ENDIF]*/				
 			}
 
 			private static final long getAndSet(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetLong(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetLong(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndSetAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetLongAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetLongAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndSetRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetLongRelease(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndAdd(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddLong(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddLong(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndAddAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddLongAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddLongAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndAddRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddLongRelease(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseAnd(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndLong(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndLong(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseAndAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndLongAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndLongAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseAndRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndLongRelease(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseOr(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrLong(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrLong(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseOrAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrLongAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrLongAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseOrRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrLongRelease(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseXor(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorLong(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorLong(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseXorAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorLongAcquire(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorLongAcquire(getBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseXorRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorLongRelease(getBase(receiver), offset, value);
 			}
 		}
 		
@@ -1020,43 +983,43 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Short.BYTES;
 			
 			private static final short get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getShort(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getShort(getBase(receiver), offset);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putShort(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putShort(getBase(receiver), offset, value);
 			}
 
 			private static final short getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getShortVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getShortVolatile(getBase(receiver), offset);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortVolatile(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortVolatile(getBase(receiver), offset, value);
 			}
 
 			private static final short getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getShortOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getShortOpaque(getBase(receiver), offset);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortOpaque(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortOpaque(getBase(receiver), offset, value);
 			}
 
 			private static final short getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getShortAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getShortAcquire(getBase(receiver), offset);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortRelease(be.base, be.offset, value);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortRelease(getBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, short testValue, short newValue, VarHandle varHandle) {
@@ -1156,47 +1119,47 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Character.BYTES;
 			
 			private static final char get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				char result = _unsafe.getChar(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				char result = _unsafe.getChar(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putChar(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putChar(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final char getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				char result = _unsafe.getCharVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				char result = _unsafe.getCharVolatile(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharVolatile(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final char getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				char result = _unsafe.getCharOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				char result = _unsafe.getCharOpaque(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharOpaque(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final char getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				char result = _unsafe.getCharAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				char result = _unsafe.getCharAcquire(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharRelease(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, char testValue, char newValue, VarHandle varHandle) {
@@ -1296,131 +1259,131 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Double.BYTES;
 			
 			private static final double get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				double result = _unsafe.getDouble(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				double result = _unsafe.getDouble(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putDouble(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putDouble(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final double getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				double result = _unsafe.getDoubleVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				double result = _unsafe.getDoubleVolatile(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleVolatile(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final double getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				double result = _unsafe.getDoubleOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				double result = _unsafe.getDoubleOpaque(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleOpaque(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final double getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				double result = _unsafe.getDoubleAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				double result = _unsafe.getDoubleAcquire(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleRelease(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndSetDouble(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.compareAndSetDouble(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.compareAndSwapDouble(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.compareAndSwapDouble(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final double compareAndExchange(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				double result = _unsafe.compareAndExchangeDouble(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				double result = _unsafe.compareAndExchangeDouble(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				double result = _unsafe.compareAndExchangeDoubleVolatile(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				double result = _unsafe.compareAndExchangeDoubleVolatile(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 				return convertEndian(result);
 			}
 
 			private static final double compareAndExchangeAcquire(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				double result = _unsafe.compareAndExchangeDoubleAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				double result = _unsafe.compareAndExchangeDoubleAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final double compareAndExchangeRelease(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				double result = _unsafe.compareAndExchangeDoubleRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				double result = _unsafe.compareAndExchangeDoubleRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetDoublePlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetDoublePlain(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapDouble(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapDouble(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetDoubleAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetDoubleAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapDoubleAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapDoubleAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetDoubleRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetDoubleRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapDoubleRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapDoubleRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetDoublePlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetDoublePlain(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapDouble(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapDouble(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/
 			}
 
 			private static final double getAndSet(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				double result = _unsafe.getAndSetDouble(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				double result = _unsafe.getAndSetDouble(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final double getAndSetAcquire(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				double result = _unsafe.getAndSetDoubleAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				double result = _unsafe.getAndSetDoubleAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final double getAndSetRelease(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				double result = _unsafe.getAndSetDoubleRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				double result = _unsafe.getAndSetDoubleRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
@@ -1477,131 +1440,131 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Float.BYTES;
 			
 			private static final float get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				float result = _unsafe.getFloat(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				float result = _unsafe.getFloat(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putFloat(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putFloat(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final float getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				float result = _unsafe.getFloatVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				float result = _unsafe.getFloatVolatile(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatVolatile(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final float getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				float result = _unsafe.getFloatOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				float result = _unsafe.getFloatOpaque(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatOpaque(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final float getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				float result = _unsafe.getFloatAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				float result = _unsafe.getFloatAcquire(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatRelease(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndSetFloat(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.compareAndSetFloat(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.compareAndSwapFloat(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.compareAndSwapFloat(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final float compareAndExchange(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/
-				float result = _unsafe.compareAndExchangeFloat(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				float result = _unsafe.compareAndExchangeFloat(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				float result = _unsafe.compareAndExchangeFloatVolatile(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				float result = _unsafe.compareAndExchangeFloatVolatile(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 				return convertEndian(result);
 			}
 
 			private static final float compareAndExchangeAcquire(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				float result = _unsafe.compareAndExchangeFloatAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				float result = _unsafe.compareAndExchangeFloatAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final float compareAndExchangeRelease(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				float result = _unsafe.compareAndExchangeFloatRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				float result = _unsafe.compareAndExchangeFloatRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetFloatPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetFloatPlain(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapFloat(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapFloat(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetFloatAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetFloatAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapFloatAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapFloatAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetFloatRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetFloatRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapFloatRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapFloatRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/
-				return _unsafe.weakCompareAndSetFloatPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetFloatPlain(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapFloat(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapFloat(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final float getAndSet(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				float result = _unsafe.getAndSetFloat(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				float result = _unsafe.getAndSetFloat(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final float getAndSetAcquire(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				float result = _unsafe.getAndSetFloatAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				float result = _unsafe.getAndSetFloatAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final float getAndSetRelease(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				float result = _unsafe.getAndSetFloatRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				float result = _unsafe.getAndSetFloatRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
@@ -1658,203 +1621,203 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Integer.BYTES;
 			
 			private static final int get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				int result = _unsafe.getInt(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				int result = _unsafe.getInt(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putInt(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final int getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				int result = _unsafe.getIntVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				int result = _unsafe.getIntVolatile(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntVolatile(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final int getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				int result = _unsafe.getIntOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				int result = _unsafe.getIntOpaque(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntOpaque(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final int getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				int result = _unsafe.getIntAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				int result = _unsafe.getIntAcquire(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntRelease(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndSetInt(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.compareAndSetInt(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.compareAndSwapInt(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.compareAndSwapInt(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final int compareAndExchange(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/
-				int result = _unsafe.compareAndExchangeInt(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				int result = _unsafe.compareAndExchangeInt(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				int result = _unsafe.compareAndExchangeIntVolatile(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				int result = _unsafe.compareAndExchangeIntVolatile(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 				return convertEndian(result);
 			}
 
 			private static final int compareAndExchangeAcquire(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.compareAndExchangeIntAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.compareAndExchangeIntAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final int compareAndExchangeRelease(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.compareAndExchangeIntRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.compareAndExchangeIntRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/
-				return _unsafe.weakCompareAndSetIntPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetIntPlain(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapInt(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapInt(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetIntAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetIntAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapIntAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapIntAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetIntRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetIntRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapIntRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapIntRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/
-				return _unsafe.weakCompareAndSetIntPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetIntPlain(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapInt(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapInt(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final int getAndSet(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndSetInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndSetInt(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndSetAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndSetIntAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndSetIntAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndSetRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndSetIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndSetIntRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndAdd(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndAddInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndAddInt(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndAddAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndAddIntAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndAddIntAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndAddRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndAddIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndAddIntRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseAnd(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseAndInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseAndInt(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseAndAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseAndIntAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseAndIntAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseAndRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseAndIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseAndIntRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseOr(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseOrInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseOrInt(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseOrAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseOrIntAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseOrIntAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseOrRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseOrIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseOrIntRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseXor(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseXorInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseXorInt(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseXorAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseXorIntAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseXorIntAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseXorRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseXorIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseXorIntRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 		}
@@ -1863,203 +1826,203 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Long.BYTES;
 			
 			private static final long get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				long result = _unsafe.getLong(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				long result = _unsafe.getLong(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putLong(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final long getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				long result = _unsafe.getLongVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				long result = _unsafe.getLongVolatile(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongVolatile(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final long getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				long result = _unsafe.getLongOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				long result = _unsafe.getLongOpaque(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongOpaque(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final long getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				long result = _unsafe.getLongAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				long result = _unsafe.getLongAcquire(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongRelease(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.compareAndSetLong(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.compareAndSetLong(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.compareAndSwapLong(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.compareAndSwapLong(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final long compareAndExchange(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/
-				long result = _unsafe.compareAndExchangeLong(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long result = _unsafe.compareAndExchangeLong(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				long result = _unsafe.compareAndExchangeLongVolatile(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long result = _unsafe.compareAndExchangeLongVolatile(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 				return convertEndian(result);
 			}
 
 			private static final long compareAndExchangeAcquire(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.compareAndExchangeLongAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.compareAndExchangeLongAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final long compareAndExchangeRelease(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.compareAndExchangeLongRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.compareAndExchangeLongRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/
-				return _unsafe.weakCompareAndSetLongPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetLongPlain(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapLong(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapLong(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetLongAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetLongAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapLongAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapLongAcquire(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/				
-				return _unsafe.weakCompareAndSetLongRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetLongRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapLongRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapLongRelease(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
 /*[IF Sidecar19-SE-OpenJ9]*/
-				return _unsafe.weakCompareAndSetLongPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSetLongPlain(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ELSE]
-				return _unsafe.weakCompareAndSwapLong(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				return _unsafe.weakCompareAndSwapLong(getBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 /*[ENDIF]*/				
 			}
 
 			private static final long getAndSet(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndSetLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndSetLong(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndSetAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndSetLongAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndSetLongAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndSetRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndSetLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndSetLongRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndAdd(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndAddLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndAddLong(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndAddAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndAddLongAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndAddLongAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndAddRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndAddLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndAddLongRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseAnd(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseAndLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseAndLong(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseAndAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseAndLongAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseAndLongAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseAndRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseAndLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseAndLongRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseOr(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseOrLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseOrLong(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseOrAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseOrLongAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseOrLongAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseOrRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseOrLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseOrLongRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseXor(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseXorLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseXorLong(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseXorAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseXorLongAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseXorLongAcquire(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseXorRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseXorLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseXorLongRelease(getBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 		}
@@ -2068,47 +2031,47 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Short.BYTES;
 			
 			private static final short get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				short result = _unsafe.getShort(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, true);
+				short result = _unsafe.getShort(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putShort(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, true);
+				_unsafe.putShort(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final short getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				short result = _unsafe.getShortVolatile(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				short result = _unsafe.getShortVolatile(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortVolatile(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final short getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				short result = _unsafe.getShortOpaque(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				short result = _unsafe.getShortOpaque(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortOpaque(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final short getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				short result = _unsafe.getShortAcquire(be.base, be.offset);
+				long offset = checkAndGetOffset(receiver, BYTES, index, true, false);
+				short result = _unsafe.getShortAcquire(getBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortRelease(getBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, short testValue, short newValue, VarHandle varHandle) {
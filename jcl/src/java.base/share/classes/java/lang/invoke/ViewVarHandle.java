@@ -110,7 +110,7 @@ abstract class ViewVarHandle extends VarHandle {
 		}
 		
 		static final void alignmentCheck(long offset, int viewTypeSize, boolean allowUnaligned) {
-			if ((!allowUnaligned) && ((offset % viewTypeSize) != 0)) {
+			if ((!allowUnaligned) && ((offset & (viewTypeSize - 1)) != 0)) {
 				/*[MSG "K062A", "The requested access mode does not permit unaligned access."]*/
 				throw new IllegalStateException(com.ibm.oti.util.Msg.getString("K062A")); //$NON-NLS-1$
 			}
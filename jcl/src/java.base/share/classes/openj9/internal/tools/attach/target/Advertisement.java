@@ -109,7 +109,9 @@ public final class Advertisement {
 		addKeyAsciiValue(contentBuffer, KEY_PROCESS_ID, Long.toString(IPC.getProcessId()));
 		addKeyValue(contentBuffer, KEY_VM_ID, vmId);
 		addKeyValue(contentBuffer, KEY_DISPLAY_NAME, (((null == displayName) || (displayName.length() == 0))? vmId: displayName));
-		addKeyValue(contentBuffer, KEY_NOTIFIER, CommonDirectory.MASTER_NOTIFIER);
+		/* attachers which recognize the per-VM notifier post only to this VM's semaphore */
+		addKeyValue(contentBuffer, KEY_NOTIFIER, CommonDirectory.isTargetedNotification()
+				? TargetDirectory.ATTACH_NOTIFIER_FILENAME : CommonDirectory.MASTER_NOTIFIER);
 		addKeyValue(contentBuffer, GLOBAL_SEMAPHORE, Boolean.TRUE.toString());
 		File tmpTargetDirectoryFileObject = TargetDirectory.getTargetDirectoryFileObject();
 		File tmpSyncFileObject = TargetDirectory.getSyncFileObject();
@@ -257,6 +259,14 @@ public final class Advertisement {
 		return props.getProperty(KEY_NOTIFIER);
 	}
 
+	/**
+	 * 
+	 * @return true if the target waits on a semaphore in its own directory rather than the master semaphore
+	 */
+	public boolean isTargetedNotification() {
+		return TargetDirectory.ATTACH_NOTIFIER_FILENAME.equals(getNotifier());
+	}
+
 	/**
 	 * attacher creates a file using this path when it is attaching to the target.
 	 * @return file path
@@ -50,6 +50,10 @@ public class AttachHandler extends Thread {
 	 */
 	static final String LOGGING_ENABLE_PROPERTY = "com.ibm.tools.attach.logging"; //$NON-NLS-1$
 	static final String LOG_NAME_PROPERTY = "com.ibm.tools.attach.log.name"; //$NON-NLS-1$
+	/**
+	 * set this property to "no" to wait on the master semaphore, for hosts with attachers which do not notify VMs directly
+	 */
+	static final String TARGETED_NOTIFICATION_PROPERTY = "com.ibm.tools.attach.targetedNotification"; //$NON-NLS-1$
 	static final String VMID_VALID_PATTERN = "\\p{Alpha}\\w*"; /* Alphabetic followed by alphanumeric or underscore */ //$NON-NLS-1$
 
 	/**
@@ -266,6 +270,8 @@ public class AttachHandler extends Thread {
 	private boolean initialize() throws IOException {
 		String loggingProperty = com.ibm.oti.vm.VM.getVMLangAccess().internalGetProperties().getProperty(LOGGING_ENABLE_PROPERTY);
 		String logName = com.ibm.oti.vm.VM.getVMLangAccess().internalGetProperties().getProperty(LOG_NAME_PROPERTY);
+		String targetedNotificationProperty = com.ibm.oti.vm.VM.getVMLangAccess().internalGetProperties().getProperty(TARGETED_NOTIFICATION_PROPERTY);
+		CommonDirectory.setTargetedNotification(!"no".equalsIgnoreCase(targetedNotificationProperty)); //$NON-NLS-1$
 		if ((null != logName) && !logName.equals("")) { //$NON-NLS-1$
 			logName = logName + '_';
 		} else {
@@ -412,6 +418,15 @@ public class AttachHandler extends Thread {
 	static boolean terminateWaitLoop(boolean wakeHandler, int retryNumber) {
 		boolean gotLock = false;
 		boolean destroySemaphore = false;
+
+		if (CommonDirectory.isTargetedNotification()) {
+			/* No other VM uses this VM's semaphore, so wake the wait loop directly and destroy the semaphore afterwards. */
+			setDoCancelNotify(false);
+			if (wakeHandler && isWaitingForSemaphore()) {
+				CommonDirectory.notifyTarget(getVmId(), true);
+			}
+			return true;
+		}
 		/*[PR CMVC 187777 : non-clean shutdown in life cycle tests]*/
 		/*
 		 * If multiple VMs shut down simultaneously, there is contention for the lock file.
@@ -556,7 +571,12 @@ public class AttachHandler extends Thread {
 				}
 				TargetDirectory.deleteMyDirectory(true); /*[PR Jazz 58094] terminate() cleared out the directory */
 				/*[PR CMVC 161992] wait until the attach handler thread has finished before closing the semaphore*/
-				if (destroySemaphore) {
+				if (destroySemaphore && CommonDirectory.isTargetedNotification()) {
+					CommonDirectory.destroySemaphore();
+					if (LOGGING_DISABLED != loggingStatus) {
+						IPC.logMessage("AttachHandler destroyed semaphore"); //$NON-NLS-1$
+					}
+				} else if (destroySemaphore) {
 					if (CommonDirectory.tryObtainMasterLock()) {
 						/* if this fails, then another process became active after the VMs were counted */
 						CommonDirectory.destroySemaphore();
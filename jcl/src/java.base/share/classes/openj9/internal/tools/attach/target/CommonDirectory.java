@@ -52,6 +52,7 @@ public abstract class CommonDirectory {
 	private static FileLock masterLock;
 	private static String semaphoreId;
 	private static int masterLockCount = 0;
+	private static volatile boolean targetedNotification;
 	/**
 	 * default name of directories where VMs place their advertisements
 	 */
@@ -227,6 +228,39 @@ public abstract class CommonDirectory {
 		}
 	}
 
+	/**
+	 * Select the semaphore this VM waits on.
+	 * @param targeted true to use a semaphore in this VM's target directory, which only attachers to this VM post,
+	 * false to use the master semaphore, which every attacher posts once for each VM
+	 */
+	static void setTargetedNotification(boolean targeted) {
+		targetedNotification = targeted;
+	}
+
+	/**
+	 * @return true if this VM waits on the semaphore in its own target directory
+	 */
+	static boolean isTargetedNotification() {
+		return targetedNotification;
+	}
+
+	/**
+	 * @return path to the directory holding the control file of the semaphore this VM waits on
+	 */
+	private static String getSemaphoreDirectoryPath() {
+		if (targetedNotification) {
+			return TargetDirectory.getTargetDirectoryPath(AttachHandler.getVmId());
+		}
+		return getCommonDirFileObject().getAbsolutePath();
+	}
+
+	/**
+	 * @return name of the semaphore this VM waits on
+	 */
+	private static String getSemaphoreName() {
+		return targetedNotification ? TargetDirectory.ATTACH_NOTIFIER_FILENAME : MASTER_NOTIFIER;
+	}
+
 	/**
 	 * @param obtainLock 
 	 * @return name of semaphore
@@ -234,8 +268,8 @@ public abstract class CommonDirectory {
 	 * Caller is responsible for ensuring that the master lockfile is held.
 	 */
 	static String openSemaphore() throws IOException {
-		String semName = MASTER_NOTIFIER; /*[PR Jazz 48044] semaphore name is a constant */
-		int status = IPC.openSemaphore(getCommonDirFileObject().getAbsolutePath(), semName, true);
+		String semName = getSemaphoreName(); /*[PR Jazz 48044] semaphore name is a constant */
+		int status = IPC.openSemaphore(getSemaphoreDirectoryPath(), semName, true);
 		/*[MSG "K0538", "semaphore {0} status= {1}"]*/
 		if (SEMAPHORE_OKAY != status) {
 			throw new IOException(com.ibm.oti.util.Msg.getString("K0538" , semName, Integer.valueOf(status)));  //$NON-NLS-1$
@@ -251,7 +285,7 @@ public abstract class CommonDirectory {
 		int status = 0;
 		IPC.logMessage("reopenSemaphore"); //$NON-NLS-1$
 		closeSemaphore();
-		status = IPC.openSemaphore(getCommonDirFileObject().getAbsolutePath(), MASTER_NOTIFIER, true);		
+		status = IPC.openSemaphore(getSemaphoreDirectoryPath(), getSemaphoreName(), true);		
 		return status;
 	}
 
@@ -292,6 +326,30 @@ public abstract class CommonDirectory {
 		return IPC.cancelNotify(getCommonDirPath(), MASTER_NOTIFIER, numberOfTargets, global);
 	}
 
+	/**
+	 * Open the semaphore in a target VM's directory, post to it once, and close it.
+	 * Only that VM waits on the semaphore, so no other VM is woken.
+	 * @param targetVmId ID of the target VM
+	 * @param global Use the global semaphore (Windows only)
+	 * @return 0 on success
+	 */
+	public static int notifyTarget(String targetVmId, boolean global) {
+		if (LOGGING_DISABLED != loggingStatus) {
+			IPC.logMessage("notifyTarget ", targetVmId); //$NON-NLS-1$
+		}
+		return IPC.notifyVm(TargetDirectory.getTargetDirectoryPath(targetVmId), TargetDirectory.ATTACH_NOTIFIER_FILENAME, 1, global);
+	}
+
+	/**
+	 * Open the semaphore in a target VM's directory, decrement it once without blocking, and close it
+	 * @param targetVmId ID of the target VM
+	 * @param global Use the global semaphore (Windows only)
+	 * @return 0 on success
+	 */
+	public static int cancelNotifyTarget(String targetVmId, boolean global) {
+		return IPC.cancelNotify(TargetDirectory.getTargetDirectoryPath(targetVmId), TargetDirectory.ATTACH_NOTIFIER_FILENAME, 1, global);
+	}
+
 	/**
 	 * close but do not destroy this VM's notification semaphore
 	 */
@@ -94,6 +94,22 @@ public class DiagnosticUtils {
 	 */
 	public static final String COMMAND_STRING = "command_string"; //$NON-NLS-1$
 
+	/**
+	 * Keys for the class histogram records.
+	 * The totals cover all classes on the heap, the records only the classes reported.
+	 * Record n, counting from 1, has the keys HEAP_HISTOGRAM_PREFIX + n + HEAP_HISTOGRAM_RECORD_*,
+	 * in descending order of total size.
+	 */
+	public static final String HEAP_HISTOGRAM_PREFIX = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "histogram."; //$NON-NLS-1$
+	public static final String HEAP_HISTOGRAM_CLASSES = HEAP_HISTOGRAM_PREFIX + "classes"; //$NON-NLS-1$
+	public static final String HEAP_HISTOGRAM_OBJECTS = HEAP_HISTOGRAM_PREFIX + "objects"; //$NON-NLS-1$
+	public static final String HEAP_HISTOGRAM_SIZE = HEAP_HISTOGRAM_PREFIX + "size"; //$NON-NLS-1$
+	public static final String HEAP_HISTOGRAM_RECORDS = HEAP_HISTOGRAM_PREFIX + "records"; //$NON-NLS-1$
+	public static final String HEAP_HISTOGRAM_RECORD_CLASS = ".class"; //$NON-NLS-1$
+	public static final String HEAP_HISTOGRAM_RECORD_LOADER = ".loader"; //$NON-NLS-1$
+	public static final String HEAP_HISTOGRAM_RECORD_COUNT = ".count"; //$NON-NLS-1$
+	public static final String HEAP_HISTOGRAM_RECORD_SIZE = ".size"; //$NON-NLS-1$
+
 	/**
 	 * Use this to separate arguments in a diagnostic command string.
 	 */
@@ -104,6 +120,7 @@ public class DiagnosticUtils {
 	 */
 	private static final String ALL_OPTION = "all"; //$NON-NLS-1$
 	private static final String LIVE_OPTION = "live"; //$NON-NLS-1$
+	private static final String TOP_OPTION = "top="; //$NON-NLS-1$
 	private static final String THREAD_LOCKED_SYNCHRONIZERS_OPTION = "-l"; //$NON-NLS-1$
 
 	private static final Map<String, Function<String, DiagnosticProperties>> commandTable;
@@ -123,6 +140,17 @@ public class DiagnosticUtils {
 		return cmd;
 	}
 
+	/**
+	 * Create the command to run the heapHisto command, reporting only the classes with the largest total size
+	 *
+	 * @param liveObjects add the option to run a GC before listing the objects
+	 * @param maxClasses maximum number of classes to report
+	 * @return formatted string
+	 */
+	public static String makeHeapHistoCommand(boolean liveObjects, int maxClasses) {
+		return makeHeapHistoCommand(liveObjects) + DIAGNOSTICS_OPTION_SEPARATOR + TOP_OPTION + maxClasses;
+	}
+
 	/**
 	 * Create the command to run the Thread.print command
 	 *
@@ -148,7 +176,7 @@ public class DiagnosticUtils {
 		return cmd;
 	}
 
-	private static native String getHeapClassStatisticsImpl();
+	private static native String getHeapClassStatisticsImpl(boolean live, int maxClasses);
 	private static native String triggerDumpsImpl(String dumpOptions, String event) throws InvalidDumpOptionExceptionBase;
 
 	/**
@@ -177,29 +205,58 @@ public class DiagnosticUtils {
 		DiagnosticProperties result = null;
 		boolean invalidArg = false;
 		boolean doLive = false;
+		int maxClasses = -1;
 		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
-		if (parts.length > 2) {
-			invalidArg = true;
-		} else if (parts.length == 2) {
-			if (LIVE_OPTION.equalsIgnoreCase(parts[1])) {
+		for (int i = 1; !invalidArg && (i < parts.length); ++i) {
+			String option = parts[i];
+			if (LIVE_OPTION.equalsIgnoreCase(option)) {
 				doLive = true;
-			} else if (!ALL_OPTION.equalsIgnoreCase(parts[1])) {
+			} else if (option.toLowerCase().startsWith(TOP_OPTION)) {
+				try {
+					maxClasses = Integer.parseInt(option.substring(TOP_OPTION.length()));
+				} catch (NumberFormatException e) {
+					maxClasses = -1;
+				}
+				invalidArg = (maxClasses < 0);
+			} else if (!ALL_OPTION.equalsIgnoreCase(option)) {
 				invalidArg = true;
 			}
 		}
 		if (invalidArg) {
 			result = DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand); //$NON-NLS-1$
 		} else {
-			if (doLive) {
-				runGC();
+			/* the records are tab separated, each on its own line, with the totals first */
+			String[] records = getHeapClassStatisticsImpl(doLive, maxClasses).split("\n"); //$NON-NLS-1$
+			String[] totals = records[0].split("\t"); //$NON-NLS-1$
+			long classCount = Long.parseLong(totals[0]);
+			StringWriter buffer = new StringWriter(100 * records.length);
+			PrintWriter bufferPrinter = new PrintWriter(buffer);
+			result = DiagnosticProperties.makeCommandSucceeded();
+			result.put(HEAP_HISTOGRAM_CLASSES, classCount);
+			result.put(HEAP_HISTOGRAM_OBJECTS, Long.parseLong(totals[1]));
+			result.put(HEAP_HISTOGRAM_SIZE, Long.parseLong(totals[2]));
+			result.put(HEAP_HISTOGRAM_RECORDS, records.length - 1);
+			bufferPrinter.printf("%5s %14s %14s    %s%n-------------------------------------------------%n", //$NON-NLS-1$
+					"num", "object count", "total size", "class name"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			for (int i = 1; i < records.length; ++i) {
+				/* the class name is last, so it is not split even if it contains a tab */
+				String[] fields = records[i].split("\t", 4); //$NON-NLS-1$
+				String prefix = HEAP_HISTOGRAM_PREFIX + i;
+				long count = Long.parseLong(fields[0]);
+				long size = Long.parseLong(fields[1]);
+				result.put(prefix + HEAP_HISTOGRAM_RECORD_COUNT, count);
+				result.put(prefix + HEAP_HISTOGRAM_RECORD_SIZE, size);
+				result.put(prefix + HEAP_HISTOGRAM_RECORD_LOADER, fields[2]);
+				result.put(prefix + HEAP_HISTOGRAM_RECORD_CLASS, fields[3]);
+				bufferPrinter.printf("%5d %14d %14d    %s%n", //$NON-NLS-1$
+						Integer.valueOf(i), Long.valueOf(count), Long.valueOf(size), fields[3]);
 			}
-			String hcsi = getHeapClassStatisticsImpl();
-			String lineSeparator = System.lineSeparator();
-			final String unixLineSeparator = "\n"; //$NON-NLS-1$
-			if (!unixLineSeparator.equals(lineSeparator)) {
-				hcsi = hcsi.replace(unixLineSeparator, lineSeparator);
+			if (classCount > (records.length - 1)) {
+				bufferPrinter.printf("%5s %d more classes%n", "...", Long.valueOf(classCount - (records.length - 1))); //$NON-NLS-1$ //$NON-NLS-2$
 			}
-			result = DiagnosticProperties.makeStringResult(hcsi);
+			bufferPrinter.printf("%5s %14s %14s%n", "Total", totals[1], totals[2]); //$NON-NLS-1$ //$NON-NLS-2$
+			bufferPrinter.flush();
+			result.put(DiagnosticProperties.DIAGNOSTICS_STRING_RESULT, buffer.toString());
 		}
 		return result;
 	}
@@ -339,6 +396,7 @@ public class DiagnosticUtils {
 			+ " Options:%n"
 			+ "          all : include all objects, including dead objects (this is the default option)%n"
 			+ "         live : include all objects after a global GC collection%n"
+			+ "      top=<N> : list only the N classes with the largest total size%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n";
 
 	@SuppressWarnings("nls")
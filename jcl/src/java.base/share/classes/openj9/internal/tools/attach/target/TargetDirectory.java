@@ -39,6 +39,10 @@ public final class TargetDirectory {
 	 */
 	static final int ADVERTISEMENT_FILE_PERMISSIONS = 0600;
 	static final String ATTACH_NOTIFICATION_SYNC_FILENAME = "attachNotificationSync"; //$NON-NLS-1$
+	/**
+	 * Control file of the semaphore this VM waits on when attachers notify it directly.
+	 */
+	static final String ATTACH_NOTIFIER_FILENAME = "attachNotifier"; //$NON-NLS-1$
 	/**
 	 * All users must have write access in order to get an exclusive (i.e write) lock on the file.
 	 */
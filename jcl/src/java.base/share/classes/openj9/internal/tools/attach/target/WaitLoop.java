@@ -103,7 +103,10 @@ final class WaitLoop extends Thread {
 				
 				/*[PR Jazz 41720 - Recreate notification directory if it is deleted. ]*/
 				if ((CommonDirectory.SEMAPHORE_OKAY == status) && TargetDirectory.ensureMyAdvertisementExists(AttachHandler.getVmId())) {
-					if (CommonDirectory.tryObtainMasterLock()) { /*[PR 199483] post to the semaphore to test it */
+					if (CommonDirectory.isTargetedNotification()) {
+						IPC.logMessage("semaphore recovery: send test post"); //$NON-NLS-1$
+						CommonDirectory.notifyTarget(AttachHandler.getVmId(), true);
+					} else if (CommonDirectory.tryObtainMasterLock()) { /*[PR 199483] post to the semaphore to test it */
 						IPC.logMessage("semaphore recovery: send test post"); //$NON-NLS-1$
 						int numTargets = CommonDirectory.countTargetDirectories();
 						AttachHandler.setNumberOfTargets(numTargets);
@@ -836,6 +836,128 @@ public class MemoryMXBeanImpl extends LazyDelegatingNotifier implements MemoryMX
 		return getCurrentGCThreadsImpl();
 	}
 
+	/**
+	 * Indices into the array filled in by {@link #getFinalizerStatisticsImpl(long[])}.
+	 */
+	private static final int FINALIZER_STAT_PEAK_QUEUE_DEPTH = 3;
+	private static final int FINALIZER_STAT_JOBS_PROCESSED = 4;
+	private static final int FINALIZER_STAT_ACTIVE_THREADS = 5;
+	private static final int FINALIZER_STAT_OLDEST_PENDING_AGE = 6;
+	private static final int FINALIZER_STAT_MAX_DRAIN_LATENCY = 8;
+	private static final int FINALIZER_STAT_COUNT = 9;
+
+	/**
+	 * Fills in the finalizer statistics maintained by the garbage collector.
+	 *
+	 * @param stats array of at least nine elements receiving, in order, the pending object,
+	 *   reference and class loader counts, the peak queue depth, the number of jobs processed,
+	 *   the number of active finalizer threads, the age of the oldest pending backlog and the
+	 *   last and maximum drain latencies (both in milliseconds)
+	 */
+	private native void getFinalizerStatisticsImpl(long[] stats);
+
+	private long getFinalizerStatistic(int index) {
+		long[] stats = new long[FINALIZER_STAT_COUNT];
+		getFinalizerStatisticsImpl(stats);
+		return stats[index];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getFinalizerThreadCount() {
+		return (int) getFinalizerStatistic(FINALIZER_STAT_ACTIVE_THREADS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getFinalizerPeakQueueDepth() {
+		return getFinalizerStatistic(FINALIZER_STAT_PEAK_QUEUE_DEPTH);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getFinalizerJobsProcessed() {
+		return getFinalizerStatistic(FINALIZER_STAT_JOBS_PROCESSED);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getFinalizerQueueLatency() {
+		return getFinalizerStatistic(FINALIZER_STAT_OLDEST_PENDING_AGE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getFinalizerMaxQueueLatency() {
+		return getFinalizerStatistic(FINALIZER_STAT_MAX_DRAIN_LATENCY);
+	}
+
+	/**
+	 * Indices into the array filled in by {@link #getStringTableStatisticsImpl(long[])}.
+	 */
+	private static final int STRING_TABLE_STAT_TABLE_COUNT = 0;
+	private static final int STRING_TABLE_STAT_INTERNED_STRINGS = 1;
+	private static final int STRING_TABLE_STAT_LOCK_ACQUISITIONS = 2;
+	private static final int STRING_TABLE_STAT_CONTENDED_ACQUISITIONS = 3;
+	private static final int STRING_TABLE_STAT_RESIZE_COUNT = 4;
+	private static final int STRING_TABLE_STAT_COUNT = 5;
+
+	/**
+	 * Fills in the interned string table statistics maintained by the garbage collector.
+	 *
+	 * @param stats array of at least five elements receiving, in order, the number of
+	 *   sub-tables, the number of interned strings, the number of sub-table lock
+	 *   acquisitions, the number of those acquisitions that were contended and the
+	 *   number of times the sub-tables have been resized
+	 */
+	private native void getStringTableStatisticsImpl(long[] stats);
+
+	private long getStringTableStatistic(int index) {
+		long[] stats = new long[STRING_TABLE_STAT_COUNT];
+		getStringTableStatisticsImpl(stats);
+		return stats[index];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getStringTableStripeCount() {
+		return (int) getStringTableStatistic(STRING_TABLE_STAT_TABLE_COUNT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getStringTableSize() {
+		return getStringTableStatistic(STRING_TABLE_STAT_INTERNED_STRINGS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getStringTableLockAcquisitions() {
+		return getStringTableStatistic(STRING_TABLE_STAT_LOCK_ACQUISITIONS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getStringTableContendedLockAcquisitions() {
+		return getStringTableStatistic(STRING_TABLE_STAT_CONTENDED_ACQUISITIONS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getStringTableResizeCount() {
+		return getStringTableStatistic(STRING_TABLE_STAT_RESIZE_COUNT);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -426,6 +426,7 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 
 		synchronized (myIn) {
 			int numberOfTargets = 0;
+			boolean targetNotified = false;
 			try {
 				CommonDirectory.obtainAttachLock();
 				List<VirtualMachineDescriptor> vmds = myProvider.listVirtualMachines();
@@ -463,6 +464,15 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 						/*[MSG "K0558", "Attach API initialization failed"]*/
 						throw new AttachNotSupportedException(getString("K0558")); //$NON-NLS-1$
 					}
+				} else if (descriptor.isTargetedNotification()) {
+					/* the target has a semaphore of its own: wake only that VM */
+					int status = CommonDirectory.notifyTarget(descriptor.id(), descriptor.isGlobalSemaphore());
+					/*[MSG "K0532", "status={0}"]*/
+					if ((IPC.JNI_OK != status)
+							&& (CommonDirectory.J9PORT_INFO_SHSEM_OPENED_STALE != status)) {
+						throw new AttachNotSupportedException(getString("K0532", status)); //$NON-NLS-1$
+					}
+					targetNotified = true;
 				} else {
 					lockAllAttachNotificationSyncFiles(vmds);
 					numberOfTargets = CommonDirectory.countTargetDirectories();
@@ -504,6 +514,10 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 				if (null != replyFile) {
 					replyFile.deleteReply();
 				}
+				if (targetNotified && !targetAttached) {
+					/* the target did not consume the post: remove it so the target does not wake for a stale reply */
+					CommonDirectory.cancelNotifyTarget(descriptor.id(), descriptor.isGlobalSemaphore());
+				}
 				if (numberOfTargets > 0) { /*[PR 48044] if number of targets is 0, then the VM is attaching to itself  and the semaphore was not involved */
 					unlockAllAttachNotificationSyncFiles();
 					CommonDirectory.cancelNotify(numberOfTargets, descriptor.isGlobalSemaphore());
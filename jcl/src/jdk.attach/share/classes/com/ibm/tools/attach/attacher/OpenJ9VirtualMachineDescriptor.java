@@ -58,6 +58,7 @@ final class OpenJ9VirtualMachineDescriptor extends VirtualMachineDescriptor {
 	private final long processId;
 	private final long uid;
 	private final boolean globalSemaphore;
+	private final boolean targetedNotification;
 
 	/**
 	 * @param provider AttachProvider associated with this VM
@@ -72,6 +73,7 @@ final class OpenJ9VirtualMachineDescriptor extends VirtualMachineDescriptor {
 		processId = 0;
 		uid = 0;
 		globalSemaphore = true;
+		targetedNotification = false;
 	}
 
 	/**
@@ -85,6 +87,7 @@ final class OpenJ9VirtualMachineDescriptor extends VirtualMachineDescriptor {
 		processId = 0;
 		uid = 0;
 		globalSemaphore = true;
+		targetedNotification = false;
 	}
 
 	/**
@@ -100,7 +103,7 @@ final class OpenJ9VirtualMachineDescriptor extends VirtualMachineDescriptor {
 		processId = advert.getProcessId();
 		uid = advert.getUid();
 		globalSemaphore = advert.isGlobalSemaphore();
-
+		targetedNotification = advert.isTargetedNotification();
 	}
 
 	/**
@@ -119,6 +122,14 @@ final class OpenJ9VirtualMachineDescriptor extends VirtualMachineDescriptor {
 		return globalSemaphore;
 	}
 
+	/**
+	 * 
+	 * @return true if the target waits on a semaphore of its own rather than the master semaphore
+	 */
+	public boolean isTargetedNotification() {
+		return targetedNotification;
+	}
+
 	/**
 	 * Create a new VirtualMachineDescriptor with data from a file
 	 * @param provider AttachProvider which creates this.
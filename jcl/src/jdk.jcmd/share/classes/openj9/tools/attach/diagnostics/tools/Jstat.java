@@ -1,6 +1,6 @@
 /*[INCLUDE-IF Sidecar18-SE]*/
 /*******************************************************************************
- * Copyright (c) 2019, 2019 IBM Corp. and others
+ * Copyright (c) 2019, 2026 IBM Corp. and others
  *
  * This program and the accompanying materials are made available under
  * the terms of the Eclipse Public License 2.0 which accompanies this
@@ -23,45 +23,69 @@
 
 package openj9.tools.attach.diagnostics.tools;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
 
+import openj9.internal.tools.attach.target.Advertisement;
 import openj9.internal.tools.attach.target.AttachHandler;
 import openj9.internal.tools.attach.target.DiagnosticProperties;
 import openj9.internal.tools.attach.target.IPC;
+import openj9.internal.tools.attach.target.TargetDirectory;
 import openj9.tools.attach.diagnostics.attacher.AttacherDiagnosticsProvider;
 
 /**
  * JStat A tool for statistics monitoring of another Java process
  *
+ * Statistics are read from the performance counters the target publishes in a memory-mapped file,
+ * which does not involve the target at all. If the target does not publish counters,
+ * -class falls back to running a diagnostic command in the target.
  */
 @SuppressWarnings("nls")
 public class Jstat {
 
 	private static String vmid;
 	private static String statOption;
+	private static long intervalMillis;
+	private static long sampleCount = -1;
 
 	private static final String OPTION_CLASS = "-class";
-	private static final String[] OPTIONS = { OPTION_CLASS };
+	private static final String OPTION_COMPILER = "-compiler";
+	private static final String OPTION_GC = "-gc";
+	private static final String OPTION_SNAP = "-snap";
+	private static final String[] OPTIONS = { OPTION_CLASS, OPTION_COMPILER, OPTION_GC, OPTION_SNAP };
 
 	private static final String ERROR_AN_ARG_REQUIRED = "An argument is required";
 	private static final String ERROR_INVALID_ARG = "An invalid argument";
+	private static final String ERROR_INVALID_INTERVAL = "An invalid interval: ";
+	private static final String ERROR_INVALID_COUNT = "An invalid count: ";
 	private static final String ERROR_INVALID_OPTION = "An invalid option";
 	private static final String ERROR_INVALID_VMID = "Can't monitor this utility JVM itself: ";
 	private static final String ERROR_NOT_EXIST_VMID = "No such process for vmid: ";
+	private static final String ERROR_NO_COUNTERS = "Performance counters are not available for vmid: ";
 	private static final String ERROR_OPTION_REQUIRED = "An <option> is required";
 	private static final String ERROR_VMID_REQUIRED = "A <vmid> is required";
 
 	private static String HELPTEXT = "jstat: obtain statistics information about a Java process%n"
 			+ " Usage:%n"
-			+ "    jstat [<option>] [<vmid>]%n"
+			+ "    jstat [<option>] [<vmid>] [<interval>[s|ms] [<count>]]%n"
 			+ "%n"
 			+ "  option:%n"
 			+ "   -J : supply arguments to the Java VM running jstat%n"
 			+ "   -h : print this help message%n"
 			+ "   -options : list the available command options%n"
 			+ "   -class : Classloading statistics%n"
+			+ "   -compiler : JIT compilation statistics%n"
+			+ "   -gc : Garbage collection and heap statistics%n"
+			+ "   -snap : All performance counters of the target%n"
 			+ "  <vmid>: Attach API VM ID as shown in jps or other Attach API-based tools%n"
-			+ "NOTE: this utility might significantly affect the performance of the target VM.%n"
+			+ "  <interval>: sampling interval, in milliseconds unless followed by s%n"
+			+ "  <count>: number of samples to print, the default is to sample until the target exits%n"
+			+ "Statistics are read from the performance counters of the target, which does not affect the target VM.%n"
+			+ "If the target does not publish counters (-XX:-UsePerfData), -class attaches to the target instead,%n"
+			+ "which might significantly affect the performance of the target VM.%n"
 			+ "At least one option must be selected.%n";
 
 	/**
@@ -77,7 +101,6 @@ public class Jstat {
 				Util.exitJVMWithReasonAndHelp(ERROR_VMID_REQUIRED, HELPTEXT);
 			}
 
-			AttacherDiagnosticsProvider diagProvider = new AttacherDiagnosticsProvider();
 			String myId = AttachHandler.getVmId();
 
 			if (vmid.equals(myId)) {
@@ -92,34 +115,173 @@ public class Jstat {
 				}
 			}
 
-			try {
-				diagProvider.attach(vmid);
-				Util.runCommandAndPrintResult(diagProvider, statOption, "jstat");
-			} catch (Exception e) {
-				System.err.printf("Error getting data from %s", vmid);
-				final String msg = e.getMessage();
-				if (msg == null) {
-					System.err.println();
-				} else {
-					if (msg.matches(IPC.INCOMPATIBLE_JAVA_VERSION)) {
-						System.err.println(": incompatible target JVM");
-					} else {
-						System.err.printf(": %s%n", msg);
+			long pid = getProcessId(vmid);
+			PerfDataFile counters = null;
+			if (pid > 0) {
+				try {
+					counters = PerfDataFile.open(pid);
+				} catch (IOException e) {
+					if (DiagnosticProperties.isDebug) {
+						e.printStackTrace();
 					}
 				}
-				if (DiagnosticProperties.isDebug) {
-					e.printStackTrace();
+			}
+
+			if (null != counters) {
+				printCounters(counters, pid);
+			} else if ("jstat.class".equals(statOption)) {
+				attachAndPrint();
+			} else {
+				System.err.println(ERROR_NO_COUNTERS + vmid);
+			}
+		}
+	}
+
+	/**
+	 * Run the statistics command in the target.
+	 */
+	private static void attachAndPrint() {
+		AttacherDiagnosticsProvider diagProvider = new AttacherDiagnosticsProvider();
+		try {
+			diagProvider.attach(vmid);
+			Util.runCommandAndPrintResult(diagProvider, statOption, "jstat");
+		} catch (Exception e) {
+			System.err.printf("Error getting data from %s", vmid);
+			final String msg = e.getMessage();
+			if (msg == null) {
+				System.err.println();
+			} else {
+				if (msg.matches(IPC.INCOMPATIBLE_JAVA_VERSION)) {
+					System.err.println(": incompatible target JVM");
+				} else {
+					System.err.printf(": %s%n", msg);
 				}
-			} finally {
+			}
+			if (DiagnosticProperties.isDebug) {
+				e.printStackTrace();
+			}
+		} finally {
+			try {
+				diagProvider.detach();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * Find the process ID of a VM. Most VM IDs are process IDs, otherwise the ID is looked up in the target's advertisement.
+	 * 
+	 * @param id Attach API VM ID
+	 * @return the process ID, or 0 if it is not known
+	 */
+	private static long getProcessId(String id) {
+		if (id.matches("\\d+")) {
+			return Long.parseLong(id);
+		}
+		AttachHandler.waitForAttachApiInitialization();
+		File advertFile = new File(TargetDirectory.getTargetDirectoryPath(id), Advertisement.getFilename());
+		try (InputStream advertStream = new FileInputStream(advertFile)) {
+			return Advertisement.readAdvertisementFile(advertStream).getProcessId();
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Print samples of the target's counters until count samples are printed or the target exits.
+	 * 
+	 * @param counters counters of the target
+	 * @param pid process ID of the target
+	 */
+	private static void printCounters(PerfDataFile counters, long pid) {
+		long printed = 0;
+		boolean printHeader = true;
+		do {
+			if (printed > 0) {
 				try {
-					diagProvider.detach();
-				} catch (IOException e) {
-					// ignore
+					Thread.sleep(intervalMillis);
+				} catch (InterruptedException e) {
+					break;
+				}
+				if (!IPC.processExists(pid)) {
+					break;
 				}
 			}
+			printSample(counters, printHeader);
+			printHeader = false;
+			printed += 1;
+		} while ((intervalMillis > 0) && ((sampleCount < 0) || (printed < sampleCount)));
+	}
+
+	private static void printSample(PerfDataFile counters, boolean printHeader) {
+		double ticksPerSecond = counters.getTickFrequency();
+		switch (statOption) {
+		case "jstat.class":
+			if (printHeader) {
+				System.out.println("Class Loaded    Class Unloaded");
+			}
+			// "Class Loaded".length = 12, "Class Unloaded".length = 14
+			System.out.printf("%12d    %14d%n",
+					Long.valueOf(counters.getLong("java.cls.loadedClasses")),
+					Long.valueOf(counters.getLong("java.cls.unloadedClasses")));
+			break;
+		case "jstat.compiler":
+			if (printHeader) {
+				System.out.printf("%10s %8s %12s%n", "Compiled", "Active", "Time");
+			}
+			System.out.printf("%10d %8d %12.3f%n",
+					Long.valueOf(counters.getLong("sun.ci.totalCompiles")),
+					Long.valueOf(counters.getLong("openj9.ci.activeCompiles")),
+					Double.valueOf(counters.getLong("sun.ci.totalTime") / ticksPerSecond));
+			break;
+		case "jstat.gc": {
+			long youngTicks = counters.getLong("sun.gc.collector.0.time");
+			long fullTicks = counters.getLong("sun.gc.collector.1.time");
+			if (printHeader) {
+				System.out.printf("%12s %12s %12s %8s %10s %8s %10s %10s%n",
+						"HeapMax(KB)", "HeapSize(KB)", "HeapUsed(KB)", "YGC", "YGCT", "FGC", "FGCT", "GCT");
+			}
+			System.out.printf("%12d %12d %12d %8d %10.3f %8d %10.3f %10.3f%n",
+					Long.valueOf(counters.getLong("openj9.gc.heap.max") / 1024),
+					Long.valueOf(counters.getLong("openj9.gc.heap.size") / 1024),
+					Long.valueOf(counters.getLong("openj9.gc.heap.used") / 1024),
+					Long.valueOf(counters.getLong("sun.gc.collector.0.invocations")),
+					Double.valueOf(youngTicks / ticksPerSecond),
+					Long.valueOf(counters.getLong("sun.gc.collector.1.invocations")),
+					Double.valueOf(fullTicks / ticksPerSecond),
+					Double.valueOf((youngTicks + fullTicks) / ticksPerSecond));
+			break;
+		}
+		default:
+			for (Map.Entry<String, Object> counter : counters.getAll().entrySet()) {
+				System.out.printf("%s=%s%n", counter.getKey(), counter.getValue());
+			}
+			break;
 		}
 	}
 
+	private static long parseInterval(String arg) {
+		long multiplier = 1;
+		String digits = arg;
+		if (arg.endsWith("ms")) {
+			digits = arg.substring(0, arg.length() - 2);
+		} else if (arg.endsWith("s")) {
+			digits = arg.substring(0, arg.length() - 1);
+			multiplier = 1000;
+		}
+		try {
+			long interval = Long.parseLong(digits) * multiplier;
+			if (interval > 0) {
+				return interval;
+			}
+		} catch (NumberFormatException e) {
+			// fall through
+		}
+		Util.exitJVMWithReasonAndHelp(ERROR_INVALID_INTERVAL + arg, HELPTEXT);
+		return 0;
+	}
+
 	private static boolean parseArguments(String[] args) {
 		boolean foundStatOption = false;
 
@@ -139,6 +301,7 @@ public class Jstat {
 				System.out.println(option);
 			}
 		} else {
+			boolean foundInterval = false;
 			for (String arg : args) {
 				if (arg.startsWith("-")) {
 					if (statOption != null) {
@@ -150,6 +313,15 @@ public class Jstat {
 						case OPTION_CLASS:
 							statOption = "jstat.class";
 							break;
+						case OPTION_COMPILER:
+							statOption = "jstat.compiler";
+							break;
+						case OPTION_GC:
+							statOption = "jstat.gc";
+							break;
+						case OPTION_SNAP:
+							statOption = "jstat.snap";
+							break;
 						default:
 							// invalid option was specified, print error message and help text, and exit
 							Util.exitJVMWithReasonAndHelp(ERROR_INVALID_OPTION, HELPTEXT);
@@ -159,11 +331,23 @@ public class Jstat {
 					if (statOption == null) {
 						// no option was specified, print error message and help text, and exit
 						Util.exitJVMWithReasonAndHelp(ERROR_OPTION_REQUIRED, HELPTEXT);
-					} else if (vmid != null) {
-						// one vmid has already been set, print error message and help text, and exit
-						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
-					} else {
+					} else if (vmid == null) {
 						vmid = arg;
+					} else if (!foundInterval) {
+						intervalMillis = parseInterval(arg);
+						foundInterval = true;
+					} else if (sampleCount < 0) {
+						try {
+							sampleCount = Long.parseLong(arg);
+						} catch (NumberFormatException e) {
+							sampleCount = 0;
+						}
+						if (sampleCount <= 0) {
+							Util.exitJVMWithReasonAndHelp(ERROR_INVALID_COUNT + arg, HELPTEXT);
+						}
+					} else {
+						// vmid, interval and count have already been set, print error message and help text, and exit
+						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
 					}
 				}
 			}
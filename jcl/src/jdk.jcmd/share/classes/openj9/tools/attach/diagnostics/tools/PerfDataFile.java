@@ -0,0 +1,185 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+package openj9.tools.attach.diagnostics.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read-only view of the performance counters another VM publishes in
+ * &lt;java.io.tmpdir&gt;/j9perfdata_&lt;user&gt;/&lt;pid&gt;.
+ * Reading the counters does not involve the target VM in any way.
+ * The layout is described by J9PerfDataHeader and J9PerfDataEntry in j9nonbuilder.h.
+ */
+@SuppressWarnings("nls")
+final class PerfDataFile {
+
+	private static final int MAGIC = 0x4A395044;
+	private static final String DIRECTORY_PREFIX = "j9perfdata_";
+
+	/* header offsets */
+	private static final int HEADER_SIZE_OFFSET = 6;
+	private static final int ENTRY_COUNT_OFFSET = 16;
+	private static final int TICK_FREQUENCY_OFFSET = 32;
+
+	/* entry offsets */
+	private static final int ENTRY_LENGTH_OFFSET = 0;
+	private static final int VECTOR_LENGTH_OFFSET = 4;
+	private static final int DATA_OFFSET_OFFSET = 8;
+	private static final int DATA_TYPE_OFFSET = 12;
+	private static final int ENTRY_NAME_OFFSET = 16;
+
+	private static final byte TYPE_LONG = 'J';
+
+	private final MappedByteBuffer buffer;
+	private final long tickFrequency;
+	/* counter name to offset of its value, entries are only ever appended */
+	private final Map<String, Integer> longCounters = new LinkedHashMap<>();
+	/* counter name to offset of its entry */
+	private final Map<String, Integer> stringCounters = new LinkedHashMap<>();
+	private int entriesScanned;
+	private int nextEntry;
+
+	private PerfDataFile(MappedByteBuffer buffer) throws IOException {
+		int magic = buffer.getInt(0);
+		if (MAGIC == magic) {
+			buffer.order(ByteOrder.BIG_ENDIAN);
+		} else if (MAGIC == Integer.reverseBytes(magic)) {
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+		} else {
+			/* the VM is still initializing the counters, or the file is not a counters file */
+			throw new IOException("Performance counters are not initialized");
+		}
+		this.buffer = buffer;
+		tickFrequency = buffer.getLong(TICK_FREQUENCY_OFFSET);
+		nextEntry = (Short.toUnsignedInt(buffer.getShort(HEADER_SIZE_OFFSET)) + 7) & ~7;
+	}
+
+	/**
+	 * Get the file holding the counters of a VM.
+	 * @param pid process ID of the VM
+	 * @return the counters file, which may not exist
+	 */
+	static File getFile(long pid) {
+		File directory = new File(System.getProperty("java.io.tmpdir"), DIRECTORY_PREFIX + System.getProperty("user.name"));
+		return new File(directory, Long.toString(pid));
+	}
+
+	/**
+	 * Map the counters of a VM.
+	 * @param pid process ID of the VM
+	 * @return the counters, or null if the VM does not publish counters
+	 * @throws IOException if the counters file cannot be read
+	 */
+	static PerfDataFile open(long pid) throws IOException {
+		File file = getFile(pid);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			/* the mapping remains valid after the channel is closed */
+			return new PerfDataFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * @return the number of counter ticks per second
+	 */
+	long getTickFrequency() {
+		return tickFrequency;
+	}
+
+	/**
+	 * Get the current value of a counter.
+	 * @param name counter name
+	 * @return the value, or -1 if the VM does not have the counter
+	 */
+	long getLong(String name) {
+		Integer offset = longCounters.get(name);
+		if (null == offset) {
+			scanEntries();
+			offset = longCounters.get(name);
+		}
+		return (null == offset) ? -1 : buffer.getLong(offset.intValue());
+	}
+
+	/**
+	 * Get the current values of all counters, strings are decoded from their byte arrays.
+	 * @return counter names and values, in the order the VM created them
+	 */
+	Map<String, Object> getAll() {
+		scanEntries();
+		Map<String, Object> values = new LinkedHashMap<>();
+		for (Map.Entry<String, Integer> counter : longCounters.entrySet()) {
+			values.put(counter.getKey(), Long.valueOf(buffer.getLong(counter.getValue().intValue())));
+		}
+		for (Map.Entry<String, Integer> counter : stringCounters.entrySet()) {
+			int entry = counter.getValue().intValue();
+			int maxLength = buffer.getInt(entry + VECTOR_LENGTH_OFFSET);
+			values.put(counter.getKey(), readString(entry + buffer.getInt(entry + DATA_OFFSET_OFFSET), maxLength));
+		}
+		return values;
+	}
+
+	/**
+	 * Index the entries added since the last scan.
+	 * An entry is complete before the VM counts it, so entries up to entryCount can be read without locking.
+	 */
+	private void scanEntries() {
+		int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET);
+		while (entriesScanned < entryCount) {
+			int entryLength = buffer.getInt(nextEntry + ENTRY_LENGTH_OFFSET);
+			int dataOffset = nextEntry + buffer.getInt(nextEntry + DATA_OFFSET_OFFSET);
+			String name = readString(nextEntry + ENTRY_NAME_OFFSET, dataOffset - nextEntry - ENTRY_NAME_OFFSET);
+			if (TYPE_LONG == buffer.get(nextEntry + DATA_TYPE_OFFSET)) {
+				longCounters.put(name, Integer.valueOf(dataOffset));
+			} else {
+				/* byte arrays hold strings, which are decoded when read */
+				stringCounters.put(name, Integer.valueOf(nextEntry));
+			}
+			nextEntry += entryLength;
+			entriesScanned += 1;
+		}
+	}
+
+	private String readString(int offset, int maxLength) {
+		int length = 0;
+		while ((length < maxLength) && (0 != buffer.get(offset + length))) {
+			length += 1;
+		}
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; ++i) {
+			bytes[i] = buffer.get(offset + i);
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,324 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.lang.management;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.ibm.lang.management.internal.GarbageCollectionEventBuffer;
+
+/**
+ * A single record of the binary garbage collection event stream, describing
+ * one completed collection.
+ * <p>
+ * Records are written by the VM in native byte order with the layout below.
+ * Later versions of the schema only append fields, so a decoder uses the size
+ * field to skip over data it does not understand.
+ * <pre>
+ *  offset  size  field
+ *       0     2  version
+ *       2     2  size of the record in bytes, including phases
+ *       4     2  type (1 = end of collection)
+ *       6     2  number of phase entries
+ *       8     8  sequence number in the stream
+ *      16     4  collector ID
+ *      20     4  flags (0x1 = global collection, 0x2 = heap was compacted)
+ *      24     8  collection count of the collector
+ *      32     8  start time, milliseconds since the VM was started
+ *      40     8  end time, milliseconds since the VM was started
+ *      48     8  duration in nanoseconds
+ *      56     8  heap size before the collection
+ *      64     8  heap used before the collection
+ *      72     8  heap size after the collection
+ *      80     8  heap used after the collection
+ *      88    16  phase entries: 4 byte phase ID, 4 byte count, 8 byte time in nanoseconds
+ * </pre>
+ *
+ * @see GarbageCollectionEventStream
+ * @since 1.8
+ */
+public final class GarbageCollectionEvent {
+
+	/**
+	 * The version of the record schema written by this VM.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * Record type of an event describing a completed collection.
+	 */
+	public static final int TYPE_COLLECTION_END = 1;
+
+	/**
+	 * Size in bytes of a version 1 record without any phase entries.
+	 */
+	public static final int HEADER_SIZE = 88;
+
+	/**
+	 * Size in bytes of a phase entry.
+	 */
+	public static final int PHASE_SIZE = 16;
+
+	private static final int FLAG_GLOBAL = 0x1;
+	private static final int FLAG_COMPACTED = 0x2;
+
+	private final int version;
+	private final int type;
+	private final long sequenceNumber;
+	private final int collectorID;
+	private final int flags;
+	private final long collectionCount;
+	private final long startTime;
+	private final long endTime;
+	private final long duration;
+	private final long heapSizeBefore;
+	private final long heapUsedBefore;
+	private final long heapSizeAfter;
+	private final long heapUsedAfter;
+	private final Phase[] phases;
+
+	/**
+	 * The time spent by a collection in one of its phases. Only the phases that ran
+	 * in the collection are reported.
+	 */
+	public static final class Phase {
+		/** Marking of live objects. */
+		public static final int MARK = 1;
+		/** Sweeping of dead objects. */
+		public static final int SWEEP = 2;
+		/** Compaction of the heap. */
+		public static final int COMPACT = 3;
+		/** Copying of live objects, by a scavenge or a copy-forward. */
+		public static final int COPY = 4;
+		/** Scanning of roots, summed over all the threads that took part in the collection. */
+		public static final int ROOT_SCAN = 5;
+		/** Remembered set processing; the count is the number of cards processed. */
+		public static final int REMEMBERED_SET = 6;
+
+		private final int id;
+		private final long count;
+		private final long time;
+
+		Phase(int id, long count, long time) {
+			this.id = id;
+			this.count = count;
+			this.time = time;
+		}
+
+		/**
+		 * @return the phase identifier, one of the constants of this class
+		 */
+		public int getID() {
+			return id;
+		}
+
+		/**
+		 * @return the number of items processed by the phase, or 0 if the phase does not count items
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return the time spent in the phase in nanoseconds
+		 */
+		public long getTime() {
+			return time;
+		}
+	}
+
+	private GarbageCollectionEvent(ByteBuffer record, int size) {
+		version = record.getShort(0) & 0xFFFF;
+		type = record.getShort(4) & 0xFFFF;
+		int phaseCount = record.getShort(6) & 0xFFFF;
+		sequenceNumber = record.getLong(8);
+		collectorID = record.getInt(16);
+		flags = record.getInt(20);
+		collectionCount = record.getLong(24);
+		startTime = record.getLong(32);
+		endTime = record.getLong(40);
+		duration = record.getLong(48);
+		heapSizeBefore = record.getLong(56);
+		heapUsedBefore = record.getLong(64);
+		heapSizeAfter = record.getLong(72);
+		heapUsedAfter = record.getLong(80);
+		phaseCount = Math.min(phaseCount, (size - HEADER_SIZE) / PHASE_SIZE);
+		phases = new Phase[phaseCount];
+		for (int i = 0; i < phaseCount; ++i) {
+			int offset = HEADER_SIZE + (i * PHASE_SIZE);
+			phases[i] = new Phase(record.getInt(offset), record.getInt(offset + 4) & 0xFFFFFFFFL, record.getLong(offset + 8));
+		}
+	}
+
+	/**
+	 * Decodes the record at the current position of the buffer and advances the
+	 * position past it. The record is read in native byte order whatever the
+	 * byte order of the buffer.
+	 *
+	 * @param buffer buffer holding records, as returned by {@link GarbageCollectionEventStream#read(byte[], long, java.util.concurrent.TimeUnit)}
+	 * @return the decoded event
+	 * @throws BufferUnderflowException if the buffer does not hold a complete record
+	 * @throws IllegalArgumentException if the data is not a valid record
+	 */
+	public static GarbageCollectionEvent decode(ByteBuffer buffer) {
+		ByteBuffer record = buffer.slice().order(ByteOrder.nativeOrder());
+		if (record.remaining() < 4) {
+			throw new BufferUnderflowException();
+		}
+		int size = record.getShort(2) & 0xFFFF;
+		if (size < HEADER_SIZE) {
+			throw new IllegalArgumentException("Invalid GC event record size: " + size); //$NON-NLS-1$
+		}
+		if (record.remaining() < size) {
+			throw new BufferUnderflowException();
+		}
+		GarbageCollectionEvent event = new GarbageCollectionEvent(record, size);
+		buffer.position(buffer.position() + size);
+		return event;
+	}
+
+	/**
+	 * @return the version of the record schema the event was written with
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return the record type, {@link #TYPE_COLLECTION_END} for events written by this VM
+	 */
+	public int getType() {
+		return type;
+	}
+
+	/**
+	 * @return the position of the event in the stream, gaps mean events were dropped
+	 */
+	public long getSequenceNumber() {
+		return sequenceNumber;
+	}
+
+	/**
+	 * @return the name of the collector, as returned by {@link java.lang.management.GarbageCollectorMXBean#getName()},
+	 * or null if it is not known to this VM
+	 */
+	public String getCollectorName() {
+		return GarbageCollectionEventBuffer.getCollectorName(collectorID);
+	}
+
+	/**
+	 * @return the VM's internal identifier for the collector
+	 */
+	public int getCollectorID() {
+		return collectorID;
+	}
+
+	/**
+	 * @return true if the collection was a global collection rather than a local one such as a scavenge
+	 */
+	public boolean isGlobal() {
+		return (flags & FLAG_GLOBAL) != 0;
+	}
+
+	/**
+	 * @return true if the heap was compacted during the collection
+	 */
+	public boolean isCompacted() {
+		return (flags & FLAG_COMPACTED) != 0;
+	}
+
+	/**
+	 * @return the collection count of the collector for this collection,
+	 * matching {@link java.lang.management.GarbageCollectorMXBean#getCollectionCount()}
+	 */
+	public long getCollectionCount() {
+		return collectionCount;
+	}
+
+	/**
+	 * @return the start time of the collection in milliseconds since the VM was started
+	 */
+	public long getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * @return the end time of the collection in milliseconds since the VM was started
+	 */
+	public long getEndTime() {
+		return endTime;
+	}
+
+	/**
+	 * @return the duration of the collection in nanoseconds
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * @return the heap size in bytes before the collection
+	 */
+	public long getHeapSizeBeforeGc() {
+		return heapSizeBefore;
+	}
+
+	/**
+	 * @return the heap used in bytes before the collection
+	 */
+	public long getHeapUsedBeforeGc() {
+		return heapUsedBefore;
+	}
+
+	/**
+	 * @return the heap size in bytes after the collection
+	 */
+	public long getHeapSizeAfterGc() {
+		return heapSizeAfter;
+	}
+
+	/**
+	 * @return the heap used in bytes after the collection
+	 */
+	public long getHeapUsedAfterGc() {
+		return heapUsedAfter;
+	}
+
+	/**
+	 * @return the phases reported by the collector, which may be empty
+	 */
+	public Phase[] getPhases() {
+		return phases.clone();
+	}
+
+	@Override
+	public String toString() {
+		return "GarbageCollectionEvent[sequenceNumber=" + sequenceNumber //$NON-NLS-1$
+				+ ", collector=" + getCollectorName() //$NON-NLS-1$
+				+ ", collectionCount=" + collectionCount //$NON-NLS-1$
+				+ ", duration=" + duration //$NON-NLS-1$
+				+ ", heapUsedBeforeGc=" + heapUsedBefore //$NON-NLS-1$
+				+ ", heapUsedAfterGc=" + heapUsedAfter + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -0,0 +1,212 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.lang.management;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.java.lang.management.internal.ManagementPermissionHelper;
+import com.ibm.lang.management.internal.GarbageCollectionEventBuffer;
+
+/**
+ * A subscription to the VM's binary garbage collection event stream.
+ * <p>
+ * At the end of each stop-the-world collection the VM writes a compact binary
+ * record, described by {@link GarbageCollectionEvent}, into a ring buffer.
+ * Each stream reads the records produced after it was opened, either decoded
+ * with {@link #poll()} or as raw bytes with {@link #read(byte[], long, TimeUnit)}
+ * so they can be forwarded without decoding. The ring buffer holds the last 256
+ * records; a stream that falls further behind loses the oldest ones, see
+ * {@link #getDroppedCount()}.
+ * <p>
+ * Streams are independent of each other and of the verbose GC output.
+ * <pre>
+ * try (GarbageCollectionEventStream stream = GarbageCollectionEventStream.open()) {
+ *     for (;;) {
+ *         GarbageCollectionEvent event = stream.poll(1, TimeUnit.SECONDS);
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 1.8
+ */
+public final class GarbageCollectionEventStream implements AutoCloseable {
+
+	/* native waits are bounded so that interrupts and close() are noticed */
+	private static final long MAX_WAIT_MILLIS = 100;
+
+	private final long[] cursor = new long[1];
+	private final byte[] buffer = new byte[16 * 1024];
+	private final ByteBuffer pending = ByteBuffer.wrap(buffer).order(ByteOrder.nativeOrder());
+	private long expectedSequenceNumber;
+	private long droppedCount;
+	private volatile boolean closed;
+
+	private GarbageCollectionEventStream(long position) {
+		cursor[0] = position;
+		expectedSequenceNumber = position;
+		pending.limit(0);
+	}
+
+	/**
+	 * Opens a stream positioned after the most recent event.
+	 *
+	 * @return a new stream
+	 * @throws IllegalStateException if the VM could not allocate the event buffer
+	 * @throws SecurityException if a security manager is present and the caller does not have
+	 * {@link java.lang.management.ManagementPermission}("monitor")
+	 */
+	public static GarbageCollectionEventStream open() {
+		SecurityManager security = System.getSecurityManager();
+		if (security != null) {
+			security.checkPermission(ManagementPermissionHelper.MPMONITOR);
+		}
+		long position = GarbageCollectionEventBuffer.open();
+		if (position < 0) {
+			throw new IllegalStateException("GC event stream is unavailable"); //$NON-NLS-1$
+		}
+		return new GarbageCollectionEventStream(position);
+	}
+
+	/**
+	 * Returns the next event without waiting.
+	 *
+	 * @return the next event, or null if no event is available
+	 */
+	public synchronized GarbageCollectionEvent poll() {
+		if (!pending.hasRemaining()) {
+			fill(0);
+		}
+		return next();
+	}
+
+	/**
+	 * Returns the next event, waiting if necessary until one is available.
+	 *
+	 * @param timeout how long to wait before giving up, in units of unit
+	 * @param unit the unit of the timeout
+	 * @return the next event, or null if the timeout elapsed or the stream was closed
+	 * @throws InterruptedException if the thread was interrupted while waiting
+	 */
+	public synchronized GarbageCollectionEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+		if (!pending.hasRemaining()) {
+			awaitRecords(unit.toNanos(timeout));
+		}
+		return next();
+	}
+
+	/**
+	 * Copies raw records into buffer, waiting if necessary until at least one is available.
+	 * Only whole records are copied; each can be decoded with
+	 * {@link GarbageCollectionEvent#decode(ByteBuffer)}.
+	 *
+	 * @param destination the buffer to fill, which should be large enough for several records
+	 * @param timeout how long to wait before giving up, in units of unit
+	 * @param unit the unit of the timeout
+	 * @return the number of bytes copied, 0 if the timeout elapsed or the stream was closed
+	 * @throws IllegalArgumentException if destination cannot hold the next record, which is kept for the next call
+	 * @throws InterruptedException if the thread was interrupted while waiting
+	 */
+	public synchronized int read(byte[] destination, long timeout, TimeUnit unit) throws InterruptedException {
+		if (!pending.hasRemaining()) {
+			awaitRecords(unit.toNanos(timeout));
+		}
+		int length = 0;
+		while (pending.hasRemaining()) {
+			int size = pending.getShort(pending.position() + 2) & 0xFFFF;
+			if ((length + size) > destination.length) {
+				if (0 == length) {
+					/* returning 0 would look like a timeout, the caller would never get past this record */
+					throw new IllegalArgumentException("Buffer of " + destination.length + " bytes cannot hold a GC event record of " + size + " bytes"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				}
+				break;
+			}
+			pending.get(destination, length, size);
+			length += size;
+		}
+		return length;
+	}
+
+	/**
+	 * @return the number of events this stream lost because it fell more than a ring behind the VM
+	 */
+	public synchronized long getDroppedCount() {
+		return droppedCount;
+	}
+
+	/**
+	 * Closes the stream. A thread waiting in {@link #poll(long, TimeUnit)} or
+	 * {@link #read(byte[], long, TimeUnit)} returns shortly afterwards.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+	}
+
+	private void awaitRecords(long timeoutNanos) throws InterruptedException {
+		long deadline = System.nanoTime() + timeoutNanos;
+		for (;;) {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			long remaining = deadline - System.nanoTime();
+			if (closed || (remaining <= 0)) {
+				fill(0);
+				return;
+			}
+			long wait = Math.max(1, Math.min(MAX_WAIT_MILLIS, TimeUnit.NANOSECONDS.toMillis(remaining)));
+			if (fill(wait)) {
+				return;
+			}
+		}
+	}
+
+	/* reads the next batch of records from the VM, returns true if any were read */
+	private boolean fill(long timeoutMillis) {
+		if (closed) {
+			pending.limit(0);
+			return false;
+		}
+		int length = GarbageCollectionEventBuffer.read(cursor, buffer, timeoutMillis);
+		pending.clear();
+		pending.limit(length);
+		/* account for records overwritten before they could be read */
+		if (length > 0) {
+			long first = pending.getLong(8);
+			if (first > expectedSequenceNumber) {
+				droppedCount += first - expectedSequenceNumber;
+			}
+		}
+		expectedSequenceNumber = cursor[0];
+		return length > 0;
+	}
+
+	private GarbageCollectionEvent next() {
+		if (!pending.hasRemaining()) {
+			return null;
+		}
+		return GarbageCollectionEvent.decode(pending);
+	}
+}
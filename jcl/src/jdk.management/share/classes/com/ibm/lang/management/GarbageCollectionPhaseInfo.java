@@ -0,0 +1,261 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.lang.management;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.GarbageCollectionPhaseInfoUtil;
+
+/**
+ * Detailed phase metrics of a single garbage collection, as reported by
+ * {@link GarbageCollectorMXBean#getLastCollectionPhaseInfo()} and carried in the
+ * <code>phaseInfo</code> attribute of the <code>GcInfo</code> sent with
+ * garbage collection notifications.
+ * <p>
+ * All times are in nanoseconds. A phase that did not run during the collection
+ * reports a time of 0. The remembered set metrics are only reported by the
+ * balanced collector. The per-worker times cover the main parallel phase of the
+ * collection: the copy phase of a scavenge or copy-forward, the mark phase otherwise.
+ *
+ * @since 1.8
+ */
+public final class GarbageCollectionPhaseInfo {
+
+	private final long markTime;
+	private final long sweepTime;
+	private final long compactTime;
+	private final long copyTime;
+	private final long rootScanTime;
+	private final long rememberedSetTime;
+	private final long rememberedSetCardsProcessed;
+	private final long weakReferenceCandidates;
+	private final long weakReferencesCleared;
+	private final long softReferenceCandidates;
+	private final long softReferencesCleared;
+	private final long phantomReferenceCandidates;
+	private final long phantomReferencesCleared;
+	private final int[] workerIDs;
+	private final long[] workerBusyTimes;
+	private final long[] workerStallTimes;
+
+	private GarbageCollectionPhaseInfo(long markTime, long sweepTime, long compactTime, long copyTime,
+			long rootScanTime, long rememberedSetTime, long rememberedSetCardsProcessed,
+			long weakReferenceCandidates, long weakReferencesCleared,
+			long softReferenceCandidates, long softReferencesCleared,
+			long phantomReferenceCandidates, long phantomReferencesCleared,
+			int[] workerIDs, long[] workerBusyTimes, long[] workerStallTimes) {
+		super();
+		if ((workerIDs.length != workerBusyTimes.length) || (workerIDs.length != workerStallTimes.length)) {
+			throw new IllegalArgumentException();
+		}
+		this.markTime = markTime;
+		this.sweepTime = sweepTime;
+		this.compactTime = compactTime;
+		this.copyTime = copyTime;
+		this.rootScanTime = rootScanTime;
+		this.rememberedSetTime = rememberedSetTime;
+		this.rememberedSetCardsProcessed = rememberedSetCardsProcessed;
+		this.weakReferenceCandidates = weakReferenceCandidates;
+		this.weakReferencesCleared = weakReferencesCleared;
+		this.softReferenceCandidates = softReferenceCandidates;
+		this.softReferencesCleared = softReferencesCleared;
+		this.phantomReferenceCandidates = phantomReferenceCandidates;
+		this.phantomReferencesCleared = phantomReferencesCleared;
+		this.workerIDs = workerIDs;
+		this.workerBusyTimes = workerBusyTimes;
+		this.workerStallTimes = workerStallTimes;
+	}
+
+	/**
+	 * @return the time spent marking live objects, in nanoseconds
+	 */
+	public long getMarkTime() {
+		return markTime;
+	}
+
+	/**
+	 * @return the time spent sweeping, in nanoseconds
+	 */
+	public long getSweepTime() {
+		return sweepTime;
+	}
+
+	/**
+	 * @return the time spent compacting, in nanoseconds
+	 */
+	public long getCompactTime() {
+		return compactTime;
+	}
+
+	/**
+	 * @return the time spent copying live objects (scavenge or copy-forward), in nanoseconds
+	 */
+	public long getCopyTime() {
+		return copyTime;
+	}
+
+	/**
+	 * The root scan time is summed over all the GC worker threads. Timing root
+	 * scanning has a cost, so it is only measured once phase metrics are used:
+	 * from the first collection after a GC notification listener is added, a
+	 * {@link GarbageCollectionEventStream} is opened or
+	 * {@link GarbageCollectorMXBean#getLastCollectionPhaseInfo()} is first called.
+	 * 0 is reported before that.
+	 *
+	 * @return the time spent scanning roots, in nanoseconds
+	 */
+	public long getRootScanTime() {
+		return rootScanTime;
+	}
+
+	/**
+	 * @return the time spent processing the remembered set, in nanoseconds
+	 */
+	public long getRememberedSetTime() {
+		return rememberedSetTime;
+	}
+
+	/**
+	 * @return the number of remembered set cards processed
+	 */
+	public long getRememberedSetCardsProcessed() {
+		return rememberedSetCardsProcessed;
+	}
+
+	/**
+	 * @return the number of weak references discovered by the collection
+	 */
+	public long getWeakReferenceCandidates() {
+		return weakReferenceCandidates;
+	}
+
+	/**
+	 * @return the number of weak references cleared by the collection
+	 */
+	public long getWeakReferencesCleared() {
+		return weakReferencesCleared;
+	}
+
+	/**
+	 * @return the number of soft references discovered by the collection
+	 */
+	public long getSoftReferenceCandidates() {
+		return softReferenceCandidates;
+	}
+
+	/**
+	 * @return the number of soft references cleared by the collection
+	 */
+	public long getSoftReferencesCleared() {
+		return softReferencesCleared;
+	}
+
+	/**
+	 * @return the number of phantom references discovered by the collection
+	 */
+	public long getPhantomReferenceCandidates() {
+		return phantomReferenceCandidates;
+	}
+
+	/**
+	 * @return the number of phantom references cleared by the collection
+	 */
+	public long getPhantomReferencesCleared() {
+		return phantomReferencesCleared;
+	}
+
+	/**
+	 * @return the identifiers of the GC worker threads that took part in the collection
+	 */
+	public int[] getWorkerIDs() {
+		return workerIDs.clone();
+	}
+
+	/**
+	 * @return the busy time of each worker in {@link #getWorkerIDs()}, in nanoseconds
+	 */
+	public long[] getWorkerBusyTimes() {
+		return workerBusyTimes.clone();
+	}
+
+	/**
+	 * @return the time each worker in {@link #getWorkerIDs()} spent stalled
+	 * waiting for work or for other workers, in nanoseconds
+	 */
+	public long[] getWorkerStallTimes() {
+		return workerStallTimes.clone();
+	}
+
+	/**
+	 * Receives a {@link CompositeData} representing a {@link GarbageCollectionPhaseInfo}
+	 * object and attempts to return the root {@link GarbageCollectionPhaseInfo} instance.
+	 *
+	 * @param cd a {@link CompositeData} that represents a {@link GarbageCollectionPhaseInfo}
+	 *
+	 * @return if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 		{@link GarbageCollectionPhaseInfo}, If <code>cd</code>
+	 * 		is <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException if argument <code>cd</code> does not correspond to a
+	 * 		{@link GarbageCollectionPhaseInfo} with an attribute for each of the getters
+	 * 		of this class, e.g. <code>markTime</code>(<code>java.lang.Long</code>) or
+	 * 		<code>workerIDs</code>(<code>int[]</code>).
+	 */
+	public static GarbageCollectionPhaseInfo from(CompositeData cd) {
+		GarbageCollectionPhaseInfo result = null;
+
+		if (null != cd) {
+			if (!GarbageCollectionPhaseInfoUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			try {
+				result = new GarbageCollectionPhaseInfo(
+						((Long) cd.get("markTime")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("sweepTime")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("compactTime")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("copyTime")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("rootScanTime")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("rememberedSetTime")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("rememberedSetCardsProcessed")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("weakReferenceCandidates")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("weakReferencesCleared")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("softReferenceCandidates")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("softReferencesCleared")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("phantomReferenceCandidates")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("phantomReferencesCleared")).longValue(), //$NON-NLS-1$
+						((int[]) cd.get("workerIDs")).clone(), //$NON-NLS-1$
+						((long[]) cd.get("workerBusyTimes")).clone(), //$NON-NLS-1$
+						((long[]) cd.get("workerStallTimes")).clone()); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+
+		return result;
+	}
+
+}
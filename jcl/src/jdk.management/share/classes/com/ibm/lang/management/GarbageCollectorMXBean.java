@@ -71,4 +71,15 @@ public interface GarbageCollectorMXBean extends
      * @return number of compacts performed
      */
     public long getTotalCompacts();
+
+    /**
+     * Returns the detailed phase metrics of the last garbage collection that
+     * was carried out by this collector: phase times, reference processing
+     * counts and per-worker busy and stall times.
+     *
+     * @return the phase metrics of the most recent collection, or
+     * <code>null</code> if no collection has been carried out yet
+     * @since 1.8
+     */
+    public GarbageCollectionPhaseInfo getLastCollectionPhaseInfo();
 }
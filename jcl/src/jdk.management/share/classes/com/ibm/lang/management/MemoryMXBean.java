@@ -274,4 +274,98 @@ public interface MemoryMXBean extends java.lang.management.MemoryMXBean {
      * @return number of active GC worker threads
      */
 	public int getCurrentGCThreads();
+
+	/**
+	 * Returns the number of threads currently running finalizers: the finalizer
+	 * slave thread plus any helper threads started to drain a large backlog.
+	 * 
+	 * @return number of active finalizer threads
+	 * @since 1.8
+	 */
+	public int getFinalizerThreadCount();
+
+	/**
+	 * Returns the largest number of jobs (objects, references and class loaders)
+	 * that have been waiting for finalization at the same time.
+	 * 
+	 * @return peak finalization queue depth
+	 * @since 1.8
+	 */
+	public long getFinalizerPeakQueueDepth();
+
+	/**
+	 * Returns the total number of finalization jobs taken off the queue.
+	 * 
+	 * @return number of finalization jobs processed
+	 * @since 1.8
+	 */
+	public long getFinalizerJobsProcessed();
+
+	/**
+	 * Returns how long the current finalization backlog has been waiting, in
+	 * milliseconds, or 0 if nothing is waiting for finalization.
+	 * 
+	 * @return age of the current finalization backlog in milliseconds
+	 * @since 1.8
+	 */
+	public long getFinalizerQueueLatency();
+
+	/**
+	 * Returns the longest time, in milliseconds, a finalization backlog has taken
+	 * to drain completely.
+	 * 
+	 * @return maximum finalization queue drain time in milliseconds
+	 * @since 1.8
+	 */
+	public long getFinalizerMaxQueueLatency();
+
+	/**
+	 * Returns the number of independently locked sub-tables (stripes) the
+	 * interned string table is currently divided into. The count grows when
+	 * the stripe locks become contended.
+	 * The value is sampled at the end of each global garbage collection.
+	 * 
+	 * @return number of interned string table stripes
+	 * @since 1.8
+	 */
+	public int getStringTableStripeCount();
+
+	/**
+	 * Returns the number of strings in the interned string table.
+	 * The value is sampled at the end of each global garbage collection.
+	 * 
+	 * @return number of interned strings
+	 * @since 1.8
+	 */
+	public long getStringTableSize();
+
+	/**
+	 * Returns the number of times an interned string table stripe lock has been acquired.
+	 * Lookups that are satisfied by the lock-free interned string cache are not counted.
+	 * The value is sampled at the end of each global garbage collection.
+	 * 
+	 * @return number of interned string table lock acquisitions
+	 * @since 1.8
+	 */
+	public long getStringTableLockAcquisitions();
+
+	/**
+	 * Returns the number of interned string table stripe lock acquisitions that
+	 * had to wait for another thread to release the lock.
+	 * The value is sampled at the end of each global garbage collection.
+	 * 
+	 * @return number of contended interned string table lock acquisitions
+	 * @since 1.8
+	 */
+	public long getStringTableContendedLockAcquisitions();
+
+	/**
+	 * Returns the number of times the interned string table has been
+	 * redistributed over a larger number of stripes.
+	 * The value is sampled at the end of each global garbage collection.
+	 * 
+	 * @return number of interned string table resizes
+	 * @since 1.8
+	 */
+	public long getStringTableResizeCount();
 }
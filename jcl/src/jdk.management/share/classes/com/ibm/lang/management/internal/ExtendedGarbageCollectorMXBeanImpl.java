@@ -25,6 +25,7 @@ package com.ibm.lang.management.internal;
 import javax.management.MBeanNotificationInfo;
 
 import com.ibm.java.lang.management.internal.GarbageCollectorMXBeanImpl;
+import com.ibm.lang.management.GarbageCollectionPhaseInfo;
 import com.ibm.lang.management.GarbageCollectorMXBean;
 import com.sun.management.GarbageCollectionNotificationInfo;
 import com.sun.management.GcInfo;
@@ -77,9 +78,24 @@ public final class ExtendedGarbageCollectorMXBeanImpl
 	 */
 	private native GcInfo getLastGcInfoImpl(int id);
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GarbageCollectionPhaseInfo getLastCollectionPhaseInfo() {
+		return GarbageCollectionPhaseInfo.from(GarbageCollectionPhaseInfoUtil.toCompositeData(this.getLastCollectionPhaseInfoImpl(id)));
+	}
+
+	/**
+	 * @return the flattened phase statistics of the most recent collection,
+	 * or null if there has been no collection yet
+	 * @see #getLastCollectionPhaseInfo()
+	 */
+	private native long[] getLastCollectionPhaseInfoImpl(int id);
+
 	static GcInfo buildGcInfo(long index, long startTime, long endTime,
 							long[] initialSize, long[] preUsed, long[] preCommitted, long[] preMax,
-							long[] postUsed, long[] postCommitted, long[] postMax) {
+							long[] postUsed, long[] postCommitted, long[] postMax, long[] phaseData) {
 		/* retrieve the names of MemoryPools*/
 		List<MemoryPoolMXBean> memoryPoolList = ManagementFactory.getMemoryPoolMXBeans();
 		String[] poolNames = new String[memoryPoolList.size()];
@@ -93,7 +109,8 @@ public final class ExtendedGarbageCollectorMXBeanImpl
 			usageBeforeGc.put(poolNames[count], new MemoryUsage(initialSize[count], preUsed[count], preCommitted[count], preMax[count]));
 			usageAfterGc.put(poolNames[count], new MemoryUsage(initialSize[count], postUsed[count], postCommitted[count], postMax[count]));
 		}
-		return GcInfoUtil.newGcInfoInstance(index, startTime, endTime, usageBeforeGc, usageAfterGc);
+		return GcInfoUtil.newGcInfoInstance(index, startTime, endTime, usageBeforeGc, usageAfterGc,
+				GarbageCollectionPhaseInfoUtil.toCompositeData(phaseData));
 	}
 
 }
@@ -0,0 +1,95 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.lang.management.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Native access to the VM's binary garbage collection event stream.
+ * <p>
+ * The stream is a ring of records written by the VM at the end of each
+ * collection. It is only allocated once the first consumer subscribes.
+ */
+public final class GarbageCollectionEventBuffer {
+
+	/**
+	 * Number of records kept by the VM for consumers that fall behind.
+	 */
+	public static final int CAPACITY = 256;
+
+	private static final Map<Integer, String> collectorNames = new ConcurrentHashMap<>();
+
+	private GarbageCollectionEventBuffer() {
+		super();
+	}
+
+	/**
+	 * Subscribes to the stream.
+	 *
+	 * @return the sequence number of the next record, or -1 if the stream is unavailable
+	 */
+	public static long open() {
+		return openImpl(CAPACITY);
+	}
+
+	/**
+	 * Copies whole records into buffer, waiting up to timeout milliseconds if none is available.
+	 *
+	 * @param cursor single element array holding the sequence number of the next record to read,
+	 * updated to the sequence number following the last record copied
+	 * @param buffer destination for the records
+	 * @param timeout maximum time to wait in milliseconds, 0 to return immediately
+	 * @return the number of bytes copied
+	 * @throws IllegalArgumentException if buffer cannot hold the next record
+	 */
+	public static int read(long[] cursor, byte[] buffer, long timeout) {
+		int length = readImpl(cursor, buffer, timeout);
+		if (length < 0) {
+			throw new IllegalArgumentException("Buffer of " + buffer.length + " bytes cannot hold a GC event record of " + -length + " bytes"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		return length;
+	}
+
+	/**
+	 * @param id the collector ID of a record
+	 * @return the name of the collector's GarbageCollectorMXBean, or null if the ID is not known
+	 */
+	public static String getCollectorName(int id) {
+		String name = collectorNames.get(Integer.valueOf(id));
+		if (name == null) {
+			name = getCollectorNameImpl(id);
+			if (name != null) {
+				collectorNames.put(Integer.valueOf(id), name);
+			}
+		}
+		return name;
+	}
+
+	private static native long openImpl(int capacity);
+
+	private static native int readImpl(long[] cursor, byte[] buffer, long timeout);
+
+	private static native String getCollectorNameImpl(int id);
+
+}
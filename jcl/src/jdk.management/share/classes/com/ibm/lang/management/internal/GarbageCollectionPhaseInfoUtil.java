@@ -0,0 +1,170 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.lang.management.internal;
+
+import javax.management.openmbean.ArrayType;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+
+import com.ibm.java.lang.management.internal.ManagementUtils;
+import com.ibm.lang.management.GarbageCollectionPhaseInfo;
+
+/**
+ * Support for the {@link GarbageCollectionPhaseInfo} class.
+ */
+public final class GarbageCollectionPhaseInfoUtil {
+
+	/*
+	 * Layout of the long[] built by newGCPhaseStatisticsArray() in mgmtgc.c: the
+	 * fixed values in the order of NAMES, followed by the worker count and then
+	 * an (id, busy time, stall time) triple for each worker.
+	 */
+	private static final int FIXED_FIELD_COUNT = 13;
+	private static final int WORKER_FIELD_COUNT = 3;
+
+	private static final String[] NAMES = {
+			"markTime", "sweepTime", "compactTime", "copyTime", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			"rootScanTime", "rememberedSetTime", "rememberedSetCardsProcessed", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"weakReferenceCandidates", "weakReferencesCleared", //$NON-NLS-1$ //$NON-NLS-2$
+			"softReferenceCandidates", "softReferencesCleared", //$NON-NLS-1$ //$NON-NLS-2$
+			"phantomReferenceCandidates", "phantomReferencesCleared", //$NON-NLS-1$ //$NON-NLS-2$
+			"workerIDs", "workerBusyTimes", "workerStallTimes" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static CompositeType compositeType;
+
+	/**
+	 * @return an instance of {@link CompositeType} for the {@link GarbageCollectionPhaseInfo} class
+	 */
+	public static CompositeType getCompositeType() {
+		if (null == compositeType) {
+			try {
+				OpenType<?>[] types = new OpenType<?>[NAMES.length];
+				for (int i = 0; i < FIXED_FIELD_COUNT; ++i) {
+					types[i] = SimpleType.LONG;
+				}
+				types[FIXED_FIELD_COUNT] = ArrayType.getPrimitiveArrayType(int[].class);
+				types[FIXED_FIELD_COUNT + 1] = ArrayType.getPrimitiveArrayType(long[].class);
+				types[FIXED_FIELD_COUNT + 2] = ArrayType.getPrimitiveArrayType(long[].class);
+
+				compositeType = new CompositeType(
+						GarbageCollectionPhaseInfo.class.getName(),
+						GarbageCollectionPhaseInfo.class.getName(),
+						NAMES, NAMES, types);
+			} catch (OpenDataException e) {
+				if (ManagementUtils.VERBOSE_MODE) {
+					e.printStackTrace(System.err);
+				}
+			}
+		}
+
+		return compositeType;
+	}
+
+	/**
+	 * @param info a {@link GarbageCollectionPhaseInfo} object
+	 * @return a {@link CompositeData} object that represents the supplied <code>info</code> object
+	 */
+	public static CompositeData toCompositeData(GarbageCollectionPhaseInfo info) {
+		CompositeData result = null;
+
+		if (null != info) {
+			Object[] values = {
+					Long.valueOf(info.getMarkTime()),
+					Long.valueOf(info.getSweepTime()),
+					Long.valueOf(info.getCompactTime()),
+					Long.valueOf(info.getCopyTime()),
+					Long.valueOf(info.getRootScanTime()),
+					Long.valueOf(info.getRememberedSetTime()),
+					Long.valueOf(info.getRememberedSetCardsProcessed()),
+					Long.valueOf(info.getWeakReferenceCandidates()),
+					Long.valueOf(info.getWeakReferencesCleared()),
+					Long.valueOf(info.getSoftReferenceCandidates()),
+					Long.valueOf(info.getSoftReferencesCleared()),
+					Long.valueOf(info.getPhantomReferenceCandidates()),
+					Long.valueOf(info.getPhantomReferencesCleared()),
+					info.getWorkerIDs(),
+					info.getWorkerBusyTimes(),
+					info.getWorkerStallTimes() };
+
+			result = newCompositeData(values);
+		}
+
+		return result;
+	}
+
+	/**
+	 * @param phaseData the phase statistics of a collection, as flattened by the VM
+	 * @return a {@link CompositeData} object that represents the supplied <code>phaseData</code>,
+	 * or null if <code>phaseData</code> is null
+	 */
+	public static CompositeData toCompositeData(long[] phaseData) {
+		CompositeData result = null;
+
+		if (null != phaseData) {
+			Object[] values = new Object[NAMES.length];
+			for (int i = 0; i < FIXED_FIELD_COUNT; ++i) {
+				values[i] = Long.valueOf(phaseData[i]);
+			}
+			int workerCount = (int) phaseData[FIXED_FIELD_COUNT];
+			int[] workerIDs = new int[workerCount];
+			long[] workerBusyTimes = new long[workerCount];
+			long[] workerStallTimes = new long[workerCount];
+			int cursor = FIXED_FIELD_COUNT + 1;
+			for (int i = 0; i < workerCount; ++i, cursor += WORKER_FIELD_COUNT) {
+				workerIDs[i] = (int) phaseData[cursor];
+				workerBusyTimes[i] = phaseData[cursor + 1];
+				workerStallTimes[i] = phaseData[cursor + 2];
+			}
+			values[FIXED_FIELD_COUNT] = workerIDs;
+			values[FIXED_FIELD_COUNT + 1] = workerBusyTimes;
+			values[FIXED_FIELD_COUNT + 2] = workerStallTimes;
+
+			result = newCompositeData(values);
+		}
+
+		return result;
+	}
+
+	private static CompositeData newCompositeData(Object[] values) {
+		CompositeData result = null;
+
+		try {
+			result = new CompositeDataSupport(getCompositeType(), NAMES, values);
+		} catch (OpenDataException e) {
+			if (ManagementUtils.VERBOSE_MODE) {
+				e.printStackTrace(System.err);
+			}
+		}
+
+		return result;
+	}
+
+	private GarbageCollectionPhaseInfoUtil() {
+		super();
+	}
+
+}
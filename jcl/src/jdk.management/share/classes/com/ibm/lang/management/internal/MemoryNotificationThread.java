@@ -86,14 +86,16 @@ final class MemoryNotificationThread extends Thread {
      *            the amounts of all memory pools that is guaranteed to be available for use after the garbage collection
      * @param postMax
      *            the maximum amounts of memory pools that can be used after the garbage collection
+     * @param phaseData
+     *            the flattened phase statistics of the garbage collection
      * @param sequenceNumber
      *            the sequence identifier of the current notification
      */
 	private void dispatchGCNotificationHelper(String gcName, String gcAction, String gcCause, long index,
 			long startTime, long endTime, long[] initialSize, long[] preUsed,
 			long[] preCommitted, long[] preMax, long[] postUsed, long[] postCommitted, long[] postMax,
-			long sequenceNumber) {
-		GcInfo gcInfo = ExtendedGarbageCollectorMXBeanImpl.buildGcInfo(index, startTime, endTime, initialSize, preUsed, preCommitted, preMax, postUsed, postCommitted, postMax);
+			long[] phaseData, long sequenceNumber) {
+		GcInfo gcInfo = ExtendedGarbageCollectorMXBeanImpl.buildGcInfo(index, startTime, endTime, initialSize, preUsed, preCommitted, preMax, postUsed, postCommitted, postMax, phaseData);
 		GarbageCollectionNotificationInfo info = new GarbageCollectionNotificationInfo(gcName, gcAction, gcCause, gcInfo);
 
 		for (MemoryManagerMXBean bean : memBean.getMemoryManagerMXBeans(false)) {
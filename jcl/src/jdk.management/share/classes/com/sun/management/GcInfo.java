@@ -216,6 +216,10 @@ public class GcInfo implements CompositeData, CompositeDataView {
 	 * </tr>
 	 * </table>
 	 * </blockquote>
+	 * It may in addition contain a <code>phaseInfo</code> attribute holding the
+	 * <code>CompositeData</code> of a
+	 * <code>com.ibm.lang.management.GarbageCollectionPhaseInfo</code>.
+	 *
 	 * @param cd <code>CompositeData</code> representing a <code>GcInfo</code>
 	 *
 	 * @throws IllegalArgumentException if <code>cd</code> does not
@@ -231,7 +235,8 @@ public class GcInfo implements CompositeData, CompositeDataView {
 		if (cd != null) {
             // Does cd meet the necessary criteria to create a new GcInfo?
             // If not then exit on an IllegalArgumentException.
-            ManagementUtils.verifyFieldNumber(cd, 5);
+            // A GcInfo may carry the GC-specific phaseInfo attribute in addition to the standard ones.
+            ManagementUtils.verifyFieldNumber(cd, cd.containsKey("phaseInfo") ? 6 : 5); //$NON-NLS-1$
             String[] attributeNames = { "index", "startTime", "endTime", "usageBeforeGc", "usageAfterGc" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
             ManagementUtils.verifyFieldNames(cd, attributeNames);
 			String[] attributeTypes = { "java.lang.Long", //$NON-NLS-1$
@@ -37,6 +37,7 @@ import javax.management.openmbean.SimpleType;
 
 import com.ibm.java.lang.management.internal.ManagementUtils;
 import com.ibm.java.lang.management.internal.MemoryUsageUtil;
+import com.ibm.lang.management.internal.GarbageCollectionPhaseInfoUtil;
 import com.sun.management.GcInfo;
 
 /**
@@ -46,6 +47,8 @@ public final class GcInfoUtil {
 
 	private static CompositeType compositeType;
 
+	private static CompositeType phaseInfoCompositeType;
+
 	private static Constructor<GcInfo> gcInfoPrivateConstructor = null;
 	private static Constructor<GcInfo> getGcInfoPrivateConstructor() {
 		if (null == gcInfoPrivateConstructor) {
@@ -96,6 +99,36 @@ public final class GcInfoUtil {
 		return compositeType;
 	}
 
+	/**
+	 * @return an instance of {@link CompositeType} for a {@link GcInfo} carrying
+	 * the GC-specific <code>phaseInfo</code> attribute in addition to the standard ones
+	 */
+	public static CompositeType getPhaseInfoCompositeType() {
+		if (null == phaseInfoCompositeType) {
+			String[] names = { "index", "startTime", "endTime", "usageBeforeGc", "usageAfterGc", "phaseInfo" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+			String[] descs = { "index", "startTime", "endTime", "usageBeforeGc", "usageAfterGc", "phaseInfo" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+			OpenType<?>[] types = { SimpleType.LONG, SimpleType.LONG, SimpleType.LONG,
+					MemoryUsageUtil.getTabularType(), MemoryUsageUtil.getTabularType(),
+					GarbageCollectionPhaseInfoUtil.getCompositeType() };
+
+			try {
+				/* the type name must match getCompositeType() so this remains a valid GcInfo value */
+				phaseInfoCompositeType = new CompositeType(
+						GcInfo.class.getName(),
+						GcInfo.class.getName(),
+						names,
+						descs,
+						types);
+			} catch (OpenDataException e) {
+				if (ManagementUtils.VERBOSE_MODE) {
+					e.printStackTrace(System.err);
+				}
+			}
+		}
+
+		return phaseInfoCompositeType;
+	}
+
 	/**
 	 * @param info the garbage collection information
 	 * @return a new {@link CompositeData} instance that represents the supplied <code>info</code> object
@@ -150,6 +183,47 @@ public final class GcInfoUtil {
 		return gcInfo;
 	}
 
+	/**
+	 * Creates a <code>GcInfo</code> that also carries the phase metrics of the
+	 * collection as its GC-specific <code>phaseInfo</code> attribute.
+	 *
+	 * @param index
+	 * 			  the identifier of this garbage collection which is the number of collections that this collector has done
+	 * @param startTime
+	 * 			  the start time of the collection in milliseconds since the Java virtual machine was started.
+	 * @param endTime
+	 * 			  the end time of the collection in milliseconds since the Java virtual machine was started.
+	 * @param usageBeforeGc
+	 * 			  the memory usage of all memory pools at the beginning of this GC.
+	 * @param usageAfterGc
+	 * 			  the memory usage of all memory pools at the end of this GC.
+	 * @param phaseInfo
+	 * 			  the phase metrics of this GC, or null if not available.
+	 * @return a <code>GcInfo</code> object
+	 */
+	public static GcInfo newGcInfoInstance(long index, long startTime, long endTime, Map<String,MemoryUsage> usageBeforeGc, Map<String,MemoryUsage> usageAfterGc, CompositeData phaseInfo) {
+		GcInfo gcInfo = newGcInfoInstance(index, startTime, endTime, usageBeforeGc, usageAfterGc);
+		if (null != phaseInfo) {
+			String[] names = { "index", "startTime", "endTime", "usageBeforeGc", "usageAfterGc", "phaseInfo" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+			Object[] values = {
+					Long.valueOf(index),
+					Long.valueOf(startTime),
+					Long.valueOf(endTime),
+					MemoryUsageUtil.toTabularData(usageBeforeGc),
+					MemoryUsageUtil.toTabularData(usageAfterGc),
+					phaseInfo };
+
+			try {
+				gcInfo = GcInfo.from(new CompositeDataSupport(getPhaseInfoCompositeType(), names, values));
+			} catch (OpenDataException e) {
+				if (ManagementUtils.VERBOSE_MODE) {
+					e.printStackTrace(System.err);
+				}
+			}
+		}
+		return gcInfo;
+	}
+
 	private GcInfoUtil() {
 		super();
 	}
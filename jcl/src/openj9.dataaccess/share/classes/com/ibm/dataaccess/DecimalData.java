@@ -2233,6 +2233,11 @@ public final class DecimalData
     public static BigDecimal convertUnicodeDecimalToBigDecimal(
             char[] unicodeDecimal, int offset, int precision, int scale,
             boolean checkOverflow, int decimalType) {
+        if (precision <= 18) {
+            return BigDecimal.valueOf(
+                    convertUnicodeDecimalToCompactLong(unicodeDecimal, offset, precision, decimalType), scale);
+        }
+
         byte[] packedDecimal = new byte[precision / 2 + 1];
         convertUnicodeDecimalToPackedDecimal(unicodeDecimal, offset,
                 packedDecimal, 0, precision, decimalType);
@@ -2495,6 +2500,13 @@ public final class DecimalData
     public static void convertBigDecimalToUnicodeDecimal(
             BigDecimal bigDecimalValue, char[] unicodeDecimal, int offset,
             int precision, boolean checkOverflow, int decimalType) {
+        if (bigDecimalValue.precision() <= 18)
+        {
+            convertLongToUnicodeDecimal(bigDecimalValue.unscaledValue().longValue(),
+                    unicodeDecimal, offset, precision, checkOverflow, decimalType);
+            return;
+        }
+
         byte[] packedDecimal = new byte[precision / 2 + 1];
         convertBigDecimalToPackedDecimal(bigDecimalValue, packedDecimal, 0,
                 precision, checkOverflow);
@@ -2502,6 +2514,46 @@ public final class DecimalData
                 offset, precision, decimalType);
     }
 
+    /*
+     * Converts a Unicode Decimal of at most 18 digits to its long value. The result, and the exceptions thrown,
+     * are the same as converting through a validated Packed Decimal, but no Packed Decimal is allocated.
+     */
+    private static long convertUnicodeDecimalToCompactLong(char[] unicodeDecimal,
+            int offset, int precision, int decimalType) {
+        int size = decimalType == DecimalData.UNICODE_UNSIGNED ? precision : precision + 1;
+        if ((offset + size > unicodeDecimal.length) || (offset < 0))
+            throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
+                 "convertUnicodeDecimalToPackedDecimal is trying to access unicodeDecimal[" + offset + "] to unicodeDecimal[" + (offset + size - 1) + "], " +
+                 " but valid indices are from 0 to " + (unicodeDecimal.length - 1) + ".");
+
+        if (precision <= 0)
+            throw new IllegalArgumentException("invalid precision");
+
+        boolean negative = false;
+        switch (decimalType) {
+        case UNICODE_UNSIGNED:
+            break;
+        case UNICODE_SIGN_SEPARATE_LEADING:
+            negative = unicodeDecimal[offset++] == UNICODE_SIGN_MINUS;
+            break;
+        case UNICODE_SIGN_SEPARATE_TRAILING:
+            negative = unicodeDecimal[offset + precision] == UNICODE_SIGN_MINUS;
+            break;
+        default:
+            throw new IllegalArgumentException("invalid decimalType");
+        }
+
+        long value = 0;
+        for (int end = offset + precision; offset < end; offset++) {
+            int digit = unicodeDecimal[offset] & CommonData.LOWER_NIBBLE_MASK;
+            if (digit > 9)
+                throw new IllegalArgumentException("The input Unicode is not valid");
+            value = value * 10 + digit;
+        }
+
+        return negative ? -value : value;
+    }
+
     // below is code taken from BigDecimalConverters
     // these are special functions recognized by the jit
     private static boolean DFPFacilityAvailable() {
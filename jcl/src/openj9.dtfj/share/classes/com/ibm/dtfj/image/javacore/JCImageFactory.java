@@ -87,6 +87,19 @@ public class JCImageFactory implements ImageFactory {
 		}
 	}
 
+	/**
+	 * Returns an image built from only the named sections of a javacore file,
+	 * for example THREADS when only thread information is needed.
+	 * 
+	 * @param javacore the javacore file
+	 * @param sectionNames names of the sections to parse, as they appear after the 0SECTION tag
+	 */
+	public Image getImage(File javacore, String[] sectionNames) throws IOException {
+		Image image = new JavaCoreReader(new ImageBuilderFactory()).generateImage(javacore, sectionNames);
+		((JCImage) image).setSource(javacore.toURI());
+		return image;
+	}
+
 	/**
 	 * 
 	 */
@@ -23,12 +23,16 @@
 package com.ibm.dtfj.javacore.parser.j9;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.io.SequenceInputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
@@ -36,6 +40,9 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+
 import com.ibm.dtfj.image.Image;
 import com.ibm.dtfj.image.ImageFactory;
 import com.ibm.dtfj.javacore.builder.IImageBuilderFactory;
@@ -43,6 +50,7 @@ import com.ibm.dtfj.javacore.parser.framework.parser.IErrorListener;
 import com.ibm.dtfj.javacore.parser.framework.parser.IParserController;
 import com.ibm.dtfj.javacore.parser.framework.parser.ParserException;
 import com.ibm.dtfj.javacore.parser.j9.registered.RegisteredComponents;
+import com.ibm.dtfj.utils.file.FileSniffer;
 
 public class JavaCoreReader {
 
@@ -66,6 +74,8 @@ public class JavaCoreReader {
 	 */
 	public Image generateImage(InputStream input) throws IOException {
 		try {
+			//javacores written with -Xdump:java:opts=GZIP are decompressed transparently
+			input = FileSniffer.openDecompressedStream(input);
 			byte[] head = new byte[256];
 			input.read(head);
 			ByteArrayInputStream headByteStream = new ByteArrayInputStream(head);
@@ -94,6 +104,52 @@ public class JavaCoreReader {
 		}
 	}
 
+	/**
+	 * Generates an image from a subset of the sections of a javacore file. The file is
+	 * first indexed by section, then only the TITLE section and the requested sections
+	 * are passed to the parser, avoiding the cost of running the tag line rules over
+	 * sections that are not needed. A gzip compressed javacore cannot be indexed by
+	 * offset, so it is parsed in full.
+	 * 
+	 * @param javacore the javacore file
+	 * @param sectionNames names of the sections to parse, as they appear after the 0SECTION tag (e.g. THREADS, MEMINFO)
+	 * 
+	 * @throws IOException
+	 */
+	public Image generateImage(File javacore, String[] sectionNames) throws IOException {
+		if (isGZipFile(javacore)) {
+			InputStream input = new FileInputStream(javacore);
+			try {
+				return generateImage(input);
+			} finally {
+				input.close();
+			}
+		}
+		RandomAccessFile file = new RandomAccessFile(javacore, "r");
+		try {
+			FileChannel channel = file.getChannel();
+			byte[] head = new byte[256];
+			int headLength = channel.read(ByteBuffer.wrap(head), 0);
+			if (headLength < 0) {
+				headLength = 0;
+			}
+			Charset cs = getJavaCoreCodePage(new ByteArrayInputStream(head, 0, headLength));
+			JavaCoreSectionIndex index = new JavaCoreSectionIndex(channel, cs);
+			return generateImage(index.openSections(sectionNames));
+		} finally {
+			file.close();
+		}
+	}
+
+	private static boolean isGZipFile(File file) throws IOException {
+		ImageInputStream iis = new FileImageInputStream(file);
+		try {
+			return FileSniffer.isGZipFile(iis);
+		} finally {
+			iis.close();
+		}
+	}
+
 	private Charset getJavaCoreCodePage(ByteArrayInputStream input)	throws IOException {
 		input.mark(256);
 		Charset cs = null;
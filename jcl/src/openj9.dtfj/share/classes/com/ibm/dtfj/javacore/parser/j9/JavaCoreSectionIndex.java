@@ -0,0 +1,333 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.dtfj.javacore.parser.j9;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ibm.dtfj.javacore.parser.j9.section.common.ICommonTypes;
+
+/**
+ * Byte offset index of the top level sections of a javacore file.
+ * <p>
+ * The index is built with a single pass over the raw bytes of the file looking
+ * for lines starting with the {@link ICommonTypes#SECTION} tag, without running
+ * any of the tag line rules. It can then be used to feed only a subset of the
+ * sections to the parser, e.g. just THREADS for hang analysis.
+ */
+public class JavaCoreSectionIndex {
+
+	/**
+	 * The name of the section that is always parsed, as it carries the
+	 * information needed by the other sections (e.g. pointer size).
+	 */
+	public static final String TITLE_SECTION = "TITLE";
+
+	private static final int MAX_SECTION_LINE_LENGTH = 256;
+
+	/**
+	 * Size of the part of the file mapped at any one time. Mapping the file in windows
+	 * keeps every buffer index within an int, so files larger than 2GB can be indexed.
+	 */
+	private static final long DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private final FileChannel fChannel;
+	private final long fPreambleEnd;
+	private final List<Entry> fEntries;
+
+	/**
+	 * A single top level section: the section name (second token of the
+	 * 0SECTION line) and the byte range it occupies in the file.
+	 */
+	public static final class Entry {
+		private final String fName;
+		private final long fStart;
+		private long fEnd;
+
+		Entry(String name, long start) {
+			fName = name;
+			fStart = start;
+		}
+
+		public String getName() {
+			return fName;
+		}
+
+		public long getStart() {
+			return fStart;
+		}
+
+		public long getEnd() {
+			return fEnd;
+		}
+	}
+
+	/**
+	 * Builds the section index for the given javacore.
+	 *
+	 * @param channel channel over the javacore file. The channel is not closed by the index.
+	 * @param cs encoding of the javacore, or null for the platform default
+	 * @throws IOException if the file cannot be read
+	 */
+	public JavaCoreSectionIndex(FileChannel channel, Charset cs) throws IOException {
+		this(channel, cs, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Builds the section index, mapping at most windowSize bytes of the file at a time.
+	 *
+	 * @param channel channel over the javacore file. The channel is not closed by the index.
+	 * @param cs encoding of the javacore, or null for the platform default
+	 * @param windowSize number of bytes to map at a time, smaller values than 256 are rounded up
+	 * @throws IOException if the file cannot be read
+	 */
+	public JavaCoreSectionIndex(FileChannel channel, Charset cs, long windowSize) throws IOException {
+		if (cs == null) {
+			cs = Charset.defaultCharset();
+		}
+		fChannel = channel;
+		fEntries = new ArrayList<Entry>();
+
+		byte[] eyeCatcher = encode(cs, ICommonTypes.SECTION);
+		byte[] newLine = encode(cs, "\n");
+		long size = channel.size();
+		MappedWindow buffer = new MappedWindow(channel, size, Math.max(windowSize, MAX_SECTION_LINE_LENGTH));
+
+		long previousStart = -1;
+		long lineStart = 0;
+		while (lineStart < size) {
+			if (matches(buffer, lineStart, eyeCatcher)) {
+				String name = readSectionName(buffer, lineStart + eyeCatcher.length, newLine, cs);
+				if (previousStart >= 0) {
+					fEntries.get(fEntries.size() - 1).fEnd = lineStart;
+				}
+				fEntries.add(new Entry(name, lineStart));
+				previousStart = lineStart;
+			}
+			long next = indexOf(buffer, lineStart, newLine);
+			if (next < 0) {
+				break;
+			}
+			lineStart = next + newLine.length;
+		}
+		if (!fEntries.isEmpty()) {
+			fEntries.get(fEntries.size() - 1).fEnd = size;
+			fPreambleEnd = fEntries.get(0).getStart();
+		} else {
+			fPreambleEnd = size;
+		}
+	}
+
+	/**
+	 *
+	 * @return the sections found in the javacore, in file order.
+	 */
+	public List<Entry> getSections() {
+		return Collections.unmodifiableList(fEntries);
+	}
+
+	/**
+	 *
+	 * @param name section name, e.g. THREADS
+	 * @return the first section with the given name, or null if not present.
+	 */
+	public Entry getSection(String name) {
+		for (Entry entry : fEntries) {
+			if (entry.getName().equals(name)) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a stream containing any data preceding the first section, the TITLE section
+	 * and the requested sections, in their original file order. Sections that are not
+	 * present in the file are silently ignored.
+	 *
+	 * @param sectionNames names of the sections to include
+	 * @return stream suitable for {@link JavaCoreReader#generateImage(InputStream)}
+	 */
+	public InputStream openSections(String[] sectionNames) {
+		List<long[]> ranges = new ArrayList<long[]>();
+		addRange(ranges, 0, fPreambleEnd);
+		for (Entry entry : fEntries) {
+			if (TITLE_SECTION.equals(entry.getName()) || contains(sectionNames, entry.getName())) {
+				addRange(ranges, entry.getStart(), entry.getEnd());
+			}
+		}
+		return new RangeInputStream(fChannel, ranges);
+	}
+
+	private static void addRange(List<long[]> ranges, long start, long end) {
+		if (start >= end) {
+			return;
+		}
+		if (!ranges.isEmpty()) {
+			long[] last = ranges.get(ranges.size() - 1);
+			if (last[1] == start) {
+				/* coalesce adjacent sections into a single read */
+				last[1] = end;
+				return;
+			}
+		}
+		ranges.add(new long[] { start, end });
+	}
+
+	private static boolean contains(String[] names, String name) {
+		if (names != null) {
+			for (int i = 0; i < names.length; i++) {
+				if (name.equals(names[i])) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static byte[] encode(Charset cs, String value) {
+		ByteBuffer encoded = cs.encode(value);
+		byte[] bytes = new byte[encoded.remaining()];
+		encoded.get(bytes);
+		return bytes;
+	}
+
+	private static boolean matches(MappedWindow buffer, long offset, byte[] pattern) throws IOException {
+		if (offset + pattern.length > buffer.size()) {
+			return false;
+		}
+		for (int i = 0; i < pattern.length; i++) {
+			if (buffer.get(offset + i) != pattern[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long indexOf(MappedWindow buffer, long from, byte[] pattern) throws IOException {
+		long limit = buffer.size() - pattern.length;
+		byte first = pattern[0];
+		for (long i = from; i <= limit; i++) {
+			if ((buffer.get(i) == first) && matches(buffer, i, pattern)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static String readSectionName(MappedWindow buffer, long from, byte[] newLine, Charset cs) throws IOException {
+		long end = indexOf(buffer, from, newLine);
+		if ((end < 0) || (end - from > MAX_SECTION_LINE_LENGTH)) {
+			end = Math.min(buffer.size(), from + MAX_SECTION_LINE_LENGTH);
+		}
+		byte[] line = new byte[(int) (end - from)];
+		for (int i = 0; i < line.length; i++) {
+			line[i] = buffer.get(from + i);
+		}
+		String rest = cs.decode(ByteBuffer.wrap(line)).toString().trim();
+		String[] tokens = rest.split("\\s+");
+		return tokens[0];
+	}
+
+	/**
+	 * Read access to a file by absolute long offset, through a mapping of a window of the
+	 * file that is moved as the offsets being read move.
+	 */
+	private static final class MappedWindow {
+		private final FileChannel fSource;
+		private final long fSize;
+		private final long fWindowSize;
+		private ByteBuffer fWindow;
+		private long fWindowStart;
+
+		MappedWindow(FileChannel source, long size, long windowSize) {
+			fSource = source;
+			fSize = size;
+			fWindowSize = windowSize;
+			fWindowStart = -1;
+		}
+
+		long size() {
+			return fSize;
+		}
+
+		byte get(long offset) throws IOException {
+			if ((fWindowStart < 0) || (offset < fWindowStart) || (offset >= fWindowStart + fWindow.limit())) {
+				fWindowStart = offset;
+				fWindow = fSource.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(fWindowSize, fSize - offset));
+			}
+			return fWindow.get((int) (offset - fWindowStart));
+		}
+	}
+
+	/**
+	 * Reads a list of byte ranges of a file channel as one contiguous stream.
+	 */
+	private static final class RangeInputStream extends InputStream {
+		private final FileChannel fSource;
+		private final List<long[]> fRanges;
+		private int fCurrentRange;
+		private long fPosition;
+
+		RangeInputStream(FileChannel source, List<long[]> ranges) {
+			fSource = source;
+			fRanges = ranges;
+			fCurrentRange = 0;
+			fPosition = ranges.isEmpty() ? 0 : ranges.get(0)[0];
+		}
+
+		public int read() throws IOException {
+			byte[] single = new byte[1];
+			int count = read(single, 0, 1);
+			return (count <= 0) ? -1 : (single[0] & 0xFF);
+		}
+
+		public int read(byte[] b, int off, int len) throws IOException {
+			while (fCurrentRange < fRanges.size()) {
+				long[] range = fRanges.get(fCurrentRange);
+				long remaining = range[1] - fPosition;
+				if (remaining <= 0) {
+					fCurrentRange += 1;
+					if (fCurrentRange < fRanges.size()) {
+						fPosition = fRanges.get(fCurrentRange)[0];
+					}
+					continue;
+				}
+				int toRead = (int) Math.min(len, remaining);
+				int count = fSource.read(ByteBuffer.wrap(b, off, toRead), fPosition);
+				if (count < 0) {
+					return -1;
+				}
+				fPosition += count;
+				return count;
+			}
+			return -1;
+		}
+	}
+}
@@ -23,7 +23,6 @@
 package com.ibm.dtfj.phd.parser;
 
 import java.io.*;
-import java.util.zip.GZIPInputStream;
 import java.util.Vector;
 
 import javax.imageio.stream.ImageInputStream;
@@ -31,6 +30,7 @@ import javax.imageio.stream.ImageInputStream;
 import com.ibm.dtfj.phd.PHDImage;
 import com.ibm.dtfj.phd.util.*;
 import com.ibm.dtfj.phd.PHDJavaObject;
+import com.ibm.dtfj.utils.file.FileSniffer;
 
 /**
  *  This class parses a PHD format heapdump file. To use it, first create the object 
@@ -113,7 +113,11 @@ public class HeapdumpReader extends Base {
 	protected HeapdumpReader(ImageInputStream stream) throws IOException {
 		this.filename="[data stream]";		//indicate that this came from a data stream not a file
 		stream.seek(0);		//make sure the stream is at the beginning
-		dis = new DataStreamAdapter(stream);
+		if (FileSniffer.isGZipFile(stream)) {
+			dis = new DataStreamAdapter(new DataInputStream(new BufferedInputStream(FileSniffer.openGZipStream(stream))), stream);
+		} else {
+			dis = new DataStreamAdapter(stream);
+		}
 		processData();
 	}
 	
@@ -127,22 +131,13 @@ public class HeapdumpReader extends Base {
 		this.filename = filename;
 		InputStream is = null;
 		try {
-			if (filename.endsWith(".gz")) {
-				is = new BufferedInputStream(new GZIPInputStream(new FileInputStream(filename)));
-			} else {			
-				FileInputStream fis = new FileInputStream(filename);
-				is = new BufferedInputStream(fis);
-			}
+			//gzip compressed files (e.g. written with -Xdump:heap:opts=PHD+GZIP) are detected from their contents
+			is = FileSniffer.openDecompressedStream(new FileInputStream(filename));
 			dis = new DataStreamAdapter(new DataInputStream(is));
 			processData();
 		} catch (java.io.UTFDataFormatException e) {
 			try {
-				if (filename.endsWith(".gz")) {
-					is = new GZIPInputStream(new FileInputStream(filename));
-				} else {			
-					FileInputStream fis = new FileInputStream(filename);
-					is = new BufferedInputStream(fis);
-				}
+				is = FileSniffer.openDecompressedStream(new FileInputStream(filename));
 				dis = new DataStreamAdapter(new DataInputStream(is));
 				long l = dis.readLong();
 				if (l == 0x12d73f94b12fdfL) {
@@ -727,6 +722,12 @@ public class HeapdumpReader extends Base {
 			iis = null;
 		}
 		
+		//reads from a decompressed view of an image input stream, the image input stream is only closed by releaseResources()
+		public DataStreamAdapter(DataInputStream dis, ImageInputStream iis) {
+			this.dis = dis;
+			this.iis = iis;
+		}
+		
 		public int readInt() throws IOException {
 			if(dis == null) {
 				return iis.readInt();
@@ -809,11 +810,12 @@ public class HeapdumpReader extends Base {
 		
 		//allows all input sources to be closed and is used to signal the final closing
 		public void releaseResources() throws IOException {
-			if(dis == null) {
-				iis.close();
-			} else {
+			if(dis != null) {
 				dis.close();
 			}
+			if(iis != null) {
+				iis.close();
+			}
 		}
 	}
 }
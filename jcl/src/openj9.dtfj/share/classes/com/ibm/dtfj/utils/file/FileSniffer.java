@@ -22,6 +22,7 @@
  *******************************************************************************/
 package com.ibm.dtfj.utils.file;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -30,6 +31,7 @@ import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
+import java.util.zip.GZIPInputStream;
 
 import javax.imageio.stream.FileImageInputStream;
 import javax.imageio.stream.ImageInputStream;
@@ -74,6 +76,10 @@ public class FileSniffer {
     //zip file identifier
     private static final int ZIP_ID = 0x04034b50;
     
+    //gzip identifier, as written by the dump agents with opts=GZIP
+    private static final int GZIP_ID_1 = 0x1f;
+    private static final int GZIP_ID_2 = 0x8b;
+    
     //the format for a core file
     public enum CoreFormatType {
 		ELF,
@@ -224,6 +230,13 @@ public class FileSniffer {
 	}
 	
 	public static boolean isJavaCoreFile(ImageInputStream iis, long filesize) throws IOException {
+		if (isGZipFile(iis)) {
+			try {
+				return isJavaCoreFile(new MemoryCacheImageInputStream(openGZipStream(iis)), filesize);
+			} finally {
+				iis.seek(0);
+			}
+		}
 		try {
 			byte[] headBytes = new byte[256];
 			iis.read(headBytes);
@@ -297,6 +310,14 @@ public class FileSniffer {
 	}
 	
 	public static boolean isPHDFile(ImageInputStream iis, long filesize) throws IOException {
+		if (isGZipFile(iis)) {
+			try {
+				//the uncompressed size is not known up front, so do not filter on the compressed one
+				return isPHDFile(new MemoryCacheImageInputStream(openGZipStream(iis)), Long.MAX_VALUE);
+			} finally {
+				iis.seek(0);
+			}
+		}
 		if(filesize < PHD_HEADER_SIZE) {
 			return false;
 		}
@@ -386,6 +407,63 @@ public class FileSniffer {
 		return true;
 	}
 	
+	/**
+	 * Checks to see if the stream starts with the gzip magic number. The stream is reset to its start.
+	 * 
+	 * @param iis stream to analyze
+	 * @return true if it is a gzip file
+	 * @throws IOException
+	 */
+	public static boolean isGZipFile(ImageInputStream iis) throws IOException {
+		try {
+			iis.seek(0);
+			return (iis.read() == GZIP_ID_1) && (iis.read() == GZIP_ID_2);
+		} finally {
+			iis.seek(0);
+		}
+	}
+	
+	/**
+	 * Returns a stream of the decompressed contents of a gzip file, reading from the current
+	 * position of the supplied stream. Closing the returned stream does not close the supplied one.
+	 * 
+	 * @param iis stream positioned at the start of the gzip data
+	 * @return decompressed stream
+	 * @throws IOException
+	 */
+	public static InputStream openGZipStream(final ImageInputStream iis) throws IOException {
+		InputStream in = new InputStream() {
+			public int read() throws IOException {
+				return iis.read();
+			}
+			
+			public int read(byte[] b, int off, int len) throws IOException {
+				return iis.read(b, off, len);
+			}
+		};
+		return new GZIPInputStream(in);
+	}
+	
+	/**
+	 * Wraps a stream so that gzip compressed contents, such as a javacore or PHD file written with
+	 * opts=GZIP, are transparently decompressed. Uncompressed contents are returned unchanged.
+	 * 
+	 * @param in stream positioned at the start of the file
+	 * @return buffered stream of the uncompressed contents
+	 * @throws IOException
+	 */
+	public static InputStream openDecompressedStream(InputStream in) throws IOException {
+		BufferedInputStream buffered = new BufferedInputStream(in);
+		buffered.mark(2);
+		int id1 = buffered.read();
+		int id2 = buffered.read();
+		buffered.reset();
+		if ((id1 == GZIP_ID_1) && (id2 == GZIP_ID_2)) {
+			return new BufferedInputStream(new GZIPInputStream(buffered));
+		}
+		return buffered;
+	}
+	
 	public static boolean isZipFile(File file) throws IOException {
 		FileImageInputStream fis = new FileImageInputStream(file);
 		boolean result = isZipFile(fis);
@@ -0,0 +1,96 @@
+/*[INCLUDE-IF Sidecar19-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.gpu.internal;
+
+import com.ibm.gpu.spi.GPUAssist;
+
+/**
+ * An implementation of sort assist for hosts without a usable GPU: large
+ * arrays are sorted with a radix sort spread across a bounded pool of
+ * CPU worker threads.
+ */
+final class CpuGPUAssist implements GPUAssist {
+
+	private final ParallelRadixSort sorter;
+
+	private final int threshold;
+
+	CpuGPUAssist(ParallelRadixSort sorter, int threshold) {
+		super();
+		this.sorter = sorter;
+		this.threshold = threshold;
+	}
+
+	private boolean accept(int arrayLength, int fromIndex, int toIndex) {
+		if (fromIndex > toIndex) {
+			throw new IllegalArgumentException();
+		}
+
+		if (fromIndex < 0 || toIndex > arrayLength) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+
+		return (toIndex - fromIndex) >= threshold;
+	}
+
+	@Override
+	public boolean trySort(double[] array, int fromIndex, int toIndex) {
+		if (!accept(array.length, fromIndex, toIndex)) {
+			return false;
+		}
+
+		sorter.sort(array, fromIndex, toIndex);
+		return true;
+	}
+
+	@Override
+	public boolean trySort(float[] array, int fromIndex, int toIndex) {
+		if (!accept(array.length, fromIndex, toIndex)) {
+			return false;
+		}
+
+		sorter.sort(array, fromIndex, toIndex);
+		return true;
+	}
+
+	@Override
+	public boolean trySort(int[] array, int fromIndex, int toIndex) {
+		if (!accept(array.length, fromIndex, toIndex)) {
+			return false;
+		}
+
+		sorter.sort(array, fromIndex, toIndex);
+		return true;
+	}
+
+	@Override
+	public boolean trySort(long[] array, int fromIndex, int toIndex) {
+		if (!accept(array.length, fromIndex, toIndex)) {
+			return false;
+		}
+
+		sorter.sort(array, fromIndex, toIndex);
+		return true;
+	}
+
+}
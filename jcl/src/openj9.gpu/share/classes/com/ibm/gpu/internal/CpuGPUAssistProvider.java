@@ -0,0 +1,116 @@
+/*[INCLUDE-IF Sidecar19-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.gpu.internal;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import com.ibm.gpu.spi.GPUAssist;
+
+/**
+ * Provides CPU-based sort assist depending on the values
+ * of the following system properties:
+ * <ul>
+ *   <li>com.ibm.gpu.cpu.enable - set to "sort" or "all" (or empty) to enable</li>
+ *   <li>com.ibm.gpu.cpu.threshold - minimum number of elements (default 65536)</li>
+ *   <li>com.ibm.gpu.cpu.threads - maximum number of worker threads
+ *       (default: the number of available processors)</li>
+ * </ul>
+ * This provider is consulted after CudaGPUAssistProvider, so a CUDA device,
+ * when enabled and present, is preferred.
+ */
+public final class CpuGPUAssistProvider implements GPUAssist.Provider {
+
+	private static final String ENABLE_PROPERTY = "com.ibm.gpu.cpu.enable"; //$NON-NLS-1$
+
+	private static final String THRESHOLD_PROPERTY = "com.ibm.gpu.cpu.threshold"; //$NON-NLS-1$
+
+	private static final String THREADS_PROPERTY = "com.ibm.gpu.cpu.threads"; //$NON-NLS-1$
+
+	private static final int DEFAULT_THRESHOLD = 1 << 16;
+
+	private static int getIntProperty(String name, int defaultValue) {
+		String value = System.getProperty(name);
+
+		if (value != null) {
+			try {
+				int intValue = Integer.parseInt(value.trim());
+
+				if (intValue > 0) {
+					return intValue;
+				}
+			} catch (NumberFormatException e) {
+				// ignore
+			}
+		}
+
+		return defaultValue;
+	}
+
+	private static boolean isEnabled() {
+		String value = System.getProperty(ENABLE_PROPERTY);
+
+		return (value != null) && (value.isEmpty() // <br/>
+				|| value.equalsIgnoreCase("all") //$NON-NLS-1$
+				|| value.equalsIgnoreCase("sort")); //$NON-NLS-1$
+	}
+
+	/**
+	 * The default constructor, as required to be a service provider.
+	 */
+	public CpuGPUAssistProvider() {
+		super();
+	}
+
+	@Override
+	public GPUAssist getGPUAssist() {
+		PrivilegedAction<GPUAssist> create = () -> {
+			if (!isEnabled()) {
+				return null;
+			}
+
+			int threads = getIntProperty(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+
+			if (threads < 2) {
+				// the sort would not be faster than the single-threaded Arrays.sort
+				return null;
+			}
+
+			int threshold = getIntProperty(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD);
+			ForkJoinPool pool = new ForkJoinPool(threads, owner -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(owner);
+
+				thread.setName("CPU sort assist " + thread.getPoolIndex()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			}, null, false);
+
+			return new CpuGPUAssist(new ParallelRadixSort(pool), threshold);
+		};
+
+		return AccessController.doPrivileged(create);
+	}
+
+}
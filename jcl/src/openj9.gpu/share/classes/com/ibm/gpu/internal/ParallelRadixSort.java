@@ -0,0 +1,360 @@
+/*[INCLUDE-IF Sidecar19-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.gpu.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * A least significant digit radix sort of primitive arrays where each pass
+ * (histogram and scatter) is split across the workers of a bounded pool.
+ * Floating point values are mapped to integer keys that sort in the same
+ * order as Arrays.sort: -0.0 before +0.0. As with Arrays.sort, NaNs are moved
+ * after positive infinity and keep their bit patterns; they take no part in the
+ * radix sort itself.
+ */
+final class ParallelRadixSort {
+
+	private static final int DIGIT_BITS = 8;
+
+	private static final int BUCKETS = 1 << DIGIT_BITS;
+
+	private static final int DIGIT_MASK = BUCKETS - 1;
+
+	/*
+	 * The minimum number of elements handled by one worker in each pass;
+	 * smaller chunks cost more in synchronization than they gain.
+	 */
+	private static final int MIN_CHUNK_LENGTH = 1 << 14;
+
+	private static int floatToKey(float value) {
+		int bits = Float.floatToRawIntBits(value);
+
+		// flip all bits of negative values, only the sign bit of the others
+		return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+	}
+
+	private static float keyToFloat(int key) {
+		int bits = key < 0 ? (key ^ Integer.MIN_VALUE) : ~key;
+
+		return Float.intBitsToFloat(bits);
+	}
+
+	private static long doubleToKey(double value) {
+		long bits = Double.doubleToRawLongBits(value);
+
+		// flip all bits of negative values, only the sign bit of the others
+		return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+	}
+
+	private static double keyToDouble(long key) {
+		long bits = key < 0 ? (key ^ Long.MIN_VALUE) : ~key;
+
+		return Double.longBitsToDouble(bits);
+	}
+
+	private final ForkJoinPool pool;
+
+	private final int parallelism;
+
+	ParallelRadixSort(ForkJoinPool pool) {
+		super();
+		this.pool = pool;
+		this.parallelism = pool.getParallelism();
+	}
+
+	void sort(double[] array, int fromIndex, int toIndex) {
+		long[] keys = new long[toIndex - fromIndex];
+		int length = 0;
+
+		for (int i = fromIndex; i < toIndex; ++i) {
+			double value = array[i];
+
+			if (value == value) {
+				keys[length++] = doubleToKey(value);
+			}
+		}
+
+		// move the NaNs to the end, in their original order
+		for (int i = toIndex - 1, nanIndex = toIndex; nanIndex > fromIndex + length; --i) {
+			double value = array[i];
+
+			if (value != value) {
+				array[--nanIndex] = value;
+			}
+		}
+
+		sortKeys(keys, 0, length, 0);
+
+		for (int i = 0; i < length; ++i) {
+			array[fromIndex + i] = keyToDouble(keys[i]);
+		}
+	}
+
+	void sort(float[] array, int fromIndex, int toIndex) {
+		int[] keys = new int[toIndex - fromIndex];
+		int length = 0;
+
+		for (int i = fromIndex; i < toIndex; ++i) {
+			float value = array[i];
+
+			if (value == value) {
+				keys[length++] = floatToKey(value);
+			}
+		}
+
+		// move the NaNs to the end, in their original order
+		for (int i = toIndex - 1, nanIndex = toIndex; nanIndex > fromIndex + length; --i) {
+			float value = array[i];
+
+			if (value != value) {
+				array[--nanIndex] = value;
+			}
+		}
+
+		sortKeys(keys, 0, length, 0);
+
+		for (int i = 0; i < length; ++i) {
+			array[fromIndex + i] = keyToFloat(keys[i]);
+		}
+	}
+
+	void sort(int[] array, int fromIndex, int toIndex) {
+		sortKeys(array, fromIndex, toIndex, Integer.MIN_VALUE);
+	}
+
+	void sort(long[] array, int fromIndex, int toIndex) {
+		sortKeys(array, fromIndex, toIndex, Long.MIN_VALUE);
+	}
+
+	private int chunkCount(int length) {
+		return Math.max(1, Math.min(parallelism, length / MIN_CHUNK_LENGTH));
+	}
+
+	private static int chunkStart(int length, int chunks, int chunk) {
+		return (int) (((long) length * chunk) / chunks);
+	}
+
+	private void invokeAll(List<Callable<Void>> tasks) {
+		if (tasks.size() == 1) {
+			try {
+				tasks.get(0).call();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+			return;
+		}
+
+		for (Future<Void> result : pool.invokeAll(tasks)) {
+			try {
+				result.get();
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	/*
+	 * Computes, for each chunk, the first destination index of each bucket.
+	 * Returns false if every key has the same digit so the pass can be skipped.
+	 */
+	private static boolean prefixSums(int[][] counts, int length) {
+		int chunks = counts.length;
+
+		for (int bucket = 0; bucket < BUCKETS; ++bucket) {
+			int total = 0;
+
+			for (int chunk = 0; chunk < chunks; ++chunk) {
+				total += counts[chunk][bucket];
+			}
+
+			if (total == length) {
+				return false;
+			}
+		}
+
+		int offset = 0;
+
+		for (int bucket = 0; bucket < BUCKETS; ++bucket) {
+			for (int chunk = 0; chunk < chunks; ++chunk) {
+				int count = counts[chunk][bucket];
+
+				counts[chunk][bucket] = offset;
+				offset += count;
+			}
+		}
+
+		return true;
+	}
+
+	/*
+	 * The keys are ordered as unsigned values of (key ^ flip).
+	 */
+	private void sortKeys(int[] array, int fromIndex, int toIndex, int flip) {
+		final int length = toIndex - fromIndex;
+		final int chunks = chunkCount(length);
+		final int[][] counts = new int[chunks][BUCKETS];
+		int[] source = array;
+		int sourceStart = fromIndex;
+		int[] target = new int[length];
+		int targetStart = 0;
+
+		for (int shift = 0; shift < Integer.SIZE; shift += DIGIT_BITS) {
+			final int[] src = source;
+			final int srcStart = sourceStart;
+			final int[] dst = target;
+			final int dstStart = targetStart;
+			final int digitShift = shift;
+			List<Callable<Void>> tasks = new ArrayList<>(chunks);
+
+			for (int chunk = 0; chunk < chunks; ++chunk) {
+				final int[] count = counts[chunk];
+				final int start = srcStart + chunkStart(length, chunks, chunk);
+				final int end = srcStart + chunkStart(length, chunks, chunk + 1);
+
+				tasks.add(() -> {
+					Arrays.fill(count, 0);
+					for (int i = start; i < end; ++i) {
+						count[((src[i] ^ flip) >>> digitShift) & DIGIT_MASK] += 1;
+					}
+					return null;
+				});
+			}
+
+			invokeAll(tasks);
+
+			if (!prefixSums(counts, length)) {
+				continue;
+			}
+
+			tasks.clear();
+
+			for (int chunk = 0; chunk < chunks; ++chunk) {
+				final int[] offset = counts[chunk];
+				final int start = srcStart + chunkStart(length, chunks, chunk);
+				final int end = srcStart + chunkStart(length, chunks, chunk + 1);
+
+				tasks.add(() -> {
+					for (int i = start; i < end; ++i) {
+						int value = src[i];
+						int bucket = ((value ^ flip) >>> digitShift) & DIGIT_MASK;
+
+						dst[dstStart + offset[bucket]++] = value;
+					}
+					return null;
+				});
+			}
+
+			invokeAll(tasks);
+
+			target = source;
+			targetStart = sourceStart;
+			source = dst;
+			sourceStart = dstStart;
+		}
+
+		if (source != array) {
+			System.arraycopy(source, sourceStart, array, fromIndex, length);
+		}
+	}
+
+	/*
+	 * The keys are ordered as unsigned values of (key ^ flip).
+	 */
+	private void sortKeys(long[] array, int fromIndex, int toIndex, long flip) {
+		final int length = toIndex - fromIndex;
+		final int chunks = chunkCount(length);
+		final int[][] counts = new int[chunks][BUCKETS];
+		long[] source = array;
+		int sourceStart = fromIndex;
+		long[] target = new long[length];
+		int targetStart = 0;
+
+		for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+			final long[] src = source;
+			final int srcStart = sourceStart;
+			final long[] dst = target;
+			final int dstStart = targetStart;
+			final int digitShift = shift;
+			List<Callable<Void>> tasks = new ArrayList<>(chunks);
+
+			for (int chunk = 0; chunk < chunks; ++chunk) {
+				final int[] count = counts[chunk];
+				final int start = srcStart + chunkStart(length, chunks, chunk);
+				final int end = srcStart + chunkStart(length, chunks, chunk + 1);
+
+				tasks.add(() -> {
+					Arrays.fill(count, 0);
+					for (int i = start; i < end; ++i) {
+						count[(int) ((src[i] ^ flip) >>> digitShift) & DIGIT_MASK] += 1;
+					}
+					return null;
+				});
+			}
+
+			invokeAll(tasks);
+
+			if (!prefixSums(counts, length)) {
+				continue;
+			}
+
+			tasks.clear();
+
+			for (int chunk = 0; chunk < chunks; ++chunk) {
+				final int[] offset = counts[chunk];
+				final int start = srcStart + chunkStart(length, chunks, chunk);
+				final int end = srcStart + chunkStart(length, chunks, chunk + 1);
+
+				tasks.add(() -> {
+					for (int i = start; i < end; ++i) {
+						long value = src[i];
+						int bucket = (int) ((value ^ flip) >>> digitShift) & DIGIT_MASK;
+
+						dst[dstStart + offset[bucket]++] = value;
+					}
+					return null;
+				});
+			}
+
+			invokeAll(tasks);
+
+			target = source;
+			targetStart = sourceStart;
+			source = dst;
+			sourceStart = dstStart;
+		}
+
+		if (source != array) {
+			System.arraycopy(source, sourceStart, array, fromIndex, length);
+		}
+	}
+
+}
@@ -31,5 +31,7 @@ module openj9.gpu {
   requires java.base;
   requires openj9.cuda;
   exports com.ibm.gpu;
-  provides com.ibm.gpu.spi.GPUAssist.Provider with com.ibm.gpu.internal.CudaGPUAssistProvider;
+  provides com.ibm.gpu.spi.GPUAssist.Provider with
+      com.ibm.gpu.internal.CudaGPUAssistProvider,
+      com.ibm.gpu.internal.CpuGPUAssistProvider;
 }
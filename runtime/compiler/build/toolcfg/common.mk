@@ -84,7 +84,8 @@ ifneq ($(JITSERVER_SUPPORT),)
 #
 PRODUCT_INCLUDES+=\
     $(FIXED_SRCBASE)/compiler/net/gen \
-    $(FIXED_SRCBASE)/compiler/net
+    $(FIXED_SRCBASE)/compiler/net \
+    $(J9SRC)/zlib
 endif
 #
 # Now we include the host and target tool config
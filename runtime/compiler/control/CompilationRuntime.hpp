@@ -77,6 +77,7 @@ template <typename T> class TR_PersistentArray;
 typedef J9JITExceptionTable TR_MethodMetaData;
 #if defined(JITSERVER_SUPPORT)
 class ClientSessionHT;
+class JITServerAOTCache;
 #endif /* defined(JITSERVER_SUPPORT) */
 
 struct TR_SignatureCountPair
@@ -997,6 +998,8 @@ public:
 #if defined(JITSERVER_SUPPORT)
    ClientSessionHT *getClientSessionHT() const { return _clientSessionHT; }
    void setClientSessionHT(ClientSessionHT *ht) { _clientSessionHT = ht; }
+   JITServerAOTCache *getJITServerAOTCache() const { return _JITServerAOTCache; }
+   void setJITServerAOTCache(JITServerAOTCache *cache) { _JITServerAOTCache = cache; }
    PersistentVector<TR_OpaqueClassBlock*> *getUnloadedClassesTempList() const { return _unloadedClassesTempList; }
    void setUnloadedClassesTempList(PersistentVector<TR_OpaqueClassBlock*> *it) { _unloadedClassesTempList = it; }
    TR::Monitor *getSequencingMonitor() const { return _sequencingMonitor; }
@@ -1223,6 +1226,7 @@ private:
 
 #if defined(JITSERVER_SUPPORT)
    ClientSessionHT               *_clientSessionHT; // JITServer hashtable that holds session information about JITClients
+   JITServerAOTCache             *_JITServerAOTCache; // JITServer cache of AOT bodies shared by all JITClients; NULL if disabled
    PersistentVector<TR_OpaqueClassBlock*> *_unloadedClassesTempList; // JITServer list of classes unloaded
    TR::Monitor                   *_sequencingMonitor; // Used for ordering outgoing messages at the client
    uint32_t                      _compReqSeqNo; // seqNo for outgoing messages at the client
@@ -1153,6 +1153,7 @@ TR::CompilationInfo::CompilationInfo(J9JITConfig *jitConfig) :
    _interpSamplTrackingInfo = new (PERSISTENT_NEW) TR_InterpreterSamplingTracking(this);
 #if defined(JITSERVER_SUPPORT)
    _clientSessionHT = NULL; // This will be set later when options are processed
+   _JITServerAOTCache = NULL; // This will be set later when options are processed
    _unloadedClassesTempList = NULL;
    _sequencingMonitor = TR::Monitor::create("JIT-SequencingMonitor");
    _compReqSeqNo = 0;
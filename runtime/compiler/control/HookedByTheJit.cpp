@@ -1985,7 +1985,7 @@ IDATA dumpJitInfo(J9VMThread *crashedThread, char *logFileLabel, J9RASdumpContex
       if (compInfo)
          {
          static char * isPrintJITServerMsgStats = feGetEnv("TR_PrintJITServerMsgStats");
-         if (isPrintJITServerMsgStats && compInfo->getPersistentInfo()->getRemoteCompilationMode() == JITServer::CLIENT)
+         if (isPrintJITServerMsgStats && compInfo->getPersistentInfo()->getRemoteCompilationMode() != JITServer::NONE)
             JITServerHelpers::printJITServerMsgStats(jitConfig);
          if (feGetEnv("TR_PrintJITServerCHTableStats"))
             JITServerHelpers::printJITServerCHTableStats(jitConfig, compInfo);
@@ -4595,6 +4595,7 @@ void printIprofilerStats(TR::Options *options, J9JITConfig * jitConfig, TR_IProf
          j9tty_printf(PORTLIB, "Total IProfiler persistence aborted because already stored:             %d\n", TR_IProfiler::_STATS_methodNotPersisted_alreadyStored);
          j9tty_printf(PORTLIB, "Total IProfiler persistence aborted because nothing needs to be stored: %d\n", TR_IProfiler::_STATS_methodNotPersisted_noEntries);
          j9tty_printf(PORTLIB, "Total IProfiler persisted delayed:                                      %d\n", TR_IProfiler::_STATS_methodNotPersisted_delayed);
+         j9tty_printf(PORTLIB, "Total jitprofile entries persisted at shutdown:                         %d\n", TR_IProfiler::_STATS_methodPersistedAtShutdown);
          j9tty_printf(PORTLIB, "Total records persisted:                        %d\n", TR_IProfiler::_STATS_entriesPersisted);
          j9tty_printf(PORTLIB, "Total records not persisted_NotInSCC:           %d\n", TR_IProfiler::_STATS_entriesNotPersisted_NotInSCC);
          j9tty_printf(PORTLIB, "Total records not persisted_unloaded:           %d\n", TR_IProfiler::_STATS_entriesNotPersisted_Unloaded);
@@ -4670,13 +4671,20 @@ void JitShutdown(J9JITConfig * jitConfig)
    // so the fact that this option is true doesn't mean that IProfiler structures were not allocated
    if (options /* && !options->getOption(TR_DisableInterpreterProfiling) */ && iProfiler)
       {
-      printIprofilerStats(options, jitConfig, iProfiler);
       // Prevent the interpreter to accumulate more info
       // stopInterpreterProfiling is stronger than turnOff... because it prevents the reactivation
       // by setting TR_DisableInterpreterProfiling option to false
       stopInterpreterProfiling(jitConfig);
       if (!options->getOption(TR_DisableIProfilerThread))
          iProfiler->stopIProfilerThread();
+      // Save the whole profile, not only what compilations have persisted so far, so
+      // that the next JVM sharing this cache starts compiling with real profile data.
+      // The bytecode hash table is walked without a lock, so this must come after
+      // the profiler has stopped adding entries to it
+      static char *persistIProfilerAtShutdown = feGetEnv("TR_PersistIProfilerAtShutdown");
+      if (persistIProfilerAtShutdown)
+         iProfiler->persistAllEntries(vmThread);
+      printIprofilerStats(options, jitConfig, iProfiler);
 #ifdef DEBUG
       uint32_t lockedEntries = iProfiler->releaseAllEntries();
       TR_ASSERT(lockedEntries == 0, "some entries were still locked on shutdown");
@@ -4806,7 +4814,7 @@ void JitShutdown(J9JITConfig * jitConfig)
 
 #if defined(JITSERVER_SUPPORT)
    static char * isPrintJITServerMsgStats = feGetEnv("TR_PrintJITServerMsgStats");
-   if (isPrintJITServerMsgStats && compInfo->getPersistentInfo()->getRemoteCompilationMode() == JITServer::CLIENT)
+   if (isPrintJITServerMsgStats && compInfo->getPersistentInfo()->getRemoteCompilationMode() != JITServer::NONE)
       JITServerHelpers::printJITServerMsgStats(jitConfig);
    static char * isPrintJITServerCHTableStats = feGetEnv("TR_PrintJITServerCHTableStats");
    if (isPrintJITServerCHTableStats)
@@ -36,6 +36,7 @@
 #include "runtime/CodeCacheExceptions.hpp"
 #include "runtime/J9VMAccess.hpp"
 #include "runtime/JITClientSession.hpp"
+#include "runtime/JITServerAOTCache.hpp"
 #include "runtime/JITServerIProfiler.hpp"
 #include "runtime/RelocationTarget.hpp"
 #include "jitprotos.h"
@@ -516,6 +517,7 @@ handleServerMessage(JITServer::ClientStream *client, TR_J9VM *fe, JITServer::Mes
                curCache = curCache->next;
                }
             while (curCache != head);
+            vmInfo._sharedCacheDigest = JITServerAOTCache::getSharedCacheDigest(head);
             }
 
          client->write(response, vmInfo, listOfCacheStartAddress, listOfCacheSizeBytes);
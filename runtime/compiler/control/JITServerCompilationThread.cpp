@@ -100,6 +100,19 @@ outOfProcessCompilationEnd(
          }
       }
 
+   // Remember relocatable bodies so that identical clients can reuse them.
+   // Bodies that come with client-specific side data cannot be shared.
+   JITServerAOTCache *aotCache = compInfoPT->getCompilationInfo()->getJITServerAOTCache();
+   const JITServerAOTCacheKey *aotCacheKey = compInfoPT->getAOTCacheKey();
+   if (aotCache && aotCacheKey && entry->_useAotCompilation &&
+       serializedRuntimeAssumptions.empty() && classesThatShouldNotBeNewlyExtended->empty())
+      {
+      if (aotCache->put(*aotCacheKey, codeCacheStr, dataCacheStr, *entry->_optimizationPlan) &&
+          TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "compThreadID=%d stored AOT body of %s in the AOT cache",
+            compInfoPT->getCompThreadId(), comp->signature());
+      }
+
    auto resolvedMirrorMethodsPersistIPInfo = compInfoPT->getCachedResolvedMirrorMethodsPersistIPInfo();
    entry->_stream->finishCompilation(codeCacheStr, dataCacheStr, chTableData,
                                      std::vector<TR_OpaqueClassBlock*>(classesThatShouldNotBeNewlyExtended->begin(), classesThatShouldNotBeNewlyExtended->end()),
@@ -129,7 +142,8 @@ TR::CompilationInfoPerThreadRemote::CompilationInfoPerThreadRemote(TR::Compilati
    _classOfStaticMap(NULL),
    _fieldAttributesCache(NULL),
    _staticAttributesCache(NULL),
-   _isUnresolvedStrCache(NULL)
+   _isUnresolvedStrCache(NULL),
+   _aotCacheKeyValid(false)
    {}
 
 /**
@@ -265,6 +279,7 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
    static bool enableJITServerPerCompConn = feGetEnv("TR_EnableJITServerPerCompConn") ? true : false;
 
    bool abortCompilation = false;
+   bool aotCacheHit = false;
    uint64_t clientId = 0;
    TR::CompilationInfo *compInfo = getCompilationInfo();
    J9VMThread *compThread = getCompilationThread();
@@ -276,6 +291,7 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
    clearPerCompilationCaches();
 
    _recompilationMethodInfo = NULL;
+   _aotCacheKeyValid = false;
    // Release compMonitor before doing the blocking read
    compInfo->releaseCompMonitor(compThread);
 
@@ -388,8 +404,22 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
       if (!initialized)
          {
          // Process the CHTable updates in order
-         stream->write(JITServer::MessageType::CHTable_getClassInfoUpdates, JITServer::Void());
-         auto recv = stream->read<std::string, std::string>();
+         std::tuple<std::string, std::string> recv;
+         if (!clientSession->hasVMInfo())
+            {
+            // The first request of a session will need the VM info of the client right away,
+            // so ask for it in the same exchange as the CHTable updates
+            stream->addToBatch(JITServer::MessageType::CHTable_getClassInfoUpdates, JITServer::Void());
+            stream->addToBatch(JITServer::MessageType::VM_getVMInfo, JITServer::Void());
+            auto answers = stream->flushBatch();
+            recv = JITServer::ServerStream::getBatchedResult<std::string, std::string>(answers[0]);
+            clientSession->cacheVMInfo(JITServer::ServerStream::getBatchedResult<ClientSessionData::VMInfo, std::vector<uintptr_t>, std::vector<uintptr_t>>(answers[1]));
+            }
+         else
+            {
+            stream->write(JITServer::MessageType::CHTable_getClassInfoUpdates, JITServer::Void());
+            recv = stream->read<std::string, std::string>();
+            }
          const std::string &chtableUnloads = std::get<0>(recv);
          const std::string &chtableMods = std::get<1>(recv);
          // Note that applying the updates will acquire the CHTable monitor and VMAccess
@@ -433,32 +463,69 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
 
       J9ROMMethod *romMethod = (J9ROMMethod*)((uint8_t*)romClass + romMethodOffset);
 
-      // Build my entry
-      if (!(optPlan = TR_OptimizationPlan::alloc(clientOptPlan.getOptLevel())))
-         throw std::bad_alloc();
-      optPlan->clone(&clientOptPlan);
-
-      TR::IlGeneratorMethodDetails *clientDetails = (TR::IlGeneratorMethodDetails*) &detailsStr[0];
-      *(uintptr_t*)clientDetails = 0; // smash remote vtable pointer to catch bugs early
-      TR::IlGeneratorMethodDetails serverDetailsStorage;
-      TR::IlGeneratorMethodDetails *serverDetails = TR::IlGeneratorMethodDetails::clone(serverDetailsStorage, *clientDetails, detailsType);
-
-      // All entries have the same priority for now. In the future we may want to give higher priority to sync requests
-      // Also, oldStartPC is always NULL for JITServer
-      entry._freeTag = ENTRY_IN_POOL_FREE; // Pretend we just got it from the pool because we need to initialize it again
-      entry.initialize(*serverDetails, NULL, CP_SYNC_NORMAL, optPlan);
-      entry._jitStateWhenQueued = compInfo->getPersistentInfo()->getJitState();
-      entry._stream = stream; // Add the stream to the entry
-      entry._clientOptions = clientOptions;
-      entry._clientOptionsSize = clientOptSize;
-      entry._entryTime = compInfo->getPersistentInfo()->getElapsedTime(); // Cheaper version
-      entry._methodIsInSharedCache = false; // No SCC for now in JITServer
-      entry._compInfoPT = this; // Need to know which comp thread is handling this request
-      entry._async = true; // All of requests at the server are async
-      // Weight is irrelevant for JITServer.
-      // If we want something then we need to increaseQueueWeightBy(weight) while holding compilation monitor
-      entry._weight = 0;
-      entry._useAotCompilation = useAotCompilation;
+      // An identical client may have already asked for this AOT body; if so,
+      // answer with the cached code and skip the compilation altogether.
+      // This is done before the entry is filled in, so that the early abort
+      // below is the only owner of clientOptions.
+      // The client validates the relocation records against its own shared
+      // class cache, exactly as for a freshly compiled body.
+      JITServerAOTCache *aotCache = compInfo->getJITServerAOTCache();
+      if (aotCache && useAotCompilation)
+         {
+         ClientSessionData::VMInfo *vmInfo = clientSession->getOrCacheVMInfo(stream);
+         _aotCacheKey = JITServerAOTCache::computeKey(romClass, romMethodOffset, clientOptPlan, detailsType, clientOptStr, vmInfo);
+         _aotCacheKeyValid = true;
+
+         JITServerAOTCache::CachedAOTBody body;
+         if (aotCache->get(_aotCacheKey, body))
+            {
+            // The SVM symbol map and the other side data refer to the addresses of the client
+            // that produced the body, so they are not sent; AOT relocation does not need them
+            stream->finishCompilation(body._codeCacheStr, body._dataCacheStr, CHTableCommitData(),
+                                      std::vector<TR_OpaqueClassBlock*>(), std::string(), std::string(),
+                                      std::vector<TR_ResolvedJ9Method*>(), body._optimizationPlan,
+                                      std::vector<SerializedRuntimeAssumption>());
+            if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+               TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "compThreadID=%d answered clientUID=%llu seqNo=%u from the AOT cache",
+                  getCompThreadId(), (unsigned long long)clientId, seqNo);
+
+            clientSession->getSequencingMonitor()->enter();
+            clientSession->decNumActiveThreads();
+            clientSession->getSequencingMonitor()->exit();
+            aotCacheHit = true;
+            abortCompilation = true; // Nothing left to compile; release the entry like an early abort
+            }
+         }
+
+      if (!aotCacheHit)
+         {
+         // Build my entry
+         if (!(optPlan = TR_OptimizationPlan::alloc(clientOptPlan.getOptLevel())))
+            throw std::bad_alloc();
+         optPlan->clone(&clientOptPlan);
+
+         TR::IlGeneratorMethodDetails *clientDetails = (TR::IlGeneratorMethodDetails*) &detailsStr[0];
+         *(uintptr_t*)clientDetails = 0; // smash remote vtable pointer to catch bugs early
+         TR::IlGeneratorMethodDetails serverDetailsStorage;
+         TR::IlGeneratorMethodDetails *serverDetails = TR::IlGeneratorMethodDetails::clone(serverDetailsStorage, *clientDetails, detailsType);
+
+         // All entries have the same priority for now. In the future we may want to give higher priority to sync requests
+         // Also, oldStartPC is always NULL for JITServer
+         entry._freeTag = ENTRY_IN_POOL_FREE; // Pretend we just got it from the pool because we need to initialize it again
+         entry.initialize(*serverDetails, NULL, CP_SYNC_NORMAL, optPlan);
+         entry._jitStateWhenQueued = compInfo->getPersistentInfo()->getJitState();
+         entry._stream = stream; // Add the stream to the entry
+         entry._clientOptions = clientOptions;
+         entry._clientOptionsSize = clientOptSize;
+         entry._entryTime = compInfo->getPersistentInfo()->getElapsedTime(); // Cheaper version
+         entry._methodIsInSharedCache = false; // No SCC for now in JITServer
+         entry._compInfoPT = this; // Need to know which comp thread is handling this request
+         entry._async = true; // All of requests at the server are async
+         // Weight is irrelevant for JITServer.
+         // If we want something then we need to increaseQueueWeightBy(weight) while holding compilation monitor
+         entry._weight = 0;
+         entry._useAotCompilation = useAotCompilation;
+         }
       }
    catch (const JITServer::StreamFailure &e)
       {
@@ -564,6 +631,10 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
 
    if (abortCompilation)
       {
+      // The entry may already point to the options and the plan; clear those
+      // pointers so that recycling the entry does not free them a second time
+      entry._clientOptions = NULL;
+      entry._optimizationPlan = NULL;
       if (clientOptions)
          TR_Memory::jitPersistentFree(clientOptions);
       if (optPlan)
@@ -574,7 +645,7 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
          _recompilationMethodInfo = NULL;
          }
 
-      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer) && !aotCacheHit)
          {
          if (getClientData())
             TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "compThreadID=%d did an early abort for clientUID=%llu seqNo=%u",
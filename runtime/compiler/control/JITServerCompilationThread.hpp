@@ -26,6 +26,7 @@
 #include "control/CompilationThread.hpp"
 #include "env/j9methodServer.hpp"
 #include "runtime/JITClientSession.hpp"
+#include "runtime/JITServerAOTCache.hpp"
 
 class TR_IPBytecodeHashTableEntry;
 
@@ -76,6 +77,8 @@ class CompilationInfoPerThreadRemote : public TR::CompilationInfoPerThread
    void cacheIsUnresolvedStr(TR_OpaqueClassBlock *ramClass, int32_t cpIndex, const TR_IsUnresolvedString &stringAttrs);
    bool getCachedIsUnresolvedStr(TR_OpaqueClassBlock *ramClass, int32_t cpIndex, TR_IsUnresolvedString &stringAttrs);
 
+   const JITServerAOTCacheKey *getAOTCacheKey() const { return _aotCacheKeyValid ? &_aotCacheKey : NULL; }
+
    void clearPerCompilationCaches();
    void deleteClientSessionData(uint64_t clientId, TR::CompilationInfo* compInfo, J9VMThread* compThread);
    virtual void freeAllResources() override;
@@ -146,6 +149,8 @@ class CompilationInfoPerThreadRemote : public TR::CompilationInfoPerThread
    FieldOrStaticAttrTable_t *_fieldAttributesCache;
    FieldOrStaticAttrTable_t *_staticAttributesCache;
    UnorderedMap<std::pair<TR_OpaqueClassBlock *, int32_t>, TR_IsUnresolvedString> *_isUnresolvedStrCache;
+   JITServerAOTCacheKey _aotCacheKey; // key of the current request in the server-wide AOT cache
+   bool _aotCacheKeyValid;
    }; // class CompilationInfoPerThreadRemote
 } // namespace TR
 
@@ -129,6 +129,22 @@ JITServerHelpers::printJITServerMsgStats(J9JITConfig *jitConfig)
       if (JITServerHelpers::serverMsgTypeCount[i] > 0)
          j9tty_printf(PORTLIB, "#%04d %7u %s\n", i, JITServerHelpers::serverMsgTypeCount[i], descriptor->FindValueByNumber(i)->name().c_str());
       }
+
+   j9tty_printf(PORTLIB, "JITServer Message Traffic Statistics%s:\n", JITServer::CommunicationStream::useCompression() ? " (compressed)" : "");
+   j9tty_printf(PORTLIB, "Type#    BytesSent   BytesRecv RoundTrips AvgLatency(us) TypeName\n");
+   for (int i = 0; i < JITServer::MessageType_ARRAYSIZE; ++i)
+      {
+      JITServer::MessageType type = (JITServer::MessageType)i;
+      uint64_t bytesSent = JITServer::CommunicationStream::getNumBytesSent(type);
+      uint64_t bytesReceived = JITServer::CommunicationStream::getNumBytesReceived(type);
+      if ((bytesSent > 0) || (bytesReceived > 0))
+         {
+         uint64_t roundTrips = JITServer::CommunicationStream::getNumRoundTrips(type);
+         double avgLatency = roundTrips ? (JITServer::CommunicationStream::getRoundTripNanos(type) / 1000.0 / roundTrips) : 0.0;
+         j9tty_printf(PORTLIB, "#%04d %11llu %11llu %10llu %14.1f %s\n", i, (unsigned long long)bytesSent, (unsigned long long)bytesReceived,
+                      (unsigned long long)roundTrips, avgLatency, descriptor->FindValueByNumber(i)->name().c_str());
+         }
+      }
    }
 
 void
@@ -112,6 +112,7 @@
 #include "net/ClientStream.hpp"
 #include "net/LoadSSLLibs.hpp"
 #include "runtime/JITClientSession.hpp"
+#include "runtime/JITServerAOTCache.hpp"
 #include "runtime/Listener.hpp"
 #include "runtime/JITServerStatisticsThread.hpp"
 #include "runtime/JITServerIProfiler.hpp"
@@ -1662,6 +1663,10 @@ onLoadInternal(
       // Allocate the hashtable that holds information about clients
       compInfo->setClientSessionHT(ClientSessionHT::allocate());
 
+      // Allocate the AOT cache shared by all clients if requested
+      if (feGetEnv("TR_EnableJITServerAOTCache"))
+         compInfo->setJITServerAOTCache(JITServerAOTCache::allocate());
+
       ((TR_JitPrivateConfig*)(jitConfig->privateConfig))->listener = TR_Listener::allocate();
       if (!((TR_JitPrivateConfig*)(jitConfig->privateConfig))->listener)
          {
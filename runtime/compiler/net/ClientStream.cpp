@@ -254,11 +254,41 @@ BIO *openSSLConnection(SSL_CTX *ctx, int connfd)
    }
 
 ClientStream::ClientStream(TR::PersistentInfo *info)
-   : CommunicationStream(), _versionCheckStatus(NOT_DONE)
+   : CommunicationStream(), _versionCheckStatus(NOT_DONE), _nextBatchedQuery(0), _numBatchedQueries(0)
    {
    int connfd = openConnection(info->getJITServerAddress(), info->getJITServerPort(), info->getSocketTimeout());
    BIO *ssl = openSSLConnection(_sslCtx, connfd);
    initStream(connfd, ssl);
    _numConnectionsOpened++;
    }
+
+MessageType ClientStream::nextBatchedQuery()
+   {
+   size_t idx = _nextBatchedQuery++;
+   _sMsg.set_type((MessageType)_batchTypes[idx]);
+   if (!_sMsg.mutable_data()->ParseFromString(_batchPayloads[idx]))
+      throw JITServer::StreamFailure("JITServer I/O error: parsing batched query");
+   return _sMsg.type();
+   }
+
+void ClientStream::addBatchedAnswer()
+   {
+   _batchAnswers.push_back(_cMsg.data().SerializeAsString());
+   if (_batchAnswers.size() == _numBatchedQueries)
+      {
+      std::vector<std::string> answers;
+      answers.swap(_batchAnswers);
+      clearBatch();
+      write(MessageType::batchedQueries, answers);
+      }
+   }
+
+void ClientStream::clearBatch()
+   {
+   _batchTypes.clear();
+   _batchPayloads.clear();
+   _batchAnswers.clear();
+   _nextBatchedQuery = 0;
+   _numBatchedQueries = 0;
+   }
 };
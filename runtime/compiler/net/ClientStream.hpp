@@ -111,6 +111,12 @@ public:
       _cMsg.set_type(type);
       setArgs<T...>(_cMsg.mutable_data(), args...);
 
+      if (_numBatchedQueries > 0)
+         {
+         // Answer to a query that was part of a batch
+         addBatchedAnswer();
+         return;
+         }
       writeBlocking(_cMsg);
       }
 
@@ -118,12 +124,28 @@ public:
       @brief Read a message from the server
 
       The read operation is blocking (subject to a timeout)
+      When the server sends a batch of queries, they are returned one at a time
+      as if they were sent separately; the answers written with write() are
+      collected and sent back in a single message after the last query is answered.
  
       @return Returns the type of the message being received
    */
    MessageType read()
       {
+      if (_nextBatchedQuery < _batchTypes.size())
+         return nextBatchedQuery();
       readBlocking(_sMsg);
+      if (_sMsg.type() == MessageType::batchedQueries)
+         {
+         auto recv = getRecvData<std::vector<uint32_t>, std::vector<std::string>>();
+         _batchTypes = std::get<0>(recv);
+         _batchPayloads = std::get<1>(recv);
+         _batchAnswers.clear();
+         _nextBatchedQuery = 0;
+         _numBatchedQueries = _batchTypes.size();
+         if (_numBatchedQueries > 0)
+            return nextBatchedQuery();
+         }
       return _sMsg.type();
       }
 
@@ -146,6 +168,7 @@ public:
    template <typename ...T>
    void writeError(MessageType type, T... args)
       {
+      clearBatch(); // the rest of the batch will not be answered
       _cMsg.set_type(type);
       if (type == MessageType::compilationInterrupted || type == MessageType::connectionTerminate)
          _cMsg.mutable_data()->clear_data();
@@ -204,6 +227,17 @@ public:
    static int getNumConnectionsClosed() { return _numConnectionsClosed; }
 
 private:
+   MessageType nextBatchedQuery();
+   void addBatchedAnswer();
+   void clearBatch();
+
+   // Queries from the current batch; _numBatchedQueries is 0 when not answering a batch
+   std::vector<uint32_t> _batchTypes;
+   std::vector<std::string> _batchPayloads;
+   std::vector<std::string> _batchAnswers;
+   size_t _nextBatchedQuery;
+   size_t _numBatchedQueries;
+
    static int _numConnectionsOpened;
    static int _numConnectionsClosed;
    VersionCheckStatus _versionCheckStatus; // indicates whether a version checking has been performed
@@ -26,11 +26,16 @@
 #include "control/Options.hpp" // TR::Options::useCompressedPointers()
 #include "control/CompilationRuntime.hpp"
 #include "j9cfg.h" // for JAVA_SPEC_VERSION
+#include "zlib.h"
 
 
 namespace JITServer
 {
 uint32_t CommunicationStream::CONFIGURATION_FLAGS = 0;
+uint64_t CommunicationStream::_bytesSent[] = {};
+uint64_t CommunicationStream::_bytesReceived[] = {};
+uint64_t CommunicationStream::_numRoundTrips[] = {};
+uint64_t CommunicationStream::_roundTripNanos[] = {};
 
 void CommunicationStream::initVersion()
    {
@@ -39,6 +44,66 @@ void CommunicationStream::initVersion()
       CONFIGURATION_FLAGS |= JITServerCompressedRef;
       }
    CONFIGURATION_FLAGS |= JAVA_SPEC_VERSION & JITServerJavaVersionMask;
+   if (feGetEnv("TR_JITServerCompressMessages"))
+      {
+      CONFIGURATION_FLAGS |= JITServerCompressedMessages;
+      }
+   }
+
+uint64_t CommunicationStream::currentTimeNanos()
+   {
+   PORT_ACCESS_FROM_PORT(TR::Compiler->portLib);
+   return j9time_nano_time();
+   }
+
+size_t CommunicationStream::writeCompressed(size_t messageSize)
+   {
+   uLongf compressedSize = compressBound(messageSize);
+   _compressedBuffer.resize(compressedSize);
+   int rc = compress2((Bytef *)&_compressedBuffer[0], &compressedSize,
+                      (const Bytef *)_serializedBuffer.data(), messageSize, Z_BEST_SPEED);
+
+   CodedOutputStream codedOutputStream(_outputStream);
+   size_t bytesWritten = 0;
+   if ((rc == Z_OK) && (compressedSize < messageSize))
+      {
+      codedOutputStream.WriteLittleEndian32(compressedSize | COMPRESSED_MESSAGE_FLAG);
+      codedOutputStream.WriteLittleEndian32(messageSize);
+      codedOutputStream.WriteRaw(_compressedBuffer.data(), compressedSize);
+      bytesWritten = compressedSize + 2 * sizeof(uint32_t);
+      }
+   else
+      {
+      // Incompressible payload: send it as a regular message
+      codedOutputStream.WriteLittleEndian32(messageSize);
+      codedOutputStream.WriteRaw(_serializedBuffer.data(), messageSize);
+      bytesWritten = messageSize + sizeof(uint32_t);
+      }
+   if (codedOutputStream.HadError())
+      throw JITServer::StreamFailure("JITServer I/O error: writing to stream");
+   return bytesWritten;
+   }
+
+uint32_t CommunicationStream::readCompressed(CodedInputStream &codedInputStream, uint32_t compressedSize)
+   {
+   uint32_t uncompressedSize;
+   if (!codedInputStream.ReadLittleEndian32(&uncompressedSize))
+      throw JITServer::StreamFailure("JITServer I/O error: reading uncompressed message size");
+   // The size comes from the peer: check it before allocating the buffer. A sender never
+   // produces a message larger than the uncompressed format allows, nor deflates it beyond
+   // the maximum ratio of zlib
+   if ((uncompressedSize >= COMPRESSED_MESSAGE_FLAG) ||
+       (uncompressedSize > (uint64_t)compressedSize * MAX_COMPRESSION_RATIO))
+      throw JITServer::StreamFailure("JITServer I/O error: invalid uncompressed message size " + std::to_string(uncompressedSize));
+   if (!codedInputStream.ReadString(&_compressedBuffer, compressedSize))
+      throw JITServer::StreamFailure("JITServer I/O error: reading compressed message");
+
+   _serializedBuffer.resize(uncompressedSize);
+   uLongf destSize = uncompressedSize;
+   int rc = uncompress((Bytef *)&_serializedBuffer[0], &destSize, (const Bytef *)_compressedBuffer.data(), compressedSize);
+   if ((rc != Z_OK) || (destSize != uncompressedSize))
+      throw JITServer::StreamFailure("JITServer I/O error: decompressing message: " + std::to_string(rc));
+   return uncompressedSize;
    }
 
 bool CommunicationStream::useSSL()
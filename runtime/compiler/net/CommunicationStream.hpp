@@ -34,6 +34,7 @@ enum JITServerCompatibilityFlags
    {
    JITServerJavaVersionMask    = 0x00000FFF,
    JITServerCompressedRef      = 0x00001000,
+   JITServerCompressedMessages = 0x00002000,
    };
 // list of features that client and server must match in order for remote compilations to work
 
@@ -47,6 +48,28 @@ public:
 
    static void initVersion();
 
+   /**
+      @brief Whether message payloads are compressed
+
+      Compression is enabled with the TR_JITServerCompressMessages environment variable.
+      Since it changes the wire format it is part of the configuration flags, so a client
+      and a server that disagree will fail the version check.
+   */
+   static bool useCompression() { return (CONFIGURATION_FLAGS & JITServerCompressedMessages) != 0; }
+
+   /**
+      @brief Per message type traffic statistics
+
+      Counters are updated without synchronization, so they are approximate when
+      several compilation threads communicate at the same time.
+      Round trip latency is only measured at the server, from sending a query
+      to receiving the matching answer.
+   */
+   static uint64_t getNumBytesSent(MessageType type) { return _bytesSent[type]; }
+   static uint64_t getNumBytesReceived(MessageType type) { return _bytesReceived[type]; }
+   static uint64_t getNumRoundTrips(MessageType type) { return _numRoundTrips[type]; }
+   static uint64_t getRoundTripNanos(MessageType type) { return _roundTripNanos[type]; }
+
    static uint64_t getJITServerVersion()
       {
       return ((((uint64_t)CONFIGURATION_FLAGS) << 32) | (MAJOR_NUMBER << 24) | (MINOR_NUMBER << 8));
@@ -110,6 +133,9 @@ protected:
          }
       }
 
+   size_t writeCompressed(size_t messageSize);
+   uint32_t readCompressed(CodedInputStream &codedInputStream, uint32_t compressedSize);
+
    template <typename T>
    void readBlocking(T &val)
       {
@@ -118,24 +144,46 @@ protected:
       uint32_t messageSize;
       if (!codedInputStream.ReadLittleEndian32(&messageSize))
          throw JITServer::StreamFailure("JITServer I/O error: reading message size");
-      auto limit = codedInputStream.PushLimit(messageSize);
-      if (!val.ParseFromCodedStream(&codedInputStream))
-         throw JITServer::StreamFailure("JITServer I/O error: reading from stream");
-      if (!codedInputStream.ConsumedEntireMessage())
-         throw JITServer::StreamFailure("JITServer I/O error: did not receive entire message");
-      codedInputStream.PopLimit(limit);
+      if (messageSize & COMPRESSED_MESSAGE_FLAG)
+         {
+         messageSize &= ~COMPRESSED_MESSAGE_FLAG;
+         uint32_t uncompressedSize = readCompressed(codedInputStream, messageSize);
+         if (!val.ParseFromArray(_serializedBuffer.data(), uncompressedSize))
+            throw JITServer::StreamFailure("JITServer I/O error: parsing decompressed message");
+         messageSize += sizeof(uint32_t); // for the uncompressed size
+         }
+      else
+         {
+         auto limit = codedInputStream.PushLimit(messageSize);
+         if (!val.ParseFromCodedStream(&codedInputStream))
+            throw JITServer::StreamFailure("JITServer I/O error: reading from stream");
+         if (!codedInputStream.ConsumedEntireMessage())
+            throw JITServer::StreamFailure("JITServer I/O error: did not receive entire message");
+         codedInputStream.PopLimit(limit);
+         }
+      _bytesReceived[val.type()] += messageSize + sizeof(uint32_t);
       }
    template <typename T>
    void writeBlocking(const T &val)
       {
+      size_t messageSize = val.ByteSizeLong();
+      TR_ASSERT(messageSize < COMPRESSED_MESSAGE_FLAG, "message size too big");
+      if (useCompression() && (messageSize >= COMPRESSION_THRESHOLD))
+         {
+         // Small messages are sent as is: they would barely shrink and the
+         // (de)compression would cost more than the bytes saved
+         _serializedBuffer.resize(messageSize);
+         val.SerializeWithCachedSizesToArray((uint8_t *)&_serializedBuffer[0]);
+         _bytesSent[val.type()] += writeCompressed(messageSize);
+         }
+      else
          {
          CodedOutputStream codedOutputStream(_outputStream);
-         size_t messageSize = val.ByteSizeLong();
-         TR_ASSERT(messageSize < 1ul<<32, "message size too big");
          codedOutputStream.WriteLittleEndian32(messageSize);
          val.SerializeWithCachedSizes(&codedOutputStream);
          if (codedOutputStream.HadError())
             throw JITServer::StreamFailure("JITServer I/O error: writing to stream");
+         _bytesSent[val.type()] += messageSize + sizeof(uint32_t);
          // codedOutputStream must be dropped before calling flush
          }
       if (_ssl ? !((CopyingOutputStreamAdaptor*)_outputStream)->Flush()
@@ -145,6 +193,13 @@ protected:
          }
       }
 
+   static uint64_t currentTimeNanos();
+   static void recordRoundTrip(MessageType type, uint64_t nanos)
+      {
+      _numRoundTrips[type] += 1;
+      _roundTripNanos[type] += nanos;
+      }
+
    int _connfd; // connection file descriptor
 
    // re-usable message objects
@@ -157,8 +212,21 @@ protected:
    ZeroCopyInputStream *_inputStream;
    ZeroCopyOutputStream *_outputStream;
 
+   // Wire format of a compressed message: the length word has COMPRESSED_MESSAGE_FLAG set
+   // and is followed by the uncompressed length and the deflated bytes
+   static const uint32_t COMPRESSED_MESSAGE_FLAG = 0x80000000;
+   static const size_t COMPRESSION_THRESHOLD = 1024;
+   static const uint32_t MAX_COMPRESSION_RATIO = 1032; // deflate cannot do better than 1032:1
+   std::string _serializedBuffer; // re-usable buffers for (de)compression
+   std::string _compressedBuffer;
+
+   static uint64_t _bytesSent[MessageType_ARRAYSIZE];
+   static uint64_t _bytesReceived[MessageType_ARRAYSIZE];
+   static uint64_t _numRoundTrips[MessageType_ARRAYSIZE];
+   static uint64_t _roundTripNanos[MessageType_ARRAYSIZE];
+
    static const uint8_t MAJOR_NUMBER = 0;
-   static const uint16_t MINOR_NUMBER = 4;
+   static const uint16_t MINOR_NUMBER = 6;
    static const uint8_t PATCH_NUMBER = 0;
    static uint32_t CONFIGURATION_FLAGS;
    };
@@ -45,7 +45,8 @@ int ServerStream::_numConnectionsOpened = 0;
 int ServerStream::_numConnectionsClosed = 0;
 
 ServerStream::ServerStream(int connfd, BIO *ssl)
-   : CommunicationStream()
+   : CommunicationStream(),
+   _queryStartTime(0)
    {
    initStream(connfd, ssl);
    _numConnectionsOpened++;
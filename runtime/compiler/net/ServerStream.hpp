@@ -89,6 +89,57 @@ public:
       setArgs<T...>(_sMsg.mutable_data(), args...);
       _sMsg.set_type(type);
       writeBlocking(_sMsg);
+      _queryStartTime = currentTimeNanos();
+      }
+
+   /**
+      @brief Queue a query for the client without sending it
+
+      Queries that the server expects to need can be queued with addToBatch()
+      and sent together with flushBatch(), saving one round trip per query.
+      Only queries that the client answers with exactly one message can be batched.
+
+      @param [in] type Message type of the query
+      @param [in] args Variable number of additional paramaters to be sent
+   */
+   template <typename ...T>
+   void addToBatch(MessageType type, T... args)
+      {
+      AnyData data;
+      setArgs<T...>(&data, args...);
+      _batchTypes.push_back(type);
+      _batchPayloads.push_back(data.SerializeAsString());
+      }
+
+   /**
+      @brief Send all queued queries in one message and wait for the answers
+
+      @return Returns the serialized answers, in the order the queries were queued.
+              Use getBatchedResult() to decode each of them.
+   */
+   std::vector<std::string> flushBatch()
+      {
+      TR_ASSERT(!_batchTypes.empty(), "No queries to send");
+      size_t numQueries = _batchTypes.size();
+      write(MessageType::batchedQueries, _batchTypes, _batchPayloads);
+      _batchTypes.clear();
+      _batchPayloads.clear();
+      std::vector<std::string> answers = std::get<0>(read<std::vector<std::string>>());
+      if (answers.size() != numQueries)
+         throw StreamArityMismatch("Received " + std::to_string(answers.size()) + " batched answers but expect " + std::to_string(numQueries));
+      return answers;
+      }
+
+   /**
+      @brief Decode one of the answers returned by flushBatch()
+   */
+   template <typename ...T>
+   static std::tuple<T...> getBatchedResult(const std::string &answer)
+      {
+      AnyData data;
+      if (!data.ParseFromString(answer))
+         throw StreamFailure("JITServer I/O error: parsing batched answer");
+      return getArgs<T...>(&data);
       }
 
    /**
@@ -124,6 +175,7 @@ public:
                throw StreamMessageTypeMismatch(_sMsg.type(), _cMsg.type());
             }
          }
+      recordRoundTrip(_sMsg.type(), currentTimeNanos() - _queryStartTime);
       return getArgs<T...>(_cMsg.mutable_data());
       }
 
@@ -252,6 +304,9 @@ private:
    static int _numConnectionsOpened;
    static int _numConnectionsClosed;
    uint64_t _clientId;  // UID of client connected to this communication stream
+   uint64_t _queryStartTime; // time (ns) when the last query was sent to the client
+   std::vector<uint32_t> _batchTypes; // queries queued with addToBatch()
+   std::vector<std::string> _batchPayloads;
    };
 
 
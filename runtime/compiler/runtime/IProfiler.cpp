@@ -164,6 +164,7 @@ int32_t TR_IProfiler::_STATS_methodNotPersisted_other       = 0;
 int32_t TR_IProfiler::_STATS_methodNotPersisted_alreadyStored=0;
 int32_t TR_IProfiler::_STATS_methodNotPersisted_noEntries   = 0;
 int32_t TR_IProfiler::_STATS_entriesPersisted               = 0;
+int32_t TR_IProfiler::_STATS_methodPersistedAtShutdown      = 0;
 int32_t TR_IProfiler::_STATS_entriesNotPersisted_NotInSCC   = 0;
 int32_t TR_IProfiler::_STATS_entriesNotPersisted_Unloaded   = 0;
 int32_t TR_IProfiler::_STATS_entriesNotPersisted_NoInfo     = 0;
@@ -228,7 +229,7 @@ void TR_ReadSampleRequestsHistory::advanceEpoch() // performed by sampling threa
 
 uintptrj_t
 TR_IProfiler::createBalancedBST(uintptrj_t *pcEntries, int32_t low, int32_t high, uintptrj_t memChunk,
-                                TR::Compilation *comp)
+                                TR_J9SharedCache *sharedCache)
    {
    if (high < low)
       return 0;
@@ -237,10 +238,10 @@ TR_IProfiler::createBalancedBST(uintptrj_t *pcEntries, int32_t low, int32_t high
    int32_t middle = (high+low)/2;
    TR_IPBytecodeHashTableEntry *entry = profilingSample (pcEntries[middle], 0, false);
    uint32_t bytes = entry->getBytesFootprint();
-   entry->createPersistentCopy(comp->fej9()->sharedCache(), storage, _compInfo->getPersistentInfo());
+   entry->createPersistentCopy(sharedCache, storage, _compInfo->getPersistentInfo());
 
    uintptrj_t leftChild = createBalancedBST(pcEntries, low, middle-1,
-                                            memChunk + bytes, comp);
+                                            memChunk + bytes, sharedCache);
 
    if (leftChild)
       {
@@ -249,7 +250,7 @@ TR_IProfiler::createBalancedBST(uintptrj_t *pcEntries, int32_t low, int32_t high
       }
 
    uintptrj_t rightChild = createBalancedBST(pcEntries, middle+1, high,
-                                             memChunk + bytes + leftChild, comp);
+                                             memChunk + bytes + leftChild, sharedCache);
    if (rightChild)
       {
       TR_ASSERT(bytes + leftChild < 1 << 16, "Error storing iprofile information: right child too far away"); // current size of right child
@@ -444,7 +445,7 @@ TR_IProfiler::persistIprofileInfo(TR::ResolvedMethodSymbol *resolvedMethodSymbol
                   fprintf(stderr, "\n");
 #endif
                   void * memChunk = comp->trMemory()->allocateMemory(bytesFootprint, stackAlloc);
-                  intptrj_t bytes = createBalancedBST(pcEntries, 0, numEntries-1, (uintptrj_t) memChunk, comp);
+                  intptrj_t bytes = createBalancedBST(pcEntries, 0, numEntries-1, (uintptrj_t) memChunk, comp->fej9()->sharedCache());
                   TR_ASSERT(bytes == bytesFootprint, "BST doesn't match expected footprint");
 
 
@@ -544,6 +545,222 @@ TR_IProfiler::persistIprofileInfo(TR::ResolvedMethodSymbol *resolvedMethodSymbol
       }
    }
 
+// Store the already sorted entries of a single ROM method as one JITPROFILE
+// attached data blob, using the same balanced BST layout as persistIprofileInfo
+// so that searchForPersistentSample can read it back in the next JVM.
+// Returns false if the shared cache is full and no further method should be attempted.
+bool
+TR_IProfiler::persistROMMethodEntries(J9VMThread *vmThread, J9ROMMethod *romMethod, uintptrj_t *pcEntries, uint32_t numEntries,
+                                      TR_J9SharedCache *sharedCache)
+   {
+   J9SharedClassConfig *scConfig = vmThread->javaVM->sharedClassConfig;
+   PORT_ACCESS_FROM_JAVAVM(vmThread->javaVM);
+
+   _STATS_methodPersistenceAttempts++;
+
+   unsigned char storeBuffer[1000];
+   J9SharedDataDescriptor descriptor;
+   descriptor.address = storeBuffer;
+   descriptor.length = sizeof(storeBuffer);
+   descriptor.type = J9SHR_ATTACHED_DATA_TYPE_JITPROFILE;
+   descriptor.flags = J9SHR_ATTACHED_DATA_NO_FLAGS;
+   IDATA dataIsCorrupt;
+   if (scConfig->findAttachedData(vmThread, romMethod, &descriptor, &dataIsCorrupt))
+      {
+      // Either a compilation or a previous run already stored a profile for this method
+      _STATS_methodNotPersisted_alreadyStored++;
+      return true;
+      }
+
+   // Lock the entries that can be persisted and compact them at the front of the array;
+   // the relative order of the pcs, and therefore the sorting, is preserved
+   uint32_t numPersisted = 0;
+   uint32_t bytesFootprint = 0;
+   bool abort = false;
+   for (uint32_t i = 0; i < numEntries && !abort; i++)
+      {
+      TR_IPBytecodeHashTableEntry *entry = profilingSample(pcEntries[i], 0, false);
+      if (!entry)
+         continue;
+      uint32_t canPersist = entry->canBePersisted(sharedCache, _compInfo->getPersistentInfo());
+      switch (canPersist)
+         {
+         case IPBC_ENTRY_CAN_PERSIST:
+            bytesFootprint += entry->getBytesFootprint();
+            pcEntries[numPersisted++] = pcEntries[i];
+            break;
+         case IPBC_ENTRY_PERSIST_LOCK:
+            // A compilation thread is persisting this method right now
+            abort = true;
+            break;
+         case IPBC_ENTRY_PERSIST_NOTINSCC:
+            _STATS_entriesNotPersisted_NotInSCC++;
+            break;
+         case IPBC_ENTRY_PERSIST_UNLOADED:
+            _STATS_entriesNotPersisted_Unloaded++;
+            break;
+         default:
+            _STATS_entriesNotPersisted_Other++;
+         }
+      }
+
+   bool cacheIsFull = false;
+   if (abort)
+      {
+      _STATS_abortedPersistence++;
+      }
+   else if (numPersisted == 0)
+      {
+      _STATS_methodNotPersisted_noEntries++;
+      }
+   else if (bytesFootprint >= (1 << 16))
+      {
+      // createBalancedBST encodes child offsets in 16 bits
+      _STATS_methodNotPersisted_other++;
+      }
+   else
+      {
+      void *memChunk = j9mem_allocate_memory(bytesFootprint, J9MEM_CATEGORY_JIT);
+      if (memChunk)
+         {
+         uintptrj_t bytes = createBalancedBST(pcEntries, 0, numPersisted-1, (uintptrj_t) memChunk, sharedCache);
+         TR_ASSERT(bytes == bytesFootprint, "BST doesn't match expected footprint");
+
+         descriptor.address = (U_8 *) memChunk;
+         descriptor.length = bytesFootprint;
+         UDATA store = scConfig->storeAttachedData(vmThread, romMethod, &descriptor, 0);
+         if (store == 0)
+            {
+            _STATS_methodPersisted++;
+            _STATS_methodPersistedAtShutdown++;
+            _STATS_entriesPersisted += numPersisted;
+            }
+         else if (store != J9SHR_RESOURCE_STORE_FULL)
+            {
+            _STATS_persistError++;
+            }
+         else
+            {
+            _STATS_methodNotPersisted_SCCfull++;
+            cacheIsFull = true;
+            }
+         j9mem_free_memory(memChunk);
+         }
+      else
+         {
+         _STATS_methodNotPersisted_other++;
+         }
+      }
+
+   // release any entry that has been locked by us
+   for (uint32_t i = 0; i < numPersisted; i++)
+      {
+      TR_IPBCDataCallGraph *cgEntry = profilingSample(pcEntries[i], 0, false)->asIPBCDataCallGraph();
+      if (cgEntry)
+         cgEntry->releaseEntry();
+      }
+
+   return !cacheIsFull;
+   }
+
+// Persist the entire bytecode hash table into the shared class cache, not only the
+// methods that happen to be compiled. Entries are keyed by their bytecode pc, which for
+// ROM classes in the cache is equivalent to (ROM method, bytecode index); the next JVM
+// picks them up lazily through persistentProfilingSample when the methods are compiled.
+// Must only be called once interpreter profiling and the IProfiler thread have been stopped,
+// since the hash table is walked without synchronization.
+void
+TR_IProfiler::persistAllEntries(J9VMThread *vmThread)
+   {
+   J9JavaVM *javaVM = vmThread->javaVM;
+   J9SharedClassConfig *scConfig = javaVM->sharedClassConfig;
+   if (!TR::Options::sharedClassCache() ||
+       !scConfig ||
+       TR::Options::getAOTCmdLineOptions()->getOption(TR_DisablePersistIProfile) ||
+       TR::Options::getJITCmdLineOptions()->getOption(TR_DisablePersistIProfile) ||
+       !isIProfilingEnabled())
+      return;
+
+   TR_J9VMBase *fej9 = TR_J9VMBase::get(javaVM->jitConfig, vmThread, TR_J9VMBase::AOT_VM);
+   TR_J9SharedCache *sharedCache = fej9->sharedCache();
+   if (!sharedCache)
+      return;
+
+   PORT_ACCESS_FROM_JAVAVM(javaVM);
+   uint32_t maxEntries = countEntries();
+   if (maxEntries == 0)
+      return;
+   uintptrj_t *pcEntries = (uintptrj_t *) j9mem_allocate_memory(maxEntries * sizeof(uintptrj_t), J9MEM_CATEGORY_JIT);
+   if (!pcEntries)
+      return;
+
+   bool haveAcquiredVMAccess = false;
+   if (!(vmThread->publicFlags & J9_PUBLIC_FLAGS_VM_ACCESS))
+      {
+      acquireVMAccessNoSuspend(vmThread);
+      haveAcquiredVMAccess = true;
+      }
+
+   uint32_t numCandidates = 0;
+   for (int32_t bucket = 0; bucket < BC_HASH_TABLE_SIZE && numCandidates < maxEntries; bucket++)
+      {
+      for (TR_IPBytecodeHashTableEntry *entry = _bcHashTable[bucket]; entry && numCandidates < maxEntries; entry = entry->getNext())
+         {
+         if (entry->isInvalid() || invalidateEntryIfInconsistent(entry))
+            continue;
+         if (sharedCache->isPointerInSharedCache((void *)entry->getPC()))
+            pcEntries[numCandidates++] = entry->getPC();
+         }
+      }
+
+   // Sorting by pc makes the entries of each ROM method contiguous
+   std::sort(pcEntries, pcEntries + numCandidates);
+
+   J9InternalVMFunctions *vmFunctions = javaVM->internalVMFunctions;
+   uint32_t start = 0;
+   while (start < numCandidates)
+      {
+      J9ClassLoader *loader = NULL;
+      J9ROMClass *romClass = vmFunctions->findROMClassFromPC(vmThread, pcEntries[start], &loader);
+      J9ROMMethod *romMethod = NULL;
+      if (romClass)
+         {
+         J9ROMMethod *currentMethod = J9ROMCLASS_ROMMETHODS(romClass);
+         for (U_32 i = 0; i < romClass->romMethodCount; i++)
+            {
+            if ((pcEntries[start] >= (uintptrj_t)currentMethod) &&
+                (pcEntries[start] < (uintptrj_t)J9_BYTECODE_END_FROM_ROM_METHOD(currentMethod)))
+               {
+               romMethod = currentMethod;
+               break;
+               }
+            currentMethod = nextROMMethod(currentMethod);
+            }
+         }
+
+      if (!romMethod)
+         {
+         _STATS_methodNotPersisted_other++;
+         start++;
+         continue;
+         }
+
+      uintptrj_t methodEnd = (uintptrj_t)J9_BYTECODE_END_FROM_ROM_METHOD(romMethod);
+      uint32_t end = start + 1;
+      while (end < numCandidates && pcEntries[end] < methodEnd)
+         end++;
+
+      if (!persistROMMethodEntries(vmThread, romMethod, pcEntries + start, end - start, sharedCache))
+         break;
+      start = end;
+      }
+
+   if (haveAcquiredVMAccess)
+      releaseVMAccessNoSuspend(vmThread);
+
+   j9mem_free_memory(pcEntries);
+   }
+
 uint32_t
 TR_IProfiler::getProfilerMemoryFootprint()
    {
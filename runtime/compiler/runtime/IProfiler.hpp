@@ -530,6 +530,8 @@ public:
    */
    virtual void persistIprofileInfo(TR::ResolvedMethodSymbol *methodSymbol, TR_ResolvedMethod *method, TR::Compilation *comp); // JITServer: mark virtual
    bool elgibleForPersistIprofileInfo(TR::Compilation *comp) const;
+   // Persist the whole bytecode hash table, grouped by ROM method, into the shared class cache
+   void persistAllEntries(J9VMThread *vmThread);
 
    void checkMethodHashTable();
 
@@ -669,7 +671,9 @@ private:
    TR_IPBCDataCallGraph* getCGProfilingData(TR_OpaqueMethodBlock *method, uint32_t byteCodeIndex, TR::Compilation *comp);
 
    uintptrj_t createBalancedBST(uintptrj_t *pcEntries, int32_t low, int32_t high, uintptrj_t memChunk,
-                                TR::Compilation *comp);
+                                TR_J9SharedCache *sharedCache);
+   bool persistROMMethodEntries(J9VMThread *vmThread, J9ROMMethod *romMethod, uintptrj_t *pcEntries, uint32_t numEntries,
+                                TR_J9SharedCache *sharedCache);
    uint32_t walkILTreeForEntries(uintptrj_t *pcEntries, uint32_t &numEntries, TR_J9ByteCodeIterator *bcIterator, TR_OpaqueMethodBlock *method, TR::Compilation *comp,
                                  vcount_t visitCount, int32_t callerIndex, TR_BitVector *BCvisit, bool &abort);
 
@@ -739,6 +743,7 @@ private:
    static int32_t                  _STATS_persistError;
    static int32_t                  _STATS_methodPersistenceAttempts;
    static int32_t                  _STATS_entriesPersisted;
+   static int32_t                  _STATS_methodPersistedAtShutdown;
    static int32_t                  _STATS_entriesNotPersisted_NotInSCC;
    static int32_t                  _STATS_entriesNotPersisted_Unloaded;
    static int32_t                  _STATS_entriesNotPersisted_NoInfo;
@@ -333,6 +333,16 @@ ClientSessionData::getOrCacheVMInfo(JITServer::ServerStream *stream)
       {
       stream->write(JITServer::MessageType::VM_getVMInfo, JITServer::Void());
       auto recv = stream->read<VMInfo, std::vector<uintptr_t>, std::vector<uintptr_t> >();
+      cacheVMInfo(recv);
+      }
+   return _vmInfo;
+   }
+
+ClientSessionData::VMInfo *
+ClientSessionData::cacheVMInfo(const std::tuple<VMInfo, std::vector<uintptr_t>, std::vector<uintptr_t>> &recv)
+   {
+   if (!_vmInfo)
+      {
       _vmInfo = new (PERSISTENT_NEW) VMInfo(std::get<0>(recv));
       _vmInfo->_j9SharedClassCacheDescriptorList = reconstructJ9SharedClassCacheDescriptorList(std::get<1>(recv), std::get<2>(recv));
       }
@@ -301,6 +301,7 @@ class ClientSessionData
       uint64_t _overflowSafeAllocSize;
       int32_t _compressedReferenceShift;
       J9SharedClassCacheDescriptor *_j9SharedClassCacheDescriptorList;
+      uint64_t _sharedCacheDigest; // digest of the contents of the shared class cache layers, see JITServerAOTCache
       bool _stringCompressionEnabled;
       bool _hasSharedClassCache;
       bool _elgibleForPersistIprofileInfo;
@@ -341,6 +342,8 @@ class ClientSessionData
    TR_IPBytecodeHashTableEntry *getCachedIProfilerInfo(TR_OpaqueMethodBlock *method, uint32_t byteCodeIndex, bool *methodInfoPresent);
    bool cacheIProfilerInfo(TR_OpaqueMethodBlock *method, uint32_t byteCodeIndex, TR_IPBytecodeHashTableEntry *entry);
    VMInfo *getOrCacheVMInfo(JITServer::ServerStream *stream);
+   bool hasVMInfo() const { return _vmInfo != NULL; }
+   VMInfo *cacheVMInfo(const std::tuple<VMInfo, std::vector<uintptr_t>, std::vector<uintptr_t>> &recv); // recv is the answer to VM_getVMInfo
    void clearCaches(); // destroys _chTableClassMap, _romClassMap and _J9MethodMap
    TR_AddressSet& getUnloadedClassAddresses()
       {
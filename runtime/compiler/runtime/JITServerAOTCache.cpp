@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#include "runtime/JITServerAOTCache.hpp"
+
+#include "control/CompilationRuntime.hpp" // for CompilationInfo
+#include "env/VerboseLog.hpp"
+#include "AtomicSupport.hpp"
+
+
+namespace
+   {
+   // 64-bit FNV-1a; only used to build cache keys, so it does not need to be cryptographically strong
+   const uint64_t FNV_OFFSET_BASIS = 14695981039346656037ULL;
+   const uint64_t FNV_PRIME = 1099511628211ULL;
+
+   uint64_t hashBytes(uint64_t hash, const void *data, size_t size)
+      {
+      const uint8_t *bytes = (const uint8_t *)data;
+      for (size_t i = 0; i < size; ++i)
+         {
+         hash ^= bytes[i];
+         hash *= FNV_PRIME;
+         }
+      return hash;
+      }
+
+   template <typename T>
+   uint64_t hashValue(uint64_t hash, const T &value)
+      {
+      return hashBytes(hash, &value, sizeof(value));
+      }
+   }
+
+uint64_t JITServerAOTCache::_sharedCacheDigest = 0;
+volatile bool JITServerAOTCache::_sharedCacheDigestValid = false;
+
+JITServerAOTCache *
+JITServerAOTCache::allocate()
+   {
+   size_t maxBytes = 64 * 1024 * 1024;
+   static char *sizeStr = feGetEnv("TR_JITServerAOTCacheSizeKB");
+   if (sizeStr)
+      {
+      long sizeKB = atol(sizeStr);
+      if (sizeKB > 0)
+         maxBytes = (size_t)sizeKB * 1024;
+      }
+   return new (PERSISTENT_NEW) JITServerAOTCache(maxBytes);
+   }
+
+JITServerAOTCache::JITServerAOTCache(size_t maxBytes) :
+   _map(decltype(_map)::allocator_type(TR::Compiler->persistentAllocator())),
+   _maxBytes(maxBytes),
+   _totalBytes(0),
+   _numHits(0),
+   _numMisses(0),
+   _numStores(0)
+   {
+   _monitor = TR::Monitor::create("JIT-JITServerAOTCacheMonitor");
+   }
+
+JITServerAOTCacheKey
+JITServerAOTCache::computeKey(const J9ROMClass *romClass, uint32_t romMethodOffset,
+                              const TR_OptimizationPlan &plan, int32_t detailsType,
+                              const std::string &clientOptStr, const ClientSessionData::VMInfo *vmInfo)
+   {
+   JITServerAOTCacheKey key;
+   // ROM classes only contain self relative pointers, so identical
+   // classes loaded by different clients have identical bytes
+   key._romClassHash = hashBytes(FNV_OFFSET_BASIS, romClass, romClass->romSize);
+   key._optionsHash = hashBytes(FNV_OFFSET_BASIS, clientOptStr.data(), clientOptStr.size());
+
+   uint64_t envHash = FNV_OFFSET_BASIS;
+   envHash = hashValue(envHash, vmInfo->_processorFeatureFlags);
+   envHash = hashValue(envHash, vmInfo->_compressObjectReferences);
+   envHash = hashValue(envHash, vmInfo->_compressedReferenceShift);
+   envHash = hashValue(envHash, vmInfo->_readBarrierType);
+   envHash = hashValue(envHash, vmInfo->_writeBarrierType);
+   envHash = hashValue(envHash, vmInfo->_usesDiscontiguousArraylets);
+   envHash = hashValue(envHash, vmInfo->_arrayletLeafLogSize);
+   envHash = hashValue(envHash, vmInfo->_stringCompressionEnabled);
+   envHash = hashValue(envHash, vmInfo->_canMethodEnterEventBeHooked);
+   envHash = hashValue(envHash, vmInfo->_canMethodExitEventBeHooked);
+   envHash = hashValue(envHash, vmInfo->_hasSharedClassCache);
+   // Offsets recorded in the relocation data are relative to the start of each cache layer,
+   // so the contents of the layers (not their addresses) take part in the key
+   envHash = hashValue(envHash, vmInfo->_sharedCacheDigest);
+   key._vmEnvHash = envHash;
+
+   key._romMethodOffset = romMethodOffset;
+   key._optLevel = (int32_t)plan.getOptLevel();
+   key._detailsType = detailsType;
+   key._insertInstrumentation = plan.insertInstrumentation();
+   return key;
+   }
+
+uint64_t
+JITServerAOTCache::getSharedCacheDigest(const J9SharedClassCacheDescriptor *cacheDescriptorList)
+   {
+   if (!_sharedCacheDigestValid)
+      {
+      // Two threads may compute the digest at the same time; either result can be kept
+      _sharedCacheDigest = computeSharedCacheDigest(cacheDescriptorList);
+      VM_AtomicSupport::writeBarrier();
+      _sharedCacheDigestValid = true;
+      }
+   else
+      {
+      VM_AtomicSupport::readBarrier();
+      }
+   return _sharedCacheDigest;
+   }
+
+uint64_t
+JITServerAOTCache::computeSharedCacheDigest(const J9SharedClassCacheDescriptor *cacheDescriptorList)
+   {
+   uint64_t hash = FNV_OFFSET_BASIS;
+   // The descriptor list is circular: tail->next == head
+   for (const J9SharedClassCacheDescriptor *desc = cacheDescriptorList; desc; desc = desc->next)
+      {
+      // Only the ROM class segment, which grows up from the end of the read-write area,
+      // and the metadata, which grows down from the debug area, are hashed. The header
+      // and the read-write area hold counters and locks that differ between two VMs
+      // attached to identical caches.
+      const J9SharedCacheHeader *header = desc->cacheStartAddress;
+      const uint8_t *base = (const uint8_t *)header;
+      UDATA segmentSRP = header->segmentSRP;
+      UDATA updateSRP = header->updateSRP;
+      UDATA metadataEnd = header->totalBytes - header->debugRegionSize;
+
+      hash = hashValue(hash, desc->cacheSizeBytes);
+      hash = hashBytes(hash, base + header->readWriteBytes, segmentSRP - header->readWriteBytes);
+      hash = hashBytes(hash, base + updateSRP, metadataEnd - updateSRP);
+      if (desc->next == cacheDescriptorList)
+         break;
+      }
+   return hash;
+   }
+
+bool
+JITServerAOTCache::get(const JITServerAOTCacheKey &key, CachedAOTBody &body)
+   {
+   OMR::CriticalSection aotCacheLock(_monitor);
+   auto it = _map.find(key);
+   if (it == _map.end())
+      {
+      _numMisses++;
+      return false;
+      }
+   _numHits++;
+   body = it->second;
+   return true;
+   }
+
+bool
+JITServerAOTCache::put(const JITServerAOTCacheKey &key, const std::string &codeCacheStr, const std::string &dataCacheStr,
+                       const TR_OptimizationPlan &plan)
+   {
+   size_t bodySize = codeCacheStr.size() + dataCacheStr.size();
+   OMR::CriticalSection aotCacheLock(_monitor);
+   if (_totalBytes + bodySize > _maxBytes)
+      return false;
+   // Another client may have stored an identical body while we were compiling
+   if (_map.find(key) != _map.end())
+      return false;
+
+   CachedAOTBody body;
+   body._codeCacheStr = codeCacheStr;
+   body._dataCacheStr = dataCacheStr;
+   body._optimizationPlan = plan;
+   _map.insert({ key, body });
+   _totalBytes += bodySize;
+   _numStores++;
+   return true;
+   }
+
+void
+JITServerAOTCache::printStats()
+   {
+   OMR::CriticalSection aotCacheLock(_monitor);
+   TR_VerboseLog::writeLine(TR_Vlog_JITServer, "AOT cache : %u bodies, %llu bytes, %u stores, %u hits, %u misses",
+      (uint32_t)_map.size(), (unsigned long long)_totalBytes, _numStores, _numHits, _numMisses);
+   }
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#ifndef JITSERVER_AOT_CACHE_H
+#define JITSERVER_AOT_CACHE_H
+
+#include "control/OptimizationPlan.hpp" // for TR_OptimizationPlan
+#include "env/PersistentCollections.hpp" // for PersistentUnorderedMap
+#include "infra/Monitor.hpp"  // for TR::Monitor
+#include "runtime/JITClientSession.hpp" // for ClientSessionData::VMInfo
+
+namespace JITServer { class ServerStream; }
+
+/**
+   @class JITServerAOTCacheKey
+   @brief Identifies a relocatable AOT body independently of the client that requested it
+
+   The key is built only from data that is position independent at the client:
+   the bytes of the ROM class, the offset of the ROM method inside it, the
+   optimization plan, the packed client options and a digest of the parts of
+   the client VM that shape the generated code (processor features, object
+   reference layout, GC barriers and the contents of the shared class cache).
+ */
+struct JITServerAOTCacheKey
+   {
+   uint64_t _romClassHash;
+   uint64_t _optionsHash;
+   uint64_t _vmEnvHash;
+   uint32_t _romMethodOffset;
+   int32_t  _optLevel;
+   int32_t  _detailsType;
+   bool     _insertInstrumentation;
+
+   bool operator==(const JITServerAOTCacheKey &other) const
+      {
+      return (_romClassHash == other._romClassHash) &&
+             (_optionsHash == other._optionsHash) &&
+             (_vmEnvHash == other._vmEnvHash) &&
+             (_romMethodOffset == other._romMethodOffset) &&
+             (_optLevel == other._optLevel) &&
+             (_detailsType == other._detailsType) &&
+             (_insertInstrumentation == other._insertInstrumentation);
+      }
+   };
+
+namespace std
+   {
+   template <> struct hash<JITServerAOTCacheKey>
+      {
+      std::size_t operator()(const JITServerAOTCacheKey &k) const noexcept
+         {
+         return std::hash<uint64_t>()(k._romClassHash ^ k._optionsHash ^ k._vmEnvHash) ^
+                (std::hash<uint32_t>()(k._romMethodOffset) << 1) ^
+                std::hash<int32_t>()(k._optLevel);
+         }
+      };
+   }
+
+/**
+   @class JITServerAOTCache
+   @brief Server-wide cache of relocatable AOT bodies shared by all JITClients
+
+   Unlike the caches in ClientSessionData, which are keyed by client addresses
+   and are thrown away together with the session, this cache survives client
+   sessions. When many identical clients (e.g. replicas of the same container
+   image) ask for an AOT compilation of the same method, only the first request
+   is compiled; the others are answered with the stored code and data, which
+   each client then relocates against its own shared class cache with
+   TR_RelocationRuntime. The relocation records locate ROM classes and class
+   chains by their offset in the client's shared class cache, so bodies are only
+   shared between clients whose caches had the same contents when they first
+   connected to a server (see getSharedCacheDigest()); two caches of the same size that were
+   populated differently never share bodies. Relocation still validates every class
+   chain and SVM record, so a body that refers to data added to the cache later and
+   does not match the client fails to relocate and the client compiles the method again.
+
+   Only bodies that carry no client-specific side data (runtime assumptions,
+   CHTable commit data, classes that must not be extended) are stored.
+
+   The cache is enabled with the TR_EnableJITServerAOTCache environment variable.
+   Its size is bounded by TR_JITServerAOTCacheSizeKB (default 64MB); once the limit
+   is reached new bodies are no longer added.
+   All public methods acquire the cache monitor.
+ */
+class JITServerAOTCache
+   {
+   public:
+   struct CachedAOTBody
+      {
+      std::string _codeCacheStr;
+      std::string _dataCacheStr;
+      TR_OptimizationPlan _optimizationPlan;
+      };
+
+   JITServerAOTCache(size_t maxBytes);
+   static JITServerAOTCache *allocate(); // allocates a new instance of this class
+
+   /**
+      @brief Build the key identifying an AOT compilation request
+    */
+   static JITServerAOTCacheKey computeKey(const J9ROMClass *romClass, uint32_t romMethodOffset,
+                                          const TR_OptimizationPlan &plan, int32_t detailsType,
+                                          const std::string &clientOptStr, const ClientSessionData::VMInfo *vmInfo);
+
+   /**
+      @brief Digest of the contents of the shared class cache layers in the given descriptor list
+
+      Used by the client when it sends its VMInfo to a server; the descriptor list
+      must describe the caches mapped by the calling process. Hashing the layers is
+      expensive, so the digest is computed the first time and reused for all later
+      sessions, including sessions with a restarted server.
+    */
+   static uint64_t getSharedCacheDigest(const J9SharedClassCacheDescriptor *cacheDescriptorList);
+
+   /**
+      @brief Copy the cached body for the given key, if any, into body. Returns true on a hit.
+    */
+   bool get(const JITServerAOTCacheKey &key, CachedAOTBody &body);
+
+   /**
+      @brief Store a body for the given key. Returns false if the body was not stored.
+    */
+   bool put(const JITServerAOTCacheKey &key, const std::string &codeCacheStr, const std::string &dataCacheStr,
+            const TR_OptimizationPlan &plan);
+
+   void printStats();
+
+   private:
+   static uint64_t computeSharedCacheDigest(const J9SharedClassCacheDescriptor *cacheDescriptorList);
+
+   static uint64_t _sharedCacheDigest;
+   static volatile bool _sharedCacheDigestValid;
+
+   PersistentUnorderedMap<JITServerAOTCacheKey, CachedAOTBody> _map;
+   TR::Monitor *_monitor;
+   size_t _maxBytes;
+   size_t _totalBytes;
+   uint32_t _numHits;
+   uint32_t _numMisses;
+   uint32_t _numStores;
+   }; // class JITServerAOTCache
+
+#endif /* defined(JITSERVER_AOT_CACHE_H) */
@@ -22,6 +22,7 @@
 
 #include "runtime/JITServerStatisticsThread.hpp"
 #include "runtime/JITClientSession.hpp" // for purgeOldDataIfNeeded()
+#include "runtime/JITServerAOTCache.hpp" // for printStats()
 #include "env/VMJ9.h" // for TR_JitPrivateConfig
 #include "control/CompilationRuntime.hpp" // for CompilatonInfo
 
@@ -117,6 +118,8 @@ static int32_t J9THREAD_PROC statisticsThreadProc(void * entryarg)
                {
                TR_VerboseLog::writeLine(TR_Vlog_JITServer, "CpuLoad %d%% (AvgUsage %d%%) JvmCpu %d%%", cpuUsage, avgCpuUsage, vmCpuUsage);
                }
+            if (compInfo->getJITServerAOTCache())
+               compInfo->getJITServerAOTCache()->printStats();
             TR_VerboseLog::vlogRelease();
             lastStatsTime = crtTime;
             }
@@ -257,5 +257,10 @@ J9MemoryManagerFunctions MemoryManagerFunctions = {
 	j9gc_notifyGCOfClassReplacement,
 	j9gc_get_jit_string_dedup_policy,
 	j9gc_stringHashFn,
-	j9gc_stringHashEqualFn
+	j9gc_stringHashEqualFn,
+	j9gc_get_cycle_phase_statistics,
+	j9gc_get_string_table_statistics,
+#if defined(J9VM_GC_FINALIZATION)
+	j9gc_get_finalizer_statistics,
+#endif /* J9VM_GC_FINALIZATION */
 };
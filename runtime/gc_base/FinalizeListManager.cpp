@@ -117,6 +117,7 @@ GC_FinalizeListManager::addSystemFinalizableObjects(j9object_t head, j9object_t
 	_extensions->accessBarrier->setFinalizeLink(tail, _systemFinalizableObjects);
 	_systemFinalizableObjects = head;
 	_systemFinalizableObjectCount += objectCount;
+	noteJobsAdded();
 
 	unlock();
 }
@@ -142,6 +143,7 @@ GC_FinalizeListManager::addDefaultFinalizableObjects(j9object_t head, j9object_t
 	_extensions->accessBarrier->setFinalizeLink(tail, _defaultFinalizableObjects);
 	_defaultFinalizableObjects = head;
 	_defaultFinalizableObjectCount += objectCount;
+	noteJobsAdded();
 
 	unlock();
 }
@@ -167,6 +169,7 @@ GC_FinalizeListManager::addReferenceObjects(j9object_t head, j9object_t tail, UD
 	_extensions->accessBarrier->setReferenceLink(tail, _referenceObjects);
 	_referenceObjects = head;
 	_referenceObjectCount += objectCount;
+	noteJobsAdded();
 
 	unlock();
 }
@@ -192,6 +195,7 @@ GC_FinalizeListManager::addClassLoaders(J9ClassLoader *head, J9ClassLoader *tail
 	tail->unloadLink = _classLoaders;
 	_classLoaders = head;
 	_classLoaderCount += count;
+	noteJobsAdded();
 
 	unlock();
 }
@@ -226,6 +230,7 @@ GC_FinalizeListManager::popRequiredClassLoaderForForcedClassLoaderUnload()
 
 			}
 			_classLoaderCount -= 1;
+			noteJobConsumed();
 			break;
 		}
 		previousLoader = classLoader;
@@ -248,6 +253,7 @@ GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job)
 			job->type = FINALIZE_JOB_TYPE_REFERENCE;
 			job->reference = referenceObject;
 
+			noteJobConsumed();
 			return job;
 		}
 	}
@@ -258,6 +264,7 @@ GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job)
 			job->type = FINALIZE_JOB_TYPE_CLASSLOADER;
 			job->classLoader = loader;
 
+			noteJobConsumed();
 			return job;
 		}
 	}
@@ -268,6 +275,7 @@ GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job)
 			job->type = FINALIZE_JOB_TYPE_OBJECT;
 			job->object = defaultObject;
 
+			noteJobConsumed();
 			return job;
 		}
 	}
@@ -278,6 +286,7 @@ GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job)
 			job->type = FINALIZE_JOB_TYPE_OBJECT;
 			job->object = systemObject;
 
+			noteJobConsumed();
 			return job;
 		}
 	}
@@ -285,4 +294,83 @@ GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job)
 	return NULL;
 }
 
+GC_FinalizeJob *
+GC_FinalizeListManager::consumeFinalizableObjectJob(J9VMThread *vmThread, GC_FinalizeJob *job, bool preferSystem)
+{
+	Assert_MM_true(J9_PUBLIC_FLAGS_VM_ACCESS == (vmThread->publicFlags & J9_PUBLIC_FLAGS_VM_ACCESS));
+	Assert_MM_true(1 == omrthread_monitor_owned_by_self(_mutex)); /* caller must be holding _mutex */
+
+	j9object_t object = NULL;
+	if (preferSystem) {
+		object = popSystemFinalizableObject();
+		if (NULL == object) {
+			object = popDefaultFinalizableObject();
+		}
+	} else {
+		object = popDefaultFinalizableObject();
+		if (NULL == object) {
+			object = popSystemFinalizableObject();
+		}
+	}
+
+	if (NULL == object) {
+		return NULL;
+	}
+
+	job->type = FINALIZE_JOB_TYPE_OBJECT;
+	job->object = object;
+	noteJobConsumed();
+	return job;
+}
+
+void
+GC_FinalizeListManager::noteJobsAdded()
+{
+	UDATA count = _classLoaderCount + _defaultFinalizableObjectCount + _systemFinalizableObjectCount + _referenceObjectCount;
+	if (count > _peakJobCount) {
+		_peakJobCount = count;
+	}
+	/* The collectors empty and refill the lists when they move objects, so the backlog
+	 * start time is only reset once the finalizer threads have drained the queue.
+	 */
+	if ((0 == _pendingSince) && (0 != count)) {
+		OMRPORT_ACCESS_FROM_OMRVM(_extensions->getOmrVM());
+		_pendingSince = omrtime_hires_clock();
+	}
+}
+
+void
+GC_FinalizeListManager::noteJobConsumed()
+{
+	_consumedJobCount += 1;
+	if ((0 != _pendingSince) && (0 == (_classLoaderCount + _defaultFinalizableObjectCount + _systemFinalizableObjectCount + _referenceObjectCount))) {
+		OMRPORT_ACCESS_FROM_OMRVM(_extensions->getOmrVM());
+		_lastDrainTime = omrtime_hires_clock() - _pendingSince;
+		if (_lastDrainTime > _maxDrainTime) {
+			_maxDrainTime = _lastDrainTime;
+		}
+		_pendingSince = 0;
+	}
+}
+
+void
+GC_FinalizeListManager::getStatistics(J9FinalizerStatistics *stats) const
+{
+	OMRPORT_ACCESS_FROM_OMRVM(_extensions->getOmrVM());
+
+	lock();
+	stats->pendingObjects = _systemFinalizableObjectCount + _defaultFinalizableObjectCount;
+	stats->pendingReferences = _referenceObjectCount;
+	stats->pendingClassLoaders = _classLoaderCount;
+	stats->peakQueueDepth = _peakJobCount;
+	stats->jobsProcessed = _consumedJobCount;
+	stats->oldestPendingAge = 0;
+	if (0 != _pendingSince) {
+		stats->oldestPendingAge = omrtime_hires_delta(_pendingSince, omrtime_hires_clock(), OMRPORT_TIME_DELTA_IN_MILLISECONDS);
+	}
+	stats->lastDrainLatency = omrtime_hires_delta(0, _lastDrainTime, OMRPORT_TIME_DELTA_IN_MILLISECONDS);
+	stats->maxDrainLatency = omrtime_hires_delta(0, _maxDrainTime, OMRPORT_TIME_DELTA_IN_MILLISECONDS);
+	unlock();
+}
+
 #endif /* J9VM_GC_FINALIZATION */
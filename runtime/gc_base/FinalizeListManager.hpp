@@ -75,6 +75,11 @@ private:
     UDATA _referenceObjectCount; /** count of the reference object */
     J9ClassLoader *_classLoaders; /**< head of the linked list of unloaded classloaders which have open native libraries  */
     UDATA _classLoaderCount; /** count of the class loaders */
+    UDATA _peakJobCount; /**< highest number of jobs seen on the queue */
+    U_64 _consumedJobCount; /**< total number of jobs handed out to the finalizer threads */
+    U_64 _pendingSince; /**< hires time at which the current backlog started, 0 once the queue has been drained */
+    U_64 _lastDrainTime; /**< hires duration of the most recently drained backlog */
+    U_64 _maxDrainTime; /**< hires duration of the longest drained backlog */
 protected:
 public:
     
@@ -117,6 +122,20 @@ protected:
      */
     J9ClassLoader *popClassLoader();
 
+    /**
+     * Update the queue depth statistics after jobs have been added.
+     *
+     * @note Must be called while holding this class' _mutex
+     */
+    void noteJobsAdded();
+
+    /**
+     * Update the consumed job and backlog statistics after a job has been popped.
+     *
+     * @note Must be called while holding this class' _mutex
+     */
+    void noteJobConsumed();
+
 public:
 	void lock() const;
 	void unlock() const;
@@ -133,6 +152,14 @@ public:
 		return count;
 	}
 
+	/**
+	 * Fill in the queue depth and latency fields of the finalizer statistics.
+	 * Latencies measure how long a backlog of jobs waited, from the time the first job was
+	 * queued on an empty queue until the finalizer threads emptied the queue again.
+	 * @param[out] stats the statistics to fill in (activeThreads is left untouched)
+	 */
+	void getStatistics(J9FinalizerStatistics *stats) const;
+
 	virtual UDATA getSystemCount() {return _systemFinalizableObjectCount;}
 	virtual UDATA getDefaultCount() {return _defaultFinalizableObjectCount;}
 	MMINLINE UDATA getClassloaderCount() {return _classLoaderCount;}
@@ -331,6 +358,18 @@ public:
 	 */
 	virtual GC_FinalizeJob *consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job);
 
+	/**
+	 * Pop the next finalizable object job, ignoring references and classloaders.
+	 * Used by the helper finalizer threads, which spread themselves over the system and
+	 * default lists so that both are drained concurrently.
+	 *
+	 * @note Must be called while holding this class' _mutex
+	 *
+	 * @param preferSystem[in] true to pop from the system list first, false for the default list
+	 * @return the next job or NULL
+	 */
+	GC_FinalizeJob *consumeFinalizableObjectJob(J9VMThread *vmThread, GC_FinalizeJob *job, bool preferSystem);
+
 
 	/**
 	 * Create a FinalizeListManager object
@@ -346,6 +385,11 @@ public:
 	    ,_referenceObjectCount(0)
 	    ,_classLoaders(NULL)
 	    ,_classLoaderCount(0)
+	    ,_peakJobCount(0)
+	    ,_consumedJobCount(0)
+	    ,_pendingSince(0)
+	    ,_lastDrainTime(0)
+	    ,_maxDrainTime(0)
 	{
 		_typeId = __FUNCTION__;
 	};
@@ -171,7 +171,31 @@ struct finalizeSlaveData {
 	IDATA wakeUp;
 };
 
+/**
+ * State shared by the helper finalizer threads. Helpers are started by the slave thread when the
+ * finalizable queue backs up, drain finalizable objects concurrently with it, and exit once they
+ * have been idle for finalizeHelperIdleTimeout milliseconds. The helpers are off by default since
+ * they run finalize() methods concurrently, and are enabled with -Xgc:finalizeMaxHelperThreads=<n>.
+ */
+struct finalizeHelperPool {
+	omrthread_monitor_t monitor;
+	J9JavaVM *vm;
+	UDATA threadCount; /**< number of live helper threads, including those still starting up */
+	UDATA nextHelperIndex; /**< used to spread the helpers over the system and default finalizable lists */
+	volatile UDATA activeJobs; /**< number of jobs consumed by the helpers whose processing has not completed */
+	volatile bool shutdown;
+	bool abandoned; /**< the helpers did not stop within finalizeCycleLimit, the last one to exit frees the pool */
+};
+
+/* number of jobs the slave processes between two checks of the queue depth */
+#define FINALIZE_HELPER_CHECK_INTERVAL 256
+
 static int J9THREAD_PROC FinalizeSlaveThread(void *arg);
+static int J9THREAD_PROC FinalizeHelperThread(void *arg);
+static int J9THREAD_PROC gpProtectedFinalizeHelperThread(void *entryArg);
+static void startFinalizeHelperThreads(J9JavaVM *vm);
+static void shutdownFinalizeHelperThreads(J9JavaVM *vm);
+static bool waitForFinalizeHelperJobs(J9JavaVM *vm, J9VMThread *vmThread, struct finalizeSlaveData *slaveData);
 IDATA FinalizeMasterRunFinalization(J9JavaVM * vm, omrthread_t * indirectSlaveThreadHandle, struct finalizeSlaveData **indirectSlaveData, IDATA finalizeCycleLimit, IDATA mode);
 static int J9THREAD_PROC FinalizeMasterThread(void *javaVM);
 static int  J9THREAD_PROC gpProtectedFinalizeSlaveThread(void *entryArg);
@@ -300,6 +324,9 @@ static int J9THREAD_PROC FinalizeMasterThread(void *javaVM)
 		omrthread_monitor_exit(slaveData->monitor);
 	} while(!(vm->finalizeMasterFlags & J9_FINALIZE_FLAGS_SHUTDOWN));
 
+	/* Stop the helpers, finalizers run on exit are handled by the slave alone */
+	shutdownFinalizeHelperThreads(vm);
+
 	/* Check if finalizers should be run on exit */
 	if(vm->finalizeMasterFlags & J9_FINALIZE_FLAGS_RUN_FINALIZERS_ON_EXIT) {
 		doneRunFinalizersOnExit = 0;
@@ -460,6 +487,39 @@ process(J9VMThread *vmThread, const GC_FinalizeJob *finalizeJob, jclass j9VMInte
 	}
 }
 
+/**
+ * Look up the Java methods called by the finalizer threads. The methods are only looked up
+ * if the class library supports finalization, otherwise the outputs are left untouched.
+ * The returned J9VMInternals class is a global reference to be deleted by the caller.
+ */
+static void
+lookupFinalizeMethods(J9JavaVM *vm, J9VMThread *env, jclass *j9VMInternalsClass, jmethodID *runFinalizeMID, jmethodID *referenceEnqueueImplMID)
+{
+	if(vm->jclFlags & J9_JCL_FLAG_FINALIZATION) {
+		/* Only look up finalization methods if the class library supports them */
+		jclass referenceClazz = NULL;
+
+		*j9VMInternalsClass = ((JNIEnv *)env)->FindClass("java/lang/J9VMInternals");
+		if (*j9VMInternalsClass) {
+			*j9VMInternalsClass = (jclass)((JNIEnv *)env)->NewGlobalRef(*j9VMInternalsClass);
+			if (*j9VMInternalsClass) {
+				*runFinalizeMID = ((JNIEnv *)env)->GetStaticMethodID(*j9VMInternalsClass, "runFinalize", "(Ljava/lang/Object;)V");
+			}
+		}
+		if (!*runFinalizeMID) {
+			((JNIEnv *)env)->ExceptionClear();
+		}
+	
+		referenceClazz = ((JNIEnv *)env)->FindClass("java/lang/ref/Reference");
+		if (referenceClazz) {
+			*referenceEnqueueImplMID  = ((JNIEnv *)env)->GetMethodID(referenceClazz, "enqueueImpl", "()Z");
+		}
+		if (!*referenceEnqueueImplMID) {
+			((JNIEnv *)env)->ExceptionClear();
+		}
+	}
+}
+
 /**
  * Slave thread consumes jobs from Finalize List Manager and process them
  */
@@ -470,7 +530,7 @@ static int J9THREAD_PROC FinalizeSlaveThread(void *arg)
 	J9VMThread *env;
 	const GC_FinalizeJob *finalizeJob;
 	GC_FinalizeJob localJob;
-	jclass referenceClazz, j9VMInternalsClass = NULL;
+	jclass j9VMInternalsClass = NULL;
 	jmethodID referenceEnqueueImplMID = NULL, runFinalizeMID = NULL;
 	J9InternalVMFunctions* fns;
 	omrthread_monitor_t monitor;
@@ -512,27 +572,7 @@ static int J9THREAD_PROC FinalizeSlaveThread(void *arg)
 	/* Remember that the thread was gpProtected -- important for the JIT */
 	env->gpProtected = 1;
 
-	if(vm->jclFlags & J9_JCL_FLAG_FINALIZATION) {
-		/* Only look up finalization methods if the class library supports them */
-		j9VMInternalsClass = ((JNIEnv *)env)->FindClass("java/lang/J9VMInternals");
-		if (j9VMInternalsClass) {
-			j9VMInternalsClass = (jclass)((JNIEnv *)env)->NewGlobalRef(j9VMInternalsClass);
-			if (j9VMInternalsClass) {
-				runFinalizeMID = ((JNIEnv *)env)->GetStaticMethodID(j9VMInternalsClass, "runFinalize", "(Ljava/lang/Object;)V");
-			}
-		}
-		if (!runFinalizeMID) {
-			((JNIEnv *)env)->ExceptionClear();
-		}
-	
-		referenceClazz = ((JNIEnv *)env)->FindClass("java/lang/ref/Reference");
-		if (referenceClazz) {
-			referenceEnqueueImplMID  = ((JNIEnv *)env)->GetMethodID(referenceClazz, "enqueueImpl", "()Z");
-		}
-		if (!referenceEnqueueImplMID) {
-			((JNIEnv *)env)->ExceptionClear();
-		}
-	}		
+	lookupFinalizeMethods(vm, env, &j9VMInternalsClass, &runFinalizeMID, &referenceEnqueueImplMID);
 	slaveData->vmThread = env;
 
 	/* Notify that the slave has come on line (We should check the result from above) */
@@ -564,6 +604,7 @@ static int J9THREAD_PROC FinalizeSlaveThread(void *arg)
 			}
 		}
 
+		UDATA jobsSinceHelperCheck = FINALIZE_HELPER_CHECK_INTERVAL;
 		do {
 
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
@@ -594,10 +635,20 @@ static int J9THREAD_PROC FinalizeSlaveThread(void *arg)
 				
 				if(NULL != finalizeJob) {
 					slaveData->noWorkDone = 0;
+				} else if (waitForFinalizeHelperJobs(vm, env, slaveData)) {
+					/* The helpers were still running finalizers, look for any work they left behind */
+					continue;
 				} else {
 					slaveData->noWorkDone = 1;
 					break;				
 				}
+
+				/* Scale the helper threads with the depth of the queue */
+				if (FINALIZE_HELPER_CHECK_INTERVAL <= jobsSinceHelperCheck) {
+					jobsSinceHelperCheck = 0;
+					startFinalizeHelperThreads(vm);
+				}
+				jobsSinceHelperCheck += 1;
 				
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 			}
@@ -679,6 +730,216 @@ static int J9THREAD_PROC FinalizeSlaveThread(void *arg)
 	return 0;
 }
 
+/**
+ * Helper thread consumes finalizable object jobs alongside the slave thread. References and
+ * classloaders are left to the slave, which keeps the reference processing notifications and
+ * the classloader unloading single threaded.
+ */
+static int J9THREAD_PROC FinalizeHelperThread(void *arg)
+{
+	struct finalizeHelperPool *pool = (struct finalizeHelperPool *)arg;
+	J9JavaVM *vm = pool->vm;
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	GC_FinalizeListManager *finalizeListManager = extensions->finalizeListManager;
+	J9InternalVMFunctions *fns = vm->internalVMFunctions;
+	const GC_FinalizeJob *finalizeJob = NULL;
+	GC_FinalizeJob localJob;
+	jclass j9VMInternalsClass = NULL;
+	jmethodID referenceEnqueueImplMID = NULL;
+	jmethodID runFinalizeMID = NULL;
+	J9VMThread *env = NULL;
+	JavaVMAttachArgs attachArgs;
+	bool preferSystem = false;
+
+	omrthread_monitor_enter(pool->monitor);
+	preferSystem = (1 == (pool->nextHelperIndex & 1));
+	pool->nextHelperIndex += 1;
+	omrthread_monitor_exit(pool->monitor);
+
+	attachArgs.version = JNI_VERSION_1_2;
+	attachArgs.name = (char *)"Finalizer helper thread";
+	attachArgs.group = (jobject)vm->systemThreadGroupRef;
+	if (JNI_OK == ((JavaVM *)vm)->AttachCurrentThreadAsDaemon((void **)&env, (void *)&attachArgs)) {
+		fns->internalEnterVMFromJNI(env);
+		env->privateFlags |= (J9_PRIVATE_FLAGS_FINALIZE_SLAVE | J9_PRIVATE_FLAGS_USE_BOOTSTRAP_LOADER);
+		fns->internalReleaseVMAccess(env);
+
+		/* Remember that the thread was gpProtected -- important for the JIT */
+		env->gpProtected = 1;
+
+		lookupFinalizeMethods(vm, env, &j9VMInternalsClass, &runFinalizeMID, &referenceEnqueueImplMID);
+
+		omrthread_monitor_enter(pool->monitor);
+		while (!pool->shutdown) {
+			omrthread_monitor_exit(pool->monitor);
+
+			fns->internalEnterVMFromJNI(env);
+			do {
+				finalizeListManager->lock();
+				finalizeJob = finalizeListManager->consumeFinalizableObjectJob(env, &localJob, preferSystem);
+				if (NULL != finalizeJob) {
+					/* Counted under the list lock so the slave never sees an empty queue without the job in flight */
+					MM_AtomicOperations::add(&pool->activeJobs, 1);
+				}
+				finalizeListManager->unlock();
+
+				if (NULL == finalizeJob) {
+					break;
+				}
+
+				/* processing will release/acquire VM access */
+				process(env, finalizeJob, j9VMInternalsClass, runFinalizeMID, referenceEnqueueImplMID);
+				fns->jniResetStackReferences((JNIEnv *)env);
+
+				omrthread_monitor_enter(pool->monitor);
+				if (0 == MM_AtomicOperations::subtract(&pool->activeJobs, 1)) {
+					/* Wake up the slave if it is waiting for the helpers to complete */
+					omrthread_monitor_notify_all(pool->monitor);
+				}
+				omrthread_monitor_exit(pool->monitor);
+			} while (!pool->shutdown);
+			fns->internalReleaseVMAccess(env);
+
+			omrthread_monitor_enter(pool->monitor);
+			if (!pool->shutdown) {
+				IDATA waitResult = omrthread_monitor_wait_timed(pool->monitor, extensions->finalizeHelperIdleTimeout, 0);
+				if ((J9THREAD_TIMED_OUT == waitResult) && (0 == (finalizeListManager->getSystemCount() + finalizeListManager->getDefaultCount()))) {
+					/* No work showed up while idling, give the thread back */
+					break;
+				}
+			}
+		}
+		omrthread_monitor_exit(pool->monitor);
+
+		if (NULL != j9VMInternalsClass) {
+			((JNIEnv *)env)->DeleteGlobalRef(j9VMInternalsClass);
+		}
+		((JavaVM *)vm)->DetachCurrentThread();
+	}
+
+	omrthread_monitor_enter(pool->monitor);
+	pool->threadCount -= 1;
+	if (pool->abandoned) {
+		/* Nobody is waiting for us any more, the last helper out cleans up the pool */
+		bool lastHelper = (0 == pool->threadCount);
+		omrthread_monitor_exit(pool->monitor);
+		if (lastHelper) {
+			omrthread_monitor_destroy(pool->monitor);
+			extensions->getForge()->free(pool);
+		}
+	} else {
+		omrthread_monitor_notify_all(pool->monitor);
+		omrthread_exit(pool->monitor);		/* exit the monitor, and terminate the thread */
+	}
+
+	/* NO EXECUTION GUARANTEE BEYOND THIS POINT */
+
+	return 0;
+}
+
+/**
+ * Wait for the finalizers being run by the helper threads to complete. Called by the slave once
+ * the queue is empty so that it only reports that no work was done, which completes a
+ * runFinalization() request, after the helpers are also done.
+ *
+ * @param vm  Pointer to the Java VM
+ * @param vmThread the slave thread, holding VM access
+ * @param slaveData the slave communication data
+ * @return true if the slave had to wait and should check the queue again, false if no helper job was in flight
+ */
+static bool
+waitForFinalizeHelperJobs(J9JavaVM *vm, J9VMThread *vmThread, struct finalizeSlaveData *slaveData)
+{
+	struct finalizeHelperPool *pool = MM_GCExtensions::getExtensions(vm)->finalizeHelperPool;
+	bool waited = false;
+
+	if ((NULL != pool) && (0 != pool->activeJobs)) {
+		/* Do not hold up GCs while the helpers run their finalizers */
+		vm->internalVMFunctions->internalReleaseVMAccess(vmThread);
+		omrthread_monitor_enter(pool->monitor);
+		while ((0 != pool->activeJobs) && !pool->shutdown && (FINALIZE_SLAVE_STAY_ALIVE == slaveData->die)) {
+			omrthread_monitor_wait(pool->monitor);
+		}
+		waited = !pool->shutdown && (FINALIZE_SLAVE_STAY_ALIVE == slaveData->die);
+		omrthread_monitor_exit(pool->monitor);
+		vm->internalVMFunctions->internalEnterVMFromJNI(vmThread);
+	}
+
+	return waited;
+}
+
+/**
+ * Start enough helper threads for the current depth of the finalizable queue, one per
+ * finalizeHelperQueueDepth queued objects up to finalizeMaxHelperThreads, and wake up
+ * the idle ones.
+ */
+static void
+startFinalizeHelperThreads(J9JavaVM *vm)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	struct finalizeHelperPool *pool = extensions->finalizeHelperPool;
+
+	if (NULL != pool) {
+		GC_FinalizeListManager *finalizeListManager = extensions->finalizeListManager;
+		UDATA pendingObjects = finalizeListManager->getSystemCount() + finalizeListManager->getDefaultCount();
+		UDATA wantedThreads = OMR_MIN(pendingObjects / extensions->finalizeHelperQueueDepth, extensions->finalizeMaxHelperThreads);
+
+		if (0 != wantedThreads) {
+			omrthread_monitor_enter(pool->monitor);
+			if (!pool->shutdown) {
+				while (pool->threadCount < wantedThreads) {
+					pool->threadCount += 1;
+					IDATA result = vm->internalVMFunctions->createThreadWithCategory(
+										NULL,
+										vm->defaultOSStackSize,
+										extensions->finalizeSlavePriority,
+										0,
+										&gpProtectedFinalizeHelperThread,
+										pool,
+										J9THREAD_CATEGORY_APPLICATION_THREAD);
+					if (0 != result) {
+						/* Carry on with the helpers we already have */
+						pool->threadCount -= 1;
+						break;
+					}
+				}
+				omrthread_monitor_notify_all(pool->monitor);
+			}
+			omrthread_monitor_exit(pool->monitor);
+		}
+	}
+}
+
+/**
+ * Ask the helper threads to stop and wait for them to exit. A helper only checks for
+ * the request between two jobs, so this waits for the running finalizers to complete.
+ * Helpers still running after finalizeCycleLimit are abandoned, like a hung slave, and
+ * the last of them frees the pool.
+ */
+static void
+shutdownFinalizeHelperThreads(J9JavaVM *vm)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	struct finalizeHelperPool *pool = extensions->finalizeHelperPool;
+
+	if (NULL != pool) {
+		omrthread_monitor_enter(pool->monitor);
+		pool->shutdown = true;
+		omrthread_monitor_notify_all(pool->monitor);
+		while (0 != pool->threadCount) {
+			if (J9THREAD_TIMED_OUT == omrthread_monitor_wait_timed(pool->monitor, extensions->finalizeCycleLimit, 0)) {
+				break;
+			}
+		}
+		if (0 != pool->threadCount) {
+			/* The helpers never finished during the allocated time - abandon them */
+			pool->abandoned = true;
+			extensions->finalizeHelperPool = NULL;
+		}
+		omrthread_monitor_exit(pool->monitor);
+	}
+}
+
 /*
  * Preconditions:
  * 	holds finalizeMasterMonitor
@@ -822,6 +1083,27 @@ gpProtectedFinalizeSlaveThread(void *entryArg)
 	return 0;
 }
 
+static UDATA
+FinalizeHelperThreadGlue(J9PortLibrary* portLib, void* userData)
+{
+	return FinalizeHelperThread(userData);
+}
+
+static int J9THREAD_PROC
+gpProtectedFinalizeHelperThread(void *entryArg)
+{
+	struct finalizeHelperPool *pool = (struct finalizeHelperPool *) entryArg;
+	PORT_ACCESS_FROM_PORT(pool->vm->portLibrary);
+	UDATA rc;
+
+	j9sig_protect(FinalizeHelperThreadGlue, pool,
+		pool->vm->internalVMFunctions->structuredSignalHandlerVM, pool->vm,
+		J9PORT_SIG_FLAG_SIGALLSYNC | J9PORT_SIG_FLAG_MAY_CONTINUE_EXECUTION,
+		&rc);
+
+	return 0;
+}
+
 void
 j9gc_finalizer_completeFinalizersOnExit(J9VMThread* vmThread)
 {
@@ -867,6 +1149,26 @@ j9gc_finalizer_completeFinalizersOnExit(J9VMThread* vmThread)
 int j9gc_finalizer_startup(J9JavaVM * vm)
 {
 	IDATA result;
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+
+	if (0 != extensions->finalizeMaxHelperThreads) {
+		/* The helpers are optional, finalization carries on with the slave alone if the pool cannot be created */
+		MM_Forge *forge = extensions->getForge();
+		struct finalizeHelperPool *pool = (struct finalizeHelperPool *)forge->allocate(sizeof(struct finalizeHelperPool), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+		if (NULL != pool) {
+			pool->vm = vm;
+			pool->threadCount = 0;
+			pool->nextHelperIndex = 0;
+			pool->activeJobs = 0;
+			pool->shutdown = false;
+			pool->abandoned = false;
+			if (0 == omrthread_monitor_init_with_name(&pool->monitor, 0, "Finalizer helper pool")) {
+				extensions->finalizeHelperPool = pool;
+			} else {
+				forge->free(pool);
+			}
+		}
+	}
 
 	omrthread_monitor_enter(vm->finalizeMasterMonitor);
 
@@ -892,6 +1194,43 @@ int j9gc_finalizer_startup(J9JavaVM * vm)
 	return 0;
 }
 
+/**
+ * Free the helper thread pool. Called when the GC is torn down, after finalization has been shut down.
+ */
+void
+finalizeHelperPoolTearDown(J9JavaVM *vm)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	struct finalizeHelperPool *pool = extensions->finalizeHelperPool;
+
+	if (NULL != pool) {
+		omrthread_monitor_destroy(pool->monitor);
+		extensions->getForge()->free(pool);
+		extensions->finalizeHelperPool = NULL;
+	}
+}
+
+/**
+ * Fill in the finalizer queue statistics.
+ *
+ * @param vm  Pointer to the Java VM
+ * @param[out] stats the statistics to fill in
+ */
+void
+j9gc_get_finalizer_statistics(J9JavaVM *vm, J9FinalizerStatistics *stats)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	struct finalizeHelperPool *pool = extensions->finalizeHelperPool;
+
+	extensions->finalizeListManager->getStatistics(stats);
+	stats->activeThreads = (NULL != vm->finalizeSlaveData) ? 1 : 0;
+	if (NULL != pool) {
+		omrthread_monitor_enter(pool->monitor);
+		stats->activeThreads += pool->threadCount;
+		omrthread_monitor_exit(pool->monitor);
+	}
+}
+
 /**
  * Check if processing reference is active
  *
@@ -57,12 +57,14 @@ class MM_HeapMap;
 class MM_MemorySubSpace;
 class MM_ObjectAccessBarrier;
 class MM_OwnableSynchronizerObjectList;
+class MM_StringDeduplicationTable;
 class MM_StringTable;
 class MM_UnfinalizedObjectList;
 class MM_Wildcard;
 
 #if defined(J9VM_GC_FINALIZATION)
 class GC_FinalizeListManager;
+struct finalizeHelperPool;
 #endif /* J9VM_GC_FINALIZATION */
 
 #if defined(J9VM_GC_REALTIME)
@@ -82,6 +84,7 @@ private:
 	MM_OwnableSynchronizerObjectList* ownableSynchronizerObjectLists; /**< The global linked list of ownable synchronizer object lists. */
 public:
 	MM_StringTable* stringTable; /**< top level String Table structure (internally organized as a set of hash sub-tables */
+	MM_StringDeduplicationTable* stringDeduplicationTable; /**< canonical String value arrays, NULL unless String deduplication is enabled */
 
 	void* gcchkExtensions;
 
@@ -121,6 +124,10 @@ public:
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 
 	U_32 _stringTableListToTreeThreshold; /**< Threshold at which we start using trees instead of lists for collision resolution in the String table */
+	UDATA stringTableMaxTableCount; /**< upper bound for the count of String table sub-tables when resizing (0 means 8 times the initial count) */
+	UDATA stringTableContentionThreshold; /**< percentage of contended String table monitor enters between global GCs that triggers a resize (0 disables resizing) */
+	bool stringDeduplication; /**< if true, the copying collectors share the value arrays of equal Strings as they age (-XX:+UseStringDeduplication) */
+	UDATA stringDeduplicationTableSize; /**< number of canonical value arrays the String deduplication table can hold */
 
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 	bool fvtest_forceFinalizeClassLoaders;
@@ -142,6 +149,10 @@ public:
 #if defined(J9VM_GC_FINALIZATION)
 	UDATA finalizeMasterPriority; /**< cmd line option to set finalize master thread priority */
 	UDATA finalizeSlavePriority; /**< cmd line option to set finalize slave thread priority */
+	UDATA finalizeMaxHelperThreads; /**< maximum number of helper finalizer threads started when the finalizable queue backs up. 0 (the default) disables the helpers, -Xgc:finalizeMaxHelperThreads=<n> enables them and lets finalize() methods run concurrently with each other */
+	UDATA finalizeHelperQueueDepth; /**< number of queued finalizable objects that justifies one helper finalizer thread */
+	UDATA finalizeHelperIdleTimeout; /**< time in milliseconds an idle helper finalizer thread waits for work before exiting */
+	struct finalizeHelperPool *finalizeHelperPool; /**< state shared by the helper finalizer threads, owned by FinalizerSupport */
 #endif /* J9VM_GC_FINALIZATION */
 
 	MM_ClassLoaderManager* classLoaderManager; /**< Pointer to the gc's classloader manager to process classloaders/classes */
@@ -280,6 +291,7 @@ public:
 		: MM_GCExtensionsBase()
 		, ownableSynchronizerObjectLists(NULL)
 		, stringTable(NULL)
+		, stringDeduplicationTable(NULL)
 		, gcchkExtensions(NULL)
 		, tgcExtensions(NULL)
 #if defined(J9VM_GC_FINALIZATION)
@@ -295,10 +307,18 @@ public:
 		, classUnloadingAnonymousClassWeight(1.0)
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 		, _stringTableListToTreeThreshold(1024)
+		, stringTableMaxTableCount(0)
+		, stringTableContentionThreshold(5)
+		, stringDeduplication(false)
+		, stringDeduplicationTableSize(64 * 1024)
 		, maxSoftReferenceAge(32)
 #if defined(J9VM_GC_FINALIZATION)
 		, finalizeMasterPriority(J9THREAD_PRIORITY_NORMAL)
 		, finalizeSlavePriority(J9THREAD_PRIORITY_NORMAL)
+		, finalizeMaxHelperThreads(0)
+		, finalizeHelperQueueDepth(1000)
+		, finalizeHelperIdleTimeout(5000) /* 5 seconds */
+		, finalizeHelperPool(NULL)
 #endif /* J9VM_GC_FINALIZATION */
 		, classLoaderManager(NULL)
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#include "j9.h"
+#include "j9consts.h"
+#include "ModronAssertions.h"
+
+#include "mmomrhook.h"
+
+#include "AtomicOperations.hpp"
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+#include "StringDeduplicationTable.hpp"
+
+/* number of consecutive entries examined before giving up on an array */
+#define STRING_DEDUPLICATION_MAX_PROBES 16
+
+MM_StringDeduplicationTable *
+MM_StringDeduplicationTable::newInstance(MM_EnvironmentBase *env, UDATA capacity)
+{
+	MM_StringDeduplicationTable *table = (MM_StringDeduplicationTable *)env->getForge()->allocate(sizeof(MM_StringDeduplicationTable), MM_AllocationCategory::FIXED, J9_GET_CALLSITE());
+	if (NULL != table) {
+		new(table) MM_StringDeduplicationTable(env, capacity);
+		if (!table->initialize(env)) {
+			table->kill(env);
+			return NULL;
+		}
+	}
+	return table;
+}
+
+bool
+MM_StringDeduplicationTable::initialize(MM_EnvironmentBase *env)
+{
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+	_extensions = MM_GCExtensions::getExtensions(env);
+
+	/* round the capacity up to a power of two so that probing can mask rather than divide */
+	UDATA capacity = OMR_MAX(_capacity, STRING_DEDUPLICATION_MAX_PROBES);
+	_capacity = 1;
+	while (_capacity < capacity) {
+		_capacity <<= 1;
+	}
+
+	_entries = (volatile UDATA *)j9mem_allocate_memory(sizeof(UDATA) * _capacity, OMRMEM_CATEGORY_MM);
+	if (NULL == _entries) {
+		return false;
+	}
+	clear();
+
+	/* a global collection may move or free the canonical arrays */
+	J9HookInterface **mmOmrHooks = J9_HOOK_INTERFACE(_extensions->omrHookInterface);
+	if (0 != (*mmOmrHooks)->J9HookRegisterWithCallSite(mmOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_START, hookGlobalGcStart, OMR_GET_CALLSITE(), this)) {
+		return false;
+	}
+	_clearHookRegistered = true;
+
+	return true;
+}
+
+void
+MM_StringDeduplicationTable::tearDown(MM_EnvironmentBase *env)
+{
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+
+	if (_clearHookRegistered) {
+		J9HookInterface **mmOmrHooks = J9_HOOK_INTERFACE(_extensions->omrHookInterface);
+		(*mmOmrHooks)->J9HookUnregister(mmOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_START, hookGlobalGcStart, this);
+		_clearHookRegistered = false;
+	}
+
+	if (NULL != _entries) {
+		j9mem_free_memory((void *)_entries);
+		_entries = NULL;
+	}
+}
+
+void
+MM_StringDeduplicationTable::kill(MM_EnvironmentBase *env)
+{
+	tearDown(env);
+	env->getForge()->free(this);
+}
+
+void
+MM_StringDeduplicationTable::clear()
+{
+	memset((void *)_entries, 0, sizeof(UDATA) * _capacity);
+}
+
+void
+MM_StringDeduplicationTable::hookGlobalGcStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	/* the hook is reported by the master GC thread before any object is moved or freed */
+	((MM_StringDeduplicationTable *)userData)->clear();
+}
+
+bool
+MM_StringDeduplicationTable::isEqual(MM_EnvironmentBase *env, J9IndexableObject *array, J9IndexableObject *other)
+{
+	GC_ArrayletObjectModel *indexableObjectModel = &_extensions->indexableObjectModel;
+
+	return (J9GC_J9OBJECT_CLAZZ(array, env) == J9GC_J9OBJECT_CLAZZ(other, env))
+		&& (indexableObjectModel->getSizeInElements(array) == indexableObjectModel->getSizeInElements(other))
+		&& (0 == memcmp(indexableObjectModel->getDataPointerForContiguous(array),
+				indexableObjectModel->getDataPointerForContiguous(other),
+				indexableObjectModel->getDataSizeInBytes(array)));
+}
+
+J9IndexableObject *
+MM_StringDeduplicationTable::deduplicate(MM_EnvironmentBase *env, J9IndexableObject *array, UDATA *duplicateSize)
+{
+	GC_ArrayletObjectModel *indexableObjectModel = &_extensions->indexableObjectModel;
+	J9IndexableObject *canonical = NULL;
+
+	if (indexableObjectModel->isInlineContiguousArraylet(array)) {
+		UDATA dataSize = indexableObjectModel->getDataSizeInBytes(array);
+		U_8 *data = (U_8 *)indexableObjectModel->getDataPointerForContiguous(array);
+		UDATA hash = indexableObjectModel->getSizeInElements(array);
+
+		for (UDATA i = 0; i < dataSize; i++) {
+			hash = (hash * 31) + data[i];
+		}
+		hash ^= hash >> 16;
+
+		for (UDATA probe = 0; probe < STRING_DEDUPLICATION_MAX_PROBES; probe++) {
+			volatile UDATA *entry = &_entries[(hash + probe) & (_capacity - 1)];
+			UDATA candidate = *entry;
+
+			if (0 == candidate) {
+				candidate = MM_AtomicOperations::lockCompareExchange(entry, 0, (UDATA)array);
+				if (0 == candidate) {
+					/* array is now the canonical array for its contents */
+					break;
+				}
+			}
+			if ((UDATA)array == candidate) {
+				break;
+			}
+			if (isEqual(env, array, (J9IndexableObject *)candidate)) {
+				canonical = (J9IndexableObject *)candidate;
+				*duplicateSize = indexableObjectModel->getSizeInBytesWithHeader(array);
+				break;
+			}
+		}
+	}
+
+	return canonical;
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Base
+ */
+
+#if !defined(STRING_DEDUPLICATION_TABLE_HPP_)
+#define STRING_DEDUPLICATION_TABLE_HPP_
+
+#include "j9.h"
+
+#include "BaseVirtual.hpp"
+
+class MM_EnvironmentBase;
+class MM_GCExtensions;
+
+/**
+ * Table of canonical String value arrays, used by the copying collectors to share the value
+ * arrays of equal aged Strings (-XX:+UseStringDeduplication).
+ *
+ * The table is an open addressed array of object addresses, filled with compare-and-swap so that
+ * all GC threads can use it at once without locking. Entries are never removed individually: the
+ * table is cleared whenever a collection may move or free the arrays it holds, so it must only
+ * ever be given arrays that will not move for as long as the table is not cleared.
+ */
+class MM_StringDeduplicationTable : public MM_BaseVirtual {
+private:
+	MM_GCExtensions *_extensions;
+	UDATA _capacity;                /**< number of entries, a power of two */
+	volatile UDATA *_entries;       /**< addresses of canonical arrays, 0 for a free entry */
+	bool _clearHookRegistered;      /**< true if the global GC start hook clearing the table is registered */
+
+	bool initialize(MM_EnvironmentBase *env);
+	void tearDown(MM_EnvironmentBase *env);
+
+	/**
+	 * @return true if the two arrays have the same class, length and contents
+	 */
+	bool isEqual(MM_EnvironmentBase *env, J9IndexableObject *array, J9IndexableObject *other);
+
+	static void hookGlobalGcStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+
+public:
+	/**
+	 * Find an array with the same class and contents as array, or make array the canonical array
+	 * for its contents if there is none. Only contiguous arrays are considered.
+	 * @param array a String value array that will not move until the table is cleared
+	 * @param duplicateSize set to the size of array, including its header, if an equal array is returned
+	 * @return an equal canonical array other than array, or NULL if there is none
+	 */
+	J9IndexableObject *deduplicate(MM_EnvironmentBase *env, J9IndexableObject *array, UDATA *duplicateSize);
+
+	/**
+	 * Discard all the canonical arrays. Must be called while no GC thread is using the table.
+	 */
+	void clear();
+
+	static MM_StringDeduplicationTable *newInstance(MM_EnvironmentBase *env, UDATA capacity);
+	virtual void kill(MM_EnvironmentBase *env);
+
+	MM_StringDeduplicationTable(MM_EnvironmentBase *env, UDATA capacity) :
+		MM_BaseVirtual(),
+		_extensions(NULL),
+		_capacity(capacity),
+		_entries(NULL),
+		_clearHookRegistered(false)
+	{
+		_typeId = __FUNCTION__;
+	}
+
+};
+
+#endif /* STRING_DEDUPLICATION_TABLE_HPP_ */
@@ -27,8 +27,11 @@
 #include "objhelp.h"
 #include "ModronAssertions.h"
 
+#include "mmomrhook.h"
+
 #include "EnvironmentBase.hpp"
 #include "GCExtensionsBase.hpp"
+#include "HashTableIterator.hpp"
 #include "ScavengerForwardedHeader.hpp"
 #include "StringTable.hpp"
 #include "VMHelpers.hpp"
@@ -36,6 +39,9 @@
 /* the following is all ones except the least significant bit */
 #define TYPE_UTF8 ((UDATA)1)
 
+/* minimum number of sub-table monitor enters between two global GCs for the contention ratio to be considered */
+#define STRING_TABLE_RESIZE_MIN_ACQUIRES 10000
+
 extern "C" {
 
 typedef struct stringTableUTF8Query {
@@ -48,6 +54,7 @@ static UDATA stringHashFn (void *key, void *userData);
 static UDATA stringHashEqualFn (void *leftKey, void *rightKey, void *userData);
 static IDATA stringComparatorFn(struct J9AVLTree *tree, struct J9AVLTreeNode *leftNode, struct J9AVLTreeNode *rightNode);
 static j9object_t setupCharArray(J9VMThread *vmThread, j9object_t sourceString, j9object_t newString);
+static j9object_t probeStringInternCache(J9JavaVM *javaVM, j9object_t candidate, void *key);
 
 MM_StringTable *
 MM_StringTable::newInstance(MM_EnvironmentBase *env, UDATA tableCount)
@@ -65,68 +72,118 @@ MM_StringTable::newInstance(MM_EnvironmentBase *env, UDATA tableCount)
 
 bool
 MM_StringTable::initialize(MM_EnvironmentBase *env)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+
+	if (!allocateTables(env, _tableCount, &_table, &_mutex, &_lockStats)) {
+		return false;
+	}
+
+	memset(_cache, 0, sizeof(_cache));
+
+	_maxTableCount = extensions->stringTableMaxTableCount;
+	if (0 == _maxTableCount) {
+		_maxTableCount = _tableCount * 8;
+	}
+	_maxTableCount = OMR_MAX(_maxTableCount, _tableCount);
+
+	/* Resizing redistributes the whole table in a single pause, which does not fit the incremental realtime collector */
+	_resizeEnabled = (_maxTableCount > _tableCount) && (0 != extensions->stringTableContentionThreshold) && !extensions->isMetronomeGC();
+
+	J9HookInterface **mmOmrHooks = J9_HOOK_INTERFACE(extensions->omrHookInterface);
+	if (0 != (*mmOmrHooks)->J9HookRegisterWithCallSite(mmOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_END, hookGlobalGcEnd, OMR_GET_CALLSITE(), this)) {
+		return false;
+	}
+	_gcEndHookRegistered = true;
+	updateStatistics();
+
+	return true;
+}
+
+bool
+MM_StringTable::allocateTables(MM_EnvironmentBase *env, UDATA tableCount, J9HashTable ***table, omrthread_monitor_t **mutex, MM_StringTableLockStats **lockStats)
 {
 	J9JavaVM *javaVM = (J9JavaVM*)env->getOmrVM()->_language_vm;
 	PORT_ACCESS_FROM_ENVIRONMENT(env);
 	U_32 initialSize = 128;
 	U_32 listToTreeThreshold = MM_GCExtensions::getExtensions(env)->_stringTableListToTreeThreshold;
 
-	_table = (J9HashTable **)j9mem_allocate_memory(sizeof(J9HashTable *) * _tableCount, OMRMEM_CATEGORY_MM);
-	if (NULL == _table) {
+	*table = (J9HashTable **)j9mem_allocate_memory(sizeof(J9HashTable *) * tableCount, OMRMEM_CATEGORY_MM);
+	if (NULL == *table) {
 		return false;
 	}
-	memset(_table, 0, sizeof(J9HashTable *) * _tableCount);
+	memset(*table, 0, sizeof(J9HashTable *) * tableCount);
 
-	_mutex = (omrthread_monitor_t *)j9mem_allocate_memory(sizeof(omrthread_monitor_t) * _tableCount, OMRMEM_CATEGORY_MM);
-	if (NULL == _mutex) {
+	*mutex = (omrthread_monitor_t *)j9mem_allocate_memory(sizeof(omrthread_monitor_t) * tableCount, OMRMEM_CATEGORY_MM);
+	if (NULL == *mutex) {
 		return false;
 	}
-	memset(_mutex, 0, sizeof(omrthread_monitor_t) * _tableCount);
+	memset(*mutex, 0, sizeof(omrthread_monitor_t) * tableCount);
 
-	for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
-		_table[tableIndex] = collisionResilientHashTableNew(OMRPORT_FROM_J9PORT(javaVM->portLibrary), J9_GET_CALLSITE(), initialSize, sizeof(UDATA), 0, OMRMEM_CATEGORY_MM, listToTreeThreshold, stringHashFn, stringComparatorFn, NULL, javaVM);
-		if (NULL == _table[tableIndex]) {
+	*lockStats = (MM_StringTableLockStats *)j9mem_allocate_memory(sizeof(MM_StringTableLockStats) * tableCount, OMRMEM_CATEGORY_MM);
+	if (NULL == *lockStats) {
+		return false;
+	}
+	memset(*lockStats, 0, sizeof(MM_StringTableLockStats) * tableCount);
+
+	for (UDATA tableIndex = 0; tableIndex < tableCount; tableIndex++) {
+		(*table)[tableIndex] = collisionResilientHashTableNew(OMRPORT_FROM_J9PORT(javaVM->portLibrary), J9_GET_CALLSITE(), initialSize, sizeof(UDATA), 0, OMRMEM_CATEGORY_MM, listToTreeThreshold, stringHashFn, stringComparatorFn, NULL, javaVM);
+		if (NULL == (*table)[tableIndex]) {
 			return false;
 		}
-		if (0 != omrthread_monitor_init_with_name(&_mutex[tableIndex], 0, "GC string table")) {
+		if (0 != omrthread_monitor_init_with_name(&(*mutex)[tableIndex], 0, "GC string table")) {
 			return false;
 		}
 	}
 
-	memset(_cache, 0, sizeof(_cache));
-
 	return true;
 }
 
-
 void
-MM_StringTable::tearDown(MM_EnvironmentBase *env)
+MM_StringTable::freeTables(MM_EnvironmentBase *env, UDATA tableCount, J9HashTable **table, omrthread_monitor_t *mutex, MM_StringTableLockStats *lockStats)
 {
 	PORT_ACCESS_FROM_ENVIRONMENT(env);
 
-	if (NULL !=_table) {
-		for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
-			if (NULL != _table[tableIndex]) {
-				hashTableFree(_table[tableIndex]);
-				_table[tableIndex] = NULL;
+	if (NULL != table) {
+		for (UDATA tableIndex = 0; tableIndex < tableCount; tableIndex++) {
+			if (NULL != table[tableIndex]) {
+				hashTableFree(table[tableIndex]);
+				table[tableIndex] = NULL;
 			}
 		}
-		j9mem_free_memory(_table);
-		_table = NULL;
+		j9mem_free_memory(table);
 	}
 
-	if (NULL != _mutex) {
-		for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
-			if (_mutex[tableIndex]) {
-				omrthread_monitor_destroy(_mutex[tableIndex]);
-				_mutex[tableIndex] = NULL;
+	if (NULL != mutex) {
+		for (UDATA tableIndex = 0; tableIndex < tableCount; tableIndex++) {
+			if (mutex[tableIndex]) {
+				omrthread_monitor_destroy(mutex[tableIndex]);
+				mutex[tableIndex] = NULL;
 			}
 		}
-		j9mem_free_memory(_mutex);
-		_mutex = NULL;
+		j9mem_free_memory(mutex);
+	}
+
+	if (NULL != lockStats) {
+		j9mem_free_memory(lockStats);
 	}
 }
 
+void
+MM_StringTable::tearDown(MM_EnvironmentBase *env)
+{
+	if (_gcEndHookRegistered) {
+		J9HookInterface **mmOmrHooks = J9_HOOK_INTERFACE(MM_GCExtensions::getExtensions(env)->omrHookInterface);
+		(*mmOmrHooks)->J9HookUnregister(mmOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_END, hookGlobalGcEnd, this);
+		_gcEndHookRegistered = false;
+	}
+
+	freeTables(env, _tableCount, _table, _mutex, _lockStats);
+	_table = NULL;
+	_mutex = NULL;
+	_lockStats = NULL;
+}
+
 
 void
 MM_StringTable::kill(MM_EnvironmentBase *env)
@@ -180,6 +237,109 @@ MM_StringTable::hashAtPut(UDATA tableIndex, j9object_t string)
 }
 
 
+bool
+MM_StringTable::resize(MM_EnvironmentBase *env, UDATA newTableCount)
+{
+	J9JavaVM *javaVM = (J9JavaVM*)env->getOmrVM()->_language_vm;
+	J9HashTable **newTable = NULL;
+	omrthread_monitor_t *newMutex = NULL;
+	MM_StringTableLockStats *newLockStats = NULL;
+	bool result = allocateTables(env, newTableCount, &newTable, &newMutex, &newLockStats);
+
+	for (UDATA tableIndex = 0; result && (tableIndex < _tableCount); tableIndex++) {
+		GC_HashTableIterator stringTableIterator(_table[tableIndex]);
+		j9object_t *slot = NULL;
+
+		while (result && (NULL != (slot = (j9object_t *)stringTableIterator.nextSlot()))) {
+			j9object_t string = *slot;
+			UDATA hash = stringHashFn(&string, javaVM);
+
+			result = (NULL != hashTableAdd(newTable[hash % newTableCount], &string));
+		}
+	}
+
+	if (result) {
+		for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
+			_retiredAcquireCount += _lockStats[tableIndex].acquireCount;
+			_retiredContendedCount += _lockStats[tableIndex].contendedCount;
+		}
+		freeTables(env, _tableCount, _table, _mutex, _lockStats);
+
+		_table = newTable;
+		_mutex = newMutex;
+		_lockStats = newLockStats;
+		_tableCount = newTableCount;
+		_lastAcquireCount = 0;
+		_lastContendedCount = 0;
+		_resizeCount += 1;
+	} else {
+		/* out of native memory, keep using the old sub-tables */
+		freeTables(env, newTableCount, newTable, newMutex, newLockStats);
+	}
+
+	return result;
+}
+
+void
+MM_StringTable::resizeIfContended(MM_EnvironmentBase *env)
+{
+	UDATA contentionThreshold = MM_GCExtensions::getExtensions(env)->stringTableContentionThreshold;
+	UDATA acquireCount = 0;
+	UDATA contendedCount = 0;
+
+	for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
+		acquireCount += _lockStats[tableIndex].acquireCount;
+		contendedCount += _lockStats[tableIndex].contendedCount;
+	}
+
+	U_64 intervalAcquireCount = (U_64)(acquireCount - _lastAcquireCount);
+	U_64 intervalContendedCount = (U_64)(contendedCount - _lastContendedCount);
+	_lastAcquireCount = acquireCount;
+	_lastContendedCount = contendedCount;
+
+	if ((_tableCount < _maxTableCount)
+		&& (intervalAcquireCount >= STRING_TABLE_RESIZE_MIN_ACQUIRES)
+		&& ((intervalContendedCount * 100) >= (intervalAcquireCount * contentionThreshold))
+	) {
+		resize(env, OMR_MIN(_tableCount * 2, _maxTableCount));
+	}
+}
+
+void
+MM_StringTable::hookGlobalGcEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	MM_GlobalGCEndEvent *event = (MM_GlobalGCEndEvent *)eventData;
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(event->currentThread);
+
+	MM_StringTable *stringTable = (MM_StringTable *)userData;
+
+	/* the hook is reported by the master GC thread while it still holds exclusive VM access */
+	if (stringTable->_resizeEnabled) {
+		stringTable->resizeIfContended(env);
+	}
+	stringTable->updateStatistics();
+}
+
+void
+MM_StringTable::updateStatistics()
+{
+	U_64 internedStrings = 0;
+	U_64 acquireCount = _retiredAcquireCount;
+	U_64 contendedCount = _retiredContendedCount;
+
+	for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
+		internedStrings += hashTableGetCount(_table[tableIndex]);
+		acquireCount += _lockStats[tableIndex].acquireCount;
+		contendedCount += _lockStats[tableIndex].contendedCount;
+	}
+
+	_statistics.tableCount = _tableCount;
+	_statistics.internedStrings = internedStrings;
+	_statistics.lockAcquisitions = acquireCount;
+	_statistics.contendedAcquisitions = contendedCount;
+	_statistics.resizeCount = _resizeCount;
+}
+
 j9object_t
 MM_StringTable::addStringToInternTable(J9VMThread *vmThread, j9object_t string)
 {
@@ -543,6 +703,12 @@ j9gc_stringHashFn(void *key, void *userData)
 	return stringHashFn(key, userData);
 }
 
+void
+j9gc_get_string_table_statistics(J9JavaVM *vm, J9StringTableStatistics *stats)
+{
+	MM_GCExtensions::getExtensions(vm->omrVM)->getStringTable()->getStatistics(stats);
+}
+
 j9object_t
 j9gc_createJavaLangString(J9VMThread *vmThread, U_8 *data, UDATA length, UDATA stringFlags)
 {
@@ -551,6 +717,7 @@ j9gc_createJavaLangString(J9VMThread *vmThread, U_8 *data, UDATA length, UDATA s
 	MM_StringTable *stringTable = MM_GCExtensions::getExtensions(vm->omrVM)->getStringTable();
 	j9object_t result = NULL;
 	j9object_t charArray = NULL;
+	j9object_t *cachePtr = NULL;
 	UDATA allocateFlags = J9_GC_ALLOCATE_OBJECT_NON_INSTRUMENTABLE;
 
 	if (VM_VMHelpers::isUTF8ASCII(data, length)) {
@@ -577,11 +744,27 @@ j9gc_createJavaLangString(J9VMThread *vmThread, U_8 *data, UDATA length, UDATA s
 			hash = VM_VMHelpers::computeHashForUTF8(data, length);
 		}
 
-		UDATA tableIndex = stringTable->getTableIndex(hash);
+		stringTableUTF8Query query;
+		void *queryPtr = NULL;
+
+		query.utf8Data = data;
+		query.utf8Length = length;
+		query.hash = (U_32)hash;
+		queryPtr = (void *) ((UDATA) &query | TYPE_UTF8);
+		cachePtr = stringTable->getStringInternCache(hash);
+		result = probeStringInternCache(vm, *cachePtr, &queryPtr);
+
+		if (NULL == result) {
+			UDATA tableIndex = stringTable->getTableIndex(hash);
+
+			stringTable->lockTable(tableIndex);
+			result = stringTable->hashAtUTF8(tableIndex, data, length, (U_32)hash);
+			stringTable->unlockTable(tableIndex);
 
-		stringTable->lockTable(tableIndex);
-		result = stringTable->hashAtUTF8(tableIndex, data, length, (U_32)hash);
-		stringTable->unlockTable(tableIndex);
+			if (NULL != result) {
+				*cachePtr = result;
+			}
+		}
 	}
 
 	if (NULL == result) {
@@ -706,6 +889,9 @@ j9gc_createJavaLangString(J9VMThread *vmThread, U_8 *data, UDATA length, UDATA s
 			if (NULL == result) {
 				goto nomem;
 			}
+			if (NULL != cachePtr) {
+				*cachePtr = result;
+			}
 		}
 	}
 
@@ -717,6 +903,35 @@ nomem:
 	return NULL;
 }
 
+/**
+ * Look up a string in the interned string cache. The cache is read without holding any
+ * sub-table monitor: a slot holds a single reference, so a racing update can at worst
+ * cause a miss, and the caller then falls back to the locked hash sub-table lookup.
+ * @param javaVM pointer to the Java VM
+ * @param candidate the content of the cache slot selected by the hash of the string
+ * @param key pointer to a String object or to a low-tagged pointer to a stringTableUTF8Query
+ * @return candidate if it is an interned string equal to key, NULL otherwise
+ */
+static j9object_t
+probeStringInternCache(J9JavaVM *javaVM, j9object_t candidate, void *key)
+{
+	if ((NULL != candidate) && stringHashEqualFn(&candidate, key, javaVM)) {
+#if defined(J9VM_GC_REALTIME)
+		if (MM_GCExtensions::getExtensions(javaVM->omrVM)->isMetronomeGC()) {
+			/*
+			 * This can only be used if the current candidate pointer is live.
+			 * Pass in candidate twice since we only have one string.
+			 */
+			if (FALSE == j9gc_objaccess_checkStringConstantsLive(javaVM, candidate, candidate)) {
+				return NULL;
+			}
+		}
+#endif /* J9VM_GC_REALTIME */
+		return candidate;
+	}
+	return NULL;
+}
+
 /**
  * Points newString at sourceString's char[].
  * If necessary, a new copy of the char[] will be created
@@ -796,9 +1011,7 @@ j9gc_internString(J9VMThread *vmThread, j9object_t sourceString)
 {
 	J9JavaVM *vm = vmThread->javaVM;
 	J9InternalVMFunctions * const vmFuncs = vm->internalVMFunctions;
-	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm->omrVM);
-	MM_StringTable *stringTable = extensions->getStringTable();
-	bool isMetronome = extensions->isMetronomeGC();
+	MM_StringTable *stringTable = MM_GCExtensions::getExtensions(vm->omrVM)->getStringTable();
 	j9object_t internedString = NULL;
 	j9object_t *candidatePtr = NULL;
 	j9object_t candidate = NULL;
@@ -806,27 +1019,10 @@ j9gc_internString(J9VMThread *vmThread, j9object_t sourceString)
 	UDATA hash = stringHashFn(&sourceString, vm);
 
 	candidatePtr = stringTable->getStringInternCache(hash);
-	candidate = *candidatePtr;
-
-	if ((NULL != candidate) && stringHashEqualFn(&candidate, &sourceString, vm)) {
-		if (isMetronome) {
-#if defined(J9VM_GC_REALTIME) 
-			/*
-			 * This can only be used if the current candidate pointer is live.
-			 * Pass in candidate twice since we only have one string.
-			 */
-			if (FALSE != j9gc_objaccess_checkStringConstantsLive(vm, candidate, candidate)) {
-				Trc_MM_stringTableCacheHit(vmThread, candidate);
-				return candidate;
-			}
-#else
-			Trc_MM_stringTableCacheHit(vmThread, candidate);
-			return candidate;
-#endif
-		} else {
-			Trc_MM_stringTableCacheHit(vmThread, candidate);
-			return candidate;
-		}
+	candidate = probeStringInternCache(vm, *candidatePtr, &sourceString);
+	if (NULL != candidate) {
+		Trc_MM_stringTableCacheHit(vmThread, candidate);
+		return candidate;
 	}
 
 	UDATA tableIndex = stringTable->getTableIndex(hash);
@@ -34,13 +34,33 @@
 
 class MM_EnvironmentBase;
 
+/**
+ * Lock statistics of a single hash sub-table. The counters are only updated while holding the
+ * sub-table monitor, and are padded so that counters of different sub-tables do not share a cache line.
+ */
+struct MM_StringTableLockStats {
+	UDATA acquireCount; /**< number of times the sub-table monitor was entered */
+	UDATA contendedCount; /**< number of times entering the sub-table monitor had to block */
+	UDATA padding[6];
+};
+
 class MM_StringTable : public MM_BaseVirtual {
 private:
 	UDATA _tableCount;              /**< count of hash sub-tables */
 	J9HashTable **_table;           /**< pointer to an array of hash sub-tables */
 	omrthread_monitor_t *_mutex;    /**< pointer to an array of monitors associated with each hash sub-table */
-
-    ddr_constant(cacheSize, 511);
+	MM_StringTableLockStats *_lockStats; /**< pointer to an array of lock statistics associated with each hash sub-table */
+	UDATA _maxTableCount;           /**< upper bound for the count of hash sub-tables when resizing */
+	UDATA _resizeCount;             /**< number of times the sub-tables have been resized */
+	UDATA _retiredAcquireCount;     /**< monitor enters recorded against sub-tables discarded by a resize */
+	UDATA _retiredContendedCount;   /**< contended monitor enters recorded against sub-tables discarded by a resize */
+	UDATA _lastAcquireCount;        /**< monitor enters of the current sub-tables at the last resize check */
+	UDATA _lastContendedCount;      /**< contended monitor enters of the current sub-tables at the last resize check */
+	bool _resizeEnabled;            /**< true if the sub-tables are grown when their monitors become contended */
+	bool _gcEndHookRegistered;      /**< true if the global GC end hook driving resizing and statistics is registered */
+	J9StringTableStatistics _statistics; /**< statistics snapshot taken at the end of the last global GC */
+
+    ddr_constant(cacheSize, 4093);
 	j9object_t _cache[cacheSize];   /**< interned string table cash */
 public:
 
@@ -48,6 +68,32 @@ private:
 	bool initialize(MM_EnvironmentBase *env);
 	void tearDown(MM_EnvironmentBase *env);
 
+	/**
+	 * Allocate and initialize a set of hash sub-tables, with their monitors and lock statistics.
+	 * On failure, anything partially allocated is left for freeTables() to release.
+	 * @return true on success, false otherwise
+	 */
+	bool allocateTables(MM_EnvironmentBase *env, UDATA tableCount, J9HashTable ***table, omrthread_monitor_t **mutex, MM_StringTableLockStats **lockStats);
+	/**
+	 * Free a set of hash sub-tables, with their monitors and lock statistics.
+	 */
+	void freeTables(MM_EnvironmentBase *env, UDATA tableCount, J9HashTable **table, omrthread_monitor_t *mutex, MM_StringTableLockStats *lockStats);
+	/**
+	 * Redistribute all the interned strings over a new set of hash sub-tables.
+	 * Must be called with exclusive VM access and while no GC is iterating the table.
+	 * @param newTableCount the new count of hash sub-tables
+	 * @return true if the table was resized, false if the old table has been kept
+	 */
+	bool resize(MM_EnvironmentBase *env, UDATA newTableCount);
+
+	/**
+	 * Take a snapshot of the occupancy and lock statistics of the table.
+	 * Must be called with exclusive VM access so that the sub-tables cannot be resized or freed meanwhile.
+	 */
+	void updateStatistics();
+
+	static void hookGlobalGcEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+
 public:
 
 	/**
@@ -117,7 +163,13 @@ public:
 	 * @param tableIndex index of hash table into the array of sub-tables
 	 */
 	void lockTable(UDATA tableIndex) {
-		omrthread_monitor_enter(_mutex[tableIndex]);
+		MM_StringTableLockStats *lockStats = &_lockStats[tableIndex];
+
+		if (0 != omrthread_monitor_try_enter(_mutex[tableIndex])) {
+			omrthread_monitor_enter(_mutex[tableIndex]);
+			lockStats->contendedCount += 1;
+		}
+		lockStats->acquireCount += 1;
 	}
 
 	/*
@@ -128,6 +180,20 @@ public:
 		omrthread_monitor_exit(_mutex[tableIndex]);
 	}
 
+	/**
+	 * Grow the count of hash sub-tables if the sub-table monitors have been contended for more than
+	 * stringTableContentionThreshold percent of the enters since the last check.
+	 * Must be called with exclusive VM access and while no GC is iterating the table.
+	 */
+	void resizeIfContended(MM_EnvironmentBase *env);
+
+	/**
+	 * Fill in the occupancy and lock statistics of the table, as of the end of the last global GC.
+	 * The live sub-tables are not read, so this is safe to call without VM access.
+	 * @param stats structure to fill in
+	 */
+	void getStatistics(J9StringTableStatistics *stats) { *stats = _statistics; }
+
 	static MM_StringTable *newInstance(MM_EnvironmentBase *env, UDATA tableCount);
 	virtual void kill(MM_EnvironmentBase *env);
 
@@ -135,7 +201,16 @@ public:
 		MM_BaseVirtual(),
 		_tableCount(tableCount),
 		_table(NULL),
-		_mutex(NULL)
+		_mutex(NULL),
+		_lockStats(NULL),
+		_maxTableCount(tableCount),
+		_resizeCount(0),
+		_retiredAcquireCount(0),
+		_retiredContendedCount(0),
+		_lastAcquireCount(0),
+		_lastContendedCount(0),
+		_resizeEnabled(false),
+		_gcEndHookRegistered(false)
 	{
 		_typeId = __FUNCTION__;
 	}
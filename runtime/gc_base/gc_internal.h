@@ -130,6 +130,7 @@ extern J9_CFUNC void j9gc_objaccess_storeObjectToInternalVMSlot(J9VMThread *vmTh
 extern J9_CFUNC jint  JNICALL queryGCStatus(JavaVM *vm, jint *nHeaps, GCStatus *status, jint statusSize);
 extern J9_CFUNC int j9gc_finalizer_startup(J9JavaVM * vm);
 extern J9_CFUNC UDATA j9gc_wait_for_reference_processing(J9JavaVM *vm);
+extern J9_CFUNC void j9gc_get_finalizer_statistics(J9JavaVM *vm, J9FinalizerStatistics *stats);
 extern J9_CFUNC UDATA j9gc_get_maximum_heap_size(J9JavaVM *javaVM);
 extern J9_CFUNC I_32 j9gc_get_jit_string_dedup_policy(J9JavaVM *javaVM);
 extern J9_CFUNC void* j9gc_objaccess_staticReadAddress(J9VMThread *vmThread, J9Class *clazz, void **srcSlot, UDATA isVolatile);
@@ -252,6 +253,7 @@ extern J9_CFUNC void j9gc_objaccess_jniReleaseStringCritical(J9VMThread* vmThrea
 extern J9_CFUNC UDATA j9gc_arraylet_getLeafSize(J9JavaVM* javaVM);
 extern J9_CFUNC UDATA j9gc_arraylet_getLeafLogSize(J9JavaVM* javaVM);
 extern J9_CFUNC void j9gc_get_CPU_times(J9JavaVM *javaVM, U_64* masterCpuMillis, U_64* slaveCpuMillis, U_32* maxThreads, U_32* currentThreads);
+extern J9_CFUNC void j9gc_get_cycle_phase_statistics(OMR_VMThread *omrVMThread, J9GCPhaseStatistics *stats, BOOLEAN timeRootScanning);
 
 
 /* J9VMFinalizeSupport*/
@@ -262,6 +264,7 @@ extern J9_CFUNC void finalizeForcedUnfinalizedToFinalizable(J9VMThread *vmThread
 extern J9_CFUNC void* finalizeForcedClassLoaderUnload(J9VMThread *vmThread);
 extern J9_CFUNC void j9gc_runFinalizersOnExit(J9VMThread* vmThread, UDATA run);
 extern J9_CFUNC void j9gc_finalizer_completeFinalizersOnExit(J9VMThread* vmThread);
+extern J9_CFUNC void finalizeHelperPoolTearDown(J9JavaVM *vm);
 
 extern J9_CFUNC UDATA ownableSynchronizerObjectCreated(J9VMThread *vmThread, j9object_t object);
 
@@ -275,6 +278,7 @@ extern J9_CFUNC j9object_t j9gc_createJavaLangString(J9VMThread *vmThread, U_8 *
 extern J9_CFUNC j9object_t j9gc_internString(J9VMThread *vmThread, j9object_t sourceString);
 extern UDATA j9gc_stringHashFn (void *key, void *userData);
 extern UDATA j9gc_stringHashEqualFn (void *leftKey, void *rightKey, void *userData);
+extern J9_CFUNC void j9gc_get_string_table_statistics(J9JavaVM *vm, J9StringTableStatistics *stats);
 
 /* modronapi.cpp */
 extern J9_CFUNC UDATA j9gc_get_bytes_allocated_by_thread(J9VMThread* vmThread);
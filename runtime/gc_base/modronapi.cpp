@@ -48,6 +48,10 @@
 #include "MemoryPoolLargeObjects.hpp"
 #include "VMInterface.hpp"
 #include "VMThreadListIterator.hpp"
+#if defined(J9VM_GC_VLHGC)
+#include "CycleStateVLHGC.hpp"
+#include "EnvironmentVLHGC.hpp"
+#endif /* J9VM_GC_VLHGC */
 
 extern "C" {
 
@@ -977,6 +981,202 @@ j9gc_get_CPU_times(J9JavaVM *javaVM, U_64 *masterCpuMillis, U_64 *slaveCpuMillis
 	*currentThreads = (U_32)extensions->dispatcher->activeThreadCount();
 }
 
+/**
+ * Convert the interval between two hires clock values to nanoseconds, treating unset or
+ * inverted intervals as empty.
+ */
+static U_64
+phaseTimeNanos(OMR_VMThread *omrVMThread, U_64 startTime, U_64 endTime)
+{
+	OMRPORT_ACCESS_FROM_OMRVMTHREAD(omrVMThread);
+	U_64 nanos = 0;
+	if ((0 != startTime) && (endTime > startTime)) {
+		nanos = omrtime_hires_delta(startTime, endTime, OMRPORT_TIME_DELTA_IN_NANOSECONDS);
+	}
+	return nanos;
+}
+
+static void
+copyReferenceStatistics(J9GCReferenceStatistics *dest, MM_ReferenceStats *source)
+{
+	dest->candidates = source->_candidates;
+	dest->cleared = source->_cleared;
+}
+
+/**
+ * Record the busy and stall time of one thread that took part in the main parallel phase of a collection.
+ */
+static void
+addWorkerStatistics(OMR_VMThread *omrVMThread, J9GCPhaseStatistics *stats, MM_EnvironmentBase *env, U_64 phaseTime, U_64 stallTime)
+{
+	OMRPORT_ACCESS_FROM_OMRVMTHREAD(omrVMThread);
+	if (stats->workerCount < J9GC_PHASE_STATISTICS_MAX_WORKERS) {
+		J9GCWorkerStatistics *worker = &stats->workers[stats->workerCount];
+		if (stallTime > phaseTime) {
+			stallTime = phaseTime;
+		}
+		worker->workerID = (U_32)env->getSlaveID();
+		worker->busyTime = omrtime_hires_delta(0, phaseTime - stallTime, OMRPORT_TIME_DELTA_IN_NANOSECONDS);
+		worker->stallTime = omrtime_hires_delta(0, stallTime, OMRPORT_TIME_DELTA_IN_NANOSECONDS);
+		stats->workerCount += 1;
+	}
+}
+
+/**
+ * Return the phase breakdown of the collection that is ending. Must be called by the master GC
+ * thread from a GC end hook, while the statistics of the cycle are still current.
+ *
+ * Timing root scanning has a cost in every collection, so root scanner statistics are only enabled by
+ * the first call that asks for them, once the caller has a consumer for the root scan time. The root
+ * scan time is reported as 0 until the collection after that call.
+ *
+ * @param[in] omrVMThread The master GC thread
+ * @param[out] stats The statistics of the collection
+ * @param[in] timeRootScanning true if the root scan time is consumed
+ */
+void
+j9gc_get_cycle_phase_statistics(OMR_VMThread *omrVMThread, J9GCPhaseStatistics *stats, BOOLEAN timeRootScanning)
+{
+	MM_EnvironmentBase *masterEnv = MM_EnvironmentBase::getEnvironment(omrVMThread);
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(masterEnv);
+	J9VMThread *vmThread = (J9VMThread *)omrVMThread->_language_vmthread;
+	UDATA cycleType = masterEnv->_cycleState->_type;
+
+	memset(stats, 0, sizeof(*stats));
+
+	switch (cycleType) {
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+	case OMR_GC_CYCLE_TYPE_SCAVENGE:
+	{
+		U_64 scavengeTime = extensions->scavengerStats._endTime - extensions->scavengerStats._startTime;
+		stats->copyTime = phaseTimeNanos(omrVMThread, extensions->scavengerStats._startTime, extensions->scavengerStats._endTime);
+		copyReferenceStatistics(&stats->weakReferences, &extensions->scavengerJavaStats._weakReferenceStats);
+		copyReferenceStatistics(&stats->softReferences, &extensions->scavengerJavaStats._softReferenceStats);
+		copyReferenceStatistics(&stats->phantomReferences, &extensions->scavengerJavaStats._phantomReferenceStats);
+
+		GC_VMThreadListIterator threadIterator(vmThread);
+		J9VMThread *walkThread = NULL;
+		while (NULL != (walkThread = threadIterator.nextVMThread())) {
+			MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(walkThread->omrVMThread);
+			if (((walkThread == vmThread) || (GC_SLAVE_THREAD == env->getThreadType()))
+				&& (env->_scavengerStats._gcCount == extensions->scavengerStats._gcCount)
+			) {
+				addWorkerStatistics(omrVMThread, stats, env, scavengeTime, env->_scavengerStats.getStallTime());
+			}
+		}
+		break;
+	}
+#endif /* J9VM_GC_MODRON_SCAVENGER */
+#if defined(J9VM_GC_MODRON_STANDARD)
+	case OMR_GC_CYCLE_TYPE_GLOBAL:
+	{
+		U_64 markTime = extensions->globalGCStats.markStats._endTime - extensions->globalGCStats.markStats._startTime;
+		stats->markTime = phaseTimeNanos(omrVMThread, extensions->globalGCStats.markStats._startTime, extensions->globalGCStats.markStats._endTime);
+		stats->sweepTime = phaseTimeNanos(omrVMThread, extensions->globalGCStats.sweepStats._startTime, extensions->globalGCStats.sweepStats._endTime);
+#if defined(J9VM_GC_MODRON_COMPACTION)
+		stats->compactTime = phaseTimeNanos(omrVMThread, extensions->globalGCStats.compactStats._startTime, extensions->globalGCStats.compactStats._endTime);
+#endif /* J9VM_GC_MODRON_COMPACTION */
+		copyReferenceStatistics(&stats->weakReferences, &extensions->markJavaStats._weakReferenceStats);
+		copyReferenceStatistics(&stats->softReferences, &extensions->markJavaStats._softReferenceStats);
+		copyReferenceStatistics(&stats->phantomReferences, &extensions->markJavaStats._phantomReferenceStats);
+
+		GC_VMThreadListIterator threadIterator(vmThread);
+		J9VMThread *walkThread = NULL;
+		while (NULL != (walkThread = threadIterator.nextVMThread())) {
+			MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(walkThread->omrVMThread);
+			if (((walkThread == vmThread) || (GC_SLAVE_THREAD == env->getThreadType()))
+				&& (env->_markStats._gcCount == extensions->globalGCStats.gcCount)
+			) {
+				addWorkerStatistics(omrVMThread, stats, env, markTime, env->_markStats.getStallTime() + env->_workPacketStats.getStallTime());
+			}
+		}
+		break;
+	}
+#endif /* J9VM_GC_MODRON_STANDARD */
+#if defined(J9VM_GC_VLHGC)
+	case OMR_GC_CYCLE_TYPE_VLHGC_PARTIAL_GARBAGE_COLLECT:
+	case OMR_GC_CYCLE_TYPE_VLHGC_GLOBAL_GARBAGE_COLLECT:
+	{
+		MM_VLHGCIncrementStats *incrementStats = &static_cast<MM_CycleStateVLHGC*>(masterEnv->_cycleState)->_vlhgcIncrementStats;
+		MM_CopyForwardStats *copyForwardStats = &incrementStats->_copyForwardStats;
+		bool copyForwardRan = (copyForwardStats->_endTime > copyForwardStats->_startTime);
+		U_64 parallelTime = 0;
+
+		stats->markTime = phaseTimeNanos(omrVMThread, incrementStats->_markStats._startTime, incrementStats->_markStats._endTime);
+		stats->sweepTime = phaseTimeNanos(omrVMThread, incrementStats->_sweepStats._startTime, incrementStats->_sweepStats._endTime);
+#if defined(J9VM_GC_MODRON_COMPACTION)
+		stats->compactTime = phaseTimeNanos(omrVMThread, incrementStats->_compactStats._startTime, incrementStats->_compactStats._endTime);
+#endif /* J9VM_GC_MODRON_COMPACTION */
+		stats->copyTime = phaseTimeNanos(omrVMThread, copyForwardStats->_startTime, copyForwardStats->_endTime);
+		/* the remembered set statistics are kept in microseconds */
+		stats->rememberedSetTime = ((U_64)incrementStats->_irrsStats._clearFromRegionReferencesTimesus + (U_64)incrementStats->_irrsStats._rebuildCompressedCardTableTimesus) * 1000;
+		stats->rememberedSetCardsProcessed = incrementStats->_irrsStats._clearFromRegionReferencesCardsProcessed;
+
+		if (copyForwardRan) {
+			parallelTime = copyForwardStats->_endTime - copyForwardStats->_startTime;
+			copyReferenceStatistics(&stats->weakReferences, &copyForwardStats->_weakReferenceStats);
+			copyReferenceStatistics(&stats->softReferences, &copyForwardStats->_softReferenceStats);
+			copyReferenceStatistics(&stats->phantomReferences, &copyForwardStats->_phantomReferenceStats);
+		} else {
+			parallelTime = incrementStats->_markStats._endTime - incrementStats->_markStats._startTime;
+			copyReferenceStatistics(&stats->weakReferences, &incrementStats->_markStats._weakReferenceStats);
+			copyReferenceStatistics(&stats->softReferences, &incrementStats->_markStats._softReferenceStats);
+			copyReferenceStatistics(&stats->phantomReferences, &incrementStats->_markStats._phantomReferenceStats);
+		}
+
+		GC_VMThreadListIterator threadIterator(vmThread);
+		J9VMThread *walkThread = NULL;
+		while (NULL != (walkThread = threadIterator.nextVMThread())) {
+			MM_EnvironmentVLHGC *env = MM_EnvironmentVLHGC::getEnvironment(walkThread);
+			if ((walkThread == vmThread) || (GC_SLAVE_THREAD == env->getThreadType())) {
+				if (copyForwardRan) {
+					if (env->_copyForwardStats._gcCount == extensions->globalVLHGCStats.gcCount) {
+						addWorkerStatistics(omrVMThread, stats, env, parallelTime, env->_copyForwardStats.getStallTime() + env->_workPacketStats.getStallTime());
+					}
+				} else if (env->_markVLHGCStats._gcCount == extensions->globalVLHGCStats.gcCount) {
+					addWorkerStatistics(omrVMThread, stats, env, parallelTime, env->_markVLHGCStats.getStallTime() + env->_workPacketStats.getStallTime());
+				}
+			}
+		}
+		break;
+	}
+#endif /* J9VM_GC_VLHGC */
+	default:
+		break;
+	}
+
+	if (!timeRootScanning) {
+		/* nothing consumes the root scan time, leave root scanner statistics alone */
+	} else if (extensions->rootScannerStatsEnabled) {
+		/* the per-thread root scanner totals may also be cleared by -Xtgc:rootscantime, so only the
+		 * growth since the previous call is attributed to this collection
+		 */
+		GC_VMThreadListIterator threadIterator(vmThread);
+		J9VMThread *walkThread = NULL;
+		U_64 rootScanTime = 0;
+		while (NULL != (walkThread = threadIterator.nextVMThread())) {
+			MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(walkThread->omrVMThread);
+			if ((walkThread == vmThread) || (GC_SLAVE_THREAD == env->getThreadType())) {
+				U_64 threadTotal = 0;
+				for (UDATA entityIndex = 1; entityIndex < RootScannerEntity_Count; entityIndex++) {
+					threadTotal += env->_rootScannerStats._entityScanTime[entityIndex];
+				}
+				GC_Environment *gcEnv = env->getGCEnvironment();
+				if (threadTotal >= gcEnv->_rootScanTimeReported) {
+					rootScanTime += threadTotal - gcEnv->_rootScanTimeReported;
+				} else {
+					rootScanTime += threadTotal;
+				}
+				gcEnv->_rootScanTimeReported = threadTotal;
+			}
+		}
+		OMRPORT_ACCESS_FROM_OMRVMTHREAD(omrVMThread);
+		stats->rootScanTime = omrtime_hires_delta(0, rootScanTime, OMRPORT_TIME_DELTA_IN_NANOSECONDS);
+	} else {
+		extensions->rootScannerStatsEnabled = true;
+	}
+}
+
 J9HookInterface**
 j9gc_get_private_hook_interface(J9JavaVM *javaVM)
 {
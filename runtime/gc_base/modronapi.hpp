@@ -93,6 +93,7 @@ void j9gc_set_allocation_sampling_interval(J9VMThread *vmThread, UDATA samplingI
 void j9gc_set_allocation_threshold(J9VMThread *vmThread, UDATA low, UDATA high);
 UDATA j9gc_get_bytes_allocated_by_thread(J9VMThread *vmThread);
 void j9gc_get_CPU_times(J9JavaVM *javaVM, U_64 *masterCpuMillis, U_64 *slaveCpuMillis, U_32 *maxThreads, U_32 *currentThreads);
+void j9gc_get_cycle_phase_statistics(OMR_VMThread *omrVMThread, J9GCPhaseStatistics *stats, BOOLEAN timeRootScanning);
 J9HookInterface** j9gc_get_private_hook_interface(J9JavaVM *javaVM);
 /**
  * Called whenever a ownable synchronizer object is created. Places the object on the thread-specific buffer of recently allocated ownable synchronizer objects.
@@ -147,6 +147,11 @@ public:
 			extensions->stringTable->kill(env);
 			extensions->stringTable = NULL;
 		}
+
+		if (NULL != extensions->stringDeduplicationTable) {
+			extensions->stringDeduplicationTable->kill(env);
+			extensions->stringDeduplicationTable = NULL;
+		}
 	}
 
 	OMR_SizeClasses *getSegregatedSizeClasses(MM_EnvironmentBase* env)
@@ -51,6 +51,7 @@ public:
 	MM_ReferenceObjectBuffer *_referenceObjectBuffer; /**< The thread-specific buffer of recently discovered reference objects */
 	MM_UnfinalizedObjectBuffer *_unfinalizedObjectBuffer; /**< The thread-specific buffer of recently allocated unfinalized objects */
 	MM_OwnableSynchronizerObjectBuffer *_ownableSynchronizerObjectBuffer; /**< The thread-specific buffer of recently allocated ownable synchronizer objects */
+	U_64 _rootScanTimeReported; /**< Root scanner time of this thread already attributed to a collection by j9gc_get_cycle_phase_statistics() */
 
 	/* Function members */
 private:
@@ -60,6 +61,7 @@ public:
 		:_referenceObjectBuffer(NULL)
 		,_unfinalizedObjectBuffer(NULL)
 		,_ownableSynchronizerObjectBuffer(NULL)
+		,_rootScanTimeReported(0)
 	{}
 };
 
@@ -101,6 +101,7 @@
 #include "SlotObject.hpp"
 #include "StandardAccessBarrier.hpp"
 #include "SublistFragment.hpp"
+#include "StringDeduplicationTable.hpp"
 #include "StringTable.hpp"
 #include "Task.hpp"
 #include "UnfinalizedObjectBuffer.hpp"
@@ -220,6 +221,10 @@ MM_ScavengerDelegate::mergeGCStats_mergeLangStats(MM_EnvironmentBase * envBase)
 	finalGCJavaStats->_ownableSynchronizerTotalSurvived += scavJavaStats->_ownableSynchronizerTotalSurvived;
 	finalGCJavaStats->_ownableSynchronizerNurserySurvived += scavJavaStats->_ownableSynchronizerNurserySurvived;
 
+	finalGCJavaStats->_stringDeduplicationCandidates += scavJavaStats->_stringDeduplicationCandidates;
+	finalGCJavaStats->_stringDeduplicationDeduplicated += scavJavaStats->_stringDeduplicationDeduplicated;
+	finalGCJavaStats->_stringDeduplicationBytesSaved += scavJavaStats->_stringDeduplicationBytesSaved;
+
 	finalGCJavaStats->_weakReferenceStats.merge(&scavJavaStats->_weakReferenceStats);
 	finalGCJavaStats->_softReferenceStats.merge(&scavJavaStats->_softReferenceStats);
 	finalGCJavaStats->_phantomReferenceStats.merge(&scavJavaStats->_phantomReferenceStats);
@@ -289,6 +294,15 @@ MM_ScavengerDelegate::getObjectScanner(MM_EnvironmentStandard *env, omrobjectptr
 	GC_ObjectScanner *objectScanner = NULL;
 	J9Class *clazzPtr = J9GC_J9OBJECT_CLAZZ(objectPtr, env);
 
+	if ((NULL != _extensions->stringDeduplicationTable)
+		&& GC_ObjectScanner::isHeapScan(flags)
+		&& (J9VMJAVALANGSTRING_OR_NULL(_javaVM) == clazzPtr)
+		&& !_extensions->scavenger->isObjectInNewSpace(objectPtr)
+		&& !_extensions->isScavengerBackOutFlagRaised()
+	) {
+		private_deduplicateString(env, objectPtr);
+	}
+
 	switch(_extensions->objectModel.getScanType(clazzPtr)) {
 	case GC_ObjectModel::SCAN_MIXED_OBJECT_LINKED:
 		_extensions->scavenger->deepScan(env, objectPtr, clazzPtr->selfReferencingField1, clazzPtr->selfReferencingField2);
@@ -389,6 +403,35 @@ void MM_ScavengerDelegate::flushReferenceObjects(MM_EnvironmentStandard *env)
 	env->getGCEnvironment()->_referenceObjectBuffer->flush(env);
 }
 
+void
+MM_ScavengerDelegate::private_deduplicateString(MM_EnvironmentStandard *env, omrobjectptr_t stringObject)
+{
+	GC_SlotObject valueSlot(_omrVM, J9GC_J9VMJAVALANGSTRING_VALUE_ADDRESS(env, stringObject));
+
+	/* copy the value first, so that only arrays that have reached their final location are put in the table */
+	_extensions->scavenger->copyObjectSlot(env, &valueSlot);
+
+	omrobjectptr_t value = valueSlot.readReferenceFromSlot();
+	if ((NULL != value) && !_extensions->scavenger->isObjectInNewSpace(value)) {
+		MM_ScavengerJavaStats *javaStats = &env->getGCEnvironment()->_scavengerJavaStats;
+		UDATA duplicateSize = 0;
+
+		javaStats->_stringDeduplicationCandidates += 1;
+		J9IndexableObject *canonical = _extensions->stringDeduplicationTable->deduplicate(env, (J9IndexableObject *)value, &duplicateSize);
+		if (NULL != canonical) {
+			valueSlot.writeReferenceToSlot((omrobjectptr_t)canonical);
+#if defined(OMR_GC_MODRON_CONCURRENT_MARK)
+			if (_extensions->concurrentMark) {
+				/* the String may already have been traced by the concurrent collector */
+				J9ConcurrentWriteBarrierStore(env->getOmrVMThread(), stringObject, (omrobjectptr_t)canonical);
+			}
+#endif /* OMR_GC_MODRON_CONCURRENT_MARK */
+			javaStats->_stringDeduplicationDeduplicated += 1;
+			javaStats->_stringDeduplicationBytesSaved += duplicateSize;
+		}
+	}
+}
+
 bool
 MM_ScavengerDelegate::scavengeIndirectObjectSlots(MM_EnvironmentStandard *env, omrobjectptr_t objectPtr)
 {
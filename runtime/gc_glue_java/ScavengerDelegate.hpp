@@ -92,6 +92,13 @@ private:
 	void private_addOwnableSynchronizerObjectInList(MM_EnvironmentStandard *env, omrobjectptr_t object);
 	void private_setupForOwnableSynchronizerProcessing(MM_EnvironmentStandard *env);
 
+	/**
+	 * Copy the value array of a tenured String and replace it with an equal canonical array
+	 * from the String deduplication table, if there is one.
+	 * @param stringObject a String object that is not in new space
+	 */
+	void private_deduplicateString(MM_EnvironmentStandard *env, omrobjectptr_t stringObject);
+
 	/*
 	 * Scavenger Collector, Private
 	 */
@@ -102,6 +102,7 @@
 #include "RememberedSetSATB.hpp"
 #endif /* J9VM_GC_REALTIME */
 #include "Scavenger.hpp"
+#include "StringDeduplicationTable.hpp"
 #include "StringTable.hpp"
 #include "Validator.hpp"
 #if defined(J9VM_GC_IDLE_HEAP_MANAGER)
@@ -289,6 +290,7 @@ gcCleanupHeapStructures(J9JavaVM * vm)
 	}
 
 #if defined(J9VM_GC_FINALIZATION)
+	finalizeHelperPoolTearDown(vm);
 	if (extensions->finalizeListManager) {
 		extensions->finalizeListManager->kill(&env);
 		extensions->finalizeListManager = NULL;
@@ -475,6 +477,21 @@ j9gc_initialize_heap(J9JavaVM *vm, IDATA *memoryParameterTable, UDATA heapBytesR
 		goto error_no_memory;
 	}
 
+	/* Strings are only deduplicated by the stop-the-world copying collectors, as they age */
+	if (extensions->stringDeduplication) {
+		if ((extensions->scavengerEnabled || extensions->isVLHGC())
+			&& !extensions->isConcurrentScavengerEnabled()
+			&& !extensions->configuration->isSnapshotAtTheBeginningBarrierEnabled()
+		) {
+			extensions->stringDeduplicationTable = MM_StringDeduplicationTable::newInstance(&env, extensions->stringDeduplicationTableSize);
+			if (NULL == extensions->stringDeduplicationTable) {
+				goto error_no_memory;
+			}
+		} else {
+			j9nls_printf(PORTLIB, J9NLS_WARNING, J9NLS_GC_OPTIONS_STRING_DEDUPLICATION_NOT_SUPPORTED_WARN);
+		}
+	}
+
 	/* Initialize statistic locks */
 	if (omrthread_monitor_init_with_name(&extensions->gcStatsMutex, 0, "MM_GCExtensions::gcStats")) {
 		loadInfo->fatalErrorStr = (char *)j9nls_lookup_message(J9NLS_DO_NOT_PRINT_MESSAGE_TAG | J9NLS_DO_NOT_APPEND_NEWLINE, J9NLS_GC_FAILED_TO_INITIALIZE_MUTEX, "Failed to initialize mutex for GC statistics.");
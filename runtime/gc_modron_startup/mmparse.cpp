@@ -1247,6 +1247,19 @@ gcParseXXArguments(J9JavaVM *vm)
 		}
 	}
 
+	{
+		IDATA useStringDeduplicationIndex = FIND_ARG_IN_VMARGS(EXACT_MATCH, "-XX:+UseStringDeduplication", NULL);
+		IDATA noUseStringDeduplicationIndex = FIND_ARG_IN_VMARGS(EXACT_MATCH, "-XX:-UseStringDeduplication", NULL);
+		if (useStringDeduplicationIndex != noUseStringDeduplicationIndex) {
+			/* At least one option is set. Find the right most one. */
+			if (useStringDeduplicationIndex > noUseStringDeduplicationIndex) {
+				extensions->stringDeduplication = true;
+			} else {
+				extensions->stringDeduplication = false;
+			}
+		}
+	}
+
 	return 1;
 }
 
@@ -1279,6 +1279,38 @@ gcParseXXgcArguments(J9JavaVM *vm, char *optArg)
 			continue;
 		}
 
+		if (try_scan(&scan_start, "stringTableMaxTableCount=")) {
+			if(!scan_udata_helper(vm, &scan_start, &(extensions->stringTableMaxTableCount), "stringTableMaxTableCount=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "stringTableContentionThreshold=")) {
+			if(!scan_udata_helper(vm, &scan_start, &(extensions->stringTableContentionThreshold), "stringTableContentionThreshold=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if(extensions->stringTableContentionThreshold > 100) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "stringDeduplicationTableSize=")) {
+			if(!scan_udata_helper(vm, &scan_start, &(extensions->stringDeduplicationTableSize), "stringDeduplicationTableSize=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if(0 == extensions->stringDeduplicationTableSize) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
 		if (try_scan(&scan_start, "objectListFragmentCount=")) {
 			if(!scan_udata_helper(vm, &scan_start, &(extensions->objectListFragmentCount), "objectListFragmentCount=")) {
 				returnValue = JNI_EINVAL;
@@ -1289,6 +1289,37 @@ gcParseXgcArguments(J9JavaVM *vm, char *optArg)
 			}
 			continue;
 		}
+		if (try_scan(&scan_start, "finalizeMaxHelperThreads=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->finalizeMaxHelperThreads, "finalizeMaxHelperThreads=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+		if (try_scan(&scan_start, "finalizeHelperQueueDepth=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->finalizeHelperQueueDepth, "finalizeHelperQueueDepth=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if(0 == extensions->finalizeHelperQueueDepth) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "finalizeHelperQueueDepth=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+		if (try_scan(&scan_start, "finalizeHelperIdleTimeout=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->finalizeHelperIdleTimeout, "finalizeHelperIdleTimeout=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if(0 == extensions->finalizeHelperIdleTimeout) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "finalizeHelperIdleTimeout=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
 #endif /* J9VM_GC_FINALIZATION */
 
 #if defined(J9MODRON_USE_CUSTOM_SPINLOCKS)
@@ -64,6 +64,10 @@ public:
 	UDATA _stringConstantsCleared;  /**< The number of string constants that have been cleared during marking */
 	UDATA _stringConstantsCandidates; /**< The number of string constants that have been visited in string table during marking */
 
+	UDATA _stringDeduplicationCandidates; /**< number of aged Strings whose value array was looked up in the String deduplication table */
+	UDATA _stringDeduplicationDeduplicated; /**< number of aged Strings given an equal canonical value array */
+	UDATA _stringDeduplicationBytesSaved; /**< size of the value arrays no longer referenced by the deduplicated Strings */
+
 #if defined(J9VM_GC_ENABLE_DOUBLE_MAP)
 	UDATA _doubleMappedArrayletsCleared; /**< The number of double mapped arraylets that have been cleared durign marking */
 	UDATA _doubleMappedArrayletsCandidates; /**< The number of double mapped arraylets that have been visited during marking */
@@ -93,6 +97,10 @@ public:
 		_stringConstantsCleared = 0;
 		_stringConstantsCandidates = 0;
 
+		_stringDeduplicationCandidates = 0;
+		_stringDeduplicationDeduplicated = 0;
+		_stringDeduplicationBytesSaved = 0;
+
 #if defined(J9VM_GC_ENABLE_DOUBLE_MAP)
 		_doubleMappedArrayletsCleared = 0;
 		_doubleMappedArrayletsCandidates = 0;
@@ -117,6 +125,10 @@ public:
 		_stringConstantsCleared += stats->_stringConstantsCleared;
 		_stringConstantsCandidates += stats->_stringConstantsCandidates;
 
+		_stringDeduplicationCandidates += stats->_stringDeduplicationCandidates;
+		_stringDeduplicationDeduplicated += stats->_stringDeduplicationDeduplicated;
+		_stringDeduplicationBytesSaved += stats->_stringDeduplicationBytesSaved;
+
 #if defined(J9VM_GC_ENABLE_DOUBLE_MAP)
 		_doubleMappedArrayletsCleared += stats->_doubleMappedArrayletsCleared;
 		_doubleMappedArrayletsCandidates += stats->_doubleMappedArrayletsCandidates;
@@ -134,6 +146,9 @@ public:
 		, _phantomReferenceStats()
 		, _stringConstantsCleared(0)
 		, _stringConstantsCandidates(0)
+		, _stringDeduplicationCandidates(0)
+		, _stringDeduplicationDeduplicated(0)
+		, _stringDeduplicationBytesSaved(0)
 #if defined(J9VM_GC_ENABLE_DOUBLE_MAP)
 		, _doubleMappedArrayletsCleared(0)
 		, _doubleMappedArrayletsCandidates(0)
@@ -29,6 +29,9 @@ MM_ScavengerJavaStats::MM_ScavengerJavaStats() :
 	,_ownableSynchronizerCandidates(0)
 	,_ownableSynchronizerTotalSurvived(0)
 	,_ownableSynchronizerNurserySurvived(0)
+	,_stringDeduplicationCandidates(0)
+	,_stringDeduplicationDeduplicated(0)
+	,_stringDeduplicationBytesSaved(0)
 	,_weakReferenceStats()
 	,_softReferenceStats()
 	,_phantomReferenceStats()
@@ -45,6 +48,10 @@ MM_ScavengerJavaStats::clear()
 	_ownableSynchronizerTotalSurvived = 0;
 	_ownableSynchronizerNurserySurvived = 0;
 
+	_stringDeduplicationCandidates = 0;
+	_stringDeduplicationDeduplicated = 0;
+	_stringDeduplicationBytesSaved = 0;
+
 	_weakReferenceStats.clear();
 	_softReferenceStats.clear();
 	_phantomReferenceStats.clear();
@@ -54,6 +54,10 @@ public:
 	UDATA _ownableSynchronizerTotalSurvived;	/**< number of ownable synchronizer objects survived this cycle */
 	UDATA _ownableSynchronizerNurserySurvived; /**< number of ownable synchronizer objects survived this cycle in Nursery Space */
 
+	UDATA _stringDeduplicationCandidates; /**< number of tenured Strings whose value array was looked up in the String deduplication table this cycle */
+	UDATA _stringDeduplicationDeduplicated; /**< number of tenured Strings given an equal canonical value array this cycle */
+	UDATA _stringDeduplicationBytesSaved; /**< size of the value arrays no longer referenced by the deduplicated Strings */
+
 	MM_ReferenceStats _weakReferenceStats;  /**< Weak reference stats for the cycle */
 	MM_ReferenceStats _softReferenceStats;  /**< Soft reference stats for the cycle */
 	MM_ReferenceStats _phantomReferenceStats;  /**< Phantom reference stats for the cycle */
@@ -133,6 +133,14 @@ MM_VerboseHandlerOutputStandardJava::outputOwnableSynchronizerInfo(MM_Environmen
 	}
 }
 
+void
+MM_VerboseHandlerOutputStandardJava::outputStringDeduplicationInfo(MM_EnvironmentBase *env, UDATA indent, UDATA candidates, UDATA deduplicated, UDATA bytesSaved)
+{
+	if (0 != candidates) {
+		_manager->getWriterChain()->formatAndOutput(env, indent, "<stringDeduplication candidates=\"%zu\" deduplicated=\"%zu\" bytesSaved=\"%zu\" />", candidates, deduplicated, bytesSaved);
+	}
+}
+
 void
 MM_VerboseHandlerOutputStandardJava::outputReferenceInfo(MM_EnvironmentBase *env, UDATA indent, const char *referenceType, MM_ReferenceStats *referenceStats, UDATA dynamicThreshold, UDATA maxThreshold)
 {
@@ -243,6 +251,8 @@ MM_VerboseHandlerOutputStandardJava::handleScavengeEndInternal(MM_EnvironmentBas
 		outputReferenceInfo(env, 1, "soft", &scavengerJavaStats->_softReferenceStats, extensions->getDynamicMaxSoftReferenceAge(), extensions->getMaxSoftReferenceAge());
 		outputReferenceInfo(env, 1, "weak", &scavengerJavaStats->_weakReferenceStats, 0, 0);
 		outputReferenceInfo(env, 1, "phantom", &scavengerJavaStats->_phantomReferenceStats, 0, 0);
+
+		outputStringDeduplicationInfo(env, 1, scavengerJavaStats->_stringDeduplicationCandidates, scavengerJavaStats->_stringDeduplicationDeduplicated, scavengerJavaStats->_stringDeduplicationBytesSaved);
 	}
 }
 #endif /*defined(J9VM_GC_MODRON_SCAVENGER) */
@@ -273,6 +273,14 @@ MM_VerboseHandlerOutputVLHGC::outputOwnableSynchronizerInfo(MM_EnvironmentBase *
 	}
 }
 
+void
+MM_VerboseHandlerOutputVLHGC::outputStringDeduplicationInfo(MM_EnvironmentBase *env, UDATA indent, UDATA candidates, UDATA deduplicated, UDATA bytesSaved)
+{
+	if (0 != candidates) {
+		_manager->getWriterChain()->formatAndOutput(env, indent, "<stringDeduplication candidates=\"%zu\" deduplicated=\"%zu\" bytesSaved=\"%zu\" />", candidates, deduplicated, bytesSaved);
+	}
+}
+
 void
 MM_VerboseHandlerOutputVLHGC::outputReferenceInfo(MM_EnvironmentBase *env, UDATA indent, const char *referenceType, MM_ReferenceStats *referenceStats, UDATA dynamicThreshold, UDATA maxThreshold)
 {
@@ -418,6 +426,7 @@ MM_VerboseHandlerOutputVLHGC::handleCopyForwardEnd(J9HookInterface** hook, UDATA
 	outputReferenceInfo(env, 1, "phantom", &copyForwardStats->_phantomReferenceStats, 0, 0);
 
 	outputStringConstantInfo(env, 1, copyForwardStats->_stringConstantsCandidates, copyForwardStats->_stringConstantsCleared);
+	outputStringDeduplicationInfo(env, 1, copyForwardStats->_stringDeduplicationCandidates, copyForwardStats->_stringDeduplicationDeduplicated, copyForwardStats->_stringDeduplicationBytesSaved);
 
 	if(0 != copyForwardStats->_heapExpandedCount) {
 		U_64 expansionMicros = j9time_hires_delta(0, copyForwardStats->_heapExpandedTime, J9PORT_TIME_DELTA_IN_MICROSECONDS);
@@ -75,6 +75,16 @@ private:
 	 */
 	void outputReferenceInfo(MM_EnvironmentBase *env, UDATA indent, const char *referenceType, MM_ReferenceStats *referenceStats, UDATA dynamicThreshold, UDATA maxThreshold);
 
+	/**
+	 * Output String deduplication summary.
+	 * @param env GC thread used for output.
+	 * @param indent base level of indentation for the summary.
+	 * @param candidates number of Strings looked up in the deduplication table.
+	 * @param deduplicated number of Strings given a canonical value array.
+	 * @param bytesSaved size of the value arrays no longer referenced.
+	 */
+	void outputStringDeduplicationInfo(MM_EnvironmentBase *env, UDATA indent, UDATA candidates, UDATA deduplicated, UDATA bytesSaved);
+
 	/**
 	 * Output a mark gc operation summary stanza.
 	 * @param env GC thread performing output.
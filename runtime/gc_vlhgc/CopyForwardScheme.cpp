@@ -90,6 +90,7 @@
 #include "ScavengerForwardedHeader.hpp"
 #include "SlotObject.hpp"
 #include "StackSlotValidator.hpp"
+#include "StringDeduplicationTable.hpp"
 #include "SublistFragment.hpp"
 #include "SublistIterator.hpp"
 #include "SublistPool.hpp"
@@ -1428,6 +1429,11 @@ MM_CopyForwardScheme::masterSetupForCopyForward(MM_EnvironmentVLHGC *env)
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 	_collectStringConstantsEnabled = _extensions->collectStringConstants;
 
+	/* canonical String value arrays may be moved by this cycle */
+	if (NULL != _extensions->stringDeduplicationTable) {
+		_extensions->stringDeduplicationTable->clear();
+	}
+
 	/* ensure heap base is aligned to region size */
 	UDATA heapBase = (UDATA)_extensions->heap->getHeapBase();
 	UDATA regionSize = _regionManager->getRegionSize();
@@ -2299,9 +2305,47 @@ MM_CopyForwardScheme::scanMixedObjectSlots(MM_EnvironmentVLHGC *env, MM_Allocati
 		success = iterateAndCopyforwardSlotReference(env, reservingContext, objectPtr);
 	}
 
+	if (success
+		&& (SCAN_REASON_COPYSCANCACHE == reason)
+		&& (NULL != _extensions->stringDeduplicationTable)
+		&& (J9VMJAVALANGSTRING_OR_NULL(_javaVM) == J9GC_J9OBJECT_CLAZZ(objectPtr, env))
+	) {
+		deduplicateString(env, objectPtr);
+	}
+
 	updateScanStats(env, objectPtr, reason);
 }
 
+void
+MM_CopyForwardScheme::deduplicateString(MM_EnvironmentVLHGC *env, J9Object *stringObject)
+{
+	MM_HeapRegionDescriptorVLHGC *region = (MM_HeapRegionDescriptorVLHGC *)_regionManager->tableDescriptorForAddress(stringObject);
+
+	/* only Strings that have survived long enough to be likely to live on are worth comparing */
+	if (!abortFlagRaised() && (region->getLogicalAge() >= _extensions->tarokRegionMaxAge)) {
+		GC_SlotObject valueSlot(_javaVM->omrVM, J9GC_J9VMJAVALANGSTRING_VALUE_ADDRESS(env, stringObject));
+		J9Object *value = valueSlot.readReferenceFromSlot();
+
+		if (NULL != value) {
+			UDATA duplicateSize = 0;
+
+			env->_copyForwardStats._stringDeduplicationCandidates += 1;
+			/* the value has been copied already, so it will not move again before the table is cleared */
+			J9IndexableObject *canonical = _extensions->stringDeduplicationTable->deduplicate(env, (J9IndexableObject *)value, &duplicateSize);
+			if (NULL != canonical) {
+				valueSlot.writeReferenceToSlot((J9Object *)canonical);
+				_interRegionRememberedSet->rememberReferenceForCopyForward(env, stringObject, (J9Object *)canonical);
+				if (NULL != env->_cycleState->_externalCycleState) {
+					/* the global mark phase in progress must see the new reference */
+					_extensions->cardTable->dirtyCardWithValue(env, stringObject, CARD_GMP_MUST_SCAN);
+				}
+				env->_copyForwardStats._stringDeduplicationDeduplicated += 1;
+				env->_copyForwardStats._stringDeduplicationBytesSaved += duplicateSize;
+			}
+		}
+	}
+}
+
 void
 MM_CopyForwardScheme::scanReferenceObjectSlots(MM_EnvironmentVLHGC *env, MM_AllocationContextTarok *reservingContext, J9Object *objectPtr, ScanReason reason)
 {
@@ -318,6 +318,14 @@ private:
 	 * @param reason to scan (dirty card, packet, scan cache, overflow)
 	 */
 	void scanMixedObjectSlots(MM_EnvironmentVLHGC *env, MM_AllocationContextTarok *reservingContext, J9Object *objectPtr, ScanReason reason);
+
+	/**
+	 * Replace the value array of an aged String with an equal canonical array from the String deduplication table, if there is one.
+	 * The value slot must already have been copied and forwarded.
+	 * @param env current GC thread.
+	 * @param stringObject String object that has just been copied.
+	 */
+	void deduplicateString(MM_EnvironmentVLHGC *env, J9Object *stringObject);
 	/**
 	 * Scan the slots of a reference mixed object.
 	 * Copy and forward all relevant slots values found in the object.
@@ -78,7 +78,7 @@ stackFrameFilter(J9VMThread * currentThread, J9StackWalkState * walkState)
 }
 
 jobject JNICALL
-Java_java_lang_StackWalker_walkWrapperImpl(JNIEnv *env, jclass clazz, jint flags, jstring stackWalkerMethod, jobject function)
+Java_java_lang_StackWalker_walkWrapperImpl(JNIEnv *env, jclass clazz, jint flags, jstring stackWalkerMethod, jobject function, jint batchSize)
 {
 	J9VMThread *vmThread = (J9VMThread *) env;
 	J9JavaVM *vm = vmThread->javaVM;
@@ -110,11 +110,11 @@ Java_java_lang_StackWalker_walkWrapperImpl(JNIEnv *env, jclass clazz, jint flags
 
 	jmethodID walkImplMID = JCL_CACHE_GET(env, MID_java_lang_StackWalker_walkWrapperImpl);
 	if (NULL == walkImplMID) {
-		walkImplMID = env->GetStaticMethodID( clazz, "walkImpl", "(Ljava/util/function/Function;J)Ljava/lang/Object;");
+		walkImplMID = env->GetStaticMethodID( clazz, "walkImpl", "(Ljava/util/function/Function;JI)Ljava/lang/Object;");
 		Assert_JCL_notNull (walkImplMID);
 		JCL_CACHE_SET(env, MID_java_lang_StackWalker_walkWrapperImpl, walkImplMID);
 	}
-	jobject result = env->CallStaticObjectMethod(clazz, walkImplMID, function, (jlong)(UDATA)walkState);
+	jobject result = env->CallStaticObjectMethod(clazz, walkImplMID, function, (jlong)(UDATA)walkState, batchSize);
 
 	if (NULL != walkerMethodChars) {
 		env->ReleaseStringUTFChars(stackWalkerMethod, walkerMethodChars);
@@ -135,121 +135,184 @@ utfToStringObject(JNIEnv *env, J9UTF8 *utf, UDATA flags) {
 	return result;
 }
 
-jobject JNICALL
-Java_java_lang_StackWalker_getImpl(JNIEnv *env, jobject clazz, jlong walkStateP)
+/**
+ * Create a StackFrameImpl for the current frame of the walk. Only the fields that are cheap to
+ * find are filled in, the method name, signature and line number are left for resolveFrameImpl().
+ * @param env
+ * @param walkState the walk, positioned on a frame
+ * @return the frame, or NULL if an exception is pending
+ * @note Assumes VM access
+ */
+static j9object_t
+createStackFrame(JNIEnv *env, J9StackWalkState *walkState)
 {
 	J9VMThread *vmThread = (J9VMThread *) env;
 	J9JavaVM *vm = vmThread->javaVM;
 	J9InternalVMFunctions *vmFuncs = vm->internalVMFunctions;
-	J9StackWalkState *walkState = (J9StackWalkState *) ((UDATA) walkStateP);
-	jobject result = NULL;
+	J9Class *ramClass = J9_CLASS_FROM_METHOD(walkState->method);
+	J9ROMClass *romClass = ramClass->romClass;
+	J9ClassLoader* classLoader = ramClass->classLoader;
+	j9object_t frame = NULL;
+
+	J9Class * frameClass = J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_OR_NULL(vm);
+	frame = vm->memoryManagerFunctions->J9AllocateObject(vmThread, frameClass, J9_GC_ALLOCATE_OBJECT_NON_INSTRUMENTABLE);
+	if (NULL == frame) {
+		vmFuncs->setHeapOutOfMemoryError(vmThread);
+		return NULL;
+	}
+	PUSH_OBJECT_IN_SPECIAL_FRAME(vmThread, frame);
 
-	enterVMFromJNI(vmThread);
+	/* set the class object if requested */
+	j9object_t classObject = J9VM_J9CLASS_TO_HEAPCLASS(ramClass);
+	if (J9_ARE_ANY_BITS_SET((UDATA) walkState->userData1, RETAIN_CLASS_REFERENCE)) {
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_DECLARINGCLASS(vmThread, frame, classObject);
+	}
+	/* Keep the method that is running in the frame, rather than the current version of the method if
+	 * the class is redefined later. The class object keeps the class loader, and so the method, alive
+	 * until the frame is resolved.
+	 */
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODCLASS(vmThread, frame, classObject);
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODREF(vmThread, frame, walkState->method);
+
+	/* set bytecode index */
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_BYTECODEINDEX(vmThread, frame, (U_32) walkState->bytecodePCOffset);
 
-	if (J9_ARE_NO_BITS_SET((UDATA) (walkState->userData1), FRAME_VALID)) {
-		/* skip over the current frame */
-		walkState->userData1 = (void *) ((UDATA)walkState->userData1 & FRAME_FILTER_MASK);
-		if (J9_STACKWALK_RC_NONE != vm->walkStackFrames(vmThread, walkState)) {
-			vmFuncs->setNativeOutOfMemoryError(vmThread, 0, 0);
-			goto _done;
+	j9object_t stringObject = J9VMJAVALANGCLASSLOADER_CLASSLOADERNAME(vmThread, classLoader->classLoaderObject);
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CLASSLOADERNAME(vmThread, frame, stringObject);
+
+	J9Module *module = ramClass->module;
+	if (NULL != module) {
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_FRAMEMODULE(vmThread, frame, module->moduleObject);
+	}
+
+	stringObject = J9VMJAVALANGCLASS_CLASSNAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass));
+	if (stringObject == NULL) {
+		UDATA flags = J9_STR_XLAT;
+		if (J9_ARE_ALL_BITS_SET(romClass->extraModifiers, J9AccClassAnonClass)) {
+			flags |= J9_STR_ANON_CLASS_NAME;
+		}
+		J9UTF8 *nameUTF = J9ROMCLASS_CLASSNAME(romClass);
+		stringObject = utfToStringObject(env, nameUTF, flags);
+		if (VM_VMHelpers::exceptionPending(vmThread)) {
+			goto _pop_frame;
 		}
+		/* Class name was interned so it's safe to write it back to the Class Object */
+		Assert_JCL_false(J9CLASS_IS_ARRAY(ramClass));
+		J9VMJAVALANGCLASS_SET_CLASSNAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass), stringObject);
 	}
-	/* clear the valid bit */
-	walkState->userData1 = (void *) (((UDATA) walkState->userData1 & FRAME_FILTER_MASK));
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CLASSNAME(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
 
-	if (J9SF_FRAME_TYPE_END_OF_STACK != walkState->pc) {
-		J9Class * frameClass = J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_OR_NULL(vm);
-		j9object_t frame = vm->memoryManagerFunctions->J9AllocateObject(vmThread, frameClass, J9_GC_ALLOCATE_OBJECT_NON_INSTRUMENTABLE);
-		if (NULL == frame) {
-			vmFuncs->setHeapOutOfMemoryError(vmThread);
-		} else {
-			J9ROMMethod *romMethod = getOriginalROMMethod(walkState->method);
-			J9Class *ramClass = J9_CLASS_FROM_METHOD(walkState->method);
-			J9ROMClass *romClass = ramClass->romClass;
-			J9ClassLoader* classLoader = ramClass->classLoader;
-
-			result = vmFuncs->j9jni_createLocalRef(env, frame);
-			UDATA bytecodeOffset = walkState->bytecodePCOffset;  /* need this for StackFrame */
-			UDATA lineNumber = getLineNumberForROMClassFromROMMethod(vm, romMethod, romClass, classLoader, bytecodeOffset);
-			PUSH_OBJECT_IN_SPECIAL_FRAME(vmThread, frame);
-
-			/* set the class object if requested */
-			if (J9_ARE_ANY_BITS_SET((UDATA) walkState->userData1, RETAIN_CLASS_REFERENCE)) {
-				j9object_t classObject = J9VM_J9CLASS_TO_HEAPCLASS(ramClass);
-				J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_DECLARINGCLASS(vmThread, frame, classObject);
-			}
+	/* the Class object only caches the file name of the current version of the class */
+	stringObject = NULL;
+	if (!J9_IS_CLASS_OBSOLETE(ramClass)) {
+		stringObject = J9VMJAVALANGCLASS_FILENAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass));
+	}
+	if (stringObject == NULL) {
+		stringObject = utfToStringObject(env, getSourceFileNameForROMClass(vm, classLoader, romClass), J9_STR_INTERN);
+		if (VM_VMHelpers::exceptionPending(vmThread)) {
+			goto _pop_frame;
+		}
+		if (!J9_IS_CLASS_OBSOLETE(ramClass)) {
+			/* Update the cached fileNameString on the class so subsequent calls will find it */
+			J9VMJAVALANGCLASS_SET_FILENAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass), stringObject);
+		}
+	}
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_FILENAME(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
 
-			/* set bytecode index */
-			J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_BYTECODEINDEX(vmThread, frame, (U_32) bytecodeOffset);
+	if (J9ROMMETHOD_IS_CALLER_SENSITIVE(getOriginalROMMethod(walkState->method))) {
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CALLERSENSITIVE(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), TRUE);
+	}
 
-			/* Fill in line number - Java wants -2 for natives, -1 for no line number (which will be 0 coming in from the iterator) */
+_pop_frame:
+	frame = POP_OBJECT_IN_SPECIAL_FRAME(vmThread);
 
-			if (J9_ARE_ANY_BITS_SET(romMethod->modifiers, J9AccNative)) {
-				lineNumber = -2;
-			} else if (lineNumber == 0) {
-				lineNumber = -1;
-			}
-			J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_LINENUMBER(vmThread, frame, (I_32) lineNumber);
+	return VM_VMHelpers::exceptionPending(vmThread) ? NULL : frame;
+}
 
-			j9object_t stringObject = J9VMJAVALANGCLASSLOADER_CLASSLOADERNAME(vmThread, classLoader->classLoaderObject);
-			J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CLASSLOADERNAME(vmThread, frame, stringObject);
+jint JNICALL
+Java_java_lang_StackWalker_getBatchImpl(JNIEnv *env, jclass clazz, jlong walkStateP, jobjectArray frames)
+{
+	J9VMThread *vmThread = (J9VMThread *) env;
+	J9JavaVM *vm = vmThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = vm->internalVMFunctions;
+	J9StackWalkState *walkState = (J9StackWalkState *) ((UDATA) walkStateP);
+	jint count = 0;
 
-			J9Module *module = ramClass->module;
-			if (NULL != module) {
-				J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_FRAMEMODULE(vmThread, frame, module->moduleObject);
-			}
+	enterVMFromJNI(vmThread);
 
-			stringObject = J9VMJAVALANGCLASS_CLASSNAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass));
-			if (stringObject == NULL) {
-				UDATA flags = J9_STR_XLAT;
-				if (J9_ARE_ALL_BITS_SET(romClass->extraModifiers, J9AccClassAnonClass)) {
-					flags |= J9_STR_ANON_CLASS_NAME;
-				}
-				J9UTF8 *nameUTF = J9ROMCLASS_CLASSNAME(romClass);
-				stringObject = utfToStringObject(env, nameUTF, flags);
-				if (VM_VMHelpers::exceptionPending(vmThread)) {
-					goto _pop_frame;
-				}
-				/* Class name was interned so it's safe to write it back to the Class Object */
-				Assert_JCL_false(J9CLASS_IS_ARRAY(ramClass));
-				J9VMJAVALANGCLASS_SET_CLASSNAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass), stringObject);
+	jint maxCount = (jint) J9INDEXABLEOBJECT_SIZE(vmThread, J9_JNI_UNWRAP_REFERENCE(frames));
+	while (count < maxCount) {
+		if (J9_ARE_NO_BITS_SET((UDATA) (walkState->userData1), FRAME_VALID)) {
+			/* skip over the current frame */
+			walkState->userData1 = (void *) ((UDATA)walkState->userData1 & FRAME_FILTER_MASK);
+			if (J9_STACKWALK_RC_NONE != vm->walkStackFrames(vmThread, walkState)) {
+				vmFuncs->setNativeOutOfMemoryError(vmThread, 0, 0);
+				break;
 			}
-			J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CLASSNAME(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
+		}
+		/* clear the valid bit */
+		walkState->userData1 = (void *) (((UDATA) walkState->userData1 & FRAME_FILTER_MASK));
 
-			stringObject = utfToStringObject(env, J9ROMMETHOD_NAME(romMethod), J9_STR_INTERN);
-			if (VM_VMHelpers::exceptionPending(vmThread)) {
-				goto _pop_frame;
-			}
-			J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODNAME(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
+		if (J9SF_FRAME_TYPE_END_OF_STACK == walkState->pc) {
+			break;
+		}
+		j9object_t frame = createStackFrame(env, walkState);
+		if (NULL == frame) {
+			/* exception is pending from the call */
+			break;
+		}
+		J9JAVAARRAYOFOBJECT_STORE(vmThread, J9_JNI_UNWRAP_REFERENCE(frames), count, frame);
+		count += 1;
+	}
 
-			stringObject = utfToStringObject(env, J9ROMMETHOD_SIGNATURE(romMethod), J9_STR_INTERN);
-			if (VM_VMHelpers::exceptionPending(vmThread)) {
-				goto _pop_frame;
-			}
-			J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODSIGNATURE(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
-
-			stringObject = J9VMJAVALANGCLASS_FILENAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass));
-			if (stringObject == NULL) {
-				stringObject = utfToStringObject(env, getSourceFileNameForROMClass(vm, classLoader, romClass), J9_STR_INTERN);
-				if (VM_VMHelpers::exceptionPending(vmThread)) {
-					goto _pop_frame;
-				}
-				/* Update the cached fileNameString on the class so subsequent calls will find it */
-				J9VMJAVALANGCLASS_SET_FILENAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass), stringObject);
-			}
-			J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_FILENAME(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
+	exitVMToJNI(vmThread);
 
-			if (J9ROMMETHOD_IS_CALLER_SENSITIVE(romMethod)) {
-				J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CALLERSENSITIVE(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), TRUE);
-			}
+	return count;
+}
 
-_pop_frame:
-			DROP_OBJECT_IN_SPECIAL_FRAME(vmThread);
-		}
+void JNICALL
+Java_java_lang_StackWalker_resolveFrameImpl(JNIEnv *env, jclass clazz, jobject frameRef)
+{
+	J9VMThread *vmThread = (J9VMThread *) env;
+	J9JavaVM *vm = vmThread->javaVM;
+
+	enterVMFromJNI(vmThread);
+
+	/* the frame keeps the method's class alive, so the method is still valid */
+	j9object_t frame = J9_JNI_UNWRAP_REFERENCE(frameRef);
+	J9Method *method = J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_METHODREF(vmThread, frame);
+	J9ROMMethod *romMethod = getOriginalROMMethod(method);
+	J9Class *ramClass = J9_CLASS_FROM_METHOD(method);
+	UDATA bytecodeOffset = (UDATA) J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_BYTECODEINDEX(vmThread, frame);
+	UDATA lineNumber = getLineNumberForROMClassFromROMMethod(vm, romMethod, ramClass->romClass, ramClass->classLoader, bytecodeOffset);
+	j9object_t stringObject = NULL;
+
+	/* Fill in line number - Java wants -2 for natives, -1 for no line number (which will be 0 coming in from the iterator) */
+
+	if (J9_ARE_ANY_BITS_SET(romMethod->modifiers, J9AccNative)) {
+		lineNumber = -2;
+	} else if (lineNumber == 0) {
+		lineNumber = -1;
+	}
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_LINENUMBER(vmThread, frame, (I_32) lineNumber);
+
+	stringObject = utfToStringObject(env, J9ROMMETHOD_NAME(romMethod), J9_STR_INTERN);
+	if (VM_VMHelpers::exceptionPending(vmThread)) {
+		goto _done;
+	}
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODNAME(vmThread, J9_JNI_UNWRAP_REFERENCE(frameRef), stringObject);
+
+	stringObject = utfToStringObject(env, J9ROMMETHOD_SIGNATURE(romMethod), J9_STR_INTERN);
+	if (VM_VMHelpers::exceptionPending(vmThread)) {
+		goto _done;
 	}
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODSIGNATURE(vmThread, J9_JNI_UNWRAP_REFERENCE(frameRef), stringObject);
+
+	/* the frame no longer needs the method, so stop it from keeping the class alive */
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODREF(vmThread, J9_JNI_UNWRAP_REFERENCE(frameRef), NULL);
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODCLASS(vmThread, J9_JNI_UNWRAP_REFERENCE(frameRef), NULL);
+
 _done:
 	exitVMToJNI(vmThread);
-
-	return result;
 }
 }
@@ -31,7 +31,12 @@
 #include "vm_api.h"
 #include "ut_j9jcl.h"
 
+/* number of StackTraceElements cached on each Class, must be a power of two */
+#define STACK_TRACE_ELEMENT_CACHE_SIZE 16
+
 static UDATA getStackTraceIterator(J9VMThread * vmThread, void * voidUserData, J9ROMClass * romClass, J9ROMMethod * romMethod, J9UTF8 * fileName, UDATA lineNumber, J9ClassLoader* classLoader);
+static j9object_t findCachedStackTraceElement(J9VMThread *vmThread, J9Class *clazz, J9ROMMethod *romMethod, I_32 lineNumber);
+static void cacheStackTraceElement(J9VMThread *vmThread, J9GetStackTraceUserData *userData, J9Class *clazz, J9ROMMethod *romMethod, I_32 lineNumber);
 
 /**
  * Saves enough context into the StackTraceElement to allow printing later.  For
@@ -82,6 +87,75 @@ setStackTraceElementSource(J9VMThread* vmThread, j9object_t stackTraceElement, J
 }
 
 
+/**
+ * StackTraceElements are immutable, and all their fields other than the method name and
+ * line number are determined by the declaring class. Elements are therefore shared between
+ * stack traces through a small direct mapped cache on the Class object, which is discarded
+ * along with the class. The cache is flushed when the class is redefined.
+ */
+#define STACK_TRACE_ELEMENT_CACHE_INDEX(romMethod, lineNumber) ((((UDATA)(romMethod) >> 3) ^ (UDATA)(lineNumber)) & (STACK_TRACE_ELEMENT_CACHE_SIZE - 1))
+
+/**
+ * Find the cached StackTraceElement for a method name and line number of a class.
+ * @param vmThread
+ * @param clazz The class declaring the method.
+ * @param romMethod The method.
+ * @param lineNumber The line number as stored in the StackTraceElement.
+ * @return the element, or NULL if there is none
+ * @note Assumes VM access
+ */
+static j9object_t
+findCachedStackTraceElement(J9VMThread *vmThread, J9Class *clazz, J9ROMMethod *romMethod, I_32 lineNumber)
+{
+	j9object_t element = NULL;
+	j9object_t cache = J9VMJAVALANGCLASS_STACKTRACEELEMENTCACHE(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(clazz));
+
+	if (NULL != cache) {
+		element = J9JAVAARRAYOFOBJECT_LOAD(vmThread, cache, STACK_TRACE_ELEMENT_CACHE_INDEX(romMethod, lineNumber));
+		if (NULL != element) {
+			J9UTF8 *name = J9ROMMETHOD_NAME(romMethod);
+			j9object_t methodName = J9VMJAVALANGSTACKTRACEELEMENT_METHODNAME(vmThread, element);
+
+			/* the entry may have been replaced by another method or line */
+			if ((lineNumber != J9VMJAVALANGSTACKTRACEELEMENT_LINENUMBER(vmThread, element))
+			|| (0 == vmThread->javaVM->internalVMFunctions->compareStringToUTF8(vmThread, methodName, FALSE, J9UTF8_DATA(name), J9UTF8_LENGTH(name)))
+			) {
+				element = NULL;
+			}
+		}
+	}
+
+	return element;
+}
+
+/**
+ * Cache the StackTraceElement at the top of the special frame, replacing any element in its entry.
+ * The cache is created on first use. The element is not cached if the cache cannot be allocated.
+ * @param vmThread
+ * @param userData The stack trace being built.
+ * @param clazz The class declaring the method.
+ * @param romMethod The method.
+ * @param lineNumber The line number as stored in the StackTraceElement.
+ * @note Assumes VM access
+ */
+static void
+cacheStackTraceElement(J9VMThread *vmThread, J9GetStackTraceUserData *userData, J9Class *clazz, J9ROMMethod *romMethod, I_32 lineNumber)
+{
+	j9object_t cache = J9VMJAVALANGCLASS_STACKTRACEELEMENTCACHE(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(clazz));
+
+	if (NULL == cache) {
+		/* the array class was created by getStackTrace() */
+		cache = (j9object_t)vmThread->javaVM->memoryManagerFunctions->J9AllocateIndexableObject(
+			vmThread, userData->elementClass->arrayClass, STACK_TRACE_ELEMENT_CACHE_SIZE, J9_GC_ALLOCATE_OBJECT_TENURED | J9_GC_ALLOCATE_OBJECT_NON_INSTRUMENTABLE);
+		if (NULL == cache) {
+			return;
+		}
+		/* racing threads may each install a cache, the last one wins */
+		J9VMJAVALANGCLASS_SET_STACKTRACEELEMENTCACHE(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(clazz), cache);
+	}
+	J9JAVAARRAYOFOBJECT_STORE(vmThread, cache, STACK_TRACE_ELEMENT_CACHE_INDEX(romMethod, lineNumber), PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0));
+}
+
 static UDATA
 getStackTraceIterator(J9VMThread * vmThread, void * voidUserData, J9ROMClass * romClass, J9ROMMethod * romMethod, J9UTF8 * fileName, UDATA lineNumber, J9ClassLoader* classLoader)
 {
@@ -92,6 +166,10 @@ getStackTraceIterator(J9VMThread * vmThread, void * voidUserData, J9ROMClass * r
 	j9object_t element = NULL;
 	UDATA rc = TRUE;
 	const I_32 currentIndex = (I_32)userData->index;
+	UDATA j2seVersion = J2SE_VERSION(vm) & J2SE_VERSION_MASK;
+	J9Class* clazz = NULL;
+	BOOLEAN currentVersion = FALSE;
+	BOOLEAN cacheable = FALSE;
 
 	/* If the stack trace is larger than the array, bail */
 
@@ -103,6 +181,50 @@ getStackTraceIterator(J9VMThread * vmThread, void * voidUserData, J9ROMClass * r
 	/* Prevent the current class from being unloaded during allocation */
 	PUSH_OBJECT_IN_SPECIAL_FRAME(vmThread, (NULL == classLoader) ? NULL : classLoader->classLoaderObject);
 
+	if (romMethod != NULL) {
+		/* Java wants -2 for natives, -1 for no line number (which will be 0 coming in from the iterator) */
+		if (romMethod->modifiers & J9AccNative) {
+			lineNumber = -2;
+		} else if (lineNumber == 0) {
+			lineNumber = -1;
+		}
+
+		/* Lookup the J9Class for this method if it can be found as it makes
+		 * a number of the remaining operations faster.  Code still needs to be
+		 * able to handle the case where the J9Class cannot be found
+		 */
+		if (NULL != classLoader) {
+			J9UTF8 const * utfClassName = J9ROMCLASS_CLASSNAME(romClass);
+			clazz = vmFuncs->peekClassHashTable(vmThread, classLoader, J9UTF8_DATA(utfClassName), J9UTF8_LENGTH(utfClassName));
+			if (NULL != clazz) {
+				/* clazz can never be an array here as arrays can't define methods so we don't need to
+				* take them into account in the code below when writing the interned string back to
+				* the Class object.
+				*/
+				Assert_JCL_false(J9CLASS_IS_ARRAY(clazz));
+
+				/* The frame may be running an obsolete version of a redefined class */
+				currentVersion = (clazz->romClass == romClass);
+
+				/* Only share elements of the current version of the class, once the module names are final */
+				cacheable = currentVersion
+					&& ((j2seVersion < J2SE_V11) || J9_ARE_ANY_BITS_SET(vm->runtimeFlags, J9_RUNTIME_JAVA_BASE_MODULE_CREATED));
+			}
+		}
+
+		if (cacheable) {
+			element = findCachedStackTraceElement(vmThread, clazz, romMethod, (I_32) lineNumber);
+			if (NULL != element) {
+				j9array_t result = (j9array_t) PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 1);
+				J9JAVAARRAYOFOBJECT_STORE(vmThread, result, currentIndex, element);
+				userData->index += 1;
+				/* the cached element has the file name of this frame */
+				userData->previousFileName = fileName;
+				goto dropClassLoader;
+			}
+		}
+	}
+
 	/* Create the new StackTraceElement and put it in the array at the correct index */
 
 	element = mmfns->J9AllocateObject(vmThread, userData->elementClass, J9_GC_ALLOCATE_OBJECT_NON_INSTRUMENTABLE);
@@ -120,26 +242,9 @@ getStackTraceIterator(J9VMThread * vmThread, void * voidUserData, J9ROMClass * r
 			J9UTF8 const * utfClassName = J9ROMCLASS_CLASSNAME(romClass);
 			J9UTF8 * utf = NULL;
 			j9object_t string = NULL;
-			UDATA j2seVersion = J2SE_VERSION(vm) & J2SE_VERSION_MASK;
-			J9Class* clazz = NULL;
 
 			PUSH_OBJECT_IN_SPECIAL_FRAME(vmThread, element);
 
-			/* Lookup the J9Class for this method if it can be found as it makes
-			 * a number of the remaining operations faster.  Code still needs to be
-			 * able to handle the case where the J9Class cannot be found
-			 */
-			if (NULL != classLoader) {
-				clazz = vmFuncs->peekClassHashTable(vmThread, classLoader, J9UTF8_DATA(utfClassName), J9UTF8_LENGTH(utfClassName));
-				if (NULL != clazz) {
-					/* clazz can never be an array here as arrays can't define methods so we don't need to
-					* take them into account in the code below when writing the interned string back to
-					* the Class object.
-					*/
-					Assert_JCL_false(J9CLASS_IS_ARRAY(clazz));
-				}
-			}
-
 			/* Fill in module name and version */
 			if (j2seVersion >= J2SE_V11) {
 				J9Module *module = NULL;
@@ -232,10 +337,11 @@ getStackTraceIterator(J9VMThread * vmThread, void * voidUserData, J9ROMClass * r
 			 * The previous filename cache covers the case where multiple classes were
 			 * defined in the same file.
 			 *
-			 * This avoids additional allocations during stack trace generation
+			 * This avoids additional allocations during stack trace generation.
+			 * The Class only caches the file name of its current version.
 			 */
 			string = NULL;
-			if (clazz != NULL) {
+			if (currentVersion) {
 				string = J9VMJAVALANGCLASS_FILENAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(clazz));
 			}
 			if (string == NULL) {
@@ -261,7 +367,7 @@ getStackTraceIterator(J9VMThread * vmThread, void * voidUserData, J9ROMClass * r
 						}
 					}
 					Assert_JCL_notNull(string);
-					if (clazz != NULL) {
+					if (currentVersion) {
 						/* Update the cached fileNameString on the class so subsequent calls will find it */
 						J9VMJAVALANGCLASS_SET_FILENAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(clazz), string);
 					}
@@ -277,23 +383,26 @@ getStackTraceIterator(J9VMThread * vmThread, void * voidUserData, J9ROMClass * r
 				J9VMJAVALANGSTACKTRACEELEMENT_SET_FILENAME(vmThread, element, string);
 			}
 
-			/* Fill in line number - Java wants -2 for natives, -1 for no line number (which will be 0 coming in from the iterator) */
-
-			if (romMethod->modifiers & J9AccNative) {
-				lineNumber = -2;
-			} else if (lineNumber == 0) {
-				lineNumber = -1;
-			}
+			/* Fill in line number, already adjusted for natives and missing line numbers */
+			element = PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0);
 			J9VMJAVALANGSTACKTRACEELEMENT_SET_LINENUMBER(vmThread, element, (I_32) lineNumber);
 
 			if (vm->verboseLevel & VERBOSE_STACKTRACE) {
-				setStackTraceElementSource(vmThread, element, classLoader, romClass);
+				if (!setStackTraceElementSource(vmThread, element, classLoader, romClass)) {
+					/* the source may be missing, do not share the element */
+					cacheable = FALSE;
+				}
+			}
+
+			if (cacheable) {
+				cacheStackTraceElement(vmThread, userData, clazz, romMethod, (I_32) lineNumber);
 			}
 
 done:
 			DROP_OBJECT_IN_SPECIAL_FRAME(vmThread);
 		}
 	}
+dropClassLoader:
 	DROP_OBJECT_IN_SPECIAL_FRAME(vmThread);
 
 	return rc;
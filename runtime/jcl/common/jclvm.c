@@ -56,9 +56,14 @@ typedef struct J9HeapStatisticsTableEntry {
 	J9Class *clazz; /* hash table key */
 	UDATA objectCount; /* number of instances of the class */
 	UDATA objectSize;
-	UDATA aggregateSize;
+	UDATA aggregateSize; /* accumulated during the walk for arrays, whose instances differ in size */
 } J9HeapStatisticsTableEntry;
 
+typedef struct J9HeapStatisticsWalkState {
+	J9HashTable *hashTable;
+	J9HeapStatisticsTableEntry *lastEntry; /* objects of the same class are often adjacent, so remember the last class found */
+} J9HeapStatisticsWalkState;
+
 static UDATA hasConstructor(J9VMThread *vmThread, J9StackWalkState *state);
 static jvmtiIterationControl collectInstances(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objDesc, void *state);
 static int hasActiveConstructor(J9VMThread *vmThread, J9Class *clazz);
@@ -67,8 +72,8 @@ static J9HashTable *collectHeapStatistics(J9VMThread *vmThread);
 static jvmtiIterationControl updateHeapStatistics(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objDesc, void *state);
 static UDATA heapStatisticsHashEqualFn(void *leftKey, void *rightKey, void *userData);
 static UDATA heapStatisticsHashFn(void *key, void *userData);
-static UDATA printHeapStatistics(JNIEnv *env,J9HeapStatisticsTableEntry **statsArray,
-		UDATA numClasses, char *stringBuffer, UDATA bufferSize);
+static UDATA printHeapStatistics(J9VMThread *vmThread, J9HeapStatisticsTableEntry **statsArray,
+		UDATA numClasses, UDATA numRecords, char *stringBuffer, UDATA bufferSize);
 static int compareByAggregateSize(const void *a, const void *b);
 
 void JNICALL
@@ -153,12 +158,20 @@ Java_com_ibm_oti_vm_VM_allInstances(JNIEnv * env, jclass unused, jclass clazz, j
 }
 
 /**
- * Return a String object containing a summary of the classes on the heap, 
- * the number of instances, and their aggregate size.
- * This string inserts Unix-style line separators.  The caller is responsible for translating them if necessary.
+ * Return a String object containing the classes on the heap with the most aggregate size,
+ * the number of instances, their aggregate size and their class loader.
+ * The first line holds the totals for all classes: "<class count>\t<object count>\t<aggregate size>".
+ * Each following line holds one class: "<object count>\t<aggregate size>\t<loader>\t<class name>".
+ * The caller formats the records, which keeps the string proportional to the number of classes requested.
+ *
+ * When live is set, the global collection and the heap walk share one exclusive access,
+ * so the walk does not add a second pause.
+ *
+ * @param live run a global collection before walking the heap
+ * @param maxClasses maximum number of classes to report, or a negative value to report all classes
  */
 jstring JNICALL
-Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl(JNIEnv * env, jclass unused)
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl(JNIEnv * env, jclass unused, jboolean live, jint maxClasses)
 {
 	J9VMThread *vmThread = (J9VMThread *) env;
 	J9JavaVM *vm = vmThread->javaVM;
@@ -176,12 +189,23 @@ Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsI
 	vmFuncs->internalEnterVMFromJNI(vmThread);
 
 	vmFuncs->acquireExclusiveVMAccess(vmThread);
+	if (JNI_TRUE == live) {
+		UDATA savedGCFlags = vm->requiredDebugAttributes & J9VM_DEBUG_ATTRIBUTE_ALLOW_USER_HEAP_WALK;
+		if (0 == savedGCFlags) {
+			vm->requiredDebugAttributes |= J9VM_DEBUG_ATTRIBUTE_ALLOW_USER_HEAP_WALK;
+		}
+		vm->memoryManagerFunctions->j9gc_modron_global_collect(vmThread);
+		if (0 == savedGCFlags) {
+			vm->requiredDebugAttributes &= ~J9VM_DEBUG_ATTRIBUTE_ALLOW_USER_HEAP_WALK;
+		}
+	}
 	statsTable = collectHeapStatistics(vmThread);
 	vmFuncs->releaseExclusiveVMAccess(vmThread);
 
 	if (NULL != statsTable) {
 		numClasses = hashTableGetCount(statsTable);
-		statsArray = j9mem_allocate_memory(numClasses * sizeof(J9HeapStatisticsTableEntry*), J9MEM_CATEGORY_VM_JCL);
+		/* allocate at least one element so an empty heap is not reported as out of memory */
+		statsArray = j9mem_allocate_memory((numClasses + 1) * sizeof(J9HeapStatisticsTableEntry*), J9MEM_CATEGORY_VM_JCL);
 	}
 	if (NULL == statsArray) {
 		outOfMemory = TRUE;
@@ -189,25 +213,33 @@ Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsI
 		UDATA cursor = 0;
 		UDATA printedLength = 0;
 		UDATA bufferSize = 0;
+		UDATA numRecords = 0;
 		J9HeapStatisticsTableEntry *entry = (J9HeapStatisticsTableEntry *) hashTableStartDo(statsTable, &hashTableState);
 		/* build a list of pointers to the hash table entries */
 		while (NULL != entry) {
-			entry->aggregateSize = entry->objectSize * entry->objectCount;
+			if (!J9CLASS_IS_ARRAY(entry->clazz)) {
+				/* array sizes are accumulated per object during the walk */
+				entry->aggregateSize = entry->objectSize * entry->objectCount;
+			}
 			statsArray[cursor] = entry;
 			cursor += 1;
 			entry = (J9HeapStatisticsTableEntry *) hashTableNextDo(&hashTableState);
 		}
 		numClasses = cursor; /* adjust the length in case the hash table contained nulls */
 		qsort(statsArray, numClasses, sizeof(J9HeapStatisticsTableEntry*), compareByAggregateSize);
+		numRecords = numClasses;
+		if ((maxClasses >= 0) && ((UDATA) maxClasses < numClasses)) {
+			numRecords = (UDATA) maxClasses;
+		}
 		do {
 			char *stringBuffer = NULL;
-			bufferSize += numClasses * 80; /* try incrementally larger sizes */
+			bufferSize += (numRecords + 1) * 160; /* try incrementally larger sizes */
 			stringBuffer = (char *) j9mem_allocate_memory(bufferSize, J9MEM_CATEGORY_VM_JCL);
 			if (NULL == stringBuffer) {
 				outOfMemory = TRUE;
 				break;
 			}
-			printedLength = printHeapStatistics(env, statsArray, numClasses, stringBuffer, bufferSize);
+			printedLength = printHeapStatistics(vmThread, statsArray, numClasses, numRecords, stringBuffer, bufferSize);
 			if (printedLength > 0) {
 				stringObject = vm->memoryManagerFunctions->j9gc_createJavaLangString(vmThread,
 						(U_8 *) stringBuffer, printedLength, J9_STR_XLAT);
@@ -248,33 +280,59 @@ compareByAggregateSize(const void *a, const void *b)
 	return result;
 }
 
+/**
+ * Print the totals of all numClasses classes, followed by the first numRecords classes.
+ * The caller must have VM access so that the classes and their loaders cannot be unloaded.
+ *
+ * @return the number of characters printed, or 0 if stringBuffer is too small
+ */
 static UDATA
-printHeapStatistics(JNIEnv *env,J9HeapStatisticsTableEntry **statsArray,
-		UDATA numClasses, char *stringBuffer, UDATA bufferSize)
+printHeapStatistics(J9VMThread *vmThread, J9HeapStatisticsTableEntry **statsArray,
+		UDATA numClasses, UDATA numRecords, char *stringBuffer, UDATA bufferSize)
 {
+	J9JavaVM *vm = vmThread->javaVM;
 	char *bufferCursor = stringBuffer;
 	UDATA classCursor = 0;
 	UDATA cumulativeCount = 0;
 	UDATA cumulativeSize = 0;
 	UDATA result = 0;
 
-	PORT_ACCESS_FROM_ENV(env);
+	PORT_ACCESS_FROM_JAVAVM(vm);
 
+	for (classCursor = 0; classCursor < numClasses; ++classCursor) {
+		cumulativeCount += statsArray[classCursor]->objectCount;
+		cumulativeSize += statsArray[classCursor]->aggregateSize;
+	}
 	result = j9str_printf(PORTLIB, bufferCursor, bufferSize,
-			"%5s %14s %14s    %s\n-------------------------------------------------\n",
-			"num", "object count", "total size", "class name"
+			"%zu\t%zu\t%zu\n", numClasses, cumulativeCount, cumulativeSize
 	);
 	bufferCursor += result;
 	bufferSize -= result;
-	for (classCursor = 0; (result > 0) && (classCursor < numClasses); ++classCursor) {
+	for (classCursor = 0; (result > 0) && (classCursor < numRecords); ++classCursor) {
 		J9Class *currentClass = statsArray[classCursor]->clazz;
+		J9ClassLoader *classLoader = currentClass->classLoader;
+		j9object_t loaderObject = NULL;
+
 		result = j9str_printf(PORTLIB, bufferCursor, bufferSize,
-				"%5d %14zu %14zu    ",
-				classCursor + 1, statsArray[classCursor]->objectCount,
+				"%zu\t%zu\t",
+				statsArray[classCursor]->objectCount,
 				statsArray[classCursor]->aggregateSize
 		);
 		bufferCursor += result;
 		bufferSize -= result;
+		if (classLoader != vm->systemClassLoader) {
+			loaderObject = J9CLASSLOADER_CLASSLOADEROBJECT(vmThread, classLoader);
+		}
+		if (NULL == loaderObject) {
+			result = j9str_printf(PORTLIB, bufferCursor, bufferSize, "<bootstrap>\t");
+		} else {
+			J9UTF8 *loaderClassName = J9ROMCLASS_CLASSNAME(J9OBJECT_CLAZZ(vmThread, loaderObject)->romClass);
+			result = j9str_printf(PORTLIB, bufferCursor, bufferSize, "%.*s@%x\t",
+					J9UTF8_LENGTH(loaderClassName), J9UTF8_DATA(loaderClassName),
+					objectHashCode(vm, loaderObject));
+		}
+		bufferCursor += result;
+		bufferSize -= result;
 		if (J9CLASS_IS_ARRAY(currentClass)) {
 			J9ArrayClass *arrayClazz = (J9ArrayClass*)currentClass;
 			UDATA arity = arrayClazz->arity;
@@ -302,14 +360,7 @@ printHeapStatistics(JNIEnv *env,J9HeapStatisticsTableEntry **statsArray,
 		}
 		bufferCursor += result;
 		bufferSize -= result;
-		cumulativeCount += statsArray[classCursor]->objectCount;
-		cumulativeSize += statsArray[classCursor]->aggregateSize;
 	}
-	result = j9str_printf(PORTLIB, bufferCursor, bufferSize,
-			"%5s %14zd %14zd\n",
-			"Total", cumulativeCount, cumulativeSize
-	);
-	bufferCursor += result;
 	return (result > 0) ? (bufferCursor - stringBuffer) : 0;
 }
 
@@ -478,6 +529,7 @@ static J9HashTable *
 collectHeapStatistics(J9VMThread *vmThread)
 {
 	J9JavaVM *vm = vmThread->javaVM;
+	J9HeapStatisticsWalkState walkState;
 	J9HashTable *hashTable = hashTableNew(
 			OMRPORT_FROM_J9PORT(vm->portLibrary),
 			J9_GET_CALLSITE(),
@@ -493,8 +545,10 @@ collectHeapStatistics(J9VMThread *vmThread)
 	);
 
 	if (NULL != hashTable) {
+		walkState.hashTable = hashTable;
+		walkState.lastEntry = NULL;
 		if (vm->memoryManagerFunctions->j9mm_iterate_all_objects(vmThread->javaVM,
-				vm->portLibrary, 0, updateHeapStatistics, hashTable)
+				vm->portLibrary, 0, updateHeapStatistics, &walkState)
 				!= JVMTI_ITERATION_CONTINUE) {
 			hashTableFree(hashTable);
 			hashTable = NULL;
@@ -506,19 +560,24 @@ collectHeapStatistics(J9VMThread *vmThread)
 static jvmtiIterationControl
 updateHeapStatistics(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objDesc, void *state)
 {
-	J9HashTable *hashTable = (J9HashTable *) state;
+	J9HeapStatisticsWalkState *walkState = (J9HeapStatisticsWalkState *) state;
 	j9object_t obj = objDesc->object;
 	J9Class *clazz = J9OBJECT_CLAZZ_VM(vm, obj);
 	struct J9HeapStatisticsTableEntry query;
-	struct J9HeapStatisticsTableEntry *result = NULL;
+	struct J9HeapStatisticsTableEntry *result = walkState->lastEntry;
 	jvmtiIterationControl status = JVMTI_ITERATION_CONTINUE;
 
-	query.clazz = clazz;
-	result = hashTableFind(hashTable, &query);
+	if ((NULL == result) || (result->clazz != clazz)) {
+		query.clazz = clazz;
+		result = hashTableFind(walkState->hashTable, &query);
+	}
 	if (NULL == result) {
 		query.objectCount = 1;
 		query.objectSize = vm->memoryManagerFunctions->j9gc_get_object_size_in_bytes(vm, obj);
-		result = hashTableAdd(hashTable, &query);
+		query.aggregateSize = query.objectSize;
+		/* adding may grow the table and move the entries */
+		walkState->lastEntry = NULL;
+		result = hashTableAdd(walkState->hashTable, &query);
 		if (NULL == result) {
 			J9VMThread *vmThread = vm->internalVMFunctions->currentVMThread(vm);
 			Trc_JCL_heapStatisticsOOM(vmThread);
@@ -527,6 +586,12 @@ updateHeapStatistics(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objDesc, void *
 		}
 	} else {
 		result->objectCount += 1;
+		if (J9CLASS_IS_ARRAY(clazz)) {
+			result->aggregateSize += vm->memoryManagerFunctions->j9gc_get_object_size_in_bytes(vm, obj);
+		}
+	}
+	if (NULL != result) {
+		walkState->lastEntry = result;
 	}
 	return status;
 }
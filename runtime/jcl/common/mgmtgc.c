@@ -27,6 +27,9 @@
 #include "mgmtinit.h"
 #include "jniidcacheinit.h"
 
+/* required for memset and memcpy */
+#include <string.h>
+
 typedef enum {
 	FIELD_TOTAL_GC_TIME,
 	FIELD_LASTGC_START_TIME,
@@ -97,6 +100,84 @@ getIndexFromCollectorID(J9JavaLangManagementData *mgmt, UDATA id)
 	return idx;
 }
 
+/* The layout of the array must match com.ibm.lang.management.internal.GarbageCollectionPhaseInfoUtil */
+#define PHASE_STATISTICS_FIELD_COUNT 14
+#define PHASE_STATISTICS_WORKER_FIELD_COUNT 3
+
+/**
+ * Flatten the phase statistics of a collection into a new long[], which is decoded by
+ * com.ibm.lang.management.internal.GarbageCollectionPhaseInfoUtil.
+ *
+ * @return the new array, or NULL with an exception pending
+ */
+jlongArray
+newGCPhaseStatisticsArray(JNIEnv *env, J9GCPhaseStatistics *stats)
+{
+	jlong values[PHASE_STATISTICS_FIELD_COUNT + (PHASE_STATISTICS_WORKER_FIELD_COUNT * J9GC_PHASE_STATISTICS_MAX_WORKERS)];
+	U_32 workerCount = OMR_MIN(stats->workerCount, J9GC_PHASE_STATISTICS_MAX_WORKERS);
+	jsize length = (jsize)(PHASE_STATISTICS_FIELD_COUNT + (PHASE_STATISTICS_WORKER_FIELD_COUNT * workerCount));
+	jlongArray result = NULL;
+	jlong *cursor = values;
+	U_32 idx = 0;
+
+	*cursor++ = (jlong)stats->markTime;
+	*cursor++ = (jlong)stats->sweepTime;
+	*cursor++ = (jlong)stats->compactTime;
+	*cursor++ = (jlong)stats->copyTime;
+	*cursor++ = (jlong)stats->rootScanTime;
+	*cursor++ = (jlong)stats->rememberedSetTime;
+	*cursor++ = (jlong)stats->rememberedSetCardsProcessed;
+	*cursor++ = (jlong)stats->weakReferences.candidates;
+	*cursor++ = (jlong)stats->weakReferences.cleared;
+	*cursor++ = (jlong)stats->softReferences.candidates;
+	*cursor++ = (jlong)stats->softReferences.cleared;
+	*cursor++ = (jlong)stats->phantomReferences.candidates;
+	*cursor++ = (jlong)stats->phantomReferences.cleared;
+	*cursor++ = (jlong)workerCount;
+	for (idx = 0; idx < workerCount; ++idx) {
+		*cursor++ = (jlong)stats->workers[idx].workerID;
+		*cursor++ = (jlong)stats->workers[idx].busyTime;
+		*cursor++ = (jlong)stats->workers[idx].stallTime;
+	}
+
+	result = (*env)->NewLongArray(env, length);
+	if (NULL != result) {
+		(*env)->SetLongArrayRegion(env, result, 0, length, values);
+		if ((*env)->ExceptionCheck(env)) {
+			result = NULL;
+		}
+	}
+	return result;
+}
+
+jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastCollectionPhaseInfoImpl(JNIEnv *env, jobject beanInstance, jint id)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	J9GarbageCollectorData *gc = &mgmt->garbageCollectors[getIndexFromCollectorID(mgmt, (UDATA) id)];
+	J9GCPhaseStatistics stats;
+	U_64 index = 0;
+
+	if (0 == mgmt->phaseStatisticsRequested) {
+		/* root scanning is timed from the next collection on */
+		omrthread_rwmutex_enter_write(mgmt->managementDataLock);
+		mgmt->phaseStatisticsRequested = 1;
+		omrthread_rwmutex_exit_write(mgmt->managementDataLock);
+	}
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	index = gc->lastGcInfo.index;
+	memcpy(&stats, &gc->lastGcInfo.phaseStatistics, sizeof(stats));
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	if (0 == index) {
+		/* return NULL before the first collection */
+		return NULL;
+	}
+	return newGCPhaseStatisticsArray(env, &stats);
+}
+
 jobject JNICALL
 Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastGcInfoImpl(JNIEnv *env, jobject beanInstance, jint id)
 {
@@ -123,6 +204,8 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 	jlong* postUsedArrayElems = NULL;
 	jlong* postCommittedArrayElems = NULL;
 	jlong* postMaxArrayElems = NULL;
+	jlongArray phaseArray = NULL;
+	J9GCPhaseStatistics phaseStatistics;
 
 	/* collectionCount */
 	if (0 == gc->lastGcInfo.index) {
@@ -141,7 +224,7 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 
 	callBackID = JCL_CACHE_GET(env, MID_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_buildGcInfo);
 	if (NULL == callBackID) {
-		callBackID = (*env)->GetStaticMethodID(env, gcBean, "buildGcInfo", "(JJJ[J[J[J[J[J[J[J)Lcom/sun/management/GcInfo;");
+		callBackID = (*env)->GetStaticMethodID(env, gcBean, "buildGcInfo", "(JJJ[J[J[J[J[J[J[J[J)Lcom/sun/management/GcInfo;");
 		if (NULL == callBackID) {
 			goto fail;
 		}
@@ -217,6 +300,7 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 			postCommittedArrayElems[idx] = gcInfo->postCommitted[idx];
 			postMaxArrayElems[idx] = gcInfo->postMax[idx];
 		}
+		memcpy(&phaseStatistics, &gcInfo->phaseStatistics, sizeof(phaseStatistics));
 		omrthread_rwmutex_exit_read(mgmt->managementDataLock);
 		(*env)->ReleasePrimitiveArrayCritical(env, initialArray, initialArrayElems, 0);
 		(*env)->ReleasePrimitiveArrayCritical(env, preUsedArray, preUsedArrayElems, 0);
@@ -227,6 +311,11 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 		(*env)->ReleasePrimitiveArrayCritical(env, postMaxArray, postMaxArrayElems, 0);
 	}
 
+	phaseArray = newGCPhaseStatisticsArray(env, &phaseStatistics);
+	if (NULL == phaseArray) {
+		goto fail;
+	}
+
 	return (*env)->CallStaticObjectMethod(env, gcBean, callBackID,
 			(jlong)gcInfo->index, (jlong)gcInfo->startTime, (jlong)gcInfo->endTime,
 			initialArray,
@@ -235,7 +324,8 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 			preMaxArray,
 			postUsedArray,
 			postCommittedArray,
-			postMaxArray);
+			postMaxArray,
+			phaseArray);
 fail2:
 	if (NULL != initialArrayElems) {
 		(*env)->ReleasePrimitiveArrayCritical(env, initialArray, initialArrayElems, 0);
@@ -306,3 +396,134 @@ getCollectorField(JNIEnv *env, jint id, GarbageCollectorField field)
 
 	return result;
 }
+
+/**
+ * Subscribes to the binary GC event stream, allocating it on first use.
+ * @param capacity number of records kept in the ring, only used by the first subscriber
+ * @return the sequence number of the next record to be produced, or -1 if the stream could not be allocated
+ */
+jlong JNICALL
+Java_com_ibm_lang_management_internal_GarbageCollectionEventBuffer_openImpl(JNIEnv *env, jclass clazz, jint capacity)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	J9GCEventStream *stream = NULL;
+	jlong position = -1;
+
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	omrthread_rwmutex_enter_write(mgmt->managementDataLock);
+	stream = mgmt->gcEventStream;
+	if ((NULL == stream) && (0 < capacity)) {
+		stream = j9mem_allocate_memory(sizeof(*stream), J9MEM_CATEGORY_VM_JCL);
+		if (NULL != stream) {
+			memset(stream, 0, sizeof(*stream));
+			stream->capacity = (U_32)capacity;
+			stream->records = j9mem_allocate_memory(sizeof(J9GCEventRecord) * stream->capacity, J9MEM_CATEGORY_VM_JCL);
+			if ((NULL == stream->records) || (0 != omrthread_monitor_init(&stream->monitor, 0))) {
+				j9mem_free_memory(stream->records);
+				j9mem_free_memory(stream);
+				stream = NULL;
+			} else {
+				/* published under the management data lock, which the GC end hook holds while producing */
+				mgmt->gcEventStream = stream;
+			}
+		}
+	}
+	if (NULL != stream) {
+		position = (jlong)stream->produced;
+	}
+	omrthread_rwmutex_exit_write(mgmt->managementDataLock);
+
+	return position;
+}
+
+/**
+ * Copies whole records from the binary GC event stream into buffer, waiting up to timeout milliseconds
+ * for a record if none is available. Records that have been overwritten are skipped; the caller detects
+ * them from the gap in sequence numbers.
+ * @param cursorArray single element array holding the sequence number of the next record to read, updated on return
+ * @param buffer destination for the records, each record starts with its version and size
+ * @param timeout milliseconds to wait for a record, 0 to return immediately
+ * @return the number of bytes copied into buffer, or the negated size of the next record if buffer cannot hold it,
+ * in which case the cursor is left at that record
+ */
+jint JNICALL
+Java_com_ibm_lang_management_internal_GarbageCollectionEventBuffer_readImpl(JNIEnv *env, jclass clazz, jlongArray cursorArray, jbyteArray buffer, jlong timeout)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9GCEventStream *stream = javaVM->managementData->gcEventStream;
+	jsize bufferLength = (*env)->GetArrayLength(env, buffer);
+	jlong cursor = 0;
+	U_64 next = 0;
+	U_8 *records = NULL;
+	jint copied = 0;
+
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	if ((NULL == stream) || (0 == bufferLength)) {
+		return 0;
+	}
+	(*env)->GetLongArrayRegion(env, cursorArray, 0, 1, &cursor);
+	if ((*env)->ExceptionCheck(env)) {
+		return 0;
+	}
+
+	/* the records are staged natively, the Java array must not be touched while holding the stream monitor
+	 * as that would require VM access while the GC end hook can be blocked on the monitor
+	 */
+	records = j9mem_allocate_memory(bufferLength, J9MEM_CATEGORY_VM_JCL);
+	if (NULL == records) {
+		return 0;
+	}
+
+	next = (U_64)cursor;
+	omrthread_monitor_enter(stream->monitor);
+	if ((next >= stream->produced) && (0 < timeout)) {
+		omrthread_monitor_wait_timed(stream->monitor, (I_64)timeout, 0);
+	}
+	if (next > stream->produced) {
+		next = stream->produced;
+	} else if ((stream->produced - next) > stream->capacity) {
+		next = stream->produced - stream->capacity;
+	}
+	while (next < stream->produced) {
+		J9GCEventRecord *record = &stream->records[next % stream->capacity];
+		if ((copied + record->size) > bufferLength) {
+			if (0 == copied) {
+				/* not even one record fits, returning 0 would look like a timeout and the caller would never progress */
+				copied = -(jint)record->size;
+			}
+			break;
+		}
+		memcpy(records + copied, record, record->size);
+		copied += record->size;
+		next += 1;
+	}
+	omrthread_monitor_exit(stream->monitor);
+
+	if (0 < copied) {
+		(*env)->SetByteArrayRegion(env, buffer, 0, copied, (jbyte *)records);
+	}
+	cursor = (jlong)next;
+	(*env)->SetLongArrayRegion(env, cursorArray, 0, 1, &cursor);
+	j9mem_free_memory(records);
+
+	return copied;
+}
+
+/**
+ * @param id collector ID from a GC event record
+ * @return the name of the collector, as used by its GarbageCollectorMXBean, or null if the ID is unknown
+ */
+jstring JNICALL
+Java_com_ibm_lang_management_internal_GarbageCollectionEventBuffer_getCollectorNameImpl(JNIEnv *env, jclass clazz, jint id)
+{
+	J9JavaLangManagementData *mgmt = ((J9VMThread *) env)->javaVM->managementData;
+	UDATA idx = getIndexFromCollectorID(mgmt, (UDATA) id);
+
+	if (idx >= mgmt->supportedCollectors) {
+		return NULL;
+	}
+	return (*env)->NewStringUTF(env, mgmt->garbageCollectors[idx].name);
+}
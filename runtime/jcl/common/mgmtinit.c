@@ -62,6 +62,9 @@ static void managementLocalGCEnd(J9HookInterface **hook, UDATA eventNum, void *e
 static void managementCompactEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
 static void gcStartEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *frees, UDATA collectorID);
 static void gcEndEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *frees, UDATA *maxs, UDATA collectorID, OMR_VMThread *omrVMThread);
+static void publishGCEventRecord(J9JavaVM *vm, J9JavaLangManagementData *mgmt, J9GarbageCollectorData *gcData);
+static void publishGCPerfData(J9JavaVM *vm, J9JavaLangManagementData *mgmt, J9GarbageCollectorData *gcData);
+static void addGCEventPhase(J9GCEventRecord *record, U_32 phaseID, U_64 count, U_64 time);
 static jint initMemoryManagement(J9JavaVM *vm);
 static U_32 getNumberSupported(U_32 supportedIDs);
 static UDATA getArrayIndexFromManagerID(J9JavaLangManagementData *mgmt, UDATA id);
@@ -80,6 +83,7 @@ managementInit(J9JavaVM *vm)
 #if defined (J9VM_INTERP_NATIVE_SUPPORT)
 	J9HookInterface **jitHooks = NULL;
 #endif
+	J9PerfData *perfData = NULL;
 	omrthread_t self = omrthread_self();
 	PORT_ACCESS_FROM_JAVAVM(vm);
 
@@ -208,6 +212,22 @@ managementInit(J9JavaVM *vm)
 	mgmt->dlparNotificationQueue = NULL;
 	mgmt->dlparNotificationsPending = 0;
 	mgmt->isCounterPathInitialized = 0;
+
+	/* shared performance counters, published under the lock so the hooks start from the current values */
+	perfData = perfDataInit(vm);
+	if (NULL != perfData) {
+		omrthread_rwmutex_enter_write(mgmt->managementDataLock);
+		mgmt->perfData = perfData;
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_HEAP_SIZE, mgmt->initialHeapSize);
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_HEAP_MAX, mgmt->maximumHeapSize);
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_CLASSES_LOADED, mgmt->totalClassLoads);
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_CLASSES_UNLOADED, mgmt->totalClassUnloads);
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_THREADS_LIVE, mgmt->liveJavaThreads);
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_THREADS_DAEMON, mgmt->liveJavaDaemonThreads);
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_THREADS_PEAK, mgmt->peakLiveJavaThreads);
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_THREADS_STARTED, mgmt->totalJavaThreadsStarted);
+		omrthread_rwmutex_exit_write(mgmt->managementDataLock);
+	}
 	return 0;
 }
 
@@ -219,6 +239,7 @@ managementClassLoadCounter(J9HookInterface **hook, UDATA eventNum, void *eventDa
 	omrthread_rwmutex_enter_write(mgmt->managementDataLock);
 
 	mgmt->totalClassLoads++;
+	PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_CLASSES_LOADED, mgmt->totalClassLoads);
 
 	omrthread_rwmutex_exit_write(mgmt->managementDataLock);
 }
@@ -234,6 +255,7 @@ managementClassUnloadCounter(J9HookInterface **hook, UDATA eventNum, void *event
 
 	omrthread_rwmutex_enter_write(mgmt->managementDataLock);
 	mgmt->totalClassUnloads += data->classUnloadCount;
+	PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_CLASSES_UNLOADED, mgmt->totalClassUnloads);
 	omrthread_rwmutex_exit_write(mgmt->managementDataLock);
 }
 #endif
@@ -257,6 +279,7 @@ managementCompilingStartTime(J9HookInterface **hook, UDATA eventNum, void *event
 
 	mgmt->lastCompilationStart = now;
 	mgmt->threadsCompiling++;
+	PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_COMPILES_ACTIVE, mgmt->threadsCompiling);
 
 	omrthread_rwmutex_exit_write(mgmt->managementDataLock);
 }
@@ -272,6 +295,11 @@ managementCompilingEndTime(J9HookInterface **hook, UDATA eventNum, void *eventDa
 
 	mgmt->totalCompilationTime += checkedTimeInterval((U_64)j9time_nano_time(), (U_64)mgmt->lastCompilationStart);
 	mgmt->threadsCompiling--;
+	if (NULL != mgmt->perfData) {
+		*(mgmt->perfData->counters[J9PERFDATA_COUNTER_COMPILES]) += 1;
+	}
+	PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_COMPILE_TIME, mgmt->totalCompilationTime);
+	PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_COMPILES_ACTIVE, mgmt->threadsCompiling);
 
 	omrthread_rwmutex_exit_write(mgmt->managementDataLock);
 }
@@ -337,6 +365,16 @@ managementTerminate(J9JavaVM *vm)
 		omrthread_monitor_destroy(mgmt->dlparNotificationMonitor);
 	}
 	
+	/* Cleanup for the binary GC event stream (mgmtgc.c) */
+	if (NULL != mgmt->gcEventStream) {
+		omrthread_monitor_destroy(mgmt->gcEventStream->monitor);
+		j9mem_free_memory(mgmt->gcEventStream->records);
+		j9mem_free_memory(mgmt->gcEventStream);
+	}
+
+	/* unmap and delete the shared performance counters */
+	perfDataTerminate(vm, mgmt->perfData);
+
 	/* deallocate management data struct */
 	j9mem_free_memory(mgmt->memoryPools);
 	j9mem_free_memory(mgmt->garbageCollectors);
@@ -362,6 +400,10 @@ managementThreadStartCounter(J9HookInterface **hook, UDATA eventNum, void *event
 		if (J9_PRIVATE_FLAGS_DAEMON_THREAD & vmThread->privateFlags) {
 			mgmt->liveJavaDaemonThreads++;
 		}
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_THREADS_LIVE, mgmt->liveJavaThreads);
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_THREADS_DAEMON, mgmt->liveJavaDaemonThreads);
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_THREADS_PEAK, mgmt->peakLiveJavaThreads);
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_THREADS_STARTED, mgmt->totalJavaThreadsStarted);
 
 		omrthread_rwmutex_exit_write(mgmt->managementDataLock);
 	}
@@ -380,6 +422,8 @@ managementThreadEndCounter(J9HookInterface **hook, UDATA eventNum, void *eventDa
 		if (J9_PRIVATE_FLAGS_DAEMON_THREAD & vmThread->privateFlags) {
 			mgmt->liveJavaDaemonThreads--;
 		}
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_THREADS_LIVE, mgmt->liveJavaThreads);
+		PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_THREADS_DAEMON, mgmt->liveJavaDaemonThreads);
 
 		omrthread_rwmutex_exit_write(mgmt->managementDataLock);
 	}
@@ -505,6 +549,10 @@ gcStartEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA
 	mgmt->preCollectionHeapSize = heapSize;
 	mgmt->preCollectionHeapUsed = heapUsed;
 
+	/* remembered for the binary GC event stream */
+	gcData->lastGcStartNanoTime = j9time_nano_time();
+	gcData->compactsAtLastGcStart = gcData->totalCompacts;
+
 	for (idx = 0; idx < mgmt->supportedMemoryPools; ++idx) {
 		J9MemoryPoolData *memoryPool = &memoryPools[idx];
 		total = totals[idx];
@@ -755,6 +803,9 @@ gcEndEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *f
 	gcInfo->gcAction = mmFuncs->j9gc_get_gc_action(vm, (gcInfo->gcID & J9VM_MANAGEMENT_GC_HEAP_ID_MASK));
 	gcInfo->gcCause = mmFuncs->j9gc_get_gc_cause(omrVMThread);
 	gcInfo->arraySize =(U_32) (supportedMemoryPools + supportedNonHeapMemoryPools);
+	/* root scanning is only timed for a consumer of phase statistics: a notification listener, a GC event stream or a caller of getLastCollectionPhaseInfo() */
+	mmFuncs->j9gc_get_cycle_phase_statistics(omrVMThread, &gcInfo->phaseStatistics,
+			(0 != mgmt->notificationEnabled) || (NULL != mgmt->gcEventStream) || (0 != mgmt->phaseStatisticsRequested));
 	/* heap memory pools */
 	for (idx = 0; supportedMemoryPools > idx; ++idx) {
 		J9MemoryPoolData *memoryPool = &memoryPools[idx];
@@ -785,6 +836,15 @@ gcEndEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *f
 		gcInfo->postMax[idx] = nonHeapMemory->maxSize;
 	}
 
+	/* the event stream is only allocated once a consumer has subscribed, see mgmtgc.c */
+	if (NULL != mgmt->gcEventStream) {
+		publishGCEventRecord(vm, mgmt, gcData);
+	}
+
+	if (NULL != mgmt->perfData) {
+		publishGCPerfData(vm, mgmt, gcData);
+	}
+
 	/* garbage collection notification */
 	notificationEnabled = mgmt->notificationEnabled;
 	omrthread_rwmutex_exit_write(mgmt->managementDataLock);
@@ -830,6 +890,97 @@ gcEndEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *f
 	}
 }
 
+/* Updates the shared performance counters at the end of a collection, called with the managementDataLock held for write. */
+static void
+publishGCPerfData(J9JavaVM *vm, J9JavaLangManagementData *mgmt, J9GarbageCollectorData *gcData)
+{
+	J9PerfData *perfData = mgmt->perfData;
+	UDATA countCounter = J9PERFDATA_COUNTER_FULL_GC_COUNT;
+	UDATA timeCounter = J9PERFDATA_COUNTER_FULL_GC_TIME;
+	U_64 startTime = vm->omrVM->exclusiveVMAccessStats.startTime;
+	U_64 endTime = vm->omrVM->exclusiveVMAccessStats.endTime;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (0 != (gcData->id & J9VM_MANAGEMENT_GC_LOCAL)) {
+		countCounter = J9PERFDATA_COUNTER_YOUNG_GC_COUNT;
+		timeCounter = J9PERFDATA_COUNTER_YOUNG_GC_TIME;
+	}
+	/* totalGCTime is in milliseconds, the counters are in J9PERFDATA_TICK_FREQUENCY ticks */
+	PERFDATA_SET_COUNTER(mgmt, countCounter, gcData->lastGcInfo.index);
+	PERFDATA_SET_COUNTER(mgmt, timeCounter, gcData->totalGCTime * 1000000);
+	PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_HEAP_SIZE, mgmt->postCollectionHeapSize);
+	PERFDATA_SET_COUNTER(mgmt, J9PERFDATA_COUNTER_HEAP_USED, mgmt->postCollectionHeapUsed);
+
+	/* the collection ran with exclusive VM access, record how long it took all threads to stop */
+	*(perfData->counters[J9PERFDATA_COUNTER_SAFEPOINTS]) += 1;
+	if (endTime > startTime) {
+		*(perfData->counters[J9PERFDATA_COUNTER_SAFEPOINT_SYNC_TIME]) += (I_64)j9time_hires_delta(startTime, endTime, J9PORT_TIME_DELTA_IN_NANOSECONDS);
+	}
+}
+
+/* Appends a phase entry to an event record, phases that did not run in the collection are left out. */
+static void
+addGCEventPhase(J9GCEventRecord *record, U_32 phaseID, U_64 count, U_64 time)
+{
+	if (((0 != time) || (0 != count)) && (record->phaseCount < J9GC_EVENT_RECORD_MAX_PHASES)) {
+		J9GCEventPhase *phase = &record->phases[record->phaseCount];
+		phase->phaseID = phaseID;
+		phase->count = (U_32)count;
+		phase->time = time;
+		record->phaseCount += 1;
+	}
+}
+
+/* Appends a record for the collection that just ended to the binary GC event stream.
+ * Called with the management data lock held for write. The stream is a ring of fixed size slots,
+ * consumers that fall more than a ring behind lose the oldest records.
+ */
+static void
+publishGCEventRecord(J9JavaVM *vm, J9JavaLangManagementData *mgmt, J9GarbageCollectorData *gcData)
+{
+	J9GCEventStream *stream = mgmt->gcEventStream;
+	J9GarbageCollectionInfo *gcInfo = &gcData->lastGcInfo;
+	J9GCPhaseStatistics *phases = &gcInfo->phaseStatistics;
+	J9GCEventRecord *record = NULL;
+	U_64 now = 0;
+
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	now = j9time_nano_time();
+
+	omrthread_monitor_enter(stream->monitor);
+	record = &stream->records[stream->produced % stream->capacity];
+	record->version = J9GC_EVENT_RECORD_VERSION;
+	record->type = J9GC_EVENT_RECORD_TYPE_COLLECTION_END;
+	record->phaseCount = 0;
+	addGCEventPhase(record, J9GC_EVENT_PHASE_MARK, 0, phases->markTime);
+	addGCEventPhase(record, J9GC_EVENT_PHASE_SWEEP, 0, phases->sweepTime);
+	addGCEventPhase(record, J9GC_EVENT_PHASE_COMPACT, 0, phases->compactTime);
+	addGCEventPhase(record, J9GC_EVENT_PHASE_COPY, 0, phases->copyTime);
+	addGCEventPhase(record, J9GC_EVENT_PHASE_ROOT_SCAN, 0, phases->rootScanTime);
+	addGCEventPhase(record, J9GC_EVENT_PHASE_REMEMBERED_SET, phases->rememberedSetCardsProcessed, phases->rememberedSetTime);
+	record->size = (U_16)(offsetof(J9GCEventRecord, phases) + (record->phaseCount * sizeof(J9GCEventPhase)));
+	record->sequenceNumber = stream->produced;
+	record->collectorID = gcData->id;
+	record->flags = 0;
+	if (0 == (gcData->id & J9VM_MANAGEMENT_GC_LOCAL)) {
+		record->flags |= J9GC_EVENT_RECORD_FLAG_GLOBAL;
+	}
+	if (gcData->totalCompacts != gcData->compactsAtLastGcStart) {
+		record->flags |= J9GC_EVENT_RECORD_FLAG_COMPACTED;
+	}
+	record->collectionIndex = gcInfo->index;
+	record->startTime = gcInfo->startTime;
+	record->endTime = gcInfo->endTime;
+	record->duration = (now > gcData->lastGcStartNanoTime) ? (now - gcData->lastGcStartNanoTime) : 0;
+	record->preHeapSize = mgmt->preCollectionHeapSize;
+	record->preHeapUsed = mgmt->preCollectionHeapUsed;
+	record->postHeapSize = mgmt->postCollectionHeapSize;
+	record->postHeapUsed = mgmt->postCollectionHeapUsed;
+	stream->produced += 1;
+	omrthread_monitor_notify_all(stream->monitor);
+	omrthread_monitor_exit(stream->monitor);
+}
+
 static jint
 initMemoryManagement(J9JavaVM *vm)
 {
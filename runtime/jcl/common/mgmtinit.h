@@ -102,6 +102,19 @@ typedef struct J9DLPARNotification {
 } J9DLPARNotification;
 jint managementInit(J9JavaVM *vm);
 void managementTerminate(J9JavaVM *vm);
+J9PerfData *perfDataInit(J9JavaVM *vm);
+void perfDataTerminate(J9JavaVM *vm, J9PerfData *perfData);
+
+/* Publish a VM counter to the shared performance counters. Callers hold the managementDataLock for write,
+ * so each counter has a single writer and readers see whole values on 64-bit platforms.
+ */
+#define PERFDATA_SET_COUNTER(mgmt, counter, value) \
+	do { \
+		if (NULL != (mgmt)->perfData) { \
+			*((mgmt)->perfData->counters[(counter)]) = (I_64)(value); \
+		} \
+	} while (0)
+jlongArray newGCPhaseStatisticsArray(JNIEnv *env, J9GCPhaseStatistics *stats);
 
 
 #define MEMORY_SEGMENT_LIST_DO(segmentList, imageSegment) {\
@@ -536,6 +536,52 @@ Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getCurrentGCThreadsI
 	return result;
 }
 
+/* Fills stats with the J9FinalizerStatistics fields, in declaration order. */
+void JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerStatisticsImpl(JNIEnv *env, jobject beanInstance, jlongArray stats)
+{
+#if defined(J9VM_GC_FINALIZATION)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9FinalizerStatistics finalizerStats;
+	jlong values[9];
+
+	memset(&finalizerStats, 0, sizeof(finalizerStats));
+	javaVM->memoryManagerFunctions->j9gc_get_finalizer_statistics(javaVM, &finalizerStats);
+
+	values[0] = (jlong) finalizerStats.pendingObjects;
+	values[1] = (jlong) finalizerStats.pendingReferences;
+	values[2] = (jlong) finalizerStats.pendingClassLoaders;
+	values[3] = (jlong) finalizerStats.peakQueueDepth;
+	values[4] = (jlong) finalizerStats.jobsProcessed;
+	values[5] = (jlong) finalizerStats.activeThreads;
+	values[6] = (jlong) finalizerStats.oldestPendingAge;
+	values[7] = (jlong) finalizerStats.lastDrainLatency;
+	values[8] = (jlong) finalizerStats.maxDrainLatency;
+
+	(*env)->SetLongArrayRegion(env, stats, 0, sizeof(values) / sizeof(values[0]), values);
+#endif /* J9VM_GC_FINALIZATION */
+}
+
+/* Fills stats with the J9StringTableStatistics fields, in declaration order. */
+void JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getStringTableStatisticsImpl(JNIEnv *env, jobject beanInstance, jlongArray stats)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9StringTableStatistics stringTableStats;
+	jlong values[5];
+
+	memset(&stringTableStats, 0, sizeof(stringTableStats));
+	javaVM->memoryManagerFunctions->j9gc_get_string_table_statistics(javaVM, &stringTableStats);
+
+	values[0] = (jlong) stringTableStats.tableCount;
+	values[1] = (jlong) stringTableStats.internedStrings;
+	values[2] = (jlong) stringTableStats.lockAcquisitions;
+	values[3] = (jlong) stringTableStats.contendedAcquisitions;
+	values[4] = (jlong) stringTableStats.resizeCount;
+
+	(*env)->SetLongArrayRegion(env, stats, 0, sizeof(values) / sizeof(values[0]), values);
+}
+
 /* Implementation of the main loop of a thread that processes and dispatches memory usage notifications to Java handlers. */
 void JNICALL
 Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificationLoop(JNIEnv *env, jobject threadInstance)
@@ -588,7 +634,7 @@ Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificati
 		return;
 	}
 
-	helperGCID = (*env)->GetMethodID(env, threadClass, "dispatchGCNotificationHelper", "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;JJJ[J[J[J[J[J[J[JJ)V");
+	helperGCID = (*env)->GetMethodID(env, threadClass, "dispatchGCNotificationHelper", "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;JJJ[J[J[J[J[J[J[J[JJ)V");
 	if (NULL == helperGCID) {
 		return;
 	}
@@ -630,6 +676,7 @@ Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificati
 			jlongArray postUsedArray = NULL;
 			jlongArray postCommittedArray = NULL;
 			jlongArray postMaxArray = NULL;
+			jlongArray phaseArray = NULL;
 
 			initialArray = (*env)->NewLongArray(env, gcInfo->arraySize);
 			if (NULL == initialArray) {
@@ -701,6 +748,10 @@ Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificati
 			if ((*env)->ExceptionCheck(env)) {
 				return;
 			}
+			phaseArray = newGCPhaseStatisticsArray(env, &gcInfo->phaseStatistics);
+			if (NULL == phaseArray) {
+				return;
+			}
 
 			(*env)->CallVoidMethod(env, threadInstance, helperGCID,
 					gcName, gcAction, gcCause,
@@ -712,6 +763,7 @@ Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificati
 					postUsedArray,
 					postCommittedArray,
 					postMaxArray,
+					phaseArray,
 					(jlong)notification->sequenceNumber);
 			if ((*env)->ExceptionCheck(env)) {
 				return;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2016 IBM Corp. and others
+ * Copyright (c) 2009, 2026 IBM Corp. and others
  *
  * This program and the accompanying materials are made available under
  * the terms of the Eclipse Public License 2.0 which accompanies this
@@ -21,12 +21,376 @@
  *******************************************************************************/
 
 #include "jcl.h"
+#include "jvminit.h"
+#include "mgmtinit.h"
+
+#include <string.h>
+#if !defined(WIN32)
+#include <sys/stat.h>
+#include <unistd.h>
+#endif /* !defined(WIN32) */
 
 /*
- * This is the minimum implementation of sun.misc.Perf natives to
- * make swingset run. See CMVC 157428 for detailed descriptions
- * of what these methods should do.
+ * The sun.misc.Perf natives are backed by a region of shared performance counters.
+ * Unless -XX:-UsePerfData is specified the region is a file mapped into memory, named
+ * <tmpdir>/j9perfdata_<user>/<pid>, so that tools such as jstat can read the counters
+ * without attaching to the VM. -XX:+PerfDisableSharedMem keeps the region in private memory.
+ * The directory must be a real directory owned by the user with mode 0700, and files left
+ * behind by VMs which did not exit cleanly are deleted when the next VM maps its file.
+ */
+
+#define PERFDATA_DIRECTORY_PREFIX "j9perfdata_"
+#define PERFDATA_USERNAME_LENGTH 128
+
+static const char * const perfDataCounterNames[J9PERFDATA_COUNTER_COUNT] = {
+	"sun.gc.collector.0.invocations", /* J9PERFDATA_COUNTER_YOUNG_GC_COUNT */
+	"sun.gc.collector.0.time", /* J9PERFDATA_COUNTER_YOUNG_GC_TIME */
+	"sun.gc.collector.1.invocations", /* J9PERFDATA_COUNTER_FULL_GC_COUNT */
+	"sun.gc.collector.1.time", /* J9PERFDATA_COUNTER_FULL_GC_TIME */
+	"openj9.gc.heap.size", /* J9PERFDATA_COUNTER_HEAP_SIZE */
+	"openj9.gc.heap.used", /* J9PERFDATA_COUNTER_HEAP_USED */
+	"openj9.gc.heap.max", /* J9PERFDATA_COUNTER_HEAP_MAX */
+	"java.cls.loadedClasses", /* J9PERFDATA_COUNTER_CLASSES_LOADED */
+	"java.cls.unloadedClasses", /* J9PERFDATA_COUNTER_CLASSES_UNLOADED */
+	"sun.ci.totalCompiles", /* J9PERFDATA_COUNTER_COMPILES */
+	"sun.ci.totalTime", /* J9PERFDATA_COUNTER_COMPILE_TIME */
+	"openj9.ci.activeCompiles", /* J9PERFDATA_COUNTER_COMPILES_ACTIVE */
+	"java.threads.live", /* J9PERFDATA_COUNTER_THREADS_LIVE */
+	"java.threads.daemon", /* J9PERFDATA_COUNTER_THREADS_DAEMON */
+	"java.threads.livePeak", /* J9PERFDATA_COUNTER_THREADS_PEAK */
+	"java.threads.started", /* J9PERFDATA_COUNTER_THREADS_STARTED */
+	"sun.rt.safepoints", /* J9PERFDATA_COUNTER_SAFEPOINTS */
+	"sun.rt.safepointSyncTime", /* J9PERFDATA_COUNTER_SAFEPOINT_SYNC_TIME */
+};
+
+static const U_8 perfDataCounterVariability[J9PERFDATA_COUNTER_COUNT] = {
+	J9PERFDATA_V_MONOTONIC, J9PERFDATA_V_MONOTONIC, J9PERFDATA_V_MONOTONIC, J9PERFDATA_V_MONOTONIC,
+	J9PERFDATA_V_VARIABLE, J9PERFDATA_V_VARIABLE, J9PERFDATA_V_CONSTANT,
+	J9PERFDATA_V_MONOTONIC, J9PERFDATA_V_MONOTONIC,
+	J9PERFDATA_V_MONOTONIC, J9PERFDATA_V_MONOTONIC, J9PERFDATA_V_VARIABLE,
+	J9PERFDATA_V_VARIABLE, J9PERFDATA_V_VARIABLE, J9PERFDATA_V_MONOTONIC, J9PERFDATA_V_MONOTONIC,
+	J9PERFDATA_V_MONOTONIC, J9PERFDATA_V_MONOTONIC,
+};
+
+static const U_8 perfDataCounterUnits[J9PERFDATA_COUNTER_COUNT] = {
+	J9PERFDATA_U_EVENTS, J9PERFDATA_U_TICKS, J9PERFDATA_U_EVENTS, J9PERFDATA_U_TICKS,
+	J9PERFDATA_U_BYTES, J9PERFDATA_U_BYTES, J9PERFDATA_U_BYTES,
+	J9PERFDATA_U_EVENTS, J9PERFDATA_U_EVENTS,
+	J9PERFDATA_U_EVENTS, J9PERFDATA_U_TICKS, J9PERFDATA_U_NONE,
+	J9PERFDATA_U_NONE, J9PERFDATA_U_NONE, J9PERFDATA_U_NONE, J9PERFDATA_U_EVENTS,
+	J9PERFDATA_U_EVENTS, J9PERFDATA_U_TICKS,
+};
+
+static BOOLEAN mapPerfDataFile(J9JavaVM *vm, J9PerfData *perfData, U_32 size);
+static BOOLEAN checkPerfDataDirectory(J9JavaVM *vm, const char *directory);
+static void deleteStalePerfDataFiles(J9JavaVM *vm, const char *directory);
+static void *createPerfDataEntry(J9PerfData *perfData, const char *name, U_8 dataType, U_8 variability, U_8 units, U_32 vectorLength, const void *value, U_32 valueLength, U_32 dataLength);
+
+/**
+ * Check that the directory holding the counters can only be written by this user. Other users
+ * could otherwise replace or redirect the file, or read counters they have no access to.
+ * A directory owned by this user with other permissions, such as one created by an earlier
+ * release, is made private.
+ *
+ * @param[in] vm the J9JavaVM
+ * @param[in] directory the directory
+ * @return TRUE if the directory is private to this user, FALSE otherwise
+ */
+static BOOLEAN
+checkPerfDataDirectory(J9JavaVM *vm, const char *directory)
+{
+#if defined(WIN32)
+	struct J9FileStat dirStat;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	/* the temporary directory is private to the user */
+	return (0 == j9file_stat(directory, 0, &dirStat)) && dirStat.isDir;
+#else /* defined(WIN32) */
+	struct stat dirStat;
+
+	/* lstat() does not follow a symbolic link, which is then not a directory */
+	if ((0 != lstat(directory, &dirStat)) || !S_ISDIR(dirStat.st_mode) || (geteuid() != dirStat.st_uid)) {
+		return FALSE;
+	}
+	if (0700 != (dirStat.st_mode & 0777)) {
+		if ((0 != chmod(directory, 0700)) || (0 != lstat(directory, &dirStat))
+			|| !S_ISDIR(dirStat.st_mode) || (0700 != (dirStat.st_mode & 0777))
+		) {
+			return FALSE;
+		}
+	}
+	return TRUE;
+#endif /* defined(WIN32) */
+}
+
+/**
+ * Delete the files of VMs which are no longer running, they are not deleted if a VM crashes or is killed.
+ *
+ * @param[in] vm the J9JavaVM
+ * @param[in] directory the directory holding the files, named by process ID
  */
+static void
+deleteStalePerfDataFiles(J9JavaVM *vm, const char *directory)
+{
+	char fileName[EsMaxPath];
+	char path[EsMaxPath];
+	UDATA findHandle = 0;
+	I_32 findIndex = 0;
+	UDATA myPid = j9sysinfo_get_pid();
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	findHandle = j9file_findfirst(directory, fileName);
+	if ((UDATA)-1 == findHandle) {
+		return;
+	}
+	while (findIndex >= 0) {
+		UDATA pid = 0;
+		const char *cursor = fileName;
+
+		while (('0' <= *cursor) && ('9' >= *cursor)) {
+			pid = (pid * 10) + (UDATA)(*cursor - '0');
+			cursor += 1;
+		}
+		/* only files named by a process ID are counters, and a process which can't be checked is left alone */
+		if (('\0' == *cursor) && (cursor != fileName) && (pid != myPid) && (0 == j9sysinfo_process_exists(pid))) {
+			j9str_printf(PORTLIB, path, sizeof(path), "%s%s%s", directory, DIR_SEPARATOR_STR, fileName);
+			j9file_unlink(path);
+		}
+		findIndex = j9file_findnext(findHandle, fileName);
+	}
+	j9file_findclose(findHandle);
+}
+
+/**
+ * Map <tmpdir>/j9perfdata_<user>/<pid> into memory.
+ *
+ * @param[in] vm the J9JavaVM
+ * @param[in] perfData the counters being initialized
+ * @param[in] size the size of the region
+ * @return TRUE if the file was mapped, FALSE to fall back to private memory
+ */
+static BOOLEAN
+mapPerfDataFile(J9JavaVM *vm, J9PerfData *perfData, U_32 size)
+{
+	char userName[PERFDATA_USERNAME_LENGTH];
+	char *tmpDir = NULL;
+	char *path = NULL;
+	UDATA pathLength = 0;
+	IDATA tmpDirLength = 0;
+	IDATA fd = -1;
+	J9MmapHandle *mapHandle = NULL;
+	const char *separator = "";
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (!J9_ARE_ALL_BITS_SET(j9mmap_capabilities(), J9PORT_MMAP_CAPABILITY_WRITE | J9PORT_MMAP_CAPABILITY_READ)) {
+		return FALSE;
+	}
+	if (0 != j9sysinfo_get_username(userName, sizeof(userName))) {
+		return FALSE;
+	}
+	tmpDirLength = j9sysinfo_get_tmp(NULL, 0, TRUE);
+	if (0 >= tmpDirLength) {
+		return FALSE;
+	}
+	pathLength = (UDATA)tmpDirLength + sizeof(PERFDATA_DIRECTORY_PREFIX) + strlen(userName) + 32;
+	tmpDir = j9mem_allocate_memory(tmpDirLength, J9MEM_CATEGORY_VM_JCL);
+	path = j9mem_allocate_memory(pathLength, J9MEM_CATEGORY_VM_JCL);
+	if ((NULL == tmpDir) || (NULL == path) || (0 != j9sysinfo_get_tmp(tmpDir, tmpDirLength, TRUE))) {
+		goto fail;
+	}
+	if ((0 != strlen(tmpDir)) && (DIR_SEPARATOR != tmpDir[strlen(tmpDir) - 1])) {
+		separator = DIR_SEPARATOR_STR;
+	}
+
+	/* the directory may already exist, it is checked either way */
+	j9str_printf(PORTLIB, path, pathLength, "%s%s%s%s", tmpDir, separator, PERFDATA_DIRECTORY_PREFIX, userName);
+	if (0 == j9file_mkdir(path)) {
+		j9file_chmod(path, 0700);
+	}
+	if (!checkPerfDataDirectory(vm, path)) {
+		goto fail;
+	}
+	deleteStalePerfDataFiles(vm, path);
+
+	/* a file left by an earlier process with this ID is replaced, creating a new file never follows a symbolic link */
+	j9str_printf(PORTLIB, path, pathLength, "%s%s%s%s%s%zu", tmpDir, separator, PERFDATA_DIRECTORY_PREFIX, userName, DIR_SEPARATOR_STR, j9sysinfo_get_pid());
+	j9file_unlink(path);
+	fd = j9file_open(path, EsOpenCreateNew | EsOpenRead | EsOpenWrite, 0600);
+	if (-1 == fd) {
+		goto fail;
+	}
+	if (0 != j9file_set_length(fd, size)) {
+		goto fail;
+	}
+	mapHandle = j9mmap_map_file(fd, 0, size, path, J9PORT_MMAP_FLAG_WRITE | J9PORT_MMAP_FLAG_SHARED, J9MEM_CATEGORY_VM_JCL);
+	if (NULL == mapHandle) {
+		goto fail;
+	}
+
+	j9mem_free_memory(tmpDir);
+	perfData->base = mapHandle->pointer;
+	perfData->mapHandle = mapHandle;
+	perfData->fd = fd;
+	perfData->path = path;
+	return TRUE;
+
+fail:
+	if (-1 != fd) {
+		j9file_close(fd);
+		j9file_unlink(path);
+	}
+	j9mem_free_memory(path);
+	j9mem_free_memory(tmpDir);
+	return FALSE;
+}
+
+/**
+ * Append an entry to the counters. The entry is complete, including its initial value,
+ * before it is counted in the header, so readers see either all of it or none of it.
+ *
+ * @param[in] perfData the counters
+ * @param[in] name the name of the entry
+ * @param[in] dataType J9PERFDATA_TYPE_LONG or J9PERFDATA_TYPE_BYTE
+ * @param[in] variability the variability of the value
+ * @param[in] units the units of the value
+ * @param[in] vectorLength 0 for a scalar, otherwise the number of elements
+ * @param[in] value the initial value, may be NULL
+ * @param[in] valueLength the number of bytes of value to copy
+ * @param[in] dataLength the number of bytes of the value
+ * @return a pointer to the value, or NULL if the region is full
+ */
+static void *
+createPerfDataEntry(J9PerfData *perfData, const char *name, U_8 dataType, U_8 variability, U_8 units, U_32 vectorLength, const void *value, U_32 valueLength, U_32 dataLength)
+{
+	J9PerfDataHeader *header = (J9PerfDataHeader *)perfData->base;
+	UDATA nameLength = strlen(name) + 1;
+	UDATA dataOffset = ROUND_UP_TO_POWEROF2(sizeof(J9PerfDataEntry) + nameLength, sizeof(I_64));
+	UDATA entryLength = ROUND_UP_TO_POWEROF2(dataOffset + dataLength, sizeof(I_64));
+	U_8 *data = NULL;
+
+	omrthread_monitor_enter(perfData->mutex);
+	if (entryLength <= (UDATA)(header->capacity - header->used)) {
+		J9PerfDataEntry *entry = (J9PerfDataEntry *)(perfData->base + header->used);
+
+		entry->entryLength = (U_32)entryLength;
+		entry->vectorLength = vectorLength;
+		entry->dataOffset = (U_32)dataOffset;
+		entry->dataType = dataType;
+		entry->variability = variability;
+		entry->units = units;
+		memcpy(entry + 1, name, nameLength);
+		data = (U_8 *)entry + dataOffset;
+		if (NULL != value) {
+			memcpy(data, value, valueLength);
+		}
+
+		issueWriteBarrier();
+		header->used += (U_32)entryLength;
+		issueWriteBarrier();
+		header->entryCount += 1;
+	}
+	omrthread_monitor_exit(perfData->mutex);
+
+	return data;
+}
+
+/**
+ * Create the shared performance counters and the counters maintained by the VM.
+ * Called from managementInit(), which publishes the result in J9JavaLangManagementData.
+ *
+ * @param[in] vm the J9JavaVM
+ * @return the counters, or NULL if they are disabled or could not be created
+ */
+J9PerfData *
+perfDataInit(J9JavaVM *vm)
+{
+	J9PerfData *perfData = NULL;
+	J9PerfDataHeader *header = NULL;
+	IDATA enableIndex = FIND_AND_CONSUME_ARG(EXACT_MATCH, "-XX:+UsePerfData", NULL);
+	IDATA disableIndex = FIND_AND_CONSUME_ARG(EXACT_MATCH, "-XX:-UsePerfData", NULL);
+	IDATA sharedIndex = FIND_AND_CONSUME_ARG(EXACT_MATCH, "-XX:-PerfDisableSharedMem", NULL);
+	IDATA privateIndex = FIND_AND_CONSUME_ARG(EXACT_MATCH, "-XX:+PerfDisableSharedMem", NULL);
+	U_32 size = J9PERFDATA_DEFAULT_SIZE;
+	UDATA i = 0;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (disableIndex > enableIndex) {
+		return NULL;
+	}
+
+	perfData = j9mem_allocate_memory(sizeof(J9PerfData), J9MEM_CATEGORY_VM_JCL);
+	if (NULL == perfData) {
+		return NULL;
+	}
+	memset(perfData, 0, sizeof(J9PerfData));
+	perfData->fd = -1;
+	if (0 != omrthread_monitor_init_with_name(&perfData->mutex, 0, "Perf data entries")) {
+		j9mem_free_memory(perfData);
+		return NULL;
+	}
+
+	if ((privateIndex > sharedIndex) || !mapPerfDataFile(vm, perfData, size)) {
+		perfData->base = j9mem_allocate_memory(size, J9MEM_CATEGORY_VM_JCL);
+		if (NULL == perfData->base) {
+			perfDataTerminate(vm, perfData);
+			return NULL;
+		}
+		memset(perfData->base, 0, size);
+	}
+
+	header = (J9PerfDataHeader *)perfData->base;
+#if defined(J9VM_ENV_LITTLE_ENDIAN)
+	header->byteOrder = J9PERFDATA_BYTE_ORDER_LITTLE;
+#else /* J9VM_ENV_LITTLE_ENDIAN */
+	header->byteOrder = J9PERFDATA_BYTE_ORDER_BIG;
+#endif /* J9VM_ENV_LITTLE_ENDIAN */
+	header->version = J9PERFDATA_VERSION;
+	header->headerSize = (U_16)sizeof(J9PerfDataHeader);
+	header->capacity = size;
+	header->used = (U_32)ROUND_UP_TO_POWEROF2(sizeof(J9PerfDataHeader), sizeof(I_64));
+	header->entryCount = 0;
+	header->createTime = j9time_current_time_millis();
+	header->tickFrequency = J9PERFDATA_TICK_FREQUENCY;
+
+	for (i = 0; i < J9PERFDATA_COUNTER_COUNT; ++i) {
+		perfData->counters[i] = createPerfDataEntry(perfData, perfDataCounterNames[i], J9PERFDATA_TYPE_LONG,
+				perfDataCounterVariability[i], perfDataCounterUnits[i], 0, NULL, 0, sizeof(I_64));
+	}
+
+	/* readers check the magic last, so a partially initialized header is never used */
+	issueWriteBarrier();
+	header->magic = J9PERFDATA_MAGIC;
+
+	return perfData;
+}
+
+/**
+ * Unmap and delete the shared performance counters.
+ *
+ * @param[in] vm the J9JavaVM
+ * @param[in] perfData the counters, may be NULL
+ */
+void
+perfDataTerminate(J9JavaVM *vm, J9PerfData *perfData)
+{
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (NULL == perfData) {
+		return;
+	}
+	if (NULL != perfData->mapHandle) {
+		j9mmap_unmap_file(perfData->mapHandle);
+		j9file_close(perfData->fd);
+		j9file_unlink(perfData->path);
+		j9mem_free_memory(perfData->path);
+	} else {
+		j9mem_free_memory(perfData->base);
+	}
+	if (NULL != perfData->mutex) {
+		omrthread_monitor_destroy(perfData->mutex);
+	}
+	j9mem_free_memory(perfData);
+}
 
 /* public static native void registerNatives(); */
 void JNICALL
@@ -38,13 +402,27 @@ Java_sun_misc_Perf_registerNatives(JNIEnv *env, jclass klass)
 jobject JNICALL
 Java_sun_misc_Perf_attach(JNIEnv *env, jobject perf, jstring user, jint lvmid, jint mode)
 {
-	return NULL;
+	J9JavaVM *vm = ((J9VMThread *)env)->javaVM;
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	jobject result = NULL;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	/* only the counters of this VM are available, other VMs' counters are read from their files */
+	if ((NULL != mgmt) && (NULL != mgmt->perfData)
+		&& ((0 == lvmid) || ((UDATA)lvmid == j9sysinfo_get_pid()))
+	) {
+		J9PerfData *perfData = mgmt->perfData;
+		result = (*env)->NewDirectByteBuffer(env, perfData->base, ((J9PerfDataHeader *)perfData->base)->capacity);
+	}
+
+	return result;
 }
 
 /* private native void detach(java.nio.ByteBuffer); */
 jobject JNICALL
 Java_sun_misc_Perf_detach(JNIEnv * env, jobject perf, jobject byteBuffer)
 {
+	/* the counters belong to the VM and are released at shutdown */
 	return NULL;
 }
 
@@ -52,10 +430,27 @@ Java_sun_misc_Perf_detach(JNIEnv * env, jobject perf, jobject byteBuffer)
 jobject JNICALL
 Java_sun_misc_Perf_createLong(JNIEnv *env, jobject perf, jstring name, jint variability, jint units, jlong value)
 {
+	J9JavaLangManagementData *mgmt = ((J9VMThread *)env)->javaVM->managementData;
 	jclass klass;
 	jmethodID method;
 	jobject result = NULL;
 
+	if ((NULL != mgmt) && (NULL != mgmt->perfData)) {
+		const char *nameUTF = (*env)->GetStringUTFChars(env, name, NULL);
+		void *data = NULL;
+
+		if (NULL == nameUTF) {
+			/* exception is pending */
+			return NULL;
+		}
+		data = createPerfDataEntry(mgmt->perfData, nameUTF, J9PERFDATA_TYPE_LONG, (U_8)variability, (U_8)units, 0, &value, sizeof(value), sizeof(value));
+		(*env)->ReleaseStringUTFChars(env, name, nameUTF);
+		if (NULL != data) {
+			return (*env)->NewDirectByteBuffer(env, data, sizeof(value));
+		}
+	}
+
+	/* the counter is not shared, it lives in a private direct buffer */
 	klass = (*env)->FindClass(env, "java/nio/ByteBuffer");
 	if (NULL != klass) {
 		method = (*env)->GetStaticMethodID(env, klass, "allocateDirect", "(I)Ljava/nio/ByteBuffer;");
@@ -71,7 +466,35 @@ Java_sun_misc_Perf_createLong(JNIEnv *env, jobject perf, jstring name, jint vari
 jobject JNICALL
 Java_sun_misc_Perf_createByteArray(JNIEnv *env, jobject perf, jstring name, jint variability, jint units, jarray value, jint maxLength)
 {
-	return NULL;
+	J9JavaLangManagementData *mgmt = ((J9VMThread *)env)->javaVM->managementData;
+	jobject result = NULL;
+
+	if ((NULL != mgmt) && (NULL != mgmt->perfData) && (0 < maxLength)) {
+		const char *nameUTF = NULL;
+		jbyte *bytes = NULL;
+		jsize valueLength = (*env)->GetArrayLength(env, value);
+		void *data = NULL;
+
+		if (valueLength > maxLength) {
+			valueLength = maxLength;
+		}
+		nameUTF = (*env)->GetStringUTFChars(env, name, NULL);
+		if (NULL == nameUTF) {
+			/* exception is pending */
+			return NULL;
+		}
+		bytes = (*env)->GetByteArrayElements(env, (jbyteArray)value, NULL);
+		if (NULL != bytes) {
+			data = createPerfDataEntry(mgmt->perfData, nameUTF, J9PERFDATA_TYPE_BYTE, (U_8)variability, (U_8)units, (U_32)maxLength, bytes, (U_32)valueLength, (U_32)maxLength);
+			(*env)->ReleaseByteArrayElements(env, (jbyteArray)value, bytes, JNI_ABORT);
+		}
+		(*env)->ReleaseStringUTFChars(env, name, nameUTF);
+		if (NULL != data) {
+			result = (*env)->NewDirectByteBuffer(env, data, maxLength);
+		}
+	}
+
+	return result;
 }
 
 /* public native long highResCounter(); */
@@ -44,6 +44,7 @@ omr_add_exports(jclse
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_createMemoryManagers
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_createMemoryPools
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getCurrentGCThreadsImpl
+	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerStatisticsImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getGCMasterThreadCpuUsedImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getGCModeImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getGCSlaveThreadsCpuUsedImpl
@@ -57,6 +58,7 @@ omr_add_exports(jclse
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getSharedClassCacheMaxAotUnstoredBytesImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getSharedClassCacheMaxJitDataUnstoredBytesImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getSharedClassCacheSoftmxUnstoredBytesImpl
+	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getStringTableStatisticsImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_isSetMaxHeapSizeSupportedImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_isVerboseImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_setMaxHeapSizeImpl
@@ -215,6 +217,7 @@ omr_add_exports(jclse
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_Object_2Ljava_lang_String_2
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2Ljava_lang_String_2
+	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastCollectionPhaseInfoImpl
 	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastGcInfoImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getFreePhysicalMemorySizeImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getHardwareModelImpl
@@ -231,6 +234,9 @@ omr_add_exports(jclse
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_isDLPAREnabled
 	Java_com_ibm_lang_management_internal_ExtendedRuntimeMXBeanImpl_getProcessIDImpl
 	Java_com_ibm_lang_management_internal_ExtendedRuntimeMXBeanImpl_getVMIdleStateImpl
+	Java_com_ibm_lang_management_internal_GarbageCollectionEventBuffer_getCollectorNameImpl
+	Java_com_ibm_lang_management_internal_GarbageCollectionEventBuffer_openImpl
+	Java_com_ibm_lang_management_internal_GarbageCollectionEventBuffer_readImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadCategoryImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadsCpuUsageImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_setThreadCategoryImpl
@@ -525,7 +531,8 @@ endif()
 # java 9+
 if(NOT JAVA_SPEC_VERSION LESS 9)
 	omr_add_exports(jclse
-		Java_java_lang_StackWalker_getImpl
+		Java_java_lang_StackWalker_getBatchImpl
+		Java_java_lang_StackWalker_resolveFrameImpl
 		Java_java_lang_StackWalker_walkWrapperImpl
 		Java_java_lang_invoke_FieldVarHandle_lookupField
 		Java_java_lang_invoke_FieldVarHandle_unreflectField
@@ -36,6 +36,10 @@ typedef struct RasDumpGlobalStorage {
 	
 	UDATA noProtect; /* If set, do not take dumps under their own signal handler */
 	UDATA noFailover; /* If set, do not failover to /tmp etc if unable to write dump */
+
+	omrthread_monitor_t javacoreWriterMutex; /* Guards the count of threads finishing opts=ASYNC javacores */
+	UDATA javacoreWriterCount;
+	UDATA javacoreWritersStopped; /* If set, opts=ASYNC javacores are written by the dumping thread */
 } RasDumpGlobalStorage;
 
 struct J9RASdumpAgent; /* Forward struct declaration */
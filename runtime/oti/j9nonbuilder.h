@@ -640,6 +640,69 @@ typedef struct J9ROMRecordComponentShape {
 #define J9VM_MAX_HEAP_MEMORYPOOL_COUNT 4
 #define J9VM_MAX_NONHEAP_MEMORYPOOL_COUNT 4
 
+/* Phase breakdown of a single collection, filled in by j9gc_get_cycle_phase_statistics().
+ * Times are in nanoseconds. rootScanTime is summed over all the threads that took part in the collection.
+ * The per-worker busy and stall times cover the main parallel phase of the collection: the scavenge or
+ * copy-forward if one ran, otherwise the mark.
+ */
+#define J9GC_PHASE_STATISTICS_MAX_WORKERS 64
+
+typedef struct J9GCWorkerStatistics {
+	U_32 workerID;
+	U_32 padding;
+	U_64 busyTime;
+	U_64 stallTime;
+} J9GCWorkerStatistics;
+
+typedef struct J9GCReferenceStatistics {
+	U_64 candidates;
+	U_64 cleared;
+} J9GCReferenceStatistics;
+
+typedef struct J9GCPhaseStatistics {
+	U_64 markTime;
+	U_64 sweepTime;
+	U_64 compactTime;
+	U_64 copyTime;
+	U_64 rootScanTime;
+	U_64 rememberedSetTime;
+	U_64 rememberedSetCardsProcessed;
+	J9GCReferenceStatistics weakReferences;
+	J9GCReferenceStatistics softReferences;
+	J9GCReferenceStatistics phantomReferences;
+	U_32 workerCount;
+	U_32 padding;
+	J9GCWorkerStatistics workers[J9GC_PHASE_STATISTICS_MAX_WORKERS];
+} J9GCPhaseStatistics;
+
+/* Finalizer queue statistics, filled in by j9gc_get_finalizer_statistics().
+ * Latencies are in milliseconds and measure how long a backlog of finalizer jobs waited,
+ * from the first job queued on an empty queue until the finalizer threads emptied it again.
+ */
+typedef struct J9FinalizerStatistics {
+	U_64 pendingObjects;
+	U_64 pendingReferences;
+	U_64 pendingClassLoaders;
+	U_64 peakQueueDepth;
+	U_64 jobsProcessed;
+	U_64 activeThreads;
+	U_64 oldestPendingAge;
+	U_64 lastDrainLatency;
+	U_64 maxDrainLatency;
+} J9FinalizerStatistics;
+
+/* Interned string table statistics, filled in by j9gc_get_string_table_statistics().
+ * Lock counters are cumulative over all the sub-tables the string table has used.
+ * The values are a snapshot taken at the end of the last global GC.
+ */
+typedef struct J9StringTableStatistics {
+	U_64 tableCount;
+	U_64 internedStrings;
+	U_64 lockAcquisitions;
+	U_64 contendedAcquisitions;
+	U_64 resizeCount;
+} J9StringTableStatistics;
+
 typedef struct J9GarbageCollectionInfo {
 	U_32 gcID;
 	U_32 arraySize;
@@ -655,6 +718,7 @@ typedef struct J9GarbageCollectionInfo {
 	U_64 postUsed[J9VM_MAX_HEAP_MEMORYPOOL_COUNT + J9VM_MAX_NONHEAP_MEMORYPOOL_COUNT];
 	U_64 postCommitted[J9VM_MAX_HEAP_MEMORYPOOL_COUNT + J9VM_MAX_NONHEAP_MEMORYPOOL_COUNT];
 	I_64 postMax[J9VM_MAX_HEAP_MEMORYPOOL_COUNT + J9VM_MAX_NONHEAP_MEMORYPOOL_COUNT];
+	J9GCPhaseStatistics phaseStatistics;
 } J9GarbageCollectionInfo;
 
 typedef struct J9GarbageCollectorData {
@@ -665,8 +729,136 @@ typedef struct J9GarbageCollectorData {
 	I_64 totalMemoryFreed;
 	U_64 totalCompacts;
 	J9GarbageCollectionInfo lastGcInfo;
+	U_64 lastGcStartNanoTime;
+	U_64 compactsAtLastGcStart;
 } J9GarbageCollectorData;
 
+/* Binary GC event records, see com.ibm.lang.management.GarbageCollectionEvent for the Java side of the schema.
+ * Records are written in native byte order, only the first phaseCount entries of phases are meaningful and
+ * size is the number of bytes of the record that are copied out of the stream.
+ */
+#define J9GC_EVENT_RECORD_VERSION 1
+#define J9GC_EVENT_RECORD_TYPE_COLLECTION_END 1
+#define J9GC_EVENT_RECORD_FLAG_GLOBAL 0x1
+#define J9GC_EVENT_RECORD_FLAG_COMPACTED 0x2
+#define J9GC_EVENT_RECORD_MAX_PHASES 16
+
+/* phase IDs of J9GCEventPhase, see com.ibm.lang.management.GarbageCollectionEvent.Phase */
+#define J9GC_EVENT_PHASE_MARK 1
+#define J9GC_EVENT_PHASE_SWEEP 2
+#define J9GC_EVENT_PHASE_COMPACT 3
+#define J9GC_EVENT_PHASE_COPY 4
+#define J9GC_EVENT_PHASE_ROOT_SCAN 5
+#define J9GC_EVENT_PHASE_REMEMBERED_SET 6
+
+typedef struct J9GCEventPhase {
+	U_32 phaseID;
+	U_32 count;
+	U_64 time;
+} J9GCEventPhase;
+
+typedef struct J9GCEventRecord {
+	U_16 version;
+	U_16 size;
+	U_16 type;
+	U_16 phaseCount;
+	U_64 sequenceNumber;
+	U_32 collectorID;
+	U_32 flags;
+	U_64 collectionIndex;
+	U_64 startTime;
+	U_64 endTime;
+	U_64 duration;
+	U_64 preHeapSize;
+	U_64 preHeapUsed;
+	U_64 postHeapSize;
+	U_64 postHeapUsed;
+	J9GCEventPhase phases[J9GC_EVENT_RECORD_MAX_PHASES];
+} J9GCEventRecord;
+
+typedef struct J9GCEventStream {
+	omrthread_monitor_t monitor;
+	struct J9GCEventRecord *records;
+	U_32 capacity;
+	U_64 produced;
+} J9GCEventStream;
+
+/* Shared performance counters. The region is written in native byte order: a J9PerfDataHeader followed by
+ * entryCount J9PerfDataEntry records, each holding its name and an 8 byte aligned value. Entries are only appended
+ * and a new entry is complete before entryCount is incremented, so readers never need to lock.
+ * See sun_misc_Perf.c for the producer and openj9.tools.attach.diagnostics.tools.PerfDataFile for a reader.
+ */
+#define J9PERFDATA_MAGIC 0x4A395044
+#define J9PERFDATA_VERSION 1
+#define J9PERFDATA_BYTE_ORDER_BIG 0
+#define J9PERFDATA_BYTE_ORDER_LITTLE 1
+#define J9PERFDATA_DEFAULT_SIZE (64 * 1024)
+#define J9PERFDATA_TICK_FREQUENCY J9CONST64(1000000000)
+#define J9PERFDATA_TYPE_LONG 'J'
+#define J9PERFDATA_TYPE_BYTE 'B'
+
+/* variability and units, see jdk.internal.perf.Perf */
+#define J9PERFDATA_V_CONSTANT 1
+#define J9PERFDATA_V_MONOTONIC 2
+#define J9PERFDATA_V_VARIABLE 3
+#define J9PERFDATA_U_NONE 1
+#define J9PERFDATA_U_BYTES 2
+#define J9PERFDATA_U_TICKS 3
+#define J9PERFDATA_U_EVENTS 4
+
+/* counters maintained by the VM, see perfDataInit() for their names */
+#define J9PERFDATA_COUNTER_YOUNG_GC_COUNT 0
+#define J9PERFDATA_COUNTER_YOUNG_GC_TIME 1
+#define J9PERFDATA_COUNTER_FULL_GC_COUNT 2
+#define J9PERFDATA_COUNTER_FULL_GC_TIME 3
+#define J9PERFDATA_COUNTER_HEAP_SIZE 4
+#define J9PERFDATA_COUNTER_HEAP_USED 5
+#define J9PERFDATA_COUNTER_HEAP_MAX 6
+#define J9PERFDATA_COUNTER_CLASSES_LOADED 7
+#define J9PERFDATA_COUNTER_CLASSES_UNLOADED 8
+#define J9PERFDATA_COUNTER_COMPILES 9
+#define J9PERFDATA_COUNTER_COMPILE_TIME 10
+#define J9PERFDATA_COUNTER_COMPILES_ACTIVE 11
+#define J9PERFDATA_COUNTER_THREADS_LIVE 12
+#define J9PERFDATA_COUNTER_THREADS_DAEMON 13
+#define J9PERFDATA_COUNTER_THREADS_PEAK 14
+#define J9PERFDATA_COUNTER_THREADS_STARTED 15
+#define J9PERFDATA_COUNTER_SAFEPOINTS 16
+#define J9PERFDATA_COUNTER_SAFEPOINT_SYNC_TIME 17
+#define J9PERFDATA_COUNTER_COUNT 18
+
+typedef struct J9PerfDataHeader {
+	U_32 magic;
+	U_8 byteOrder;
+	U_8 version;
+	U_16 headerSize;
+	U_32 capacity;
+	U_32 used;
+	U_32 entryCount;
+	U_32 reserved;
+	I_64 createTime;
+	I_64 tickFrequency;
+} J9PerfDataHeader;
+
+typedef struct J9PerfDataEntry {
+	U_32 entryLength;
+	U_32 vectorLength;
+	U_32 dataOffset;
+	U_8 dataType;
+	U_8 variability;
+	U_8 units;
+	U_8 reserved;
+} J9PerfDataEntry;
+
+typedef struct J9PerfData {
+	U_8 *base;
+	struct J9MmapHandle *mapHandle;
+	IDATA fd;
+	char *path;
+	omrthread_monitor_t mutex;
+	I_64 *counters[J9PERFDATA_COUNTER_COUNT];
+} J9PerfData;
+
 typedef struct J9MemoryPoolData {
 	U_32 id;
 	char name[J9MEMORYPOOLDATA_MAX_NAME_BUFFER_SIZE];
@@ -747,6 +939,9 @@ typedef struct J9JavaLangManagementData {
 	U_32 gcCurrentThreads;
 	char counterPath[2048];
 	U_32 isCounterPathInitialized;
+	struct J9GCEventStream *gcEventStream;
+	struct J9PerfData *perfData;
+	U_32 phaseStatisticsRequested;
 } J9JavaLangManagementData;
 
 typedef struct J9LoadROMClassData {
@@ -4100,6 +4295,11 @@ typedef struct J9MemoryManagerFunctions {
 	I_32  ( *j9gc_get_jit_string_dedup_policy)(struct J9JavaVM *javaVM) ;
 	UDATA ( *j9gc_stringHashFn)(void *key, void *userData);
 	UDATA ( *j9gc_stringHashEqualFn)(void *leftKey, void *rightKey, void *userData);
+	void  ( *j9gc_get_cycle_phase_statistics)(struct OMR_VMThread *omrVMThread, struct J9GCPhaseStatistics *stats, BOOLEAN timeRootScanning) ;
+	void  ( *j9gc_get_string_table_statistics)(struct J9JavaVM *vm, struct J9StringTableStatistics *stats) ;
+#if defined(J9VM_GC_FINALIZATION)
+	void  ( *j9gc_get_finalizer_statistics)(struct J9JavaVM *vm, struct J9FinalizerStatistics *stats) ;
+#endif /* J9VM_GC_FINALIZATION */
 } J9MemoryManagerFunctions;
 
 typedef struct J9InternalVMFunctions {
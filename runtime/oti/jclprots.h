@@ -358,6 +358,14 @@ extern J9_CFUNC jlong JNICALL
 Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getMemoryUsedImpl(JNIEnv *env, jobject beanInstance, jint id);
 extern J9_CFUNC jobject JNICALL
 Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastGcInfoImpl(JNIEnv *env, jobject beanInstance, jint id);
+extern J9_CFUNC jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastCollectionPhaseInfoImpl(JNIEnv *env, jobject beanInstance, jint id);
+extern J9_CFUNC jlong JNICALL
+Java_com_ibm_lang_management_internal_GarbageCollectionEventBuffer_openImpl(JNIEnv *env, jclass clazz, jint capacity);
+extern J9_CFUNC jint JNICALL
+Java_com_ibm_lang_management_internal_GarbageCollectionEventBuffer_readImpl(JNIEnv *env, jclass clazz, jlongArray cursorArray, jbyteArray buffer, jlong timeout);
+extern J9_CFUNC jstring JNICALL
+Java_com_ibm_lang_management_internal_GarbageCollectionEventBuffer_getCollectorNameImpl(JNIEnv *env, jclass clazz, jint id);
 
 /* BBjclNativesCommonClassLoader*/
 jboolean JNICALL Java_java_lang_ClassLoader_isVerboseImpl (JNIEnv *env, jclass clazz);
@@ -419,6 +427,10 @@ extern J9_CFUNC jint JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getMaximumGCThreadsImpl(JNIEnv *env, jobject beanInstance);
 extern J9_CFUNC jint JNICALL 
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getCurrentGCThreadsImpl(JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC void JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerStatisticsImpl(JNIEnv *env, jobject beanInstance, jlongArray stats);
+extern J9_CFUNC void JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getStringTableStatisticsImpl(JNIEnv *env, jobject beanInstance, jlongArray stats);
 
 
 /* J9SourceJclSidecarInit*/
@@ -695,7 +707,7 @@ Java_com_ibm_oti_vm_VM_setDaemonThreadImpl (JNIEnv *env, jobject recv, jobject a
 void JNICALL Java_com_ibm_oti_vm_VM_dumpString(JNIEnv * env, jclass clazz, jstring str);
 jboolean JNICALL Java_com_ibm_oti_vm_VM_appendToCPNativeImpl(JNIEnv * env, jclass clazz, jstring classPathAdditions, jstring newClassPath);
 jboolean JNICALL Java_com_ibm_oti_vm_VM_isApplicationClassLoaderPresent(JNIEnv * env, jclass clazz);
-jstring JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl(JNIEnv * env, jclass unused);
+jstring JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl(JNIEnv * env, jclass unused, jboolean live, jint maxClasses);
 jobjectArray JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpAllThreadsImpl(JNIEnv *env, jobject beanInstance,
 	jboolean getLockedMonitors, jboolean getLockedSynchronizers, jint maxDepth);
 jstring JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_triggerDumpsImpl(JNIEnv *env, jclass clazz, jstring opts, jstring event);
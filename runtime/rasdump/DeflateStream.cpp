@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+/* Includes */
+#include <string.h>
+#include "j9cfg.h"
+#include "DeflateStream.hpp"
+
+#if defined(J9VM_OPT_ZLIB_SUPPORT)
+#if defined(AIXPPC)	/* hack for zlib/AIX problem */
+#define STDC
+#endif
+#include "zlib.h"
+
+/* windowBits of 15 plus 16 selects the gzip wrapper rather than the zlib one */
+#define DEFLATE_GZIP_WINDOW_BITS (15 + 16)
+#define DEFLATE_MEMORY_LEVEL 8
+
+/* ZLib interface to j9mem_allocate_memory */
+static voidpf
+deflateAlloc(voidpf opaque, uInt items, uInt size)
+{
+	PORT_ACCESS_FROM_PORT((J9PortLibrary*)opaque);
+
+	return j9mem_allocate_memory((UDATA)items * size, OMRMEM_CATEGORY_VM);
+}
+
+/* ZLib interface to j9mem_free_memory */
+static void
+deflateFree(voidpf opaque, voidpf address)
+{
+	PORT_ACCESS_FROM_PORT((J9PortLibrary*)opaque);
+
+	j9mem_free_memory(address);
+}
+#endif /* J9VM_OPT_ZLIB_SUPPORT */
+
+/* Constructor */
+DeflateStream::DeflateStream(J9PortLibrary* portLibrary) :
+	_PortLibrary(portLibrary),
+	_FileHandle(-1),
+	_Stream(NULL),
+	_Buffer(NULL),
+	_BufferSize(64 * 1024)
+{
+	/* Nothing to do */
+}
+
+/* Destructor */
+DeflateStream::~DeflateStream()
+{
+	close();
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* DeflateStream::open() method implementation                                                    */
+/*                                                                                                */
+/* The compressor favours speed over ratio: dumps are usually written while the VM is stopped,    */
+/* and the output of Z_BEST_SPEED is still a fraction of the size of a PHD or javacore file.      */
+/* On any failure nothing has been written to the file, so the caller can fall back to writing    */
+/* uncompressed data.                                                                             */
+/*                                                                                                */
+/**************************************************************************************************/
+bool
+DeflateStream::open(IDATA fileHandle)
+{
+#if defined(J9VM_OPT_ZLIB_SUPPORT)
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	if (-1 == fileHandle) {
+		return false;
+	}
+
+	_Buffer = (char*)j9mem_allocate_memory(_BufferSize, OMRMEM_CATEGORY_VM);
+	_Stream = (z_stream*)j9mem_allocate_memory(sizeof(z_stream), OMRMEM_CATEGORY_VM);
+	if ((NULL == _Buffer) || (NULL == _Stream)) {
+		goto fail;
+	}
+
+	memset(_Stream, 0, sizeof(z_stream));
+	_Stream->zalloc = deflateAlloc;
+	_Stream->zfree = deflateFree;
+	_Stream->opaque = (voidpf)_PortLibrary;
+
+	if (Z_OK != deflateInit2(_Stream, Z_BEST_SPEED, Z_DEFLATED, DEFLATE_GZIP_WINDOW_BITS, DEFLATE_MEMORY_LEVEL, Z_DEFAULT_STRATEGY)) {
+		goto fail;
+	}
+
+	_Stream->next_out = (Bytef*)_Buffer;
+	_Stream->avail_out = (uInt)_BufferSize;
+	_FileHandle = fileHandle;
+	return true;
+
+fail:
+	j9mem_free_memory(_Stream);
+	j9mem_free_memory(_Buffer);
+	_Stream = NULL;
+	_Buffer = NULL;
+#endif /* J9VM_OPT_ZLIB_SUPPORT */
+	return false;
+}
+
+/* Method for writing the gzip trailer and releasing the compressor */
+bool
+DeflateStream::close(void)
+{
+	bool ok = true;
+
+#if defined(J9VM_OPT_ZLIB_SUPPORT)
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	if (NULL != _Stream) {
+		ok = deflateToFile(Z_FINISH);
+		deflateEnd(_Stream);
+		j9mem_free_memory(_Stream);
+		_Stream = NULL;
+	}
+	if (NULL != _Buffer) {
+		j9mem_free_memory(_Buffer);
+		_Buffer = NULL;
+	}
+#endif /* J9VM_OPT_ZLIB_SUPPORT */
+
+	_FileHandle = -1;
+	return ok;
+}
+
+/* Methods for getting the object's status */
+bool
+DeflateStream::isOpen(void) const
+{
+	return NULL != _Stream;
+}
+
+/* Method for compressing data to the file */
+bool
+DeflateStream::write(const char* data, IDATA length)
+{
+#if defined(J9VM_OPT_ZLIB_SUPPORT)
+	if (NULL == _Stream) {
+		return false;
+	}
+
+	_Stream->next_in = (Bytef*)data;
+	_Stream->avail_in = (uInt)length;
+	return deflateToFile(Z_NO_FLUSH);
+#else /* J9VM_OPT_ZLIB_SUPPORT */
+	return false;
+#endif /* J9VM_OPT_ZLIB_SUPPORT */
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* DeflateStream::deflateToFile() method implementation                                           */
+/*                                                                                                */
+/* Runs the compressor until all pending input has been consumed, writing the output buffer to    */
+/* the file each time it fills. With Z_FINISH the loop also drains the compressor and writes the  */
+/* gzip trailer.                                                                                  */
+/*                                                                                                */
+/**************************************************************************************************/
+bool
+DeflateStream::deflateToFile(int flush)
+{
+#if defined(J9VM_OPT_ZLIB_SUPPORT)
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	for (;;) {
+		int rc = deflate(_Stream, flush);
+
+		if ((Z_OK != rc) && (Z_STREAM_END != rc) && (Z_BUF_ERROR != rc)) {
+			return false;
+		}
+
+		UDATA pending = _BufferSize - _Stream->avail_out;
+		bool bufferFull = (0 == _Stream->avail_out);
+
+		if ((0 != pending) && (bufferFull || (Z_FINISH == flush))) {
+			if (j9file_write(_FileHandle, _Buffer, pending) != (IDATA)pending) {
+				return false;
+			}
+			_Stream->next_out = (Bytef*)_Buffer;
+			_Stream->avail_out = (uInt)_BufferSize;
+		}
+
+		if (Z_FINISH == flush) {
+			if (Z_STREAM_END == rc) {
+				return true;
+			}
+		} else if ((0 == _Stream->avail_in) && !bufferFull) {
+			return true;
+		}
+	}
+#else /* J9VM_OPT_ZLIB_SUPPORT */
+	return false;
+#endif /* J9VM_OPT_ZLIB_SUPPORT */
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+#ifndef DEFLATESTREAM_HPP
+#define DEFLATESTREAM_HPP
+
+/* Includes */
+#include "j9port.h"
+
+/* Declarations to avoid inclusions */
+struct z_stream_s;
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* Class for writing gzip compressed data to an open file                                         */
+/*                                                                                                */
+/**************************************************************************************************/
+class DeflateStream
+{
+public :
+	/* Constructor */
+	DeflateStream(J9PortLibrary* portLibrary);
+
+	/* Destructor */
+	~DeflateStream();
+
+	/* Method for starting a gzip member on an open file, returns false if compression is unavailable */
+	bool open(IDATA fileHandle);
+
+	/* Method for writing the gzip trailer and releasing the compressor */
+	bool close(void);
+
+	/* Methods for getting the object's status */
+	bool isOpen(void) const;
+
+	/* Method for compressing data to the file */
+	bool write(const char* data, IDATA length);
+
+private :
+	/* Prevent use of the copy constructor and assignment operator */
+	DeflateStream(const DeflateStream& source);
+	DeflateStream& operator=(const DeflateStream& source);
+
+	bool deflateToFile(int flush);
+
+	/* Declared data */
+	J9PortLibrary*     _PortLibrary;
+	IDATA              _FileHandle;
+	struct z_stream_s* _Stream;
+	char*              _Buffer;
+	UDATA              _BufferSize;
+};
+
+#endif /* DEFLATESTREAM_HPP */
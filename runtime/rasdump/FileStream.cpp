@@ -29,7 +29,8 @@
 FileStream::FileStream(J9PortLibrary* portLibrary) :
 	_PortLibrary(portLibrary),
 	_FileHandle(-1),
-	_Error(0)
+	_Error(0),
+	_Deflater(portLibrary)
 {
 	/* Nothing to do */
 }
@@ -42,10 +43,21 @@ FileStream::~FileStream()
 
 /* Method for opening the file */
 void
-FileStream::open(const char* fileName)
+FileStream::open(const char* fileName, bool compress)
 {
 	if (fileName[0] != '-' ) {
-		_FileHandle = j9cached_file_open(_PortLibrary, fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate | EsOpenCreateNoTag, 0666);
+		if (compress) {
+			/* The compressor buffers its own output, so the file is written directly rather than through the cached file API */
+			PORT_ACCESS_FROM_PORT(_PortLibrary);
+			_FileHandle = j9file_open(fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate | EsOpenCreateNoTag, 0666);
+			if ((_FileHandle != -1) && !_Deflater.open(_FileHandle)) {
+				/* Compression is unavailable, reopen through the cached file API and write the file uncompressed */
+				j9file_close(_FileHandle);
+				_FileHandle = j9cached_file_open(_PortLibrary, fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate | EsOpenCreateNoTag, 0666);
+			}
+		} else {
+			_FileHandle = j9cached_file_open(_PortLibrary, fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate | EsOpenCreateNoTag, 0666);
+		}
 		_Error = 0;
 	}
 }
@@ -54,7 +66,14 @@ FileStream::open(const char* fileName)
 void 
 FileStream::close(void)
 {
-	if (_FileHandle != -1) {
+	if (_Deflater.isOpen()) {
+		PORT_ACCESS_FROM_PORT(_PortLibrary);
+		if (!_Deflater.close() && (0 == _Error)) {
+			_Error = -1;
+		}
+		j9file_sync(_FileHandle);
+		j9file_close(_FileHandle);
+	} else if (_FileHandle != -1) {
 		j9cached_file_sync(_PortLibrary, _FileHandle);
 		j9cached_file_close(_PortLibrary, _FileHandle);
 	}
@@ -78,6 +97,13 @@ void
 FileStream::writeCharacters(const char* data, IDATA length)
 {
 	if (_FileHandle != -1 && ! _Error) {
+		if (_Deflater.isOpen()) {
+			if (!_Deflater.write(data, length)) {
+				_Error = -1;
+			}
+			return;
+		}
+
 		IDATA rc = j9cached_file_write(_PortLibrary, _FileHandle, data, length);
 
 		if (rc != length) {
@@ -24,6 +24,7 @@
 
 /* Includes */
 #include "j9port.h"
+#include "DeflateStream.hpp"
 
 /**************************************************************************************************/
 /*                                                                                                */
@@ -39,8 +40,8 @@ public :
 	/* Destructor */
 	~FileStream();
 
-	/* Method for opening the file */
-	void open(const char* fileName);
+	/* Method for opening the file, optionally gzip compressing everything written to it */
+	void open(const char* fileName, bool compress = false);
 
 	/* Method for closing the file */
 	void close(void);
@@ -64,6 +65,7 @@ protected :
 	J9PortLibrary* _PortLibrary;
 	IDATA          _FileHandle;
 	IDATA          _Error;
+	DeflateStream  _Deflater;
 };
 
 #endif
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2019 IBM Corp. and others
+ * Copyright (c) 2003, 2026 IBM Corp. and others
  *
  * This program and the accompanying materials are made available under
  * the terms of the Eclipse Public License 2.0 which accompanies this
@@ -31,11 +31,13 @@
 TextFileStream::TextFileStream(J9PortLibrary* portLibrary) :
 	_Buffer(NULL),
 	_IsOpen(false),
+	_InMemory(false),
 	_BufferPos(0),
 	_BufferSize(16*1024),
 	_PortLibrary(portLibrary),
 	_FileHandle(-1),
-	_Error(false)
+	_Error(false),
+	_Deflater(portLibrary)
 {
 	_Buffer = (char *) OMRPORT_FROM_J9PORT(_PortLibrary)->mem_allocate_memory(OMRPORT_FROM_J9PORT(_PortLibrary), _BufferSize, "TextFileStream::TextFileStream", OMRMEM_CATEGORY_VM);
 	if (_Buffer == NULL) {
@@ -51,9 +53,10 @@ TextFileStream::~TextFileStream()
 
 /* Method for opening the file */
 void
-TextFileStream::open(const char* fileName, bool cacheWrites)
+TextFileStream::open(const char* fileName, bool cacheWrites, bool compress)
 {
 	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	_Error = false;
 	if (0 == strcmp(fileName, J9RAS_STDOUT_NAME)) {
 		_FileHandle = J9PORT_TTY_OUT; 
 	} else if (0 == strcmp(fileName, J9RAS_STDERR_NAME)) {
@@ -62,6 +65,10 @@ TextFileStream::open(const char* fileName, bool cacheWrites)
 		_FileHandle = j9file_open(fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate | EsOpenCreateNoTag, 0666);
 		if (_FileHandle != -1) {
 			_IsOpen = true;
+			if (compress) {
+				/* Compressed output is left in the VM's internal encoding, it cannot be converted to the platform encoding */
+				_Deflater.open(_FileHandle);
+			}
 		}
 		
 	}
@@ -70,6 +77,54 @@ TextFileStream::open(const char* fileName, bool cacheWrites)
 	}
 }
 
+/* Method for collecting everything written in memory rather than in a file, the buffer grows as needed */
+void
+TextFileStream::openInMemory(void)
+{
+	_InMemory = true;
+}
+
+/* Method for taking ownership of the data collected in memory, the caller must free the returned buffer */
+char*
+TextFileStream::detachBuffer(UDATA* length)
+{
+	char* data = _Buffer;
+
+	*length = _BufferPos;
+	_Buffer = NULL;
+	_BufferPos = 0;
+	_BufferSize = 0;
+	_InMemory = false;
+
+	return data;
+}
+
+/* Method for finding how much has been collected in memory so far */
+UDATA
+TextFileStream::getInMemoryLength(void) const
+{
+	return _BufferPos;
+}
+
+/* Method for growing the in memory buffer so it can hold at least the required number of bytes */
+bool
+TextFileStream::growBuffer(UDATA required)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	UDATA newSize = OMR_MAX(_BufferSize * 2, required);
+	char* newBuffer = (char *) j9mem_allocate_memory(newSize, OMRMEM_CATEGORY_VM);
+
+	if (newBuffer == NULL) {
+		return false;
+	}
+	memcpy(newBuffer, _Buffer, _BufferPos);
+	j9mem_free_memory(_Buffer);
+	_Buffer = newBuffer;
+	_BufferSize = newSize;
+
+	return true;
+}
+
 /* Method for closing the file */
 void 
 TextFileStream::close(void)
@@ -77,7 +132,13 @@ TextFileStream::close(void)
 	PORT_ACCESS_FROM_PORT(_PortLibrary);
 	if (_FileHandle != -1) {
 		if(_BufferSize != 0) {
-			j9file_write_text(_FileHandle, _Buffer, _BufferPos);
+			writeToFile(_Buffer, _BufferPos);
+		}
+		if (_Deflater.isOpen()) {
+			/* Completing the gzip stream writes out everything still held by the compressor */
+			if (!_Deflater.close()) {
+				_Error = true;
+			}
 		}
 		j9file_sync(_FileHandle);
 		if (_IsOpen) {
@@ -86,8 +147,9 @@ TextFileStream::close(void)
 		}
 	}
 
+	/* _Error is kept so that a failure to complete the file can be seen after closing it */
 	_FileHandle = -1;	
-	_Error      = false;
+	_InMemory   = false;
 	if(_Buffer) {
 		j9mem_free_memory(_Buffer);
 		_Buffer = NULL;
@@ -109,13 +171,26 @@ bool TextFileStream::isError(void) const
 void
 TextFileStream::writeCharacters(const char* data, IDATA length)
 {
-	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	/* in memory, keep everything and grow the buffer rather than flushing it */
+	if(_InMemory) {
+		if(!_Error) {
+			if((_BufferSize - _BufferPos) < (UDATA) length) {
+				_Error = !growBuffer(_BufferPos + (UDATA) length);
+			}
+			if(!_Error) {
+				memcpy(&_Buffer[_BufferPos], data, length);
+				_BufferPos += length;
+			}
+		}
+		return;
+	}
+
 	/* deal with the simple no-handle and non-cached cases */
 	if(_FileHandle == -1) {
 		return;
 	}
 	if(_BufferSize == 0) {
-		_Error = _Error || j9file_write_text(_FileHandle, data, length);
+		_Error = _Error || writeToFile(data, length);
 		return;
 	}
 
@@ -134,17 +209,29 @@ TextFileStream::writeCharacters(const char* data, IDATA length)
 	if(_BufferPos == _BufferSize) {
 		/* flush full & copy remaining */
 		_BufferPos = 0;
-		_Error = _Error || j9file_write_text(_FileHandle, _Buffer, _BufferSize);
+		_Error = _Error || writeToFile(_Buffer, _BufferSize);
 		if(remainingBytes < _BufferSize) {
 			memcpy(_Buffer, data+bytesToCopyIntoBuffer, remainingBytes);
 			_BufferPos = remainingBytes;
 		} else {
 			/* what's left is fully bigger than a single buffer - just write it out */
-			_Error = _Error || j9file_write_text(_FileHandle, data+bytesToCopyIntoBuffer, remainingBytes);
+			_Error = _Error || writeToFile(data+bytesToCopyIntoBuffer, remainingBytes);
 		}
 	}
 }
 
+/* Method for passing data to the file, through the compressor if there is one. Returns true on error, like j9file_write_text() */
+bool
+TextFileStream::writeToFile(const char* data, UDATA length)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	if (_Deflater.isOpen()) {
+		return !_Deflater.write(data, length);
+	}
+	return 0 != j9file_write_text(_FileHandle, data, length);
+}
+
 /* Method for writing characters described by a J9UTF8 structure to the file*/
 void
 TextFileStream::writeCharacters(const J9UTF8* data)
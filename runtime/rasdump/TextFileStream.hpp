@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2019 IBM Corp. and others
+ * Copyright (c) 2003, 2026 IBM Corp. and others
  *
  * This program and the accompanying materials are made available under
  * the terms of the Eclipse Public License 2.0 which accompanies this
@@ -24,6 +24,7 @@
 
 /* Includes */
 #include "j9port.h"
+#include "DeflateStream.hpp"
 
 /* Declarations to avoid inclusions */
 struct J9UTF8;
@@ -42,8 +43,13 @@ public :
 	/* Destructor */
 	~TextFileStream();
 
-	/* Method for opening the file */
-	void open(const char* fileName, bool cacheWrites);
+	/* Method for opening the file, optionally gzip compressing everything written to it */
+	void open(const char* fileName, bool cacheWrites, bool compress = false);
+
+	/* Methods for collecting everything written in memory, to be written to a file later */
+	void openInMemory(void);
+	char* detachBuffer(UDATA* length);
+	UDATA getInMemoryLength(void) const;
 
 	/* Method for closing the file */
 	void close(void);
@@ -66,8 +72,11 @@ private :
 	/* Prevent use of the copy constructor and assignment operator */
 	TextFileStream(const TextFileStream& source);
 	TextFileStream& operator=(const TextFileStream& source);
+	bool writeToFile(const char* data, UDATA length);
+	bool growBuffer(UDATA required);
 	char *_Buffer;
 	bool _IsOpen;
+	bool _InMemory;
 	UDATA _BufferPos;
 	UDATA _BufferSize;
 
@@ -76,6 +85,7 @@ protected :
 	J9PortLibrary* _PortLibrary;
 	IDATA          _FileHandle;
 	bool           _Error;
+	DeflateStream  _Deflater;
 };
 
 #endif /* TEXTFILESTREAM_HPP */
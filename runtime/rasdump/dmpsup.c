@@ -110,6 +110,7 @@ static void abortHandler (int sig);
 static void initRasDumpGlobalStorage(J9JavaVM *vm);
 static void freeRasDumpGlobalStorage(J9JavaVM *vm);
 static void hookVmInitialized PROTOTYPE((J9HookInterface** hook, UDATA eventNum, void* eventData, void* userData));
+static void hookVmShuttingDown PROTOTYPE((J9HookInterface** hook, UDATA eventNum, void* eventData, void* userData));
 #if defined(LINUX)
 static void appendSystemInfoFromFile(J9JavaVM *vm, U_32 key, const char *fileName );
 #endif /* defined(LINUX) */
@@ -1200,6 +1201,9 @@ initRasDumpGlobalStorage(J9JavaVM *vm)
 			
 			omrthread_monitor_exit(dump_storage->dumpLabelTokensMutex);
 		} 
+
+		/* without the mutex opts=ASYNC javacores are written by the dumping thread */
+		omrthread_monitor_init_with_name(&dump_storage->javacoreWriterMutex, 0, "javacore writer mutex");
 	}
 }
 	
@@ -1223,6 +1227,10 @@ freeRasDumpGlobalStorage(J9JavaVM *vm)
 			j9str_free_tokens(dump_storage->dumpLabelTokens);
 		}
 
+		if (NULL != dump_storage->javacoreWriterMutex) {
+			omrthread_monitor_destroy(dump_storage->javacoreWriterMutex);
+		}
+
 		/* now free the rasdump global storage */
 		j9mem_free_memory(dump_storage);
 	}
@@ -1236,6 +1244,15 @@ hookVmInitialized(J9HookInterface** hook, UDATA eventNum, void* eventData, void*
 	vmThread->javaVM->internalVMFunctions->rasStartDeferredThreads(vmThread->javaVM);
 }
 
+static void
+hookVmShuttingDown(J9HookInterface** hook, UDATA eventNum, void* eventData, void* userData)
+{
+	J9VMThread* vmThread = ((J9VMShutdownEvent *)eventData)->vmThread;
+
+	/* Let opts=ASYNC javacores in progress complete before the VM goes away */
+	waitForDeferredJavacores(vmThread->javaVM, vmThread, TRUE);
+}
+
 jint JNICALL
 JVM_OnLoad(JavaVM *vm, char *options, void *reserved)
 {
@@ -1460,6 +1477,14 @@ J9VMDllMain(J9JavaVM *vm, IDATA stage, void *reserved)
 				 */
 				initRasDumpGlobalStorage(vm);
 
+				if ((*hook)->J9HookRegisterWithCallSite(hook, J9HOOK_VM_SHUTTING_DOWN, hookVmShuttingDown, OMR_GET_CALLSITE(), NULL)) {
+					/* Nothing would wait for background writers at shutdown, so don't start any */
+					RasDumpGlobalStorage *dump_storage = (RasDumpGlobalStorage *)vm->j9rasdumpGlobalStorage;
+					if (NULL != dump_storage) {
+						dump_storage->javacoreWritersStopped = 1;
+					}
+				}
+
 				/* Swap in new dump facade */
 				if (OMR_ERROR_NONE == pushDumpFacade(vm)) {
 					retVal = configureDumpAgents(vm);
@@ -27,6 +27,7 @@
 #include "HeapIteratorAPI.h"
 #include "j9dmpnls.h"
 #include "FileStream.hpp"
+#include "omrthread.h"
 
 #include "ut_j9dmp.h"
 
@@ -43,6 +44,11 @@ static jvmtiIterationControl binaryHeapDumpObjectIteratorCallback (J9JavaVM* vm,
 static jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorTraitsCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 static jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 
+static jvmtiIterationControl binaryHeapDumpRegionCounterCallback        (J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+static jvmtiIterationControl binaryHeapDumpParallelRegionIteratorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+static jvmtiIterationControl binaryHeapDumpChunkObjectIteratorCallback   (J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor,  void* userData);
+static int J9THREAD_PROC     binaryHeapDumpWorkerThreadProc(void* entryArg);
+
 #define allClassesStartDo(vm, state, loader) \
 	vm->internalVMFunctions->allClassesStartDo(state, vm, loader)
 
@@ -756,6 +762,9 @@ private :
 	friend jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 	friend jvmtiIterationControl binaryHeapDumpHeapIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateHeapDescriptor* heapDescriptor, void* userData);
 	friend jvmtiIterationControl binaryHeapDumpRegionIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+	friend jvmtiIterationControl binaryHeapDumpParallelRegionIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+	friend jvmtiIterationControl binaryHeapDumpChunkObjectIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, void* userData);
+	friend int J9THREAD_PROC     binaryHeapDumpWorkerThreadProc(void* entryArg);
 
 	/* Nested class for determining the characteristics of the references */
 	class ReferenceTraits
@@ -828,6 +837,10 @@ private :
 
 		/* Method for setting the object back to its initial state (i.e. empty) */
 		void clear(void);
+
+		/* Methods for carrying the cache of a parallel worker over to the dump file */
+		void copyTo(const void** cache, int* index) const;
+		void merge(const void* const* cache, int index, int rotation);
 		
 	private :
 		/* Prevent use of the copy constructor and assignment operator */
@@ -839,11 +852,59 @@ private :
 		int         _Index;
 	};
 
+	/* Records encoded by a parallel worker for a single region, waiting to be written to the file */
+	struct RegionChunk
+	{
+		char*                        _Data;
+		UDATA                        _Length;
+		UDATA                        _Capacity;
+		J9MM_IterateObjectDescriptor _FirstObject;
+		bool                         _HasFirstObject;
+		void*                        _LastObject;
+		const void*                  _Cache[4];
+		int                          _CacheIndex;
+		UDATA*                       _ShortRecords;
+		UDATA                        _ShortRecordCount;
+		UDATA                        _ShortRecordCapacity;
+		bool                         _Done;
+		bool                         _Error;
+		const char*                  _ErrorText;
+	};
+
+	/* State shared by the dumping thread and the worker threads of a parallel dump */
+	struct ParallelDump
+	{
+		BinaryHeapDumpWriter*        _Writer;
+		J9MM_IterateSpaceDescriptor* _Space;
+		omrthread_monitor_t          _Monitor;
+		RegionChunk*                 _Chunks;
+		UDATA                        _RegionCount;
+		UDATA                        _NextRegion;
+		UDATA                        _StitchedRegions;
+		UDATA                        _Window;
+		UDATA                        _StartingWorkers;
+		UDATA                        _AttachedWorkers;
+		UDATA                        _LiveWorkers;
+		volatile bool                _Abort;
+	};
+
 	friend class ReferenceTraits;
 	friend class ReferenceWriter;
 
+	/* Constructor for the writers of the parallel worker threads */
+	BinaryHeapDumpWriter(BinaryHeapDumpWriter* parent, ParallelDump* parallelDump);
+
 	/* Internal methods */
 	void             openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDesriptor);
+	bool             writeRegionsInParallel(J9MM_IterateSpaceDescriptor* spaceDescriptor);
+	void             encodeClaimedRegions(bool attached);
+	jvmtiIterationControl encodeRegionIfClaimed(J9MM_IterateRegionDescriptor* regionDescription);
+	void             encodeChunkObject(J9MM_IterateObjectDescriptor* objectDescriptor);
+	UDATA            claimRegion(void);
+	void             writeChunk(RegionChunk* chunk);
+	bool             appendToChunk(const char* data, IDATA length);
+	void             noteShortRecord(void);
+	static void      freeChunk(J9PortLibrary* portLibrary, RegionChunk* chunk);
 	void             writeDumpFileHeader(void);
 	void             writeDumpFileTrailer(void);
 	void             writeFullVersionRecord(void);
@@ -873,6 +934,12 @@ private :
 	ClassCache        _ClassCache;
 	bool              _FileMode;
 	bool              _Error;
+	bool              _ParallelRequested;
+	bool              _Compressed;
+	ParallelDump*     _Parallel;
+	RegionChunk*      _Chunk;
+	UDATA             _RegionIndex;
+	UDATA             _ClaimedRegion;
 
 	/* Static methods returning constant values */
 	inline static const char* identifierField(void)        {return "portable heap dump";}
@@ -1107,6 +1174,39 @@ BinaryHeapDumpWriter::ClassCache::clear(void)
 	_Index = 0;
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::ClassCache::copyTo() method implementation                               */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::ClassCache::copyTo(const void** cache, int* index) const
+{
+	for (int i = 0; i < 4; i++) {
+		cache[i] = _Cache[i];
+	}
+
+	*index = _Index;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::ClassCache::merge() method implementation                                */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::ClassCache::merge(const void* const* cache, int index, int rotation)
+{
+	/* A worker starts from an empty cache, so the slots it never filled keep their current contents */
+	for (int i = 0; i < 4; i++) {
+		if (cache[i] != 0) {
+			_Cache[(i + rotation) % 4] = cache[i];
+		}
+	}
+
+	_Index = (index + rotation) % 4;
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* BinaryHeapDumpWriter::BinaryHeapDumpWriter() method implementation                             */
@@ -1124,7 +1224,13 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	_OutputStream(context->javaVM->portLibrary),
 	_CurrentObject(0),
 	_FileMode(false),
-	_Error(false)
+	_Error(false),
+	_ParallelRequested(false),
+	_Compressed(false),
+	_Parallel(NULL),
+	_Chunk(NULL),
+	_RegionIndex(0),
+	_ClaimedRegion(0)
 {
 	PORT_ACCESS_FROM_PORT(_PortLibrary);
 
@@ -1132,6 +1238,13 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	if ((agent->dumpOptions != 0) && (strstr(agent->dumpOptions, "PHD") == 0)) {
 		return;
 	}
+
+	/* opts=PHD+PARALLEL encodes the regions of each space on several threads */
+	_ParallelRequested = (agent->dumpOptions != 0) && (strstr(agent->dumpOptions, "PARALLEL") != 0);
+
+	/* opts=PHD+GZIP writes a gzip stream, unless the dump is for a crash where the compressor's allocations are best avoided */
+	_Compressed = (agent->dumpOptions != 0) && (strstr(agent->dumpOptions, "GZIP") != 0)
+		&& ((context->eventFlags & (J9RAS_DUMP_ON_GP_FAULT | J9RAS_DUMP_ON_ABORT_SIGNAL)) == 0);
 	
 	/* Remember the file name */
 	_FileName += fileName;
@@ -1142,7 +1255,7 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 		reportDumpRequest(_PortLibrary,_Context,"Heap",fileName);
 		
 		/* It's a single file so open it */
-		_OutputStream.open(_FileName.data());
+		_OutputStream.open(_FileName.data(), _Compressed);
 	
 		/* Performance measuring code 
 		startTimer();
@@ -1169,8 +1282,11 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 		/* Record the status of the operation */
 		_FileMode = _FileMode || _OutputStream.isOpen();
 
-		/* Close the file */
+		/* Close the file, which completes the gzip stream of a compressed dump and can fail */
 		_OutputStream.close();
+		if (! _Error) {
+			checkForIOError();
+		}
 		
 		/* Write a message to standard error saying we have written a dump file */
 		/* If an error occurred, the error message has already been printed in checkForIOError() */
@@ -1186,6 +1302,34 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	}
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::BinaryHeapDumpWriter() parallel worker constructor implementation         */
+/*                                                                                                */
+/**************************************************************************************************/
+BinaryHeapDumpWriter::BinaryHeapDumpWriter(BinaryHeapDumpWriter* parent, ParallelDump* parallelDump) :
+	_Id(0),
+	_RegionStart(NULL),
+	_RegionEnd(NULL),
+	_Context(parent->_Context),
+	_Agent(parent->_Agent),
+	_VirtualMachine(parent->_VirtualMachine),
+	_PortLibrary(parent->_PortLibrary),
+	_FileName(parent->_PortLibrary),
+	_OutputStream(parent->_PortLibrary),
+	_CurrentObject(0),
+	_FileMode(false),
+	_Error(false),
+	_ParallelRequested(false),
+	_Compressed(false),
+	_Parallel(parallelDump),
+	_Chunk(NULL),
+	_RegionIndex(0),
+	_ClaimedRegion(0)
+{
+	/* Nothing to do: the worker only encodes records into the chunks it claims */
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* BinaryHeapDumpWriter::~BinaryHeapDumpWriter() method implementation                            */
@@ -1227,20 +1371,22 @@ BinaryHeapDumpWriter::openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDescript
 		_ClassCache.clear();
 
 		/* Open the file */
-		_OutputStream.open(fileName.data());
+		_OutputStream.open(fileName.data(), _Compressed);
 
 		/* Start writing the file */
 		writeDumpFileHeader();
 	}
 
 	/* Iterate through the regions etc. */
-	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
-			_VirtualMachine,
-			_PortLibrary,
-			spaceDescriptor,
-			j9mm_iterator_flag_regions_read_only,
-			binaryHeapDumpRegionIteratorCallback,
-			this);
+	if (!_ParallelRequested || !writeRegionsInParallel(spaceDescriptor)) {
+		_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+				_VirtualMachine,
+				_PortLibrary,
+				spaceDescriptor,
+				j9mm_iterator_flag_regions_read_only,
+				binaryHeapDumpRegionIteratorCallback,
+				this);
+	}
 
 	/* Handle the single and multiple dump file cases separately */
 	if (_Agent->requestMask & J9RAS_DUMP_DO_MULTIPLE_HEAPS) {
@@ -1252,8 +1398,11 @@ BinaryHeapDumpWriter::openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDescript
 		/* Record the status of the operation */
 		_FileMode = _FileMode || _OutputStream.isOpen();
 
-		/* Close the file */
+		/* Close the file, which completes the gzip stream of a compressed dump and can fail */
 		_OutputStream.close();
+		if (! _Error) {
+			checkForIOError();
+		}
 		
 		/* Write a message to standard error saying we have written a dump file */
 		/* If an error occurred, the error message has already been printed in checkForIOError() */
@@ -1269,6 +1418,397 @@ BinaryHeapDumpWriter::openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDescript
 	}
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeRegionsInParallel() method implementation                           */
+/*                                                                                                */
+/*   The regions of the space are handed out to worker threads in walk order. Each worker encodes */
+/*   the objects of its region into a private chunk and the dumping thread writes the chunks to   */
+/*   the file in the same order. The only state a record depends on is the address of the         */
+/*   previous object and the class cache, so for every chunk the dumping thread writes the first  */
+/*   object itself and then rotates the class cache indices of the worker's short records, whose  */
+/*   positions the worker noted while encoding. The workers attach to the VM without VM access,   */
+/*   like GC worker threads, so the walk sees them as VM threads. Returns false, having written   */
+/*   nothing, if the dump should fall back to a serial walk.                                      */
+/*                                                                                                */
+/**************************************************************************************************/
+bool
+BinaryHeapDumpWriter::writeRegionsInParallel(J9MM_IterateSpaceDescriptor* spaceDescriptor)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	ParallelDump parallelDump;
+
+	memset(&parallelDump, 0, sizeof(parallelDump));
+	parallelDump._Writer = this;
+	parallelDump._Space  = spaceDescriptor;
+
+	/* Count the regions so that the workers can refer to them by their position in the walk */
+	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+			_VirtualMachine,
+			_PortLibrary,
+			spaceDescriptor,
+			j9mm_iterator_flag_regions_read_only,
+			binaryHeapDumpRegionCounterCallback,
+			&parallelDump._RegionCount);
+
+	UDATA workerCount = j9sysinfo_get_number_CPUs_by_type(J9PORT_CPU_TARGET);
+	if (workerCount > parallelDump._RegionCount) {
+		workerCount = parallelDump._RegionCount;
+	}
+	if (workerCount < 2) {
+		return false;
+	}
+
+	/* Bound the number of encoded regions waiting to be written out */
+	parallelDump._Window = workerCount * 4;
+
+	parallelDump._Chunks = (RegionChunk*)j9mem_allocate_memory(parallelDump._RegionCount * sizeof(RegionChunk), OMRMEM_CATEGORY_VM);
+	if (NULL == parallelDump._Chunks) {
+		return false;
+	}
+	memset(parallelDump._Chunks, 0, parallelDump._RegionCount * sizeof(RegionChunk));
+
+	if (0 != omrthread_monitor_init_with_name(&parallelDump._Monitor, 0, "PHD parallel heap dump")) {
+		j9mem_free_memory(parallelDump._Chunks);
+		return false;
+	}
+
+	omrthread_monitor_enter(parallelDump._Monitor);
+	for (UDATA i = 0; i < workerCount; i++) {
+		parallelDump._StartingWorkers += 1;
+		parallelDump._LiveWorkers += 1;
+		if (0 != omrthread_create(NULL, _VirtualMachine->defaultOSStackSize, J9THREAD_PRIORITY_NORMAL, 0, binaryHeapDumpWorkerThreadProc, &parallelDump)) {
+			parallelDump._StartingWorkers -= 1;
+			parallelDump._LiveWorkers -= 1;
+			break;
+		}
+	}
+
+	/* A worker that could not attach claims nothing, so only give up if none could */
+	while (0 != parallelDump._StartingWorkers) {
+		omrthread_monitor_wait(parallelDump._Monitor);
+	}
+
+	if (0 == parallelDump._AttachedWorkers) {
+		while (0 != parallelDump._LiveWorkers) {
+			omrthread_monitor_wait(parallelDump._Monitor);
+		}
+		omrthread_monitor_exit(parallelDump._Monitor);
+		omrthread_monitor_destroy(parallelDump._Monitor);
+		j9mem_free_memory(parallelDump._Chunks);
+		return false;
+	}
+
+	/* Write the chunks out in region order as they complete */
+	for (UDATA i = 0; i < parallelDump._RegionCount; i++) {
+		RegionChunk* chunk = &parallelDump._Chunks[i];
+
+		while (!chunk->_Done) {
+			omrthread_monitor_wait(parallelDump._Monitor);
+		}
+		omrthread_monitor_exit(parallelDump._Monitor);
+
+		writeChunk(chunk);
+		freeChunk(PORTLIB, chunk);
+
+		omrthread_monitor_enter(parallelDump._Monitor);
+		parallelDump._StitchedRegions = i + 1;
+		omrthread_monitor_notify_all(parallelDump._Monitor);
+		if (_Error) {
+			break;
+		}
+	}
+
+	/* Stop any worker still running, e.g. after an I/O error, and wait for all of them to leave */
+	parallelDump._Abort = true;
+	omrthread_monitor_notify_all(parallelDump._Monitor);
+	while (0 != parallelDump._LiveWorkers) {
+		omrthread_monitor_wait(parallelDump._Monitor);
+	}
+	omrthread_monitor_exit(parallelDump._Monitor);
+
+	for (UDATA i = 0; i < parallelDump._RegionCount; i++) {
+		freeChunk(PORTLIB, &parallelDump._Chunks[i]);
+	}
+	j9mem_free_memory(parallelDump._Chunks);
+	omrthread_monitor_destroy(parallelDump._Monitor);
+
+	return true;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::encodeClaimedRegions() method implementation                             */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::encodeClaimedRegions(bool attached)
+{
+	omrthread_monitor_enter(_Parallel->_Monitor);
+	_Parallel->_StartingWorkers -= 1;
+	if (attached) {
+		_Parallel->_AttachedWorkers += 1;
+	} else {
+		_Parallel->_LiveWorkers -= 1;
+	}
+	omrthread_monitor_notify_all(_Parallel->_Monitor);
+	omrthread_monitor_exit(_Parallel->_Monitor);
+
+	if (!attached) {
+		return;
+	}
+
+	_RegionIndex   = 0;
+	_ClaimedRegion = claimRegion();
+
+	if (_ClaimedRegion < _Parallel->_RegionCount) {
+		_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+				_VirtualMachine,
+				_PortLibrary,
+				_Parallel->_Space,
+				j9mm_iterator_flag_regions_read_only,
+				binaryHeapDumpParallelRegionIteratorCallback,
+				this);
+	}
+
+	omrthread_monitor_enter(_Parallel->_Monitor);
+	if (!_Parallel->_Abort && (_ClaimedRegion < _Parallel->_RegionCount)) {
+		/* The walk did not reach the claimed region; fail the dump rather than leave it waiting */
+		_Parallel->_Chunks[_ClaimedRegion]._Error     = true;
+		_Parallel->_Chunks[_ClaimedRegion]._ErrorText = "heap region not found by parallel heap dump worker";
+		_Parallel->_Chunks[_ClaimedRegion]._Done      = true;
+	}
+	_Parallel->_LiveWorkers -= 1;
+	omrthread_monitor_notify_all(_Parallel->_Monitor);
+	omrthread_monitor_exit(_Parallel->_Monitor);
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::encodeRegionIfClaimed() method implementation                            */
+/*                                                                                                */
+/**************************************************************************************************/
+jvmtiIterationControl
+BinaryHeapDumpWriter::encodeRegionIfClaimed(J9MM_IterateRegionDescriptor* regionDescription)
+{
+	UDATA regionIndex = _RegionIndex;
+	_RegionIndex += 1;
+
+	if (regionIndex == _ClaimedRegion) {
+		RegionChunk* chunk = &_Parallel->_Chunks[regionIndex];
+
+		/* Every chunk is encoded from an empty class cache */
+		_Chunk         = chunk;
+		_CurrentObject = 0;
+		_ClassCache.clear();
+
+		_VirtualMachine->memoryManagerFunctions->j9mm_iterate_region_objects(
+				_VirtualMachine,
+				_PortLibrary,
+				regionDescription,
+				0,
+				binaryHeapDumpChunkObjectIteratorCallback,
+				this);
+
+		chunk->_LastObject = _CurrentObject;
+		_ClassCache.copyTo(chunk->_Cache, &chunk->_CacheIndex);
+
+		omrthread_monitor_enter(_Parallel->_Monitor);
+		chunk->_Error = _Error;
+		chunk->_Done  = true;
+		omrthread_monitor_notify_all(_Parallel->_Monitor);
+		omrthread_monitor_exit(_Parallel->_Monitor);
+
+		_Chunk = NULL;
+		_Error = false;
+		_ClaimedRegion = claimRegion();
+	}
+
+	return (_ClaimedRegion < _Parallel->_RegionCount) ? JVMTI_ITERATION_CONTINUE : JVMTI_ITERATION_ABORT;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::encodeChunkObject() method implementation                                */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::encodeChunkObject(J9MM_IterateObjectDescriptor* objectDescriptor)
+{
+	if (_Chunk->_HasFirstObject) {
+		writeObjectRecord(objectDescriptor);
+	} else if (!J9VM_IS_INITIALIZED_HEAPCLASS_VM(_VirtualMachine, objectDescriptor->object)) {
+		/* The first record is left to the dumping thread, which knows the previous object */
+		_Chunk->_FirstObject    = *objectDescriptor;
+		_Chunk->_HasFirstObject = true;
+		_CurrentObject          = objectDescriptor->object;
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::claimRegion() method implementation                                      */
+/*                                                                                                */
+/**************************************************************************************************/
+UDATA
+BinaryHeapDumpWriter::claimRegion(void)
+{
+	UDATA claimed = _Parallel->_RegionCount;
+
+	omrthread_monitor_enter(_Parallel->_Monitor);
+	while (!_Parallel->_Abort
+		&& (_Parallel->_NextRegion < _Parallel->_RegionCount)
+		&& (_Parallel->_NextRegion >= (_Parallel->_StitchedRegions + _Parallel->_Window))
+	) {
+		omrthread_monitor_wait(_Parallel->_Monitor);
+	}
+	if (!_Parallel->_Abort && (_Parallel->_NextRegion < _Parallel->_RegionCount)) {
+		claimed = _Parallel->_NextRegion;
+		_Parallel->_NextRegion += 1;
+	}
+	omrthread_monitor_exit(_Parallel->_Monitor);
+
+	return claimed;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeChunk() method implementation                                       */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::writeChunk(RegionChunk* chunk)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	if (chunk->_Error) {
+		const char* errorText = (NULL != chunk->_ErrorText) ? chunk->_ErrorText : "failed to encode heap region";
+
+		j9nls_printf(PORTLIB, J9NLS_ERROR | J9NLS_STDERR, J9NLS_DMP_ERROR_IN_DUMP_STR, "Heap", errorText);
+		Trc_dump_reportDumpError_Event2("Heap", errorText);
+		_Error = true;
+		return;
+	}
+
+	/* Nothing to write for an empty region */
+	if (!chunk->_HasFirstObject) {
+		return;
+	}
+
+	writeObjectRecord(&chunk->_FirstObject);
+	if (_Error) {
+		return;
+	}
+
+	/* The worker filled its cache from slot 0, the reader continues from the current slot */
+	int rotation = _ClassCache.index();
+	if (0 != rotation) {
+		for (UDATA i = 0; i < chunk->_ShortRecordCount; i++) {
+			U_8* tag = (U_8*)chunk->_Data + chunk->_ShortRecords[i];
+			int classCacheIndex = (((*tag >> 5) & 0x03) + rotation) % 4;
+
+			*tag = (U_8)((*tag & ~0x60) | (classCacheIndex << 5));
+		}
+	}
+
+	writeCharacters(chunk->_Data, chunk->_Length);
+	if (_Error) {
+		return;
+	}
+
+	_ClassCache.merge(chunk->_Cache, chunk->_CacheIndex, rotation);
+	_CurrentObject = chunk->_LastObject;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::appendToChunk() method implementation                                    */
+/*                                                                                                */
+/**************************************************************************************************/
+bool
+BinaryHeapDumpWriter::appendToChunk(const char* data, IDATA length)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	if ((_Chunk->_Length + length) > _Chunk->_Capacity) {
+		UDATA newCapacity = (0 == _Chunk->_Capacity) ? 64 * 1024 : _Chunk->_Capacity * 2;
+		while (newCapacity < (_Chunk->_Length + length)) {
+			newCapacity *= 2;
+		}
+
+		char* newData = (char*)j9mem_allocate_memory(newCapacity, OMRMEM_CATEGORY_VM);
+		if (NULL == newData) {
+			_Chunk->_ErrorText = "insufficient memory to encode heap region";
+			return false;
+		}
+		if (NULL != _Chunk->_Data) {
+			memcpy(newData, _Chunk->_Data, _Chunk->_Length);
+			j9mem_free_memory(_Chunk->_Data);
+		}
+		_Chunk->_Data     = newData;
+		_Chunk->_Capacity = newCapacity;
+	}
+
+	memcpy(_Chunk->_Data + _Chunk->_Length, data, length);
+	_Chunk->_Length += length;
+
+	return true;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::noteShortRecord() method implementation                                  */
+/*                                                                                                */
+/*   Records the offset in the chunk of the short object record about to be written. Its class   */
+/*   cache index is the only part of a chunk the dumping thread has to adjust.                   */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::noteShortRecord(void)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	if (_Chunk->_ShortRecordCount == _Chunk->_ShortRecordCapacity) {
+		UDATA newCapacity = (0 == _Chunk->_ShortRecordCapacity) ? 4 * 1024 : _Chunk->_ShortRecordCapacity * 2;
+
+		UDATA* newRecords = (UDATA*)j9mem_allocate_memory(newCapacity * sizeof(UDATA), OMRMEM_CATEGORY_VM);
+		if (NULL == newRecords) {
+			_Chunk->_ErrorText = "insufficient memory to encode heap region";
+			_Error = true;
+			return;
+		}
+		if (NULL != _Chunk->_ShortRecords) {
+			memcpy(newRecords, _Chunk->_ShortRecords, _Chunk->_ShortRecordCount * sizeof(UDATA));
+			j9mem_free_memory(_Chunk->_ShortRecords);
+		}
+		_Chunk->_ShortRecords        = newRecords;
+		_Chunk->_ShortRecordCapacity = newCapacity;
+	}
+
+	_Chunk->_ShortRecords[_Chunk->_ShortRecordCount] = _Chunk->_Length;
+	_Chunk->_ShortRecordCount += 1;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::freeChunk() method implementation                                        */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::freeChunk(J9PortLibrary* portLibrary, RegionChunk* chunk)
+{
+	PORT_ACCESS_FROM_PORT(portLibrary);
+
+	if (NULL != chunk->_Data) {
+		j9mem_free_memory(chunk->_Data);
+		chunk->_Data = NULL;
+	}
+	if (NULL != chunk->_ShortRecords) {
+		j9mem_free_memory(chunk->_ShortRecords);
+		chunk->_ShortRecords = NULL;
+	}
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* BinaryHeapDumpWriter::writeDumpFileHeader() method implementation                              */
@@ -1466,6 +2006,11 @@ BinaryHeapDumpWriter::writeNormalObjectRecord(J9MM_IterateObjectDescriptor* obje
 		    ( addressOffsetEncoding   << 2  & 0x04) |
 		    ( referenceOffsetEncoding       & 0x03);
 		    
+		/* A worker's class cache indices are relative to its chunk, note where the tag goes */
+		if (NULL != _Chunk) {
+			noteShortRecord();
+		}
+
 		/* Write the tag/flags */
 		writeNumber(flags, 1);
 		if (_Error) {
@@ -2395,6 +2940,11 @@ void
 BinaryHeapDumpWriter::writeCharacters (const char* data, IDATA length)
 {
 	if (!_Error) {
+		if (NULL != _Chunk) {
+			_Error = !appendToChunk(data, length);
+			return;
+		}
+
 		_OutputStream.writeCharacters(data,length);
 
 		checkForIOError();
@@ -2404,17 +2954,28 @@ BinaryHeapDumpWriter::writeCharacters (const char* data, IDATA length)
 void
 BinaryHeapDumpWriter::writeCharacters (const char* data)
 {
-	if (!_Error) {
-		_OutputStream.writeCharacters(data);
-
-		checkForIOError();
-	}
+	writeCharacters(data, strlen(data));
 }
 
 void
 BinaryHeapDumpWriter::writeNumber (IDATA data, int length)
 {
 	if (!_Error) {
+		if (NULL != _Chunk) {
+			/* Same network order encoding as FileStream::writeNumber() */
+			IDATA number = data;
+			int   count  = (length > 8) ? 8 : length;
+			char  buffer[8] = {0,0,0,0,0,0,0,0};
+
+			while (count-- > 0) {
+				buffer[count] = (char)(number & 0xFF);
+				number >>= 8;
+			}
+
+			_Error = !appendToChunk(buffer, length);
+			return;
+		}
+
 		_OutputStream.writeNumber(data, length);
 
 		checkForIOError();
@@ -2477,6 +3038,53 @@ binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9
 	return referenceWriter->_HeapDumpWriter->_Error ? JVMTI_ITERATION_ABORT : JVMTI_ITERATION_CONTINUE;
 }
 
+static jvmtiIterationControl
+binaryHeapDumpRegionCounterCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData)
+{
+	*(UDATA*)userData += 1;
+	return JVMTI_ITERATION_CONTINUE;
+}
+
+static jvmtiIterationControl
+binaryHeapDumpParallelRegionIteratorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData)
+{
+	return ((BinaryHeapDumpWriter*)userData)->encodeRegionIfClaimed(regionDescription);
+}
+
+static jvmtiIterationControl
+binaryHeapDumpChunkObjectIteratorCallback(J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor, void* userData)
+{
+	((BinaryHeapDumpWriter*)userData)->encodeChunkObject(objectDescriptor);
+	return ((BinaryHeapDumpWriter*)userData)->_Error ? JVMTI_ITERATION_ABORT : JVMTI_ITERATION_CONTINUE;
+}
+
+static int J9THREAD_PROC
+binaryHeapDumpWorkerThreadProc(void* entryArg)
+{
+	BinaryHeapDumpWriter::ParallelDump* parallelDump = (BinaryHeapDumpWriter::ParallelDump*)entryArg;
+	J9JavaVM* vm = parallelDump->_Writer->_VirtualMachine;
+	J9VMThread* vmThread = NULL;
+
+	/* Attach like a GC worker: no thread object and no VM access, which the dumping thread holds */
+	IDATA rc = vm->internalVMFunctions->internalAttachCurrentThread(
+			vm,
+			&vmThread,
+			NULL,
+			J9_PRIVATE_FLAGS_DAEMON_THREAD | J9_PRIVATE_FLAGS_NO_OBJECT | J9_PRIVATE_FLAGS_SYSTEM_THREAD | J9_PRIVATE_FLAGS_ATTACHED_THREAD,
+			omrthread_self());
+
+	{
+		BinaryHeapDumpWriter worker(parallelDump->_Writer, parallelDump);
+		worker.encodeClaimedRegions(JNI_OK == rc);
+	}
+
+	/* The dump may be over and parallelDump gone; detaching waits for exclusive access to be released */
+	if (JNI_OK == rc) {
+		vm->internalVMFunctions->DetachCurrentThread((JavaVM*)vm);
+	}
+	return 0;
+}
+
 void
 writePHD(char *label, J9RASdumpContext *context, J9RASdumpAgent* agent)
 {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2020 IBM Corp. and others
+ * Copyright (c) 2003, 2026 IBM Corp. and others
  *
  * This program and the accompanying materials are made available under
  * the terms of the Eclipse Public License 2.0 which accompanies this
@@ -92,6 +92,9 @@ static jvmtiIterationControl spaceIteratorCallback  (J9JavaVM* vm, J9MM_IterateS
 static jvmtiIterationControl regionIteratorCallback (J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
 static UDATA getObjectMonitorCount(J9JavaVM *vm);
 static UDATA getAllocatedVMThreadCount (J9JavaVM *vm);
+static int J9THREAD_PROC deferredJavacoreThreadProc(void* entryArg);
+static void enterVMForDeferredJavacore(J9VMThread *vmThread);
+static void exitVMForDeferredJavacore(J9VMThread *vmThread);
 
 /* sig_protect functions and handlers */
 extern "C" {
@@ -133,6 +136,8 @@ static IDATA vmthread_locator(struct J9AVLTree *tree, UDATA tid , struct J9AVLTr
 /* Functions used by hash table prototypes */
 static UDATA lockHashFunction(void* key, void* user);
 static UDATA lockHashEqualFunction(void* left, void* right, void* user);
+static UDATA pinnedClassHashFunction(void* key, void* user);
+static UDATA pinnedClassHashEqualFunction(void* left, void* right, void* user);
 
 static UDATA rasDumpPreemptLock = 0;
 
@@ -173,6 +178,33 @@ typedef struct memcategory_data_frame
 	UDATA liveAllocations;
 } memcategory_data_frame;
 
+/* A Java stack frame of an opts=ASYNC javacore, its source file and line number are looked up once exclusive access is released */
+typedef struct deferred_frame {
+	UDATA snapshotOffset; /* where the source position goes in the snapshot */
+	J9Method *method;
+	UDATA offsetPC;
+	bool compiled;
+} deferred_frame;
+
+/* A class kept from being unloaded until the deferred frames of its methods have been formatted */
+typedef struct pinned_class {
+	J9Class *clazz;
+	jobject classRef;
+} pinned_class;
+
+/* The sections of an opts=ASYNC javacore written under exclusive access, handed to the thread that finishes the file */
+typedef struct deferred_javacore {
+	J9RASdumpContext context;
+	char *fileName;
+	char *snapshot;
+	UDATA snapshotLength;
+	deferred_frame *frames;
+	UDATA frameCount;
+	J9HashTable *pinnedClasses;
+	bool snapshotError;
+	bool compress;
+} deferred_javacore;
+
 /* Macros for working with the category_bitmask in the memcategory_total structure. The range of category codes is not contiguous, so we have
  * to map entries from the end of the range (unknown & port library) onto the end of the entries from the start of the range*/
 #define MAP_CATEGORY_TO_BITMASK_ENTRY(category) ( ((category) >= OMRMEM_LANGUAGE_CATEGORY_LIMIT) ? ((writer->_TotalCategories - 1) - (OMRMEM_OMR_CATEGORY_INDEX_FROM_CODE(category))): (category) )
@@ -209,6 +241,9 @@ public :
 	/* Constructor */
 	JavaCoreDumpWriter(const char* fileName, J9RASdumpContext* context, J9RASdumpAgent *agent);
 
+	/* Constructor for finishing an opts=ASYNC javacore on a background thread */
+	JavaCoreDumpWriter(deferred_javacore* deferred);
+
 	/* Destructor */
 	~JavaCoreDumpWriter();
 
@@ -266,6 +301,17 @@ private :
 	/* Internal convenience method for testing the context */
 	bool avoidLocks(void);
 
+	/* Internal methods for the phases of writing the file */
+	void writeSnapshotSections(void);
+	void writeSnapshot(const char* snapshot, UDATA snapshotLength);
+	void writeDeferredSections(void);
+	void finishDump(void);
+	bool startDeferredWriter(bool compress);
+	void lockClassLoaders(void);
+	void unlockClassLoaders(void);
+	bool deferFrame(J9Method* method, UDATA offsetPC, bool compiled);
+	void unpinClasses(void);
+
 	/* Internal methods for writing the first level sections */
 	void writeHeader(void);
 	void writeTitleSection(void);
@@ -312,6 +358,7 @@ private :
 	void        writeThreadName              (J9VMThread* vmThread);
 	void        writeThreadBlockers          (J9VMThread* vmThread, UDATA vmstate, j9object_t lockObject, J9VMThread *lockOwnerThread );
 	UDATA       writeFrame                   (J9StackWalkState* state);
+	void        writeSourcePosition          (J9Method* method, UDATA offsetPC, bool compiled, bool lookupSource);
 	UDATA       writeExceptionFrame          (void *userData, J9ROMClass* romClass, J9ROMMethod* romMethod, J9UTF8* sourceFile, UDATA lineNumber);
 	void        writeLoader                  (J9ClassLoader* classLoader);
 	void        writeLibraries               (J9ClassLoader* classLoader);
@@ -348,6 +395,12 @@ private :
 	bool              _AvoidLocks;
 	bool              _PreemptLocked;
 	bool              _ThreadsWalkStarted;
+	bool              _Background;
+	bool              _DeferFrames;
+	deferred_frame*   _DeferredFrames;
+	UDATA             _DeferredFrameCount;
+	UDATA             _DeferredFrameCapacity;
+	J9HashTable*      _PinnedClasses;
 	J9RASdumpAgent *  _Agent;
 	memcategory_data_frame* _CategoryStack;
 	U_32              _CategoryStackTop;
@@ -430,11 +483,18 @@ JavaCoreDumpWriter::JavaCoreDumpWriter(
 	_AvoidLocks(false),
 	_PreemptLocked(false),
 	_ThreadsWalkStarted(false),
+	_Background(false),
+	_DeferFrames(false),
+	_DeferredFrames(NULL),
+	_DeferredFrameCount(0),
+	_DeferredFrameCapacity(0),
+	_PinnedClasses(NULL),
 	_Agent(agent),
 	_TotalCategories(-1)
 {
-	PORT_ACCESS_FROM_PORT(_PortLibrary);
 	bool bufferWrites=false;
+	bool compress=false;
+	bool deferred=false;
 	_AllocatedVMThreadCount = getAllocatedVMThreadCount(_VirtualMachine);
 
 	/* Determine whether getting further locks should be avoided
@@ -460,9 +520,105 @@ JavaCoreDumpWriter::JavaCoreDumpWriter(
 	  && ((_Context->eventFlags & (J9RAS_DUMP_ON_GP_FAULT | J9RAS_DUMP_ON_ABORT_SIGNAL)) == 0)
 	  && ((_Agent->prepState & J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS) == J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS);
 
-	/* It's a single file so open it */
-	_OutputStream.open(_FileName, bufferWrites);
+	/* opts=GZIP compresses the javacore, only done when writes are buffered as the compressor allocates memory */
+	compress = bufferWrites && (_Agent->dumpOptions != NULL) && (strstr(_Agent->dumpOptions, "GZIP") != NULL);
+
+	/* opts=ASYNC keeps the snapshot sections in memory while exclusive access is held and has a background thread
+	 * write the file and the class sections. Not done for events where the VM or the class loaders are going away.
+	 */
+	deferred = bufferWrites && (_Agent->dumpOptions != NULL) && (strstr(_Agent->dumpOptions, "ASYNC") != NULL)
+	  && ((_Context->eventFlags & (J9RAS_DUMP_ON_CLASS_UNLOAD | J9RAS_DUMP_ON_VM_SHUTDOWN)) == 0)
+	  && J9_ARE_NO_BITS_SET(_VirtualMachine->runtimeFlags, J9_RUNTIME_EXIT_STARTED);
+
+	if (deferred) {
+		_OutputStream.openInMemory();
+		/* Stack frames keep their classes pinned with global references until they are formatted */
+		_DeferFrames = (NULL != _Context->onThread);
+	} else {
+		/* It's a single file so open it */
+		_OutputStream.open(_FileName, bufferWrites, compress);
+	}
+
+	writeSnapshotSections();
+
+	if (deferred && startDeferredWriter(compress)) {
+		/* The background thread owns the rest of the file */
+		return;
+	}
+
+	if (deferred) {
+		/* No background thread, write the snapshot out and finish the file here */
+		UDATA snapshotLength = 0;
+		char *snapshot = NULL;
+		PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+		_Error = _Error || _OutputStream.isError();
+		_DeferFrames = false;
+		snapshot = _OutputStream.detachBuffer(&snapshotLength);
+		_OutputStream.open(_FileName, true, compress);
+		writeSnapshot(snapshot, snapshotLength);
+		j9mem_free_memory(snapshot);
+	}
 
+	writeDeferredSections();
+	finishDump();
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::JavaCoreDumpWriter() method implementation for opts=ASYNC                  */
+/*                                                                                                */
+/**************************************************************************************************/
+JavaCoreDumpWriter::JavaCoreDumpWriter(deferred_javacore* deferred) :
+	_Context(&deferred->context),
+	_VirtualMachine(_Context->javaVM),
+	_PortLibrary(_VirtualMachine->portLibrary),
+	_FileName(deferred->fileName),
+	_OutputStream(_PortLibrary),
+	_FileMode(false),
+	_Error(deferred->snapshotError),
+	_AvoidLocks(false),
+	_PreemptLocked(false),
+	_ThreadsWalkStarted(false),
+	_Background(true),
+	_DeferFrames(false),
+	_DeferredFrames(deferred->frames),
+	_DeferredFrameCount(deferred->frameCount),
+	_DeferredFrameCapacity(deferred->frameCount),
+	_PinnedClasses(deferred->pinnedClasses),
+	_Agent(NULL),
+	_TotalCategories(-1)
+{
+	_AllocatedVMThreadCount = getAllocatedVMThreadCount(_VirtualMachine);
+
+	/* It's a single file so open it and write the sections captured under exclusive access */
+	_OutputStream.open(_FileName, true, deferred->compress);
+	writeSnapshot(deferred->snapshot, deferred->snapshotLength);
+
+	if (NULL != _Context->onThread) {
+		writeDeferredSections();
+	} else {
+		/* The thread could not attach to the VM so the class sections can't be walked safely */
+		_OutputStream.writeCharacters(
+			"0SECTION       CLASSES subcomponent dump routine\n"
+			"NULL           =================================\n"
+			"1INTERNAL      Class information unavailable [not attached]\n"
+			"NULL           ------------------------------------------------------------------------\n"
+		);
+		CALL_PROTECT(writeTrailer, _Error);
+	}
+
+	finishDump();
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::writeSnapshotSections() method implementation                              */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+JavaCoreDumpWriter::writeSnapshotSections(void)
+{
 	/* Write the sections, these return void so we throw away the per section return value.
 	 * We consolidate the return values for all of the sections so we know after we finish
 	 * if any of them failed.
@@ -506,7 +662,39 @@ JavaCoreDumpWriter::JavaCoreDumpWriter(
 		compareAndSwapUDATA(&rasDumpPreemptLock, 1, 0);
 		_PreemptLocked = false;
 	}
+}
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::writeSnapshot() method implementation                                      */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+JavaCoreDumpWriter::writeSnapshot(const char* snapshot, UDATA snapshotLength)
+{
+	UDATA written = 0;
+
+	/* Fill in the source positions of the stack frames captured under exclusive access */
+	for (UDATA i = 0; i < _DeferredFrameCount; i++) {
+		deferred_frame* frame = &_DeferredFrames[i];
+
+		_OutputStream.writeCharacters(snapshot + written, frame->snapshotOffset - written);
+		written = frame->snapshotOffset;
+		writeSourcePosition(frame->method, frame->offsetPC, frame->compiled, NULL != _Context->onThread);
+	}
+	_OutputStream.writeCharacters(snapshot + written, snapshotLength - written);
+
+	unpinClasses();
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::writeDeferredSections() method implementation                              */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+JavaCoreDumpWriter::writeDeferredSections(void)
+{
 #if defined(OMR_OPT_CUDA)
 	CALL_PROTECT(writeCudaSection, _Error);
 #endif /* defined(OMR_OPT_CUDA) */
@@ -517,15 +705,33 @@ JavaCoreDumpWriter::JavaCoreDumpWriter(
 #if defined(J9VM_OPT_SHARED_CLASSES)
 	CALL_PROTECT(writeSharedClassSection, _Error);
 #endif
+
+	/* Without exclusive access class loaders can be created while the pool is walked */
+	if (_Background) {
+		lockClassLoaders();
+	}
 	CALL_PROTECT(writeClassSection, _Error);
+	if (_Background) {
+		unlockClassLoaders();
+	}
+
 	CALL_PROTECT(writeTrailer, _Error);
+}
 
-	/* Record the status of the operation */
-	_FileMode = _FileMode || _OutputStream.isOpen();
-	_Error    = _Error    || _OutputStream.isError();
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::finishDump() method implementation                                         */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+JavaCoreDumpWriter::finishDump(void)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
 
-	/* Close the file */
+	/* Record the status of the operation, closing the file can still fail for a compressed file */
+	_FileMode = _FileMode || _OutputStream.isOpen();
 	_OutputStream.close();
+	_Error    = _Error    || _OutputStream.isError();
 
 	/* Write a message to standard error saying we have written a dump file */
 	if (_Error) {
@@ -540,6 +746,223 @@ JavaCoreDumpWriter::JavaCoreDumpWriter(
 	}
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::startDeferredWriter() method implementation                                */
+/*                                                                                                */
+/**************************************************************************************************/
+bool
+JavaCoreDumpWriter::startDeferredWriter(bool compress)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	RasDumpGlobalStorage *dumpGlobal = (RasDumpGlobalStorage *)_VirtualMachine->j9rasdumpGlobalStorage;
+	UDATA fileNameLength = strlen(_FileName) + 1;
+	deferred_javacore *deferred = NULL;
+	bool registered = false;
+
+	/* Register the writer so VM shutdown and one-off dump requests can wait for the file to be complete */
+	if ((NULL != dumpGlobal) && (NULL != dumpGlobal->javacoreWriterMutex)) {
+		omrthread_monitor_enter(dumpGlobal->javacoreWriterMutex);
+		if (0 == dumpGlobal->javacoreWritersStopped) {
+			dumpGlobal->javacoreWriterCount += 1;
+			registered = true;
+		}
+		omrthread_monitor_exit(dumpGlobal->javacoreWriterMutex);
+	}
+	if (!registered) {
+		return false;
+	}
+
+	deferred = (deferred_javacore *)j9mem_allocate_memory(sizeof(deferred_javacore) + fileNameLength, OMRMEM_CATEGORY_VM);
+	if (NULL == deferred) {
+		omrthread_monitor_enter(dumpGlobal->javacoreWriterMutex);
+		dumpGlobal->javacoreWriterCount -= 1;
+		omrthread_monitor_notify_all(dumpGlobal->javacoreWriterMutex);
+		omrthread_monitor_exit(dumpGlobal->javacoreWriterMutex);
+		return false;
+	}
+
+	/* The event data and the label belong to the dumping thread so only the flags and a copy of the name are kept */
+	deferred->context = *_Context;
+	deferred->context.onThread = NULL;
+	deferred->context.eventData = NULL;
+	deferred->context.dumpList = NULL;
+	deferred->fileName = (char *)(deferred + 1);
+	memcpy(deferred->fileName, _FileName, fileNameLength);
+	deferred->snapshotError = _Error || _OutputStream.isError();
+	deferred->compress = compress;
+	deferred->frames = _DeferredFrames;
+	deferred->frameCount = _DeferredFrameCount;
+	deferred->pinnedClasses = _PinnedClasses;
+	_DeferFrames = false;
+	deferred->snapshot = _OutputStream.detachBuffer(&deferred->snapshotLength);
+
+	if (0 != omrthread_create(NULL, _VirtualMachine->defaultOSStackSize, J9THREAD_PRIORITY_NORMAL, 0, deferredJavacoreThreadProc, deferred)) {
+		/* Give the snapshot back so it is written by this thread, the frames and pinned classes are still ours */
+		_OutputStream.openInMemory();
+		_OutputStream.writeCharacters(deferred->snapshot, deferred->snapshotLength);
+		j9mem_free_memory(deferred->snapshot);
+		j9mem_free_memory(deferred);
+		omrthread_monitor_enter(dumpGlobal->javacoreWriterMutex);
+		dumpGlobal->javacoreWriterCount -= 1;
+		omrthread_monitor_notify_all(dumpGlobal->javacoreWriterMutex);
+		omrthread_monitor_exit(dumpGlobal->javacoreWriterMutex);
+		return false;
+	}
+
+	/* The background thread owns the frames and the pinned classes now */
+	_DeferredFrames = NULL;
+	_DeferredFrameCount = 0;
+	_DeferredFrameCapacity = 0;
+	_PinnedClasses = NULL;
+
+	return true;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::deferFrame() method implementation                                         */
+/*                                                                                                */
+/**************************************************************************************************/
+bool
+JavaCoreDumpWriter::deferFrame(J9Method* method, UDATA offsetPC, bool compiled)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	J9InternalVMFunctions* vmFuncs = _VirtualMachine->internalVMFunctions;
+	pinned_class pin;
+
+	if (_DeferredFrameCount == _DeferredFrameCapacity) {
+		UDATA newCapacity = OMR_MAX(_DeferredFrameCapacity * 2, 1024);
+		deferred_frame* newFrames = (deferred_frame*)j9mem_allocate_memory(newCapacity * sizeof(deferred_frame), OMRMEM_CATEGORY_VM);
+
+		if (NULL == newFrames) {
+			return false;
+		}
+		if (NULL != _DeferredFrames) {
+			memcpy(newFrames, _DeferredFrames, _DeferredFrameCount * sizeof(deferred_frame));
+			j9mem_free_memory(_DeferredFrames);
+		}
+		_DeferredFrames = newFrames;
+		_DeferredFrameCapacity = newCapacity;
+	}
+
+	if (NULL == _PinnedClasses) {
+		_PinnedClasses = hashTableNew(
+			OMRPORT_FROM_J9PORT(PORTLIB), J9_GET_CALLSITE(), 0,
+			sizeof(pinned_class), 0, 0,
+			OMRMEM_CATEGORY_VM,
+			pinnedClassHashFunction,
+			pinnedClassHashEqualFunction,
+			NULL, NULL
+		);
+		if (NULL == _PinnedClasses) {
+			return false;
+		}
+	}
+
+	/* The method and its line number table must survive until the frame is formatted. A global reference to
+	 * the class object keeps the class, and its class loader, from being unloaded meanwhile.
+	 */
+	pin.clazz = J9_CLASS_FROM_METHOD(method);
+	pin.classRef = NULL;
+	if (NULL == hashTableFind(_PinnedClasses, &pin)) {
+		j9object_t classObject = J9VM_J9CLASS_TO_HEAPCLASS(pin.clazz);
+
+		if (NULL == classObject) {
+			return false;
+		}
+		pin.classRef = vmFuncs->j9jni_createGlobalRef((JNIEnv*)_Context->onThread, classObject, JNI_FALSE);
+		if (NULL == pin.classRef) {
+			return false;
+		}
+		if (NULL == hashTableAdd(_PinnedClasses, &pin)) {
+			vmFuncs->j9jni_deleteGlobalRef((JNIEnv*)_Context->onThread, pin.classRef, JNI_FALSE);
+			return false;
+		}
+	}
+
+	deferred_frame* frame = &_DeferredFrames[_DeferredFrameCount];
+	frame->snapshotOffset = _OutputStream.getInMemoryLength();
+	frame->method = method;
+	frame->offsetPC = offsetPC;
+	frame->compiled = compiled;
+	_DeferredFrameCount += 1;
+
+	return true;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::unpinClasses() method implementation                                       */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+JavaCoreDumpWriter::unpinClasses(void)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	if (NULL != _PinnedClasses) {
+		/* Deleting the references needs a VM thread, without one the classes simply stay pinned */
+		if (NULL != _Context->onThread) {
+			J9HashTableState hashState;
+			pinned_class* pin = (pinned_class*)hashTableStartDo(_PinnedClasses, &hashState);
+
+			while (NULL != pin) {
+				_VirtualMachine->internalVMFunctions->j9jni_deleteGlobalRef((JNIEnv*)_Context->onThread, pin->classRef, JNI_FALSE);
+				pin = (pinned_class*)hashTableNextDo(&hashState);
+			}
+		}
+		hashTableFree(_PinnedClasses);
+		_PinnedClasses = NULL;
+	}
+
+	if (NULL != _DeferredFrames) {
+		j9mem_free_memory(_DeferredFrames);
+		_DeferredFrames = NULL;
+	}
+	_DeferredFrameCount = 0;
+	_DeferredFrameCapacity = 0;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::lockClassLoaders() method implementation                                   */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+JavaCoreDumpWriter::lockClassLoaders(void)
+{
+	J9VMThread *vmThread = _Context->onThread;
+
+	/* The VM takes the classTableMutex ahead of the classLoaderBlocksMutex. Other threads can hold either of them while
+	 * waiting for VM access, so never block on them here: release VM access and retry, letting any pending GC run.
+	 * Holding VM access while the loaders are walked keeps them from being unloaded.
+	 */
+	for (;;) {
+		if (0 == omrthread_monitor_try_enter(_VirtualMachine->classTableMutex)) {
+			if (0 == omrthread_monitor_try_enter(_VirtualMachine->classLoaderBlocksMutex)) {
+				return;
+			}
+			omrthread_monitor_exit(_VirtualMachine->classTableMutex);
+		}
+		exitVMForDeferredJavacore(vmThread);
+		omrthread_yield();
+		enterVMForDeferredJavacore(vmThread);
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::unlockClassLoaders() method implementation                                 */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+JavaCoreDumpWriter::unlockClassLoaders(void)
+{
+	omrthread_monitor_exit(_VirtualMachine->classLoaderBlocksMutex);
+	omrthread_monitor_exit(_VirtualMachine->classTableMutex);
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* JavaCoreDumpWriter::~JavaCoreDumpWriter() method implementation                                */
@@ -547,7 +970,8 @@ JavaCoreDumpWriter::JavaCoreDumpWriter(
 /**************************************************************************************************/
 JavaCoreDumpWriter::~JavaCoreDumpWriter()
 {
-	/* Nothing to do currently */
+	/* Release anything left of the deferred stack frames */
+	unpinClasses();
 }
 
 /**************************************************************************************************/
@@ -4693,9 +5117,39 @@ JavaCoreDumpWriter::writeFrame(J9StackWalkState* state)
 	}
 #endif
 
+	/* Looking up the source position of an opts=ASYNC javacore is left to the thread finishing the file */
+	if (!(_DeferFrames && !avoidLocks() && deferFrame(method, offsetPC, compiledMethod))) {
+		writeSourcePosition(method, offsetPC, compiledMethod, !avoidLocks());
+	}
+
+	/* Use a while loop as there may be more than one lock taken in a stack frame. */
+	while((*monitorCount) && ((UDATA)monitorInfo->depth == state->framesWalked)) {
+		_OutputStream.writeCharacters("5XESTACKTRACE                   (entered lock: ");
+		writeObject(monitorInfo->object);
+		_OutputStream.writeCharacters(", entry count: ");
+		_OutputStream.writeInteger(monitorInfo->count, "%zu");
+		_OutputStream.writeCharacters(")\n");
+		monitorInfo++;
+		/* Store the updated progress back in userData for the next callback */
+		state->userData3 = monitorInfo;
+		(*monitorCount)--;
+	}
+
+	return J9_STACKWALK_KEEP_ITERATING;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::writeSourcePosition() method implementation                                */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+JavaCoreDumpWriter::writeSourcePosition(J9Method* method, UDATA offsetPC, bool compiled, bool lookupSource)
+{
 #ifdef J9VM_OPT_DEBUG_INFO_SERVER
 	/* Write source file and line number info, if available and we can take locks. */
-	if (!avoidLocks()) {
+	if (lookupSource) {
+		J9Class* methodClass = J9_CLASS_FROM_METHOD(method);
 		J9UTF8* sourceFile = getSourceFileNameForROMClass(_VirtualMachine, methodClass->classLoader, methodClass->romClass);
 		if (sourceFile) {
 			_OutputStream.writeCharacters("(");
@@ -4708,55 +5162,25 @@ JavaCoreDumpWriter::writeFrame(J9StackWalkState* state)
 				_OutputStream.writeInteger(lineNumber, "%zu");
 			}
 
-			if (compiledMethod) {
+			if (compiled) {
 				_OutputStream.writeCharacters("(Compiled Code)");
 			}
 
 			_OutputStream.writeCharacters(")\n");
-
-			/* Use a while loop as there may be more than one lock taken in a stack frame. */
-			while((*monitorCount) && ((UDATA)monitorInfo->depth == state->framesWalked)) {
-				_OutputStream.writeCharacters("5XESTACKTRACE                   (entered lock: ");
-				writeObject(monitorInfo->object);
-				_OutputStream.writeCharacters(", entry count: ");
-				_OutputStream.writeInteger(monitorInfo->count, "%zu");
-				_OutputStream.writeCharacters(")\n");
-				monitorInfo++;
-				/* Store the updated progress back in userData for the next callback */
-				state->userData3 = monitorInfo;
-				(*monitorCount)--;
-			}
-
-			return J9_STACKWALK_KEEP_ITERATING;
+			return;
 		}
 	}
 #endif
 
-	/* avoidLocks() is true or have no source file or line number info available, write PC. */
-	/* (If better information was available we will have returned above.) */
+	/* Locks are avoided or have no source file or line number info available, write PC. */
 	_OutputStream.writeCharacters("(Bytecode PC:");
 	_OutputStream.writeInteger(offsetPC, "%zu");
 
-	if (compiledMethod) {
+	if (compiled) {
 		_OutputStream.writeCharacters("(Compiled Code)");
 	}
 
 	_OutputStream.writeCharacters(")\n");
-
-	/* Use a while loop as there may be more than one lock taken in a stack frame. */
-	while((*monitorCount) && ((UDATA)monitorInfo->depth == state->framesWalked)) {
-		_OutputStream.writeCharacters("5XESTACKTRACE                   (entered lock: ");
-		writeObject(monitorInfo->object);
-		_OutputStream.writeCharacters(", entry count: ");
-		_OutputStream.writeInteger(monitorInfo->count, "%zu");
-		_OutputStream.writeCharacters(")\n");
-		monitorInfo++;
-		/* Store the updated progress back in userData for the next callback */
-		state->userData3 = monitorInfo;
-		(*monitorCount)--;
-	}
-
-	return J9_STACKWALK_KEEP_ITERATING;
 }
 
 /**************************************************************************************************/
@@ -5892,6 +6316,18 @@ lockHashEqualFunction(void* left, void* right, void* user)
 	return ((JavaCoreDumpWriter::DeadLockGraphNode*)left)->thread == ((JavaCoreDumpWriter::DeadLockGraphNode*)right)->thread;
 }
 
+static UDATA
+pinnedClassHashFunction(void* key, void* user)
+{
+	return ((UDATA)((pinned_class*)key)->clazz) / sizeof(UDATA);
+}
+
+static UDATA
+pinnedClassHashEqualFunction(void* left, void* right, void* user)
+{
+	return ((pinned_class*)left)->clazz == ((pinned_class*)right)->clazz;
+}
+
 /* Primary entry point */
 extern "C" void
 runJavadump(char *label, J9RASdumpContext *context, J9RASdumpAgent *agent)
@@ -5900,6 +6336,104 @@ runJavadump(char *label, J9RASdumpContext *context, J9RASdumpAgent *agent)
 	JavaCoreDumpWriter(label, context, agent);
 }
 
+/* Acquire VM access for the thread finishing an opts=ASYNC javacore */
+static void
+enterVMForDeferredJavacore(J9VMThread *vmThread)
+{
+#if defined(J9VM_INTERP_ATOMIC_FREE_JNI)
+	if (vmThread->inNative) {
+		vmThread->javaVM->internalVMFunctions->internalEnterVMFromJNI(vmThread);
+	}
+#else /* J9VM_INTERP_ATOMIC_FREE_JNI */
+	if (!(vmThread->publicFlags & J9_PUBLIC_FLAGS_VM_ACCESS)) {
+		vmThread->javaVM->internalVMFunctions->internalAcquireVMAccess(vmThread);
+	}
+#endif /* J9VM_INTERP_ATOMIC_FREE_JNI */
+}
+
+/* Release VM access for the thread finishing an opts=ASYNC javacore */
+static void
+exitVMForDeferredJavacore(J9VMThread *vmThread)
+{
+#if defined(J9VM_INTERP_ATOMIC_FREE_JNI)
+	vmThread->javaVM->internalVMFunctions->internalExitVMToJNI(vmThread);
+#else /* J9VM_INTERP_ATOMIC_FREE_JNI */
+	vmThread->javaVM->internalVMFunctions->internalReleaseVMAccess(vmThread);
+#endif /* J9VM_INTERP_ATOMIC_FREE_JNI */
+}
+
+/* Entry point of the thread finishing an opts=ASYNC javacore once exclusive access has been released */
+static int J9THREAD_PROC
+deferredJavacoreThreadProc(void* entryArg)
+{
+	deferred_javacore *deferred = (deferred_javacore *)entryArg;
+	J9JavaVM *vm = deferred->context.javaVM;
+	RasDumpGlobalStorage *dumpGlobal = (RasDumpGlobalStorage *)vm->j9rasdumpGlobalStorage;
+	J9VMThread *vmThread = NULL;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	/* VM access is only granted once the dumping thread has released exclusive access */
+	if (JNI_OK == vm->internalVMFunctions->attachSystemDaemonThread(vm, &vmThread, "Javacore writer")) {
+		deferred->context.onThread = vmThread;
+		enterVMForDeferredJavacore(vmThread);
+	}
+
+	{
+		/* Create a java core writer object which will finish the dump file */
+		JavaCoreDumpWriter writer(deferred);
+	}
+
+	if (NULL != vmThread) {
+		exitVMForDeferredJavacore(vmThread);
+		vm->internalVMFunctions->DetachCurrentThread((JavaVM *)vm);
+	}
+
+	j9mem_free_memory(deferred->snapshot);
+	j9mem_free_memory(deferred);
+
+	/* The file is complete, tell anyone waiting for it. The monitor is released as the thread exits. */
+	omrthread_monitor_enter(dumpGlobal->javacoreWriterMutex);
+	dumpGlobal->javacoreWriterCount -= 1;
+	omrthread_monitor_notify_all(dumpGlobal->javacoreWriterMutex);
+	omrthread_exit(dumpGlobal->javacoreWriterMutex);
+
+	return 0;
+}
+
+/* Wait for the threads finishing opts=ASYNC javacores, optionally stopping any more from being started */
+extern "C" void
+waitForDeferredJavacores(J9JavaVM *vm, J9VMThread *vmThread, BOOLEAN stopWriters)
+{
+	RasDumpGlobalStorage *dumpGlobal = (RasDumpGlobalStorage *)vm->j9rasdumpGlobalStorage;
+	bool releasedAccess = false;
+
+	if ((NULL == dumpGlobal) || (NULL == dumpGlobal->javacoreWriterMutex)) {
+		return;
+	}
+
+	omrthread_monitor_enter(dumpGlobal->javacoreWriterMutex);
+	if (stopWriters) {
+		dumpGlobal->javacoreWritersStopped = 1;
+	}
+	if (0 != dumpGlobal->javacoreWriterCount) {
+		/* The writers need VM access to finish the class sections */
+		if ((NULL != vmThread) && J9_ARE_ANY_BITS_SET(vmThread->publicFlags, J9_PUBLIC_FLAGS_VM_ACCESS)) {
+			omrthread_monitor_exit(dumpGlobal->javacoreWriterMutex);
+			vm->internalVMFunctions->internalReleaseVMAccess(vmThread);
+			releasedAccess = true;
+			omrthread_monitor_enter(dumpGlobal->javacoreWriterMutex);
+		}
+		while (0 != dumpGlobal->javacoreWriterCount) {
+			omrthread_monitor_wait(dumpGlobal->javacoreWriterMutex);
+		}
+	}
+	omrthread_monitor_exit(dumpGlobal->javacoreWriterMutex);
+
+	if (releasedAccess) {
+		vm->internalVMFunctions->internalAcquireVMAccess(vmThread);
+	}
+}
+
 //============================================================================================
 
 static IDATA
@@ -918,6 +918,9 @@ triggerOneOffDump(struct J9JavaVM *vm, char *optionString, char *caller, char *f
 
 		/* Allow configuration updates again */
 		unlockConfig();
+
+		/* The caller is given the file names, so opts=ASYNC javacores must be complete before returning */
+		waitForDeferredJavacores(vm, context.onThread, FALSE);
 	}
 
 	return retVal;
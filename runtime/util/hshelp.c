@@ -2291,15 +2291,16 @@ fixLoadingConstraints(J9JavaVM * vm, J9Class * oldClass, J9Class * newClass)
 
 
 /**
- * \brief	Flush the annotation and reflection caches.
+ * \brief	Flush the annotation, reflection and stack trace caches.
  * \ingroup hcr
  *
  * @param[in] currentThread		current thread
  * @param[in] classPairs		replacement class pair hashtable
  * @return	none
  *
- *	The annotation and reflection caches must be cleared for each class
- *	that has been redefined or retransformed.
+ *	The annotation, reflection and stack trace caches must be cleared for each
+ *	class that has been redefined or retransformed. The new class bytes may
+ *	change the source file name and the line numbers of the methods.
  */
 void
 flushClassLoaderReflectCache(J9VMThread * currentThread, J9HashTable * classPairs)
@@ -2314,6 +2315,8 @@ flushClassLoaderReflectCache(J9VMThread * currentThread, J9HashTable * classPair
 			j9object_t classObject = J9VM_J9CLASS_TO_HEAPCLASS(replacementRAMClass);
 			J9VMJAVALANGCLASS_SET_ANNOTATIONCACHE(currentThread, classObject, NULL);
 			J9VMJAVALANGCLASS_SET_REFLECTCACHE(currentThread, classObject, NULL);
+			J9VMJAVALANGCLASS_SET_FILENAMESTRING(currentThread, classObject, NULL);
+			J9VMJAVALANGCLASS_SET_STACKTRACEELEMENTCACHE(currentThread, classObject, NULL);
 		}
 		classPair = hashTableNextDo(&hashTableState);
 	}
@@ -25,13 +25,16 @@ import j9vm.test.ddrext.junit.DDRTestSuite;
 import j9vm.test.ddrext.junit.TestCallsites;
 import j9vm.test.ddrext.junit.TestClassExt;
 import j9vm.test.ddrext.junit.TestCollisionResilientHashtable;
+import j9vm.test.ddrext.junit.TestDDRBatch;
 import j9vm.test.ddrext.junit.TestDDRExtensionGeneral;
+import j9vm.test.ddrext.junit.TestDTFJClassLayout;
 import j9vm.test.ddrext.junit.TestFindExt;
 import j9vm.test.ddrext.junit.TestJITExt;
 import j9vm.test.ddrext.junit.TestMonitors;
 import j9vm.test.ddrext.junit.TestRTSpecificDDRExt;
 import j9vm.test.ddrext.junit.TestSharedClassesExt;
 import j9vm.test.ddrext.junit.TestStackMap;
+import j9vm.test.ddrext.junit.TestStackWalkerCache;
 import j9vm.test.ddrext.junit.TestTenants;
 import j9vm.test.ddrext.junit.TestThread;
 import j9vm.test.ddrext.junit.TestTypeResolution;
@@ -450,8 +453,14 @@ public class AutoRun {
 					suite.addTestSuite(TestDDRExtensionGeneral.class);
 				} else if (aTest.trim().equalsIgnoreCase("TestFindExt")) {
 					suite.addTestSuite(TestFindExt.class);
+				} else if (aTest.trim().equalsIgnoreCase("TestDDRBatch")) {
+					suite.addTestSuite(TestDDRBatch.class);
+				} else if (aTest.trim().equalsIgnoreCase("TestDTFJClassLayout")) {
+					suite.addTestSuite(TestDTFJClassLayout.class);
 				} else if (aTest.trim().equalsIgnoreCase("TestStackMap")) {
 					suite.addTestSuite(TestStackMap.class);
+				} else if (aTest.trim().equalsIgnoreCase("TestStackWalkerCache")) {
+					suite.addTestSuite(TestStackWalkerCache.class);
 				} else if (aTest.trim().equalsIgnoreCase("TestTenants")) {
 					suite.addTestSuite(TestTenants.class);
 				} else if (aTest.trim().equalsIgnoreCase("TestTypeResolution")) {
@@ -40,6 +40,9 @@ public class SetupConfig {
 	/* Handle for DDR Context, used when we initiate the test suite as a ddr plugin*/
 	private static Context ddrContext = null;
 
+	/* Core file the DDRInteractive instance was created from, null when running as a ddr plugin */
+	private static String coreFile = null;
+
 	public static synchronized DDROutputStream getPrintStream() {
 		if (ps == null) {
 			ps = new DDROutputStream(System.out);
@@ -61,6 +64,10 @@ public class SetupConfig {
 		return;
 	}
 
+	public static synchronized String getCoreFile() {
+		return coreFile;
+	}
+
 	/**Creates a new DDRInteractive instance using the given core file
 	 * @param coreFile - The full path of the core dump file to use
 	 */
@@ -70,6 +77,7 @@ public class SetupConfig {
 				try {
 					DDROutputStream ps = getPrintStream();
 					ddrInstance = new DDRInteractive(coreFile, ps);
+					SetupConfig.coreFile = coreFile;
 					log.info("Created new DDR Interactive instance using core file : "
 							+ coreFile);
 				} catch (Exception e) {
@@ -140,6 +148,7 @@ public class SetupConfig {
 			}
 		}
 		ddrInstance = null;
+		coreFile = null;
 	}
 
 	public static Context getDDRContxt() {
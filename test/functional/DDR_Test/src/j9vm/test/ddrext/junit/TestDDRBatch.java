@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package j9vm.test.ddrext.junit;
+
+import j9vm.test.ddrext.Constants;
+import j9vm.test.ddrext.DDRExtTesterBase;
+import j9vm.test.ddrext.SetupConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.log4testng.Logger;
+
+import com.ibm.j9ddr.tools.ddrinteractive.DDRBatch;
+
+/**
+ * Runs a DDRBatch script against the test core and validates the JSON records it writes.
+ */
+public class TestDDRBatch extends DDRExtTesterBase {
+	private Logger log = Logger.getLogger(TestDDRBatch.class);
+
+	private static final List<String> SCRIPT = Arrays.asList(
+			"!" + Constants.THREAD_CMD,
+			"!context",
+			"!context 0",
+			"!context 99",
+			"!" + Constants.THREAD_CMD + " >",
+			"!" + Constants.THREAD_CMD);
+
+	public void testBatch() throws UnsupportedEncodingException {
+		String core = SetupConfig.getCoreFile();
+		if (core == null) {
+			log.info("No core file available (running as a DDR plugin), skipping DDRBatch test");
+			return;
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(buffer, true, "UTF-8");
+		new DDRBatch(SCRIPT, out).run(core);
+		out.close();
+
+		String[] lines = new String(buffer.toByteArray(), "UTF-8").split("\n");
+		assertEquals("Expected one record per command", SCRIPT.size(), lines.length);
+
+		List<String> outputs = new ArrayList<String>();
+		for (int i = 0; i < lines.length; i++) {
+			String record = lines[i].trim();
+			log.debug("DDRBatch record: " + record);
+			assertTrue("Record is not a JSON object: " + record, record.startsWith("{") && record.endsWith("}"));
+			assertEquals(core, stringMember(record, "core"));
+			assertEquals(SCRIPT.get(i), stringMember(record, "command"));
+			outputs.add(stringMember(record, "output"));
+			if (i != 4) {
+				/* every executed command is timed */
+				String elapsed = numberMember(record, "elapsedNanos");
+				assertNotNull("Missing elapsedNanos: " + record, elapsed);
+				assertTrue("Command was not timed: " + record, Long.parseLong(elapsed) > 0);
+				assertNull("Unexpected error: " + record, stringMember(record, "error"));
+			}
+		}
+
+		/* !threads */
+		assertTrue(validate(outputs.get(0), Constants.THREAD_SUCCESS_KEYS, Constants.THREAD_FAILURE_KEY, false));
+
+		/* !context lists the contexts, marking the current one */
+		assertTrue("!context did not list the contexts: " + outputs.get(1), outputs.get(1).startsWith("*0 : "));
+
+		/* !context 0 switches to the first context */
+		assertTrue("!context 0 did not switch: " + outputs.get(2), outputs.get(2).startsWith("Switched to "));
+
+		/* a failing command is reported in its own record */
+		assertTrue("!context 99 did not fail: " + outputs.get(3), outputs.get(3).contains("Context ID out of range"));
+
+		/* a command that cannot be parsed gets an error record */
+		String parseError = lines[4].trim();
+		assertNotNull("Missing error record: " + parseError, stringMember(parseError, "error"));
+		assertTrue(stringMember(parseError, "error").contains("ParseException"));
+
+		/* and the rest of the script still runs in the selected context */
+		assertTrue(validate(outputs.get(5), Constants.THREAD_SUCCESS_KEYS, Constants.THREAD_FAILURE_KEY, false));
+	}
+
+	private static int memberStart(String record, String name) {
+		String key = "\"" + name + "\":";
+		int index = record.indexOf(key);
+		return (index < 0) ? -1 : (index + key.length());
+	}
+
+	private static String numberMember(String record, String name) {
+		int start = memberStart(record, name);
+		if (start < 0) {
+			return null;
+		}
+		int end = start;
+		while ((end < record.length()) && Character.isDigit(record.charAt(end))) {
+			end++;
+		}
+		return record.substring(start, end);
+	}
+
+	private static String stringMember(String record, String name) {
+		int start = memberStart(record, name);
+		if (start < 0) {
+			return null;
+		}
+		assertEquals('"', record.charAt(start));
+
+		StringBuilder value = new StringBuilder();
+		for (int i = start + 1; i < record.length(); i++) {
+			char ch = record.charAt(i);
+			if (ch == '"') {
+				return value.toString();
+			} else if (ch == '\\') {
+				ch = record.charAt(++i);
+				switch (ch) {
+				case 'n':
+					value.append('\n');
+					break;
+				case 'r':
+					value.append('\r');
+					break;
+				case 't':
+					value.append('\t');
+					break;
+				case 'u':
+					value.append((char) Integer.parseInt(record.substring(i + 1, i + 5), 16));
+					i += 4;
+					break;
+				default:
+					value.append(ch);
+					break;
+				}
+			} else {
+				value.append(ch);
+			}
+		}
+		fail("Unterminated string member " + name + ": " + record);
+		return null;
+	}
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package j9vm.test.ddrext.junit;
+
+import j9vm.test.ddrext.DDRExtTesterBase;
+import j9vm.test.ddrext.SetupConfig;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.testng.log4testng.Logger;
+
+import com.ibm.dtfj.image.CorruptData;
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.ImageProcess;
+import com.ibm.dtfj.java.JavaClass;
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.java.JavaReference;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.j9ddr.view.dtfj.image.J9DDRImageFactory;
+
+/**
+ * Validates that the per-class layouts cached by the DDR DTFJ implementation do not change
+ * the references reported by JavaObject.getReferences().
+ */
+public class TestDTFJClassLayout extends DDRExtTesterBase {
+	private Logger log = Logger.getLogger(TestDTFJClassLayout.class);
+
+	private static final String NOCACHE_PROPERTY = "com.ibm.j9ddr.dtfj.nolayoutcache";
+
+	/* what the pass saw, to check that the core exercises the interesting layouts */
+	private int referentReferences;
+	private int loadedClassReferences;
+
+	public void testCachedReferencesMatch() throws Exception {
+		String core = SetupConfig.getCoreFile();
+		if (core == null) {
+			log.info("No core file available (running as a DDR plugin), skipping DTFJ class layout test");
+			return;
+		}
+
+		Image image = new J9DDRImageFactory().getImage(new File(core));
+		try {
+			List<String> uncached;
+			System.setProperty(NOCACHE_PROPERTY, "true");
+			try {
+				uncached = describeHeap(image, null);
+			} finally {
+				System.clearProperty(NOCACHE_PROPERTY);
+			}
+			log.info("Checked the references of " + uncached.size() + " objects");
+
+			assertTrue("No instance of a java.lang.ref.Reference subclass with a referent found", referentReferences > 0);
+			assertTrue("No class loader object with loaded classes found", loadedClassReferences > 0);
+
+			/* the first pass fills the layout cache, the second only uses it */
+			describeHeap(image, uncached);
+			describeHeap(image, uncached);
+		} finally {
+			image.close();
+		}
+	}
+
+	/**
+	 * Describe the references of every heap object of the image.
+	 * @param expected if not null, the descriptions each object is checked against
+	 * @return the descriptions, in heap order
+	 */
+	private List<String> describeHeap(Image image, List<String> expected) throws Exception {
+		List<String> descriptions = new ArrayList<String>();
+		referentReferences = 0;
+		loadedClassReferences = 0;
+
+		for (Iterator<?> spaces = image.getAddressSpaces(); spaces.hasNext();) {
+			for (Iterator<?> processes = ((ImageAddressSpace) spaces.next()).getProcesses(); processes.hasNext();) {
+				for (Iterator<?> runtimes = ((ImageProcess) processes.next()).getRuntimes(); runtimes.hasNext();) {
+					Object runtime = runtimes.next();
+					if (!(runtime instanceof JavaRuntime)) {
+						continue;
+					}
+					for (Iterator<?> heaps = ((JavaRuntime) runtime).getHeaps(); heaps.hasNext();) {
+						for (Iterator<?> objects = ((JavaHeap) heaps.next()).getObjects(); objects.hasNext();) {
+							Object object = objects.next();
+							if (!(object instanceof JavaObject)) {
+								continue;
+							}
+							String description = describe((JavaObject) object);
+							if (expected != null) {
+								int index = descriptions.size();
+								assertTrue("More objects than in the uncached pass", index < expected.size());
+								assertEquals(expected.get(index), description);
+							}
+							descriptions.add(description);
+						}
+					}
+				}
+			}
+		}
+
+		if (expected != null) {
+			assertEquals("Number of objects differs from the uncached pass", expected.size(), descriptions.size());
+		}
+		return descriptions;
+	}
+
+	private String describe(JavaObject object) {
+		StringBuilder description = new StringBuilder();
+		description.append("0x").append(Long.toHexString(object.getID().getAddress())).append(':');
+		for (Iterator<?> references = object.getReferences(); references.hasNext();) {
+			Object next = references.next();
+			description.append(' ');
+			if (next instanceof JavaReference) {
+				JavaReference reference = (JavaReference) next;
+				description.append(reference.getDescription());
+				try {
+					int type = reference.getReferenceType();
+					int reachability = reference.getReachability();
+					description.append(" type=").append(type);
+					description.append(" reachability=").append(reachability);
+					if (reachability != JavaReference.REACHABILITY_STRONG) {
+						referentReferences += 1;
+					}
+					if (type == JavaReference.REFERENCE_LOADED_CLASS) {
+						loadedClassReferences += 1;
+					}
+					Object target = reference.getTarget();
+					if (target instanceof JavaObject) {
+						description.append(" 0x").append(Long.toHexString(((JavaObject) target).getID().getAddress()));
+					} else if (target instanceof JavaClass) {
+						description.append(' ').append(((JavaClass) target).getName());
+					}
+				} catch (Exception e) {
+					description.append(' ').append(e.getClass().getName());
+				}
+			} else if (next instanceof CorruptData) {
+				description.append("corrupt: ").append(next);
+			} else {
+				description.append(next);
+			}
+		}
+		return description.toString();
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package j9vm.test.ddrext.junit;
+
+import j9vm.test.ddrext.Constants;
+import j9vm.test.ddrext.DDRExtTesterBase;
+import j9vm.test.ddrext.util.parser.ThreadsOutputParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.log4testng.Logger;
+
+/**
+ * DDR extension test class to validate that the stack walker's map caches do not change
+ * the output of !stack and !stackslots.
+ */
+public class TestStackWalkerCache extends DDRExtTesterBase {
+	private Logger log = Logger.getLogger(TestStackWalkerCache.class);
+
+	private static final String NOCACHE_PROPERTY = "com.ibm.j9ddr.stackwalker.nocache";
+
+	public void testCachedWalksMatch() {
+		String threadOutput = exec(Constants.THREAD_CMD, new String[0]);
+		if (threadOutput == null) {
+			fail("threads output is null. Can not proceed with testCachedWalksMatch");
+			return;
+		}
+
+		List<String> threads = new ArrayList<String>();
+		for (String thread : ThreadsOutputParser.getThreadsArray(threadOutput)) {
+			/* !stack 0x05b1e200 !j9vmthread 0x05b1e200 ... */
+			String[] tokens = thread.split("\\s+");
+			if ((tokens.length > 1) && tokens[0].equals("!" + Constants.STACK_CMD)) {
+				threads.add(tokens[1]);
+			}
+		}
+		assertFalse("No threads found in !threads output:\n" + threadOutput, threads.isEmpty());
+		log.info("Walking " + threads.size() + " threads");
+
+		List<String> uncached;
+		System.setProperty(NOCACHE_PROPERTY, "true");
+		try {
+			uncached = walkAll(threads);
+		} finally {
+			System.clearProperty(NOCACHE_PROPERTY);
+		}
+
+		StringBuilder allOutput = new StringBuilder();
+		for (String output : uncached) {
+			allOutput.append(output);
+		}
+		assertTrue("No Java frames were walked",
+				validate(allOutput.toString(), Constants.STACK_SUCCESS_KEYS + "," + Constants.STACKSLOTS_SUCCESS_KEY, Constants.STACK_FAILURE_KEY));
+
+		/* the first walk fills the caches (and hits them for frames shared between threads), the second only hits them */
+		List<String> firstWalk = walkAll(threads);
+		List<String> secondWalk = walkAll(threads);
+
+		for (int i = 0; i < uncached.size(); i++) {
+			assertEquals("First cached walk differs from the uncached walk", uncached.get(i), firstWalk.get(i));
+			assertEquals("Second cached walk differs from the uncached walk", uncached.get(i), secondWalk.get(i));
+		}
+	}
+
+	private List<String> walkAll(List<String> threads) {
+		List<String> outputs = new ArrayList<String>();
+		for (String thread : threads) {
+			/* threads without Java frames have nothing to map, so the outputs are only validated together */
+			String stackOutput = exec(Constants.STACK_CMD, new String[] { thread });
+			assertNotNull("!stack output is null for thread " + thread, stackOutput);
+			outputs.add(stackOutput);
+
+			String stackSlotsOutput = exec(Constants.STACKSLOTS_CMD, new String[] { thread });
+			assertNotNull("!stackslots output is null for thread " + thread, stackSlotsOutput);
+			outputs.add(stackSlotsOutput);
+		}
+		return outputs;
+	}
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+package org.openj9.test.java.lang.management;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.lang.management.GarbageCollectionEvent;
+import com.ibm.lang.management.GarbageCollectionEventStream;
+import com.ibm.lang.management.internal.GarbageCollectionEventBuffer;
+
+/**
+ * Test the GarbageCollectionEventStream class.
+ */
+@Test(groups = { "level.sanity" })
+public class TestGarbageCollectionEventStream {
+
+	private static final long TIMEOUT_SECONDS = 10;
+
+	public void testPoll() throws InterruptedException {
+		Set<String> collectorNames = new HashSet<>();
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			collectorNames.add(bean.getName());
+		}
+		try (GarbageCollectionEventStream stream = GarbageCollectionEventStream.open()) {
+			System.gc();
+			GarbageCollectionEvent event = stream.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			Assert.assertNotNull(event, "no event after System.gc()");
+			long previousSequenceNumber = -1;
+			boolean sawGlobal = false;
+			for (; null != event; event = stream.poll()) {
+				Assert.assertEquals(event.getVersion(), GarbageCollectionEvent.VERSION);
+				Assert.assertEquals(event.getType(), GarbageCollectionEvent.TYPE_COLLECTION_END);
+				if (previousSequenceNumber >= 0) {
+					Assert.assertEquals(event.getSequenceNumber(), previousSequenceNumber + 1, "sequence numbers of " + event);
+				}
+				previousSequenceNumber = event.getSequenceNumber();
+				Assert.assertTrue(collectorNames.contains(event.getCollectorName()), "unknown collector " + event.getCollectorName() + " in " + collectorNames);
+				Assert.assertTrue(event.getCollectionCount() > 0, "collection count of " + event);
+				Assert.assertTrue(event.getEndTime() >= event.getStartTime(), "times of " + event);
+				Assert.assertTrue(event.getDuration() >= 0, "duration of " + event);
+				Assert.assertTrue(event.getHeapSizeAfterGc() > 0, "heap size of " + event);
+				Assert.assertTrue(event.getHeapUsedAfterGc() <= event.getHeapSizeAfterGc(), "heap usage of " + event);
+				sawGlobal |= event.isGlobal();
+			}
+			Assert.assertTrue(sawGlobal, "System.gc() did not produce a global collection event");
+			Assert.assertEquals(stream.getDroppedCount(), 0);
+		}
+	}
+
+	public void testRead() throws InterruptedException {
+		try (GarbageCollectionEventStream stream = GarbageCollectionEventStream.open()) {
+			System.gc();
+			System.gc();
+			byte[] buffer = new byte[16 * 1024];
+			int length = 0;
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+			int events = 0;
+			long previousSequenceNumber = -1;
+			while ((events < 2) && (System.nanoTime() < deadline)) {
+				length = stream.read(buffer, 1, TimeUnit.SECONDS);
+				ByteBuffer records = ByteBuffer.wrap(buffer, 0, length);
+				while (records.hasRemaining()) {
+					GarbageCollectionEvent event = GarbageCollectionEvent.decode(records);
+					if (previousSequenceNumber >= 0) {
+						Assert.assertEquals(event.getSequenceNumber(), previousSequenceNumber + 1, "sequence numbers of " + event);
+					}
+					previousSequenceNumber = event.getSequenceNumber();
+					events += 1;
+				}
+			}
+			Assert.assertTrue(events >= 2, "events read: " + events);
+		}
+	}
+
+	public void testReadIntoSmallBuffer() throws InterruptedException {
+		try (GarbageCollectionEventStream stream = GarbageCollectionEventStream.open()) {
+			System.gc();
+			byte[] small = new byte[GarbageCollectionEvent.HEADER_SIZE - 1];
+			try {
+				stream.read(small, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+				Assert.fail("a record was read into a buffer of " + small.length + " bytes");
+			} catch (IllegalArgumentException e) {
+				/* expected, the record is kept for the next call */
+			}
+			Assert.assertNotNull(stream.poll(), "the record that did not fit was lost");
+		}
+	}
+
+	public void testReadImplIntoSmallBuffer() {
+		long[] cursor = new long[] { GarbageCollectionEventBuffer.open() };
+		long start = cursor[0];
+		System.gc();
+		try {
+			GarbageCollectionEventBuffer.read(cursor, new byte[GarbageCollectionEvent.HEADER_SIZE - 1], TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+			Assert.fail("a record was read into a buffer that is too small");
+		} catch (IllegalArgumentException e) {
+			/* expected */
+		}
+		Assert.assertEquals(cursor[0], start, "cursor moved past a record that was not copied");
+		Assert.assertTrue(GarbageCollectionEventBuffer.read(cursor, new byte[16 * 1024], 0) > 0);
+		Assert.assertTrue(cursor[0] > start);
+	}
+
+	public void testDropped() throws InterruptedException {
+		try (GarbageCollectionEventStream stream = GarbageCollectionEventStream.open()) {
+			int collections = GarbageCollectionEventBuffer.CAPACITY + 10;
+			for (int i = 0; i < collections; i++) {
+				System.gc();
+			}
+			long events = 0;
+			for (GarbageCollectionEvent event = stream.poll(); null != event; event = stream.poll()) {
+				events += 1;
+			}
+			Assert.assertTrue(events <= GarbageCollectionEventBuffer.CAPACITY, "events read: " + events);
+			Assert.assertTrue(stream.getDroppedCount() >= (collections - GarbageCollectionEventBuffer.CAPACITY), "dropped: " + stream.getDroppedCount());
+		}
+	}
+
+	public void testIndependentStreams() throws InterruptedException {
+		try (GarbageCollectionEventStream first = GarbageCollectionEventStream.open();
+			GarbageCollectionEventStream second = GarbageCollectionEventStream.open()) {
+			System.gc();
+			GarbageCollectionEvent firstEvent = first.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			GarbageCollectionEvent secondEvent = second.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			Assert.assertNotNull(firstEvent);
+			Assert.assertNotNull(secondEvent);
+			Assert.assertEquals(secondEvent.getSequenceNumber(), firstEvent.getSequenceNumber());
+		}
+	}
+
+	public void testClose() throws InterruptedException {
+		GarbageCollectionEventStream stream = GarbageCollectionEventStream.open();
+		stream.close();
+		System.gc();
+		long start = System.nanoTime();
+		Assert.assertNull(stream.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		Assert.assertTrue((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS), "poll() on a closed stream waited for the timeout");
+	}
+}
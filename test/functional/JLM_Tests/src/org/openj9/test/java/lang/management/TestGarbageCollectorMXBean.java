@@ -88,6 +88,7 @@ public class TestGarbageCollectorMXBean {
 		attribs.put("MemoryUsed", new AttributeData(Long.TYPE.getName(), true, false, false));
 		attribs.put("TotalMemoryFreed", new AttributeData(Long.TYPE.getName(), true, false, false));
 		attribs.put("TotalCompacts", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("LastCollectionPhaseInfo", new AttributeData(CompositeData.class.getName(), true, false, false));
 	}// end static initializer
 
 	private GarbageCollectorMXBean gcb;
@@ -118,6 +119,65 @@ public class TestGarbageCollectorMXBean {
 		AssertJUnit.assertTrue(((com.sun.management.GarbageCollectorMXBean)gcb).getLastGcInfo() != null);
 	}
 
+	/*
+	 * Check the phase metrics of the collections caused by System.gc(). The first call
+	 * to getLastCollectionPhaseInfo() enables root scan timing for later collections.
+	 */
+	@Test
+	public final void testGetLastCollectionPhaseInfo() {
+		AssertJUnit.assertTrue(gcb instanceof com.ibm.lang.management.GarbageCollectorMXBean);
+		((com.ibm.lang.management.GarbageCollectorMXBean)gcb).getLastCollectionPhaseInfo();
+		boolean metronome = ManagementFactory.getRuntimeMXBean().getInputArguments().contains("-Xgcpolicy:metronome");
+
+		List<GarbageCollectorMXBean> allGCBeans = ManagementFactory.getGarbageCollectorMXBeans();
+		long[] countsBefore = new long[allGCBeans.size()];
+		for (int i = 0; i < countsBefore.length; i++) {
+			countsBefore[i] = allGCBeans.get(i).getCollectionCount();
+		}
+		System.gc();
+		System.gc();
+
+		int checked = 0;
+		for (int i = 0; i < countsBefore.length; i++) {
+			com.ibm.lang.management.GarbageCollectorMXBean bean = (com.ibm.lang.management.GarbageCollectorMXBean)allGCBeans.get(i);
+			if (bean.getCollectionCount() == countsBefore[i]) {
+				/* this collector did not run */
+				continue;
+			}
+			com.ibm.lang.management.GarbageCollectionPhaseInfo info = bean.getLastCollectionPhaseInfo();
+			String name = bean.getName();
+			AssertJUnit.assertNotNull(name, info);
+			checked += 1;
+
+			AssertJUnit.assertTrue(name, info.getWeakReferencesCleared() <= info.getWeakReferenceCandidates());
+			AssertJUnit.assertTrue(name, info.getSoftReferencesCleared() <= info.getSoftReferenceCandidates());
+			AssertJUnit.assertTrue(name, info.getPhantomReferencesCleared() <= info.getPhantomReferenceCandidates());
+			int[] workerIDs = info.getWorkerIDs();
+			long[] busyTimes = info.getWorkerBusyTimes();
+			long[] stallTimes = info.getWorkerStallTimes();
+			AssertJUnit.assertEquals(name, workerIDs.length, busyTimes.length);
+			AssertJUnit.assertEquals(name, workerIDs.length, stallTimes.length);
+			for (int worker = 0; worker < workerIDs.length; worker++) {
+				AssertJUnit.assertTrue(name + " busy time of worker " + workerIDs[worker], busyTimes[worker] >= 0);
+				AssertJUnit.assertTrue(name + " stall time of worker " + workerIDs[worker], stallTimes[worker] >= 0);
+			}
+
+			if (metronome) {
+				/* metronome does not report phases */
+				continue;
+			}
+			long phaseTime = info.getMarkTime() + info.getSweepTime() + info.getCompactTime() + info.getCopyTime();
+			AssertJUnit.assertTrue(name + " phase times", phaseTime > 0);
+			/* the phases ran inside the collection, allow for the coarser clock of the collection times */
+			long collectionTime = bean.getLastCollectionEndTime() - bean.getLastCollectionStartTime();
+			AssertJUnit.assertTrue(name + " phase times " + phaseTime + "ns in a " + collectionTime + "ms collection",
+					phaseTime <= ((collectionTime + 10) * 1000000));
+			AssertJUnit.assertTrue(name + " root scan time", info.getRootScanTime() > 0);
+			AssertJUnit.assertTrue(name + " workers", workerIDs.length > 0);
+		}
+		AssertJUnit.assertTrue("no collector ran for System.gc()", checked > 0);
+	}
+
 	// Check that the agreed IBM extension operations are present.
 	@Test
 	public final void testGetLastCollectionStartTime() {
@@ -296,10 +356,10 @@ public class TestGarbageCollectorMXBean {
 		// Print out both, the description as well as the the class name.
 		logger.debug("MBean description for " + gcb.getClass().getName() + ": " + mbi.getDescription());
 
-		// 10 attributes (5 standard, 6 IBM) - none is writable.
+		// 13 attributes (6 standard, 1 Oracle, 6 IBM) - none is writable.
 		MBeanAttributeInfo[] attributes = mbi.getAttributes();
 		AssertJUnit.assertNotNull(attributes);
-		AssertJUnit.assertEquals(12, attributes.length);
+		AssertJUnit.assertEquals(13, attributes.length);
 		for (int i = 0; i < attributes.length; i++) {
 			MBeanAttributeInfo info = attributes[i];
 			AssertJUnit.assertNotNull(info);
@@ -35,6 +35,7 @@ import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.management.Attribute;
 import javax.management.AttributeList;
@@ -111,6 +112,16 @@ public class TestMemoryMXBean {
 		attribs.put("GCSlaveThreadsCpuUsed", new AttributeData(Long.TYPE.getName(), true, false, false));
 		attribs.put("MaximumGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
 		attribs.put("CurrentGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("FinalizerThreadCount", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("FinalizerPeakQueueDepth", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("FinalizerJobsProcessed", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("FinalizerQueueLatency", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("FinalizerMaxQueueLatency", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("StringTableStripeCount", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("StringTableSize", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("StringTableLockAcquisitions", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("StringTableContendedLockAcquisitions", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("StringTableResizeCount", new AttributeData(Long.TYPE.getName(), true, false, false));
 	}// end static initializer
 
 	private ExtendedMemoryMXBeanImpl mb;
@@ -739,7 +750,7 @@ public class TestMemoryMXBean {
 		// Eight attributes - some writable.
 		MBeanAttributeInfo[] attributes = mbi.getAttributes();
 		AssertJUnit.assertNotNull(attributes);
-		AssertJUnit.assertTrue(attributes.length == 24);
+		AssertJUnit.assertTrue(attributes.length == 34);
 		for (int i = 0; i < attributes.length; i++) {
 			MBeanAttributeInfo info = attributes[i];
 			AssertJUnit.assertNotNull(info);
@@ -814,6 +825,86 @@ public class TestMemoryMXBean {
 		AssertJUnit.assertTrue(mode.length() > 0);
 	}
 
+	static class SlowFinalizable {
+		static final AtomicInteger finalized = new AtomicInteger();
+
+		@Override
+		protected void finalize() throws Throwable {
+			Thread.sleep(1);
+			finalized.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Helper finalizer threads are only started when the VM is run with
+	 * -Xgc:finalizeMaxHelperThreads=<n> and n is not 0.
+	 */
+	private static boolean finalizerHelpersEnabled() {
+		boolean enabled = false;
+		for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+			int index = argument.lastIndexOf("finalizeMaxHelperThreads=");
+			if (argument.startsWith("-Xgc:") && (index >= 0)) {
+				String value = argument.substring(index + "finalizeMaxHelperThreads=".length());
+				int end = value.indexOf(',');
+				enabled = !"0".equals((end >= 0) ? value.substring(0, end) : value);
+			}
+		}
+		return enabled;
+	}
+
+	/**
+	 * Test the finalizer statistics APIs. When the helpers are enabled, a backlog
+	 * deeper than the default finalizeHelperQueueDepth must start helper threads.
+	 * Either way runFinalization() must not return before all the finalizers have run.
+	 */
+	@Test
+	public void testGetFinalizerStatistics() {
+		final int count = 5000;
+		System.gc();
+		System.runFinalization();
+		long jobsBefore = mb.getFinalizerJobsProcessed();
+		int finalizedBefore = SlowFinalizable.finalized.get();
+
+		SlowFinalizable[] objects = new SlowFinalizable[count];
+		for (int i = 0; i < count; i++) {
+			objects[i] = new SlowFinalizable();
+		}
+		objects = null;
+		System.gc();
+		System.runFinalization();
+
+		AssertJUnit.assertEquals("runFinalization() returned before all finalizers ran", finalizedBefore + count,
+				SlowFinalizable.finalized.get());
+		int threads = mb.getFinalizerThreadCount();
+		if (finalizerHelpersEnabled()) {
+			/* the helpers stay around for finalizeHelperIdleTimeout once the backlog has drained */
+			AssertJUnit.assertTrue("no finalizer helper threads for a backlog of " + count + ": " + threads, threads > 1);
+		} else {
+			AssertJUnit.assertTrue("finalizer helper threads started by default: " + threads, threads <= 1);
+		}
+		AssertJUnit.assertTrue(mb.getFinalizerPeakQueueDepth() >= count);
+		AssertJUnit.assertTrue(mb.getFinalizerJobsProcessed() >= (jobsBefore + count));
+		AssertJUnit.assertTrue(mb.getFinalizerQueueLatency() >= 0);
+		AssertJUnit.assertTrue(mb.getFinalizerMaxQueueLatency() > 0);
+	}
+
+	/**
+	 * Test the interned string table statistics APIs.
+	 */
+	@Test
+	public void testGetStringTableStatistics() {
+		String.valueOf(System.nanoTime()).intern();
+		/* the statistics are sampled at the end of each global GC */
+		System.gc();
+		AssertJUnit.assertTrue(mb.getStringTableStripeCount() > 0);
+		AssertJUnit.assertTrue(mb.getStringTableSize() > 0);
+		long acquisitions = mb.getStringTableLockAcquisitions();
+		AssertJUnit.assertTrue(acquisitions > 0);
+		long contended = mb.getStringTableContendedLockAcquisitions();
+		AssertJUnit.assertTrue((contended >= 0) && (contended <= mb.getStringTableLockAcquisitions()));
+		AssertJUnit.assertTrue(mb.getStringTableResizeCount() >= 0);
+	}
+
 	/**
 	 * Test the getSharedClassCacheSize() API.
 	 */
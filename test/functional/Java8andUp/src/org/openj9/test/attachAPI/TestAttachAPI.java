@@ -26,6 +26,7 @@ import static org.openj9.test.util.FileUtilities.deleteRecursive;
 import static org.openj9.test.util.PlatformInfo.isWindows;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.reflect.Method;
@@ -556,6 +557,65 @@ public class TestAttachAPI extends AttachApiTest {
 		target.terminateTarget();
 	}
 
+	@Test
+	public void test_vmnotify02() {
+		final String MASTER_NOTIFICATION = "-Dcom.ibm.tools.attach.targetedNotification=no";
+		final String targetedId = testName + "_targeted";
+		final String masterId = testName + "_master";
+		ArrayList<String> vmArgs = new ArrayList<>();
+		vmArgs.add(MASTER_NOTIFICATION);
+		TargetManager targeted = new TargetManager(TestConstants.TARGET_VM_CLASS, targetedId, null);
+		TargetManager master = new TargetManager(TestConstants.TARGET_VM_CLASS, masterId, vmArgs, null);
+		try {
+			targeted.syncWithTarget();
+			checkTargetPid(targeted);
+			master.syncWithTarget();
+			checkTargetPid(master);
+			/* targeted notification is the default, a target which opts out must stay reachable through the master semaphore */
+			AssertJUnit.assertEquals("notifier of " + targetedId, "attachNotifier", getNotifier(targetedId));
+			AssertJUnit.assertEquals("notifier of " + masterId, "_notifier", getNotifier(masterId));
+			/* alternate between the targets, a post left over from one mode must not disturb the other */
+			for (int i = 0; i < 3; ++i) {
+				checkAttachId(targetedId);
+				checkAttachId(masterId);
+			}
+		} finally {
+			targeted.terminateTarget();
+			master.terminateTarget();
+		}
+	}
+
+	private String getNotifier(String vmId) {
+		Properties advert = new Properties();
+		File advertFile = new File(new File(commonDir, vmId), "attachInfo");
+		try (FileInputStream advertStream = new FileInputStream(advertFile)) {
+			advert.load(advertStream);
+		} catch (IOException e) {
+			logExceptionInfoAndFail(e);
+		}
+		return advert.getProperty("notifier");
+	}
+
+	private void checkAttachId(String vmId) {
+		VirtualMachine vm = null;
+		try {
+			vm = VirtualMachine.attach(vmId);
+			final String IDPROP = "com.ibm.tools.attach.id";
+			AssertJUnit.assertEquals(IDPROP, vmId, vm.getSystemProperties().getProperty(IDPROP));
+		} catch (AttachNotSupportedException | IOException e) {
+			listIpcDir();
+			logExceptionInfoAndFail(e);
+		} finally {
+			if (null != vm) {
+				try {
+					vm.detach();
+				} catch (IOException e) {
+					logExceptionInfoAndFail(e);
+				}
+			}
+		}
+	}
+
 	@Test
 	public void test_vmname02() {
 		
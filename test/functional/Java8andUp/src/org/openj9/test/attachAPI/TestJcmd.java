@@ -174,6 +174,21 @@ public class TestJcmd extends AttachApiTest {
 		log(EXPECTED_STRING_FOUND);
 	}
 
+	@Test
+	public void testClassHistogramTop() throws IOException {
+		List<String> args = new ArrayList<>();
+		args.add(getVmId());
+		args.add(GC_CLASS_HISTOGRAM);
+		args.add("live"); //$NON-NLS-1$
+		args.add("top=1"); //$NON-NLS-1$
+		List<String> jcmdOutput = runCommandAndLogOutput(args);
+		String expectedString = "more classes"; //$NON-NLS-1$
+		log("Expected string: " + expectedString); //$NON-NLS-1$
+		Optional<String> searchResult = StringUtilities.searchSubstring(expectedString, jcmdOutput);
+		assertTrue(searchResult.isPresent(), "Expected string not found: " + expectedString); //$NON-NLS-1$
+		log(EXPECTED_STRING_FOUND);
+	}
+
 	@Test
 	public void testDumps() throws IOException {
 		@SuppressWarnings("nls")
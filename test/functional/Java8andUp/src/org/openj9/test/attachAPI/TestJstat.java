@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2019 IBM Corp. and others
+ * Copyright (c) 2019, 2026 IBM Corp. and others
  *
  * This program and the accompanying materials are made available under
  * the terms of the Eclipse Public License 2.0 which accompanies this
@@ -40,6 +40,9 @@ public class TestJstat extends AttachApiTest {
 	private static final String JSTAT_COMMAND = "jstat"; //$NON-NLS-1$
 	private static final String JSTAT_OPTION_CLASS = "-class"; //$NON-NLS-1$
 	private static final String JSTAT_OPTION_CLASS_HEADER = "Class Loaded    Class Unloaded"; //$NON-NLS-1$
+	private static final String JSTAT_CLASS_SAMPLE_PATTERN = "\\s*\\d+\\s+\\d+\\s*"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_GC = "-gc"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_GC_HEADER = "YGC"; //$NON-NLS-1$
 	Object syncObject = new Object();
 	private String vmId;
 
@@ -59,6 +62,35 @@ public class TestJstat extends AttachApiTest {
 		AssertJUnit.assertTrue(JSTAT_OPTION_CLASS_HEADER + " missing", searchResult.isPresent()); //$NON-NLS-1$
 	}
 
+	@Test
+	public void testOptionGc() throws IOException {
+		List<String> jstatOutput = runCommand(Arrays.asList(JSTAT_OPTION_GC, vmId));
+		logOutput(jstatOutput, JSTAT_COMMAND);
+		Optional<String> searchResult = StringUtilities.searchSubstring(JSTAT_OPTION_GC_HEADER, jstatOutput);
+		AssertJUnit.assertTrue(JSTAT_OPTION_GC_HEADER + " missing", searchResult.isPresent()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSampleCount() throws IOException {
+		List<String> jstatOutput = runCommand(Arrays.asList(JSTAT_OPTION_CLASS, vmId, "100ms", "3")); //$NON-NLS-1$ //$NON-NLS-2$
+		logOutput(jstatOutput, JSTAT_COMMAND);
+		/* the header is printed once, followed by one line per sample, other lines such as warnings are ignored */
+		int headerCount = 0;
+		int sampleCount = 0;
+		for (String line : jstatOutput) {
+			if (line.contains(JSTAT_OPTION_CLASS_HEADER)) {
+				AssertJUnit.assertEquals("sample before header", 0, sampleCount); //$NON-NLS-1$
+				headerCount += 1;
+			} else if (line.matches(JSTAT_CLASS_SAMPLE_PATTERN)) {
+				String[] counts = line.trim().split("\\s+"); //$NON-NLS-1$
+				AssertJUnit.assertTrue("no classes loaded: " + line, Long.parseLong(counts[0]) > 0); //$NON-NLS-1$
+				sampleCount += 1;
+			}
+		}
+		AssertJUnit.assertEquals("wrong number of headers", 1, headerCount); //$NON-NLS-1$
+		AssertJUnit.assertEquals("wrong number of samples", 3, sampleCount); //$NON-NLS-1$
+	}
+
 	@BeforeSuite
 	protected void setupSuite() {
 		AssertJUnit.assertTrue("This test is valid only on OpenJ9", PlatformInfo.isOpenJ9()); //$NON-NLS-1$
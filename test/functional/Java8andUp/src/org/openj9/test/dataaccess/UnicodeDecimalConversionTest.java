@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.dataaccess;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * Checks the conversions between Unicode Decimals and BigDecimals. Unicode Decimals of up to
+ * 18 digits are converted through a long, longer ones through a Packed Decimal. Both must give
+ * the same results and throw the same exceptions.
+ */
+@Test(groups = { "level.extended" })
+public class UnicodeDecimalConversionTest {
+
+	private static final int[] DECIMAL_TYPES = {
+		DecimalData.UNICODE_UNSIGNED,
+		DecimalData.UNICODE_SIGN_SEPARATE_LEADING,
+		DecimalData.UNICODE_SIGN_SEPARATE_TRAILING
+	};
+	private static final int[] PRECISIONS = { 1, 2, 9, 10, 17, 18, 19, 20, 31 };
+	private static final String DIGITS = "9876543210123456789098765432101";
+	private static final int OFFSET = 3;
+	private static final int SCALE = 2;
+	private static final char FILL = '#';
+
+	private static String digits(int precision) {
+		return DIGITS.substring(DIGITS.length() - precision);
+	}
+
+	private static int size(int precision, int decimalType) {
+		return (DecimalData.UNICODE_UNSIGNED == decimalType) ? precision : precision + 1;
+	}
+
+	/**
+	 * Creates a char array holding a Unicode Decimal at OFFSET, surrounded by FILL.
+	 */
+	private static char[] unicodeDecimal(String digits, char sign, int decimalType) {
+		String decimal;
+		switch (decimalType) {
+		case DecimalData.UNICODE_SIGN_SEPARATE_LEADING:
+			decimal = sign + digits;
+			break;
+		case DecimalData.UNICODE_SIGN_SEPARATE_TRAILING:
+			decimal = digits + sign;
+			break;
+		default:
+			decimal = digits;
+			break;
+		}
+		char[] result = new char[OFFSET + decimal.length() + 2];
+		Arrays.fill(result, FILL);
+		decimal.getChars(0, decimal.length(), result, OFFSET);
+		return result;
+	}
+
+	private static BigDecimal expectedValue(String digits, boolean negative) {
+		BigInteger unscaled = new BigInteger(digits);
+		return new BigDecimal(negative ? unscaled.negate() : unscaled, SCALE);
+	}
+
+	private static void checkException(Class<? extends RuntimeException> type, String message, Runnable conversion) {
+		try {
+			conversion.run();
+			Assert.fail("expected " + type.getName() + ": " + message);
+		} catch (RuntimeException e) {
+			Assert.assertEquals(e.getClass(), type, "wrong exception " + e);
+			if (null != message) {
+				Assert.assertEquals(e.getMessage(), message, "wrong exception message");
+			}
+		}
+	}
+
+	private static void checkToBigDecimalException(Class<? extends RuntimeException> type, String message,
+			char[] unicodeDecimal, int offset, int precision, int decimalType) {
+		checkException(type, message, () -> DecimalData.convertUnicodeDecimalToBigDecimal(unicodeDecimal, offset, precision, SCALE, true, decimalType));
+	}
+
+	@Test
+	public void testToBigDecimal() {
+		for (int decimalType : DECIMAL_TYPES) {
+			for (int precision : PRECISIONS) {
+				String digits = digits(precision);
+				for (char sign : new char[] { '+', '-' }) {
+					boolean negative = ('-' == sign) && (DecimalData.UNICODE_UNSIGNED != decimalType);
+					char[] unicodeDecimal = unicodeDecimal(digits, sign, decimalType);
+					BigDecimal value = DecimalData.convertUnicodeDecimalToBigDecimal(unicodeDecimal, OFFSET, precision, SCALE, true, decimalType);
+					Assert.assertEquals(value, expectedValue(digits, negative), "type " + decimalType + ", precision " + precision + ", sign " + sign);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testToBigDecimalLimits() {
+		String max18 = "999999999999999999";
+		String max19 = "9999999999999999999";
+		for (int decimalType : DECIMAL_TYPES) {
+			boolean signed = DecimalData.UNICODE_UNSIGNED != decimalType;
+			Assert.assertEquals(DecimalData.convertUnicodeDecimalToBigDecimal(unicodeDecimal(max18, '-', decimalType), OFFSET, 18, SCALE, true, decimalType),
+					expectedValue(max18, signed));
+			Assert.assertEquals(DecimalData.convertUnicodeDecimalToBigDecimal(unicodeDecimal(max19, '-', decimalType), OFFSET, 19, SCALE, true, decimalType),
+					expectedValue(max19, signed));
+			/* a negative zero is zero */
+			Assert.assertEquals(DecimalData.convertUnicodeDecimalToBigDecimal(unicodeDecimal("000000000000000000", '-', decimalType), OFFSET, 18, SCALE, true, decimalType),
+					BigDecimal.valueOf(0, SCALE));
+		}
+	}
+
+	@Test
+	public void testToBigDecimalInvalidSign() {
+		/* any sign other than '-' is positive */
+		for (int decimalType : new int[] { DecimalData.UNICODE_SIGN_SEPARATE_LEADING, DecimalData.UNICODE_SIGN_SEPARATE_TRAILING }) {
+			for (int precision : new int[] { 18, 19 }) {
+				String digits = digits(precision);
+				for (char sign : new char[] { ' ', '0', 'x', '\u2212' }) {
+					char[] unicodeDecimal = unicodeDecimal(digits, sign, decimalType);
+					Assert.assertEquals(DecimalData.convertUnicodeDecimalToBigDecimal(unicodeDecimal, OFFSET, precision, SCALE, true, decimalType),
+							expectedValue(digits, false), "type " + decimalType + ", precision " + precision + ", sign " + (int) sign);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testToBigDecimalInvalidDigits() {
+		for (int decimalType : DECIMAL_TYPES) {
+			for (int precision : new int[] { 1, 17, 18, 19 }) {
+				String digits = digits(precision);
+				for (int position : new int[] { 0, precision / 2, precision - 1 }) {
+					/* only the low nibble of a digit is used, these have an invalid one */
+					for (char digit : new char[] { ':', '?', '/', '\u0f3a' }) {
+						char[] unicodeDecimal = unicodeDecimal(digits, '-', decimalType);
+						int index = OFFSET + position + ((DecimalData.UNICODE_SIGN_SEPARATE_LEADING == decimalType) ? 1 : 0);
+						unicodeDecimal[index] = digit;
+						checkToBigDecimalException(IllegalArgumentException.class, "The input Unicode is not valid",
+								unicodeDecimal, OFFSET, precision, decimalType);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testToBigDecimalInvalidArguments() {
+		for (int precision : new int[] { 18, 19 }) {
+			for (int decimalType : DECIMAL_TYPES) {
+				char[] unicodeDecimal = unicodeDecimal(digits(precision), '+', decimalType);
+				int length = unicodeDecimal.length;
+				int last = length - size(precision, decimalType) + 1;
+
+				checkToBigDecimalException(ArrayIndexOutOfBoundsException.class,
+						"Array access index out of bounds. convertUnicodeDecimalToPackedDecimal is trying to access unicodeDecimal["
+						+ last + "] to unicodeDecimal[" + length + "],  but valid indices are from 0 to " + (length - 1) + ".",
+						unicodeDecimal, last, precision, decimalType);
+				checkToBigDecimalException(ArrayIndexOutOfBoundsException.class,
+						"Array access index out of bounds. convertUnicodeDecimalToPackedDecimal is trying to access unicodeDecimal[-1] to unicodeDecimal["
+						+ (size(precision, decimalType) - 2) + "],  but valid indices are from 0 to " + (length - 1) + ".",
+						unicodeDecimal, -1, precision, decimalType);
+				checkToBigDecimalException(NullPointerException.class, null,
+						null, OFFSET, precision, decimalType);
+			}
+			char[] unicodeDecimal = unicodeDecimal(digits(precision), '+', DecimalData.UNICODE_SIGN_SEPARATE_TRAILING);
+			checkToBigDecimalException(IllegalArgumentException.class, "invalid decimalType",
+					unicodeDecimal, OFFSET, precision, DecimalData.UNICODE_SIGN_SEPARATE_TRAILING + 10);
+		}
+		checkToBigDecimalException(IllegalArgumentException.class, "invalid precision",
+				new char[10], OFFSET, 0, DecimalData.UNICODE_UNSIGNED);
+		checkToBigDecimalException(IllegalArgumentException.class, "invalid precision",
+				new char[10], OFFSET, -1, DecimalData.UNICODE_SIGN_SEPARATE_LEADING);
+	}
+
+	@Test
+	public void testFromBigDecimal() {
+		for (int decimalType : DECIMAL_TYPES) {
+			for (int digitCount : PRECISIONS) {
+				String digits = digits(digitCount);
+				for (boolean negative : new boolean[] { false, true }) {
+					BigDecimal value = expectedValue(digits, negative);
+					/* the value fills the Unicode Decimal, or is padded with zeros */
+					for (int precision : new int[] { digitCount, digitCount + 1, 19 }) {
+						if (precision < digitCount) {
+							continue;
+						}
+						String expectedDigits = String.format("%" + precision + "s", digits).replace(' ', '0');
+						char[] expected = unicodeDecimal(expectedDigits, negative ? '-' : '+', decimalType);
+						char[] unicodeDecimal = new char[expected.length];
+						Arrays.fill(unicodeDecimal, FILL);
+
+						DecimalData.convertBigDecimalToUnicodeDecimal(value, unicodeDecimal, OFFSET, precision, true, decimalType);
+						String context = "type " + decimalType + ", value " + value + ", precision " + precision;
+						Assert.assertEquals(new String(unicodeDecimal), new String(expected), context);
+
+						BigDecimal roundTrip = DecimalData.convertUnicodeDecimalToBigDecimal(unicodeDecimal, OFFSET, precision, SCALE, true, decimalType);
+						Assert.assertEquals(roundTrip, (DecimalData.UNICODE_UNSIGNED == decimalType) ? value.abs() : value, context);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFromBigDecimalOverflow() {
+		for (int decimalType : DECIMAL_TYPES) {
+			for (int digitCount : new int[] { 18, 19 }) {
+				BigDecimal value = expectedValue(digits(digitCount), true);
+				char[] unicodeDecimal = new char[OFFSET + digitCount + 2];
+				checkException(ArithmeticException.class, null,
+						() -> DecimalData.convertBigDecimalToUnicodeDecimal(value, unicodeDecimal, OFFSET, digitCount - 1, true, decimalType));
+			}
+		}
+	}
+
+	@Test
+	public void testFromBigDecimalInvalidArguments() {
+		for (int digitCount : new int[] { 18, 19 }) {
+			BigDecimal value = expectedValue(digits(digitCount), false);
+			char[] unicodeDecimal = new char[OFFSET + digitCount + 2];
+			for (int decimalType : DECIMAL_TYPES) {
+				checkException(ArrayIndexOutOfBoundsException.class, null,
+						() -> DecimalData.convertBigDecimalToUnicodeDecimal(value, unicodeDecimal, unicodeDecimal.length - digitCount + 1, digitCount, true, decimalType));
+				checkException(ArrayIndexOutOfBoundsException.class, null,
+						() -> DecimalData.convertBigDecimalToUnicodeDecimal(value, unicodeDecimal, -1, digitCount, true, decimalType));
+				checkException(NullPointerException.class, null,
+						() -> DecimalData.convertBigDecimalToUnicodeDecimal(value, null, OFFSET, digitCount, true, decimalType));
+			}
+			try {
+				DecimalData.convertBigDecimalToUnicodeDecimal(value, unicodeDecimal, OFFSET, digitCount, true, DecimalData.UNICODE_SIGN_SEPARATE_TRAILING + 10);
+				Assert.fail("expected IllegalArgumentException for an invalid decimalType");
+			} catch (IllegalArgumentException e) {
+				Assert.assertTrue("invalid decimalType".equalsIgnoreCase(e.getMessage()), "wrong exception message " + e.getMessage());
+			}
+		}
+	}
+}
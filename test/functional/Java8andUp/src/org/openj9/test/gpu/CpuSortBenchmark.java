@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.gpu;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compares Arrays.sort, which uses the CPU sort assist when the VM is started
+ * with -Dcom.ibm.gpu.cpu.enable, against Arrays.parallelSort, checking that
+ * both produce the same result. CpuSortTest covers the correctness of the
+ * assist; this benchmark is not part of any test target and is run standalone, e.g.
+ *   java -Dcom.ibm.gpu.cpu.enable=sort org.openj9.test.gpu.CpuSortBenchmark
+ */
+@SuppressWarnings({ "nls", "static-method" })
+public final class CpuSortBenchmark {
+
+	private static final int[] LENGTHS = { 1_000, 100_000, 1_000_000, 4_000_000 };
+
+	private static final int ITERATIONS = 3;
+
+	public static void main(String[] args) {
+		new CpuSortBenchmark().run();
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) {
+			throw new AssertionError(message);
+		}
+	}
+
+	private static String rate(int length, long timeNs) {
+		return String.format("%,16.3f", Double.valueOf(timeNs == 0 ? 0 : (length * 1e9 / timeNs)));
+	}
+
+	private static void report(String type, int length, long sortNs, long parallelSortNs) {
+		System.out.println(String.format("%-7s %13d %s %s", type, Integer.valueOf(length),
+				rate(length, sortNs), rate(length, parallelSortNs)));
+	}
+
+	private final Random random = new Random(0x5eed);
+
+	private void run() {
+		System.out.println(String.format("CPU sort assist requested: %s",
+				Boolean.valueOf(System.getProperty("com.ibm.gpu.cpu.enable") != null)));
+		System.out.println(String.format("%-7s %13s %16s %16s", "Type", "Length", "Rate(sort)", "Rate(parallel)"));
+
+		for (int length : LENGTHS) {
+			testDouble(length);
+			testFloat(length);
+			testInt(length);
+			testLong(length);
+		}
+	}
+
+	private void testDouble(int length) {
+		double[] data = new double[length];
+		long sortNs = 0;
+		long parallelSortNs = 0;
+
+		for (int iteration = 0; iteration < ITERATIONS; ++iteration) {
+			for (int i = 0; i < length; ++i) {
+				// include NaNs, infinities and signed zeros
+				data[i] = Double.longBitsToDouble(random.nextLong());
+			}
+
+			double[] expected = data.clone();
+			long start = System.nanoTime();
+
+			Arrays.sort(data);
+			sortNs += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			Arrays.parallelSort(expected);
+			parallelSortNs += System.nanoTime() - start;
+
+			check(Arrays.equals(data, expected), "double sort failure (length=" + length + ")");
+		}
+
+		report("double", length, sortNs, parallelSortNs);
+	}
+
+	private void testFloat(int length) {
+		float[] data = new float[length];
+		long sortNs = 0;
+		long parallelSortNs = 0;
+
+		for (int iteration = 0; iteration < ITERATIONS; ++iteration) {
+			for (int i = 0; i < length; ++i) {
+				// include NaNs, infinities and signed zeros
+				data[i] = Float.intBitsToFloat(random.nextInt());
+			}
+
+			float[] expected = data.clone();
+			long start = System.nanoTime();
+
+			Arrays.sort(data);
+			sortNs += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			Arrays.parallelSort(expected);
+			parallelSortNs += System.nanoTime() - start;
+
+			check(Arrays.equals(data, expected), "float sort failure (length=" + length + ")");
+		}
+
+		report("float", length, sortNs, parallelSortNs);
+	}
+
+	private void testInt(int length) {
+		int[] data = new int[length];
+		long sortNs = 0;
+		long parallelSortNs = 0;
+
+		for (int iteration = 0; iteration < ITERATIONS; ++iteration) {
+			for (int i = 0; i < length; ++i) {
+				data[i] = random.nextInt();
+			}
+
+			int[] expected = data.clone();
+			long start = System.nanoTime();
+
+			Arrays.sort(data);
+			sortNs += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			Arrays.parallelSort(expected);
+			parallelSortNs += System.nanoTime() - start;
+
+			check(Arrays.equals(data, expected), "int sort failure (length=" + length + ")");
+		}
+
+		report("int", length, sortNs, parallelSortNs);
+	}
+
+	private void testLong(int length) {
+		long[] data = new long[length];
+		long sortNs = 0;
+		long parallelSortNs = 0;
+
+		for (int iteration = 0; iteration < ITERATIONS; ++iteration) {
+			for (int i = 0; i < length; ++i) {
+				data[i] = random.nextLong();
+			}
+
+			long[] expected = data.clone();
+			long start = System.nanoTime();
+
+			Arrays.sort(data);
+			sortNs += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			Arrays.parallelSort(expected);
+			parallelSortNs += System.nanoTime() - start;
+
+			check(Arrays.equals(data, expected), "long sort failure (length=" + length + ")");
+		}
+
+		report("long", length, sortNs, parallelSortNs);
+	}
+
+}
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.gpu;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test sorting with the CPU sort assist. The VM must be started with
+ * -Dcom.ibm.gpu.cpu.enable=sort and a threshold below LENGTH, so that
+ * Arrays.sort of the large arrays is done by the assist.
+ */
+@Test(groups = { "level.sanity" })
+@SuppressWarnings("nls")
+public final class CpuSortTest {
+
+	/* long enough to be split between several workers */
+	private static final int LENGTH = 100_000;
+
+	private static final long NEGATIVE_NAN_BITS = 0xFFF8_0000_0000_0001L;
+
+	private final Random random = new Random(0x5eed);
+
+	private static void checkAssistUsed() {
+		Assert.assertNotNull(System.getProperty("com.ibm.gpu.cpu.enable"), "com.ibm.gpu.cpu.enable is not set");
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName().startsWith("CPU sort assist")) {
+				return;
+			}
+		}
+		Assert.fail("the CPU sort assist was not used");
+	}
+
+	private double[] doubles() {
+		double[] data = new double[LENGTH];
+		double[] specials = { Double.NaN, Double.longBitsToDouble(NEGATIVE_NAN_BITS), -0.0, 0.0,
+				Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -Double.MIN_VALUE, Double.MIN_VALUE,
+				-Double.MAX_VALUE, Double.MAX_VALUE };
+		for (int i = 0; i < LENGTH; ++i) {
+			data[i] = ((i % 7) == 0) ? specials[random.nextInt(specials.length)] : (random.nextDouble() - 0.5) * 1e6;
+		}
+		return data;
+	}
+
+	private float[] floats() {
+		float[] data = new float[LENGTH];
+		float[] specials = { Float.NaN, Float.intBitsToFloat(0xFFC0_0001), -0.0f, 0.0f,
+				Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, -Float.MIN_VALUE, Float.MIN_VALUE,
+				-Float.MAX_VALUE, Float.MAX_VALUE };
+		for (int i = 0; i < LENGTH; ++i) {
+			data[i] = ((i % 7) == 0) ? specials[random.nextInt(specials.length)] : (random.nextFloat() - 0.5f) * 1e6f;
+		}
+		return data;
+	}
+
+	public void testDouble() {
+		double[] data = doubles();
+		Double[] expected = new Double[LENGTH];
+		for (int i = 0; i < LENGTH; ++i) {
+			expected[i] = Double.valueOf(data[i]);
+		}
+		/* Double.compareTo orders -0.0 before 0.0 and NaN last, as Arrays.sort must */
+		Arrays.sort(expected);
+
+		Arrays.sort(data);
+		checkAssistUsed();
+
+		long[] actualBits = new long[LENGTH];
+		long[] expectedBits = new long[LENGTH];
+		for (int i = 0; i < LENGTH; ++i) {
+			actualBits[i] = Double.doubleToRawLongBits(data[i]);
+			expectedBits[i] = Double.doubleToRawLongBits(expected[i].doubleValue());
+		}
+		/* the NaNs must keep their bit patterns, but the order among them is unspecified */
+		int nanStart = LENGTH;
+		while ((nanStart > 0) && Double.isNaN(expected[nanStart - 1].doubleValue())) {
+			nanStart -= 1;
+		}
+		Assert.assertTrue(nanStart < LENGTH, "no NaNs in the test data");
+		Arrays.sort(actualBits, nanStart, LENGTH);
+		Arrays.sort(expectedBits, nanStart, LENGTH);
+		for (int i = 0; i < LENGTH; ++i) {
+			Assert.assertEquals(actualBits[i], expectedBits[i], "double at " + i);
+		}
+	}
+
+	public void testFloat() {
+		float[] data = floats();
+		Float[] expected = new Float[LENGTH];
+		for (int i = 0; i < LENGTH; ++i) {
+			expected[i] = Float.valueOf(data[i]);
+		}
+		Arrays.sort(expected);
+
+		Arrays.sort(data);
+		checkAssistUsed();
+
+		int[] actualBits = new int[LENGTH];
+		int[] expectedBits = new int[LENGTH];
+		for (int i = 0; i < LENGTH; ++i) {
+			actualBits[i] = Float.floatToRawIntBits(data[i]);
+			expectedBits[i] = Float.floatToRawIntBits(expected[i].floatValue());
+		}
+		/* the NaNs must keep their bit patterns, but the order among them is unspecified */
+		int nanStart = LENGTH;
+		while ((nanStart > 0) && Float.isNaN(expected[nanStart - 1].floatValue())) {
+			nanStart -= 1;
+		}
+		Assert.assertTrue(nanStart < LENGTH, "no NaNs in the test data");
+		Arrays.sort(actualBits, nanStart, LENGTH);
+		Arrays.sort(expectedBits, nanStart, LENGTH);
+		for (int i = 0; i < LENGTH; ++i) {
+			Assert.assertEquals(actualBits[i], expectedBits[i], "float at " + i);
+		}
+	}
+
+	public void testInt() {
+		int[] data = new int[LENGTH];
+		for (int i = 0; i < LENGTH; ++i) {
+			data[i] = ((i % 11) == 0) ? ((i % 2) == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE) : random.nextInt();
+		}
+		Integer[] expected = new Integer[LENGTH];
+		for (int i = 0; i < LENGTH; ++i) {
+			expected[i] = Integer.valueOf(data[i]);
+		}
+		Arrays.sort(expected);
+
+		Arrays.sort(data);
+		checkAssistUsed();
+
+		for (int i = 0; i < LENGTH; ++i) {
+			Assert.assertEquals(data[i], expected[i].intValue(), "int at " + i);
+		}
+	}
+
+	public void testLong() {
+		long[] data = new long[LENGTH];
+		for (int i = 0; i < LENGTH; ++i) {
+			data[i] = ((i % 11) == 0) ? ((i % 2) == 0 ? Long.MIN_VALUE : Long.MAX_VALUE) : random.nextLong();
+		}
+		Long[] expected = new Long[LENGTH];
+		for (int i = 0; i < LENGTH; ++i) {
+			expected[i] = Long.valueOf(data[i]);
+		}
+		Arrays.sort(expected);
+
+		Arrays.sort(data);
+		checkAssistUsed();
+
+		for (int i = 0; i < LENGTH; ++i) {
+			Assert.assertEquals(data[i], expected[i].longValue(), "long at " + i);
+		}
+	}
+
+	public void testSubrange() {
+		int[] data = new int[LENGTH];
+		for (int i = 0; i < LENGTH; ++i) {
+			data[i] = -i;
+		}
+		int[] original = data.clone();
+		int from = 1000;
+		int to = LENGTH - 1000;
+
+		Arrays.sort(data, from, to);
+
+		for (int i = 0; i < LENGTH; ++i) {
+			if ((i < from) || (i >= to)) {
+				Assert.assertEquals(data[i], original[i], "element outside the range changed at " + i);
+			} else {
+				Assert.assertEquals(data[i], -(to - 1 - (i - from)), "int at " + i);
+			}
+		}
+	}
+
+}
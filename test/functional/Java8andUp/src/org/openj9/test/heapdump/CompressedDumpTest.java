@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.heapdump;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.ImageFactory;
+import com.ibm.dtfj.image.ImageProcess;
+import com.ibm.dtfj.image.javacore.JCImageFactory;
+import com.ibm.dtfj.java.JavaClass;
+import com.ibm.dtfj.java.JavaClassLoader;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.dtfj.java.JavaThread;
+import com.ibm.dtfj.utils.file.FileSniffer;
+
+/**
+ * Test that gzip compressed dumps (opts=PHD+GZIP and opts=GZIP) read back through DTFJ the
+ * same as uncompressed ones taken on the same vmstop event.
+ */
+@Test(groups = { "level.extended" })
+public class CompressedDumpTest {
+
+	private static final int GZIP_MAGIC = 0x1f8b;
+
+	public void testHeapdump() throws Exception {
+		File dir = createDirectory();
+		File plainDump = new File(dir, "plain.phd");
+		File compressedDump = new File(dir, "compressed.phd");
+		try {
+			ParallelHeapdumpTest.runChild(
+					"-Xdump:heap:events=vmstop,opts=PHD,file=" + plainDump.getPath(),
+					"-Xdump:heap:events=vmstop,opts=PHD+GZIP,file=" + compressedDump.getPath());
+			checkCompressed(compressedDump);
+			try (InputStream in = new FileInputStream(compressedDump)) {
+				Assert.assertTrue(FileSniffer.isPHDFile(in, compressedDump.length()), "not recognized as a PHD: " + compressedDump);
+			}
+
+			Map<Long, String> plainObjects = ParallelHeapdumpTest.readObjects(plainDump);
+			Map<Long, String> compressedObjects = ParallelHeapdumpTest.readObjects(compressedDump);
+			Assert.assertFalse(plainObjects.isEmpty(), "no objects in " + plainDump);
+			Assert.assertEquals(compressedObjects, plainObjects);
+		} finally {
+			plainDump.delete();
+			compressedDump.delete();
+			dir.delete();
+		}
+	}
+
+	public void testJavacore() throws Exception {
+		File dir = createDirectory();
+		File plainDump = new File(dir, "plain.txt");
+		File compressedDump = new File(dir, "compressed.txt");
+		try {
+			ParallelHeapdumpTest.runChild(
+					"-Xdump:java:events=vmstop,file=" + plainDump.getPath(),
+					"-Xdump:java:events=vmstop,opts=GZIP,file=" + compressedDump.getPath());
+			checkCompressed(compressedDump);
+			try (InputStream in = new FileInputStream(compressedDump)) {
+				Assert.assertTrue(FileSniffer.isJavaCoreFile(in, compressedDump.length()), "not recognized as a javacore: " + compressedDump);
+			}
+
+			JCImageFactory factory = new JCImageFactory();
+			Set<String> plainThreads = new TreeSet<String>();
+			Set<String> plainClasses = new TreeSet<String>();
+			readJavacore(factory, plainDump, plainThreads, plainClasses);
+			Assert.assertTrue(plainClasses.contains(ParallelHeapdumpTest.class.getName().replace('.', '/')), "classes in " + plainDump + ": " + plainClasses);
+
+			Set<String> compressedThreads = new TreeSet<String>();
+			Set<String> compressedClasses = new TreeSet<String>();
+			readJavacore(factory, compressedDump, compressedThreads, compressedClasses);
+			Assert.assertEquals(compressedThreads, plainThreads);
+			Assert.assertEquals(compressedClasses, plainClasses);
+
+			/* A sectioned read of a compressed javacore parses the whole file instead */
+			Set<String> sectionThreads = new TreeSet<String>();
+			Image image = factory.getImage(compressedDump, new String[] { "THREADS" });
+			try {
+				readRuntime(image, sectionThreads, new TreeSet<String>());
+			} finally {
+				image.close();
+			}
+			Assert.assertEquals(sectionThreads, plainThreads);
+		} finally {
+			plainDump.delete();
+			compressedDump.delete();
+			dir.delete();
+		}
+	}
+
+	private static File createDirectory() throws Exception {
+		File dir = File.createTempFile("compresseddump", "");
+		Assert.assertTrue(dir.delete() && dir.mkdir(), "could not create " + dir);
+		return dir;
+	}
+
+	private static void checkCompressed(File dump) throws Exception {
+		Assert.assertTrue(dump.isFile(), "missing " + dump);
+		try (DataInputStream in = new DataInputStream(new FileInputStream(dump))) {
+			Assert.assertEquals(in.readUnsignedShort(), GZIP_MAGIC, "not a gzip file: " + dump);
+		}
+	}
+
+	private static void readJavacore(ImageFactory factory, File javacore, Set<String> threads, Set<String> classes) throws Exception {
+		Image image = factory.getImage(javacore);
+		try {
+			readRuntime(image, threads, classes);
+		} finally {
+			image.close();
+		}
+	}
+
+	private static void readRuntime(Image image, Set<String> threads, Set<String> classes) throws Exception {
+		for (Iterator<?> spaces = image.getAddressSpaces(); spaces.hasNext();) {
+			for (Iterator<?> processes = ((ImageAddressSpace) spaces.next()).getProcesses(); processes.hasNext();) {
+				for (Iterator<?> runtimes = ((ImageProcess) processes.next()).getRuntimes(); runtimes.hasNext();) {
+					JavaRuntime runtime = (JavaRuntime) runtimes.next();
+					for (Iterator<?> runtimeThreads = runtime.getThreads(); runtimeThreads.hasNext();) {
+						threads.add(((JavaThread) runtimeThreads.next()).getName());
+					}
+					for (Iterator<?> loaders = runtime.getJavaClassLoaders(); loaders.hasNext();) {
+						for (Iterator<?> loaderClasses = ((JavaClassLoader) loaders.next()).getDefinedClasses(); loaderClasses.hasNext();) {
+							classes.add(((JavaClass) loaderClasses.next()).getName());
+						}
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.heapdump;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.ImageProcess;
+import com.ibm.dtfj.java.JavaClass;
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.java.JavaReference;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.dtfj.phd.PHDImageFactory;
+
+/**
+ * Test that a portable heap dump written by parallel workers (opts=PHD+PARALLEL) reads back
+ * the same as a serial one. Both dumps are taken by a child JVM on the same vmstop event,
+ * so they see the same heap, and are read with the DTFJ PHD reader.
+ */
+@Test(groups = { "level.extended" })
+public class ParallelHeapdumpTest {
+
+	private static final long TIMEOUT_SECONDS = 300;
+	private static final int ROOT_COUNT = 20000;
+
+	/* Kept reachable until the JVM stops */
+	static Object[] roots;
+
+	/**
+	 * The child JVM: fill the heap with objects of a few classes, so that most records are
+	 * short records using the class cache, and with references across regions.
+	 */
+	public static void main(String[] args) {
+		roots = new Object[ROOT_COUNT];
+		Node previous = null;
+		for (int i = 0; i < roots.length; i++) {
+			Node node = new Node(previous, "node " + i);
+			if (0 == (i % 3)) {
+				roots[i] = new int[i % 100];
+			} else if (0 == (i % 5)) {
+				roots[i] = new Object[] { node, previous, roots[i / 2] };
+			} else {
+				roots[i] = node;
+			}
+			previous = node;
+		}
+	}
+
+	static final class Node {
+		final Node next;
+		final String name;
+
+		Node(Node next, String name) {
+			this.next = next;
+			this.name = name;
+		}
+	}
+
+	public void testBalanced() throws Exception {
+		compareDumps("-Xgcpolicy:balanced");
+	}
+
+	public void testGencon() throws Exception {
+		compareDumps("-Xgcpolicy:gencon");
+	}
+
+	private static void compareDumps(String gcPolicy) throws Exception {
+		File dir = File.createTempFile("parallelheapdump", "");
+		Assert.assertTrue(dir.delete() && dir.mkdir(), "could not create " + dir);
+		File serialDump = new File(dir, "serial.phd");
+		File parallelDump = new File(dir, "parallel.phd");
+		try {
+			runChild(gcPolicy,
+					"-Xdump:heap:events=vmstop,opts=PHD,file=" + serialDump.getPath(),
+					"-Xdump:heap:events=vmstop,opts=PHD+PARALLEL,file=" + parallelDump.getPath());
+			Assert.assertTrue(serialDump.isFile(), "missing " + serialDump);
+			Assert.assertTrue(parallelDump.isFile(), "missing " + parallelDump);
+
+			Map<Long, String> serialObjects = readObjects(serialDump);
+			Map<Long, String> parallelObjects = readObjects(parallelDump);
+			Assert.assertTrue(serialObjects.size() > ROOT_COUNT, "too few objects in " + serialDump + ": " + serialObjects.size());
+			Assert.assertEquals(parallelObjects.size(), serialObjects.size(), "object count " + gcPolicy);
+			for (Map.Entry<Long, String> entry : serialObjects.entrySet()) {
+				Assert.assertEquals(parallelObjects.get(entry.getKey()), entry.getValue(),
+						"object 0x" + Long.toHexString(entry.getKey().longValue()) + " " + gcPolicy);
+			}
+		} finally {
+			serialDump.delete();
+			parallelDump.delete();
+			dir.delete();
+		}
+	}
+
+	static void runChild(String... options) throws Exception {
+		List<String> command = new ArrayList<String>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		for (String option : options) {
+			command.add(option);
+		}
+		command.add("-Xmx256m");
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(ParallelHeapdumpTest.class.getName());
+
+		ProcessBuilder builder = new ProcessBuilder(command);
+		builder.redirectErrorStream(true);
+		Process child = builder.start();
+		StringBuilder output = new StringBuilder();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(child.getInputStream()));
+		try {
+			for (String line = reader.readLine(); null != line; line = reader.readLine()) {
+				output.append(line).append('\n');
+			}
+		} finally {
+			reader.close();
+		}
+		Assert.assertTrue(child.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS), "child JVM did not stop: " + command);
+		Assert.assertEquals(child.exitValue(), 0, "child JVM failed: " + command + "\n" + output);
+		Assert.assertFalse(output.toString().contains("Error in Heap dump"), "dump error: " + output);
+	}
+
+	/**
+	 * Read the objects of a dump, keyed by address. Each is described by its class and the
+	 * addresses of the objects and classes it refers to.
+	 */
+	static Map<Long, String> readObjects(File dump) throws Exception {
+		Map<Long, String> objects = new TreeMap<Long, String>();
+		Image image = new PHDImageFactory().getImage(dump);
+		try {
+			for (Iterator<?> spaces = image.getAddressSpaces(); spaces.hasNext();) {
+				for (Iterator<?> processes = ((ImageAddressSpace) spaces.next()).getProcesses(); processes.hasNext();) {
+					for (Iterator<?> runtimes = ((ImageProcess) processes.next()).getRuntimes(); runtimes.hasNext();) {
+						JavaRuntime runtime = (JavaRuntime) runtimes.next();
+						for (Iterator<?> heaps = runtime.getHeaps(); heaps.hasNext();) {
+							for (Iterator<?> heapObjects = ((JavaHeap) heaps.next()).getObjects(); heapObjects.hasNext();) {
+								JavaObject object = (JavaObject) heapObjects.next();
+								objects.put(Long.valueOf(object.getID().getAddress()), describe(object));
+							}
+						}
+					}
+				}
+			}
+		} finally {
+			image.close();
+		}
+		return objects;
+	}
+
+	private static String describe(JavaObject object) throws Exception {
+		StringBuilder description = new StringBuilder(object.getJavaClass().getName());
+		for (Iterator<?> references = object.getReferences(); references.hasNext();) {
+			Object target = ((JavaReference) references.next()).getTarget();
+			description.append(' ');
+			if (target instanceof JavaObject) {
+				description.append("0x").append(Long.toHexString(((JavaObject) target).getID().getAddress()));
+			} else if (target instanceof JavaClass) {
+				description.append(((JavaClass) target).getName());
+			} else {
+				description.append(target);
+			}
+		}
+		return description.toString();
+	}
+}
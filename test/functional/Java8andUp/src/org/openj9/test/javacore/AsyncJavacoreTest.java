@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.javacore;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.jvm.Dump;
+
+/**
+ * Test javacores written with opts=ASYNC, where the file is finished by a background thread
+ * once exclusive access is released. The stacks are captured under exclusive access and must
+ * match those of a javacore written synchronously on the same event, the file must be complete
+ * when the JVM exits, and a requested dump must be complete when its file name is returned.
+ */
+@Test(groups = { "level.extended" })
+public class AsyncJavacoreTest {
+
+	private static final long TIMEOUT_SECONDS = 300;
+	private static final String TRIGGER = TriggerException.class.getName().replace('.', '/');
+	private static final String END_OF_DUMP = "END OF DUMP";
+
+	static class TriggerException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * The child JVM: either throw the exception the dump agents are filtered on, or request
+	 * an opts=ASYNC javacore and check the returned file is complete.
+	 */
+	public static void main(String[] args) throws Exception {
+		if ("throw".equals(args[0])) {
+			try {
+				throwTrigger();
+			} catch (TriggerException e) {
+				/* expected */
+			}
+		} else {
+			String fileName = Dump.triggerDump("java:file=" + args[1] + ",opts=ASYNC");
+			File javacore = new File(fileName);
+			if (!javacore.isFile() || !isComplete(readLines(javacore))) {
+				System.out.println("incomplete javacore " + fileName);
+				System.exit(1);
+			}
+		}
+	}
+
+	private static void throwTrigger() {
+		throw new TriggerException();
+	}
+
+	public void testStacksMatchSynchronousJavacore() throws Exception {
+		File dir = createDirectory();
+		File syncDump = new File(dir, "sync.txt");
+		File asyncDump = new File(dir, "async.txt");
+		try {
+			runChild(new String[] {
+					"-Xdump:java:events=throw,filter=" + TRIGGER + ",file=" + syncDump.getPath(),
+					"-Xdump:java:events=throw,filter=" + TRIGGER + ",opts=ASYNC,file=" + asyncDump.getPath() },
+					"throw");
+			List<String> syncLines = readLines(syncDump);
+			List<String> asyncLines = readLines(asyncDump);
+			Assert.assertTrue(isComplete(syncLines), "incomplete " + syncDump);
+			Assert.assertTrue(isComplete(asyncLines), "incomplete " + asyncDump);
+			Assert.assertTrue(asyncLines.contains("0SECTION       CLASSES subcomponent dump routine"), "no class section in " + asyncDump);
+
+			List<String> syncStack = mainThreadStack(syncLines);
+			List<String> asyncStack = mainThreadStack(asyncLines);
+			Assert.assertFalse(syncStack.isEmpty(), "no main thread stack in " + syncDump);
+			Assert.assertEquals(asyncStack, syncStack);
+
+			String throwingFrame = null;
+			for (String frame : asyncStack) {
+				if (frame.contains(".throwTrigger(")) {
+					throwingFrame = frame;
+					break;
+				}
+			}
+			Assert.assertNotNull(throwingFrame, "no throwing frame in " + asyncStack);
+			Assert.assertTrue(throwingFrame.matches(".*\\(AsyncJavacoreTest\\.java:\\d+(\\(Compiled Code\\))?\\)"), "no source position: " + throwingFrame);
+		} finally {
+			syncDump.delete();
+			asyncDump.delete();
+			dir.delete();
+		}
+	}
+
+	public void testRequestedJavacoreComplete() throws Exception {
+		File dir = createDirectory();
+		File asyncDump = new File(dir, "requested.txt");
+		try {
+			runChild(new String[0], "request", asyncDump.getPath());
+			Assert.assertTrue(isComplete(readLines(asyncDump)), "incomplete " + asyncDump);
+		} finally {
+			asyncDump.delete();
+			dir.delete();
+		}
+	}
+
+	private static File createDirectory() throws Exception {
+		File dir = File.createTempFile("asyncjavacore", "");
+		Assert.assertTrue(dir.delete() && dir.mkdir(), "could not create " + dir);
+		return dir;
+	}
+
+	private static void runChild(String[] options, String... args) throws Exception {
+		List<String> command = new ArrayList<String>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		for (String option : options) {
+			command.add(option);
+		}
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(AsyncJavacoreTest.class.getName());
+		for (String arg : args) {
+			command.add(arg);
+		}
+
+		ProcessBuilder builder = new ProcessBuilder(command);
+		builder.redirectErrorStream(true);
+		Process child = builder.start();
+		StringBuilder output = new StringBuilder();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(child.getInputStream()));
+		try {
+			for (String line = reader.readLine(); null != line; line = reader.readLine()) {
+				output.append(line).append('\n');
+			}
+		} finally {
+			reader.close();
+		}
+		Assert.assertTrue(child.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS), "child JVM did not stop: " + command);
+		Assert.assertEquals(child.exitValue(), 0, "child JVM failed: " + command + "\n" + output);
+		Assert.assertFalse(output.toString().contains("Error in Java dump"), "dump error: " + output);
+	}
+
+	private static List<String> readLines(File javacore) throws IOException {
+		List<String> lines = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new FileReader(javacore));
+		try {
+			for (String line = reader.readLine(); null != line; line = reader.readLine()) {
+				lines.add(line);
+			}
+		} finally {
+			reader.close();
+		}
+		return lines;
+	}
+
+	private static boolean isComplete(List<String> lines) {
+		return !lines.isEmpty() && lines.get(lines.size() - 1).contains(END_OF_DUMP);
+	}
+
+	/**
+	 * The stack frames of the first entry for the main thread, which is the thread that threw
+	 * the trigger exception.
+	 */
+	private static List<String> mainThreadStack(List<String> lines) {
+		List<String> frames = new ArrayList<String>();
+		boolean inMain = false;
+		for (String line : lines) {
+			if (line.startsWith("3XMTHREADINFO      \"main\"")) {
+				inMain = true;
+			} else if (inMain) {
+				if (line.startsWith("3XMTHREADINFO ") || line.startsWith("0SECTION")) {
+					break;
+				}
+				if (line.startsWith("4XESTACKTRACE")) {
+					frames.add(line.trim());
+				}
+			}
+		}
+		return frames;
+	}
+
+}
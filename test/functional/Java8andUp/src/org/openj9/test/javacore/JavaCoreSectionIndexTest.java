@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.javacore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.dtfj.javacore.parser.j9.JavaCoreSectionIndex;
+
+/**
+ * Test the section index of javacore files. Small mapping windows are used so that
+ * sections and section header lines straddle window boundaries, which is what happens
+ * at every window boundary of a javacore larger than 2GB.
+ */
+@Test(groups = { "level.sanity" })
+public class JavaCoreSectionIndexTest {
+
+	private static final Charset CHARSET = Charset.forName("UTF-8");
+	private static final String[] SECTIONS = { "TITLE", "GPINFO", "ENVINFO", "MEMINFO", "LOCKS", "THREADS", "CLASSES" };
+
+	private File javacore;
+	private String contents;
+
+	@BeforeMethod
+	public void createJavacore() throws IOException {
+		StringBuilder builder = new StringBuilder("NULL           ------------------------------------------------------------------------\n");
+		for (int i = 0; i < SECTIONS.length; i++) {
+			builder.append("0SECTION       ").append(SECTIONS[i]).append(" subcomponent dump routine\n");
+			builder.append("NULL           ===============================\n");
+			/* sections of varying length, so that they start at different positions within the windows */
+			for (int line = 0; line < (i * 37) + 5; line++) {
+				builder.append("1XMLINE        ").append(SECTIONS[i]).append(" line ").append(line).append('\n');
+			}
+		}
+		contents = builder.toString();
+		javacore = File.createTempFile("javacore", ".txt");
+		try (FileOutputStream out = new FileOutputStream(javacore)) {
+			out.write(contents.getBytes(CHARSET));
+		}
+	}
+
+	@AfterMethod
+	public void deleteJavacore() {
+		javacore.delete();
+	}
+
+	public void testSectionOffsets() throws IOException {
+		for (long windowSize : new long[] { 256, 300, 1000, 4096, Long.MAX_VALUE }) {
+			try (RandomAccessFile file = new RandomAccessFile(javacore, "r")) {
+				FileChannel channel = file.getChannel();
+				JavaCoreSectionIndex index = (Long.MAX_VALUE == windowSize)
+						? new JavaCoreSectionIndex(channel, CHARSET)
+						: new JavaCoreSectionIndex(channel, CHARSET, windowSize);
+				List<JavaCoreSectionIndex.Entry> sections = index.getSections();
+				Assert.assertEquals(sections.size(), SECTIONS.length, "window size " + windowSize);
+				for (int i = 0; i < SECTIONS.length; i++) {
+					JavaCoreSectionIndex.Entry entry = sections.get(i);
+					String header = "0SECTION       " + SECTIONS[i];
+					long expectedStart = contents.indexOf(header);
+					long expectedEnd = (i + 1 < SECTIONS.length) ? contents.indexOf("0SECTION       " + SECTIONS[i + 1]) : contents.length();
+					Assert.assertEquals(entry.getName(), SECTIONS[i], "window size " + windowSize);
+					Assert.assertEquals(entry.getStart(), expectedStart, "start of " + SECTIONS[i] + ", window size " + windowSize);
+					Assert.assertEquals(entry.getEnd(), expectedEnd, "end of " + SECTIONS[i] + ", window size " + windowSize);
+				}
+			}
+		}
+	}
+
+	public void testOpenSections() throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(javacore, "r")) {
+			JavaCoreSectionIndex index = new JavaCoreSectionIndex(file.getChannel(), CHARSET, 256);
+			String selected = read(index.openSections(new String[] { "THREADS", "MISSING" }));
+			JavaCoreSectionIndex.Entry title = index.getSection("TITLE");
+			JavaCoreSectionIndex.Entry threads = index.getSection("THREADS");
+			String expected = contents.substring(0, (int) title.getEnd())
+					+ contents.substring((int) threads.getStart(), (int) threads.getEnd());
+			Assert.assertEquals(selected, expected);
+			Assert.assertNull(index.getSection("MISSING"));
+		}
+	}
+
+	private static String read(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[100];
+		for (int count = in.read(buffer); count >= 0; count = in.read(buffer)) {
+			out.write(buffer, 0, count);
+		}
+		return new String(out.toByteArray(), CHARSET);
+	}
+
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.reflect;
+
+import org.testng.annotations.Test;
+import org.testng.Assert;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * The reflection cache shares one set of Method, Field and Constructor objects per class,
+ * every caller must be given its own copies.
+ */
+@Test(groups = { "level.sanity" })
+public class ReflectCacheTests {
+
+	private static void assertCopies(Object[] first, Object[] second) {
+		Assert.assertNotSame(first, second, "cached array returned");
+		Assert.assertEquals(first.length, second.length, "wrong array length");
+		for (int i = 0; i < first.length; i++) {
+			Assert.assertEquals(first[i], second[i], "different member");
+			Assert.assertNotSame(first[i], second[i], "cached member returned");
+		}
+	}
+
+	public void testApplicationClassCopies() {
+		assertCopies(ExampleClass.class.getDeclaredMethods(), ExampleClass.class.getDeclaredMethods());
+		assertCopies(ExampleClass.class.getMethods(), ExampleClass.class.getMethods());
+		assertCopies(ExampleClass.class.getConstructors(), ExampleClass.class.getConstructors());
+	}
+
+	public void testBootstrapClassCopies() {
+		assertCopies(String.class.getDeclaredFields(), String.class.getDeclaredFields());
+		assertCopies(String.class.getMethods(), String.class.getMethods());
+		assertCopies(Thread.class.getDeclaredConstructors(), Thread.class.getDeclaredConstructors());
+	}
+
+	public void testSingleMemberCopies() throws Exception {
+		Method method = ExampleClass.class.getMethod("methodName21", String.class);
+		Assert.assertEquals(method, ExampleClass.class.getMethod("methodName21", String.class), "different method");
+		Assert.assertNotSame(method, ExampleClass.class.getMethod("methodName21", String.class), "cached method returned");
+
+		Field field = Integer.class.getField("MAX_VALUE");
+		Assert.assertNotSame(field, Integer.class.getField("MAX_VALUE"), "cached field returned");
+
+		Constructor<ExampleClass> constructor = ExampleClass.class.getConstructor();
+		Assert.assertNotSame(constructor, ExampleClass.class.getConstructor(), "cached constructor returned");
+	}
+
+	public void testAccessibleNotShared() throws Exception {
+		Method method = ExampleClass.class.getDeclaredMethod("methodName1P");
+		method.setAccessible(true);
+		Assert.assertFalse(ExampleClass.class.getDeclaredMethod("methodName1P").isAccessible(), "accessible flag shared");
+		for (Method each : ExampleClass.class.getDeclaredMethods()) {
+			each.setAccessible(true);
+		}
+		for (Method each : ExampleClass.class.getDeclaredMethods()) {
+			Assert.assertFalse(each.isAccessible(), "accessible flag shared by " + each);
+		}
+	}
+
+}
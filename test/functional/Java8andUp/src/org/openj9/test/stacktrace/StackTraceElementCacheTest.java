@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.stacktrace;
+
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.openj9.test.util.JavaAgent;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Checks the StackTraceElements of exceptions thrown repeatedly from the same site, which
+ * the VM shares between stack traces, including after the throwing class is redefined.
+ */
+@Test(groups = { "level.extended" })
+public class StackTraceElementCacheTest {
+
+	private static final String THROWER_FILE_NAME = "StackTraceThrower.java";
+	private static final String REDEFINED_FILE_NAME = "RedefinedStackTraceThrower.java";
+	private static final int REDEFINED_LINE_OFFSET = 1000;
+	private static final int REPEAT_COUNT = 100;
+
+	private static IllegalStateException throwAt(int site) {
+		try {
+			StackTraceThrower.throwAt(site);
+		} catch (IllegalStateException e) {
+			return e;
+		}
+		throw new AssertionError("StackTraceThrower.throwAt(" + site + ") did not throw");
+	}
+
+	private static void checkThrowerElement(StackTraceElement element, String fileName) {
+		Assert.assertEquals(element.getClassName(), StackTraceThrower.class.getName());
+		Assert.assertEquals(element.getMethodName(), "throwAt");
+		Assert.assertEquals(element.getFileName(), fileName);
+		Assert.assertTrue(element.getLineNumber() > 0, "missing line number in " + element);
+	}
+
+	/**
+	 * Throws repeatedly from a site and checks that every stack trace is the same as the first.
+	 * @param site the throw site
+	 * @param fileName the expected source file name of StackTraceThrower
+	 * @return the first stack trace
+	 */
+	private static StackTraceElement[] checkRepeatedThrows(int site, String fileName) {
+		StackTraceElement[] first = throwAt(site).getStackTrace();
+
+		checkThrowerElement(first[0], fileName);
+		Assert.assertEquals(first[1].getClassName(), StackTraceElementCacheTest.class.getName());
+		Assert.assertEquals(first[1].getMethodName(), "throwAt");
+		for (int i = 0; i < REPEAT_COUNT; i++) {
+			StackTraceElement[] trace = throwAt(site).getStackTrace();
+
+			Assert.assertTrue(Arrays.equals(first, trace), "stack traces differ: " + Arrays.toString(first) + " and " + Arrays.toString(trace));
+			/* the element of the throw site is shared */
+			Assert.assertSame(trace[0], first[0]);
+		}
+		return first;
+	}
+
+	private static byte[] getRedefinedThrowerBytes() throws Exception {
+		ClassReader reader = null;
+		try (InputStream in = StackTraceThrower.class.getResourceAsStream(StackTraceThrower.class.getSimpleName() + ".class")) {
+			reader = new ClassReader(in);
+		}
+		ClassWriter writer = new ClassWriter(0);
+		/* change the source file name and move every line, keeping the code the same */
+		reader.accept(new ClassVisitor(Opcodes.ASM5, writer) {
+			@Override
+			public void visitSource(String source, String debug) {
+				super.visitSource(REDEFINED_FILE_NAME, debug);
+			}
+
+			@Override
+			public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+				return new MethodVisitor(Opcodes.ASM5, super.visitMethod(access, name, desc, signature, exceptions)) {
+					@Override
+					public void visitLineNumber(int line, Label start) {
+						super.visitLineNumber(line + REDEFINED_LINE_OFFSET, start);
+					}
+				};
+			}
+		}, 0);
+		return writer.toByteArray();
+	}
+
+	@Test
+	public void testRepeatedThrows() {
+		StackTraceElement[] site0 = checkRepeatedThrows(0, THROWER_FILE_NAME);
+		StackTraceElement[] site1 = checkRepeatedThrows(1, THROWER_FILE_NAME);
+
+		Assert.assertEquals(site1[0].getLineNumber(), site0[0].getLineNumber() + StackTraceThrower.SITE_DISTANCE);
+		Assert.assertNotEquals(site1[0], site0[0]);
+	}
+
+	@Test(dependsOnMethods = { "testRepeatedThrows" })
+	public void testRedefinedClass() throws Exception {
+		StackTraceElement[] original = checkRepeatedThrows(0, THROWER_FILE_NAME);
+		IllegalStateException thrownBefore = throwAt(0);
+		IllegalStateException thrownBeforeAndPrintedAfter = throwAt(0);
+
+		JavaAgent.redefineClass(StackTraceThrower.class, getRedefinedThrowerBytes());
+
+		/* the exceptions were thrown by the original version of the class */
+		Assert.assertEquals(thrownBefore.getStackTrace()[0], original[0]);
+
+		StackTraceElement[] redefined = checkRepeatedThrows(0, REDEFINED_FILE_NAME);
+		Assert.assertEquals(redefined[0].getLineNumber(), original[0].getLineNumber() + REDEFINED_LINE_OFFSET);
+
+		/* the original version must not pick up the elements or file name of the new version */
+		Assert.assertEquals(thrownBeforeAndPrintedAfter.getStackTrace()[0], original[0]);
+		checkRepeatedThrows(0, REDEFINED_FILE_NAME);
+	}
+}
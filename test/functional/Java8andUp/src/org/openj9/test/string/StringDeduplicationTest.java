@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.string;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openj9.test.util.VersionCheck;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that -XX:+UseStringDeduplication makes equal Strings share their value arrays once
+ * they have aged, under the gencon and balanced GC policies, and that verbose GC reports it.
+ * Each policy is run in a child JVM, with options that make Strings age after few collections.
+ */
+@Test(groups = { "level.extended" })
+@SuppressWarnings("nls")
+public class StringDeduplicationTest {
+
+	private static final long TIMEOUT_SECONDS = 300;
+
+	private static final int PAIRS = 1000;
+
+	private static final int MAX_ROUNDS = 200;
+
+	private static final Pattern VERBOSE_DEDUPLICATED = Pattern.compile("<stringDeduplication candidates=\"\\d+\" deduplicated=\"[1-9]\\d*\" bytesSaved=\"[1-9]\\d*\" />");
+
+	private static final String NOT_SUPPORTED_WARNING = "-XX:+UseStringDeduplication option is only supported";
+
+	/* Kept reachable while the garbage is collected */
+	static String[] strings;
+
+	static Object garbage;
+
+	/**
+	 * The child JVM: create pairs of equal Strings with distinct value arrays and allocate
+	 * garbage until most pairs share a value array. With "start" it only starts up.
+	 */
+	public static void main(String[] args) throws Exception {
+		if ("start".equals(args[0])) {
+			return;
+		}
+		Field valueField = String.class.getDeclaredField("value");
+		valueField.setAccessible(true);
+
+		strings = new String[PAIRS * 2];
+		for (int i = 0; i < PAIRS; i++) {
+			char[] chars = ("deduplicated string " + i).toCharArray();
+			strings[2 * i] = new String(chars);
+			strings[(2 * i) + 1] = new String(chars);
+		}
+		if (countShared(valueField) != 0) {
+			System.out.println("value arrays shared before aging");
+			System.exit(1);
+		}
+
+		for (int round = 0; round < MAX_ROUNDS; round++) {
+			for (int i = 0; i < 16 * 1024; i++) {
+				garbage = new byte[1024];
+			}
+			int shared = countShared(valueField);
+			if (shared >= (PAIRS / 2)) {
+				for (int i = 0; i < PAIRS; i++) {
+					String expected = "deduplicated string " + i;
+					if (!expected.equals(strings[2 * i]) || !expected.equals(strings[(2 * i) + 1])) {
+						System.out.println("wrong value " + strings[2 * i] + ", " + strings[(2 * i) + 1]);
+						System.exit(1);
+					}
+				}
+				System.out.println("shared " + shared + " after " + round + " rounds");
+				return;
+			}
+		}
+		System.out.println("shared " + countShared(valueField) + " of " + PAIRS);
+		System.exit(1);
+	}
+
+	private static int countShared(Field valueField) throws IllegalAccessException {
+		int shared = 0;
+		for (int i = 0; i < PAIRS; i++) {
+			if (valueField.get(strings[2 * i]) == valueField.get(strings[(2 * i) + 1])) {
+				shared += 1;
+			}
+		}
+		return shared;
+	}
+
+	public void testGencon() throws Exception {
+		String output = runChild("deduplicate", "-Xgcpolicy:gencon", "-Xmn4m", "-Xgc:scvNoAdaptiveTenure", "-Xgc:scvTenureAge=1");
+		Assert.assertTrue(VERBOSE_DEDUPLICATED.matcher(output).find(), "no deduplication in verbose GC:\n" + output);
+	}
+
+	public void testBalanced() throws Exception {
+		String output = runChild("deduplicate", "-Xgcpolicy:balanced", "-Xmx256m", "-XXgc:tarokRegionMaxAge=2");
+		Assert.assertTrue(VERBOSE_DEDUPLICATED.matcher(output).find(), "no deduplication in verbose GC:\n" + output);
+	}
+
+	public void testNotSupportedWarning() throws Exception {
+		String output = runChild("start", "-Xgcpolicy:optthruput");
+		Assert.assertTrue(output.contains(NOT_SUPPORTED_WARNING), "no warning:\n" + output);
+		Assert.assertFalse(output.contains("<stringDeduplication"), "deduplication in verbose GC:\n" + output);
+	}
+
+	private static String runChild(String mode, String... options) throws Exception {
+		List<String> command = new ArrayList<String>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		command.add("-XX:+UseStringDeduplication");
+		command.add("-verbose:gc");
+		if (VersionCheck.major() >= 9) {
+			command.add("--add-opens=java.base/java.lang=ALL-UNNAMED");
+		}
+		for (String option : options) {
+			command.add(option);
+		}
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(StringDeduplicationTest.class.getName());
+		command.add(mode);
+
+		ProcessBuilder builder = new ProcessBuilder(command);
+		builder.redirectErrorStream(true);
+		Process child = builder.start();
+		StringBuilder output = new StringBuilder();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(child.getInputStream()));
+		try {
+			for (String line = reader.readLine(); null != line; line = reader.readLine()) {
+				output.append(line).append('\n');
+			}
+		} finally {
+			reader.close();
+		}
+		Assert.assertTrue(child.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS), "child JVM did not stop: " + command);
+		Assert.assertEquals(child.exitValue(), 0, "child JVM failed: " + command + "\n" + output);
+		return output.toString();
+	}
+
+}
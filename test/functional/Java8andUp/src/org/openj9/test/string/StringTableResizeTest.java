@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.string;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+/**
+ * Checks that interned strings stay canonical while the interned string table is
+ * resized, and that the table statistics on the memory MXBean follow the table.
+ *
+ * The test is run with -Xgcthreads1 -XXgc:stringTableContentionThreshold=1, so the
+ * table starts with a single sub-table that is grown at the end of a global GC as
+ * soon as its monitor has been contended for 1% of the enters.
+ */
+@Test(groups = { "level.extended" })
+@SuppressWarnings("nls")
+public class StringTableResizeTest {
+
+	private static final Logger logger = Logger.getLogger(StringTableResizeTest.class);
+
+	private static final int THREAD_COUNT = 16;
+
+	private static final int STRINGS_PER_THREAD = 20_000;
+
+	private static final int MAX_ROUNDS = 20;
+
+	private static long getStringTableAttribute(String name) throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		Object value = server.getAttribute(new ObjectName(ManagementFactory.MEMORY_MXBEAN_NAME), name);
+		return ((Number) value).longValue();
+	}
+
+	/**
+	 * Intern strings unique to this round from many threads at once. They miss the
+	 * interned string cache, so every intern() enters a sub-table monitor.
+	 */
+	private static List<String> internRound(int round) throws InterruptedException {
+		final String[][] interned = new String[THREAD_COUNT][STRINGS_PER_THREAD];
+		final Throwable[] failure = new Throwable[1];
+		Thread[] threads = new Thread[THREAD_COUNT];
+
+		for (int t = 0; t < THREAD_COUNT; ++t) {
+			final String prefix = "resize." + round + "." + t + ".";
+			final String[] results = interned[t];
+
+			threads[t] = new Thread("intern-" + t) {
+				@Override
+				public void run() {
+					try {
+						for (int i = 0; i < STRINGS_PER_THREAD; ++i) {
+							String string = new StringBuilder(prefix).append(i).toString();
+							String result = string.intern();
+
+							if (!string.equals(result)) {
+								throw new AssertionError("interning " + string + " returned " + result);
+							}
+							results[i] = result;
+						}
+					} catch (Throwable e) {
+						synchronized (failure) {
+							failure[0] = e;
+						}
+					}
+				}
+			};
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		synchronized (failure) {
+			if (failure[0] != null) {
+				Assert.fail("intern failure in round " + round, failure[0]);
+			}
+		}
+
+		List<String> strings = new ArrayList<>(THREAD_COUNT * STRINGS_PER_THREAD);
+		for (String[] results : interned) {
+			for (String result : results) {
+				strings.add(result);
+			}
+		}
+		return strings;
+	}
+
+	public void testResize() throws Exception {
+		System.gc();
+		long stripesBefore = getStringTableAttribute("StringTableStripeCount");
+		long resizesBefore = getStringTableAttribute("StringTableResizeCount");
+		long locksBefore = getStringTableAttribute("StringTableLockAcquisitions");
+		List<String> interned = new ArrayList<>();
+		int round = 0;
+
+		do {
+			interned.addAll(internRound(round));
+			round += 1;
+			/* resizing and the statistics are both done at the end of a global GC */
+			System.gc();
+		} while ((getStringTableAttribute("StringTableResizeCount") == resizesBefore) && (round < MAX_ROUNDS));
+
+		long stripes = getStringTableAttribute("StringTableStripeCount");
+		long resizes = getStringTableAttribute("StringTableResizeCount");
+		long size = getStringTableAttribute("StringTableSize");
+		long locks = getStringTableAttribute("StringTableLockAcquisitions");
+		long contended = getStringTableAttribute("StringTableContendedLockAcquisitions");
+		logger.info("after " + round + " rounds: " + stripes + " stripes, " + resizes + " resizes, " + size + " strings, "
+				+ locks + " lock acquisitions, " + contended + " contended");
+
+		Assert.assertTrue(resizes > resizesBefore, "the string table was not resized after " + round + " rounds");
+		Assert.assertTrue(stripes > stripesBefore, "stripe count did not grow from " + stripesBefore);
+		Assert.assertTrue(size >= interned.size(), "table size " + size + " is below the " + interned.size() + " strings held");
+		Assert.assertTrue((locks - locksBefore) >= interned.size(), "fewer lock acquisitions than strings added");
+		Assert.assertTrue(contended <= locks, "more contended lock acquisitions than acquisitions");
+
+		/* every string interned before the resize must still be the canonical instance */
+		for (String string : interned) {
+			Assert.assertSame(new StringBuilder(string).toString().intern(), string, "lost interned string " + string);
+		}
+	}
+
+}
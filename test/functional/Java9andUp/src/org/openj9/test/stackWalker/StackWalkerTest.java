@@ -40,6 +40,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeMethod;
@@ -212,6 +213,28 @@ public class StackWalkerTest {
 		walker.forEach(s1-> {logMessage(s1.getMethodName()+" do recursive walk"); walker.forEach(s2->logMessage(s2.getMethodName()));logMessage("--------------------");});
 	}
 
+	@Test
+	public void testDeepStackWalk() {
+		final int depth = 150; /* deeper than several batches of frames */
+		List<StackFrame> frameList = recurse(depth, () -> StackWalker.getInstance().walk(s -> s.collect(Collectors.toList())));
+		long recurseFrames = frameList.stream().filter(f -> f.getMethodName().equals("recurse")).count();
+		assertEquals(recurseFrames, depth + 1, "wrong number of recurse frames");
+
+		List<StackFrame> topFrames = recurse(depth, () -> StackWalker.getInstance().walk(s -> s.limit(3).collect(Collectors.toList())));
+		assertEquals(topFrames.size(), 3, "wrong number of frames");
+		for (StackFrame f: topFrames) {
+			assertTrue(f.getLineNumber() > 0, "missing line number for " + f.getMethodName());
+			assertEquals(f.toStackTraceElement().getLineNumber(), f.getLineNumber(), "wrong StackTraceElement line number");
+		}
+	}
+
+	private static List<StackFrame> recurse(int depth, Supplier<List<StackFrame>> walk) {
+		if (depth > 0) {
+			return recurse(depth - 1, walk);
+		}
+		return walk.get();
+	}
+
 	static class CallerClassTester {
 		static Class<?> doGetCallerClass() {
 			return StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE).getCallerClass();
@@ -1721,6 +1721,32 @@ public class ByteBufferViewVarHandleTests extends ViewVarHandleTests {
 		Assert.assertEquals((byte)40, buffer.get(3));
 	}
 	
+	/**
+	 * Repeatedly read and write every long and int element of the {@link ByteBuffer} and of a slice of it,
+	 * so that the accessors are compiled. Expect the same values as the {@link ByteBuffer} accessors.
+	 */
+	@Test
+	public void testRepeatedAccess() {
+		ByteBufferViewHelper.reset();
+		_buffer.mark();
+		_buffer.position(1);
+		ByteBuffer bufferSlice = _buffer.slice().order(_byteOrder);
+		_buffer.reset();
+		ByteBuffer orderedBuffer = _buffer.duplicate().order(_byteOrder);
+		
+		for (int iteration = 0; iteration < 10000; iteration++) {
+			for (int i = 0; i <= (orderedBuffer.limit() - Long.BYTES); i++) {
+				long value = orderedBuffer.getLong(i);
+				vhLong.set(_buffer, i, ~value);
+				Assert.assertEquals((long)vhLong.get(_buffer, i), ~value);
+				vhLong.set(_buffer, i, value);
+			}
+			for (int i = 0; i <= (bufferSlice.limit() - Integer.BYTES); i++) {
+				Assert.assertEquals((int)vhInt.get(bufferSlice, i), bufferSlice.getInt(i));
+			}
+		}
+	}
+	
 	/**
 	 * Perform all the operations available on a ByteBufferViewVarHandle viewed as int elements.
 	 * Use a <b>read-only</b> {@link ByteBuffer}.
@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks which JITServer clients share the bodies of the JITServer AOT cache.
+ *
+ * A JITServer is started with the AOT cache enabled, then two clients run
+ * AOTCacheWorkload one after the other with every method AOT compiled by the
+ * server. Both must compute the right result. The scenario is selected by the
+ * first argument:
+ * <ul>
+ * <li>layouts: the shared class caches of the clients have the same size, but the
+ * classes were loaded in a different order. The second client must not be
+ * answered from the AOT cache.</li>
+ * <li>identical: the shared class cache of the second client is a copy of the
+ * cache of the first client, taken before the first client ran. The second
+ * client must be answered from the AOT cache.</li>
+ * </ul>
+ */
+public class AOTCacheTest {
+
+	private static final String CACHE_SIZE = "-Xscmx16m";
+
+	private static final String[] CLIENT_OPTIONS = { "-Xaot:forceAoT,count=0" };
+
+	private static String javaHome = System.getProperty("java.home");
+
+	private static String findExecutable(String name) {
+		File executable = new File(javaHome, "bin" + File.separator + name);
+		if (!executable.exists()) {
+			/* Java 8: java.home is the jre directory */
+			executable = new File(new File(javaHome).getParentFile(), "bin" + File.separator + name);
+		}
+		return executable.getPath();
+	}
+
+	private static List<String> startOutput(final Process process) {
+		final List<String> lines = new ArrayList<String>();
+		Thread reader = new Thread(new Runnable() {
+			public void run() {
+				try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+					for (String line; (line = in.readLine()) != null;) {
+						synchronized (lines) {
+							lines.add(line);
+							lines.notifyAll();
+						}
+					}
+				} catch (IOException e) {
+					// the process was destroyed
+				}
+			}
+		});
+		reader.setDaemon(true);
+		reader.start();
+		return lines;
+	}
+
+	private static boolean contains(List<String> lines, String text) {
+		synchronized (lines) {
+			for (String line : lines) {
+				if (line.contains(text)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static void waitFor(List<String> lines, String text, long timeoutMillis) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		synchronized (lines) {
+			while (!contains(lines, text)) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					throw new IllegalStateException("timed out waiting for \"" + text + "\"");
+				}
+				lines.wait(remaining);
+			}
+		}
+	}
+
+	private static List<String> run(List<String> command) throws IOException, InterruptedException {
+		System.out.println("Running " + command);
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		List<String> output = startOutput(process);
+		if (!process.waitFor(5, TimeUnit.MINUTES)) {
+			process.destroy();
+			throw new IllegalStateException("timed out running " + command);
+		}
+		/* let the reader drain the output */
+		Thread.sleep(100);
+		synchronized (output) {
+			for (String line : output) {
+				System.out.println("  " + line);
+			}
+		}
+		if (process.exitValue() != 0) {
+			throw new IllegalStateException("exit value " + process.exitValue() + " from " + command);
+		}
+		return output;
+	}
+
+	private static List<String> java(String cacheDir, String cacheName, String... options) {
+		List<String> command = new ArrayList<String>();
+		command.add(findExecutable("java"));
+		command.add("-Xshareclasses:cacheDir=" + cacheDir + ",name=" + cacheName);
+		command.add(CACHE_SIZE);
+		command.addAll(Arrays.asList(options));
+		return command;
+	}
+
+	private static List<String> workload(List<String> command, String layout) {
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add("AOTCacheWorkload");
+		command.add(layout);
+		return command;
+	}
+
+	private static void copyFiles(File fromDir, File toDir) throws IOException {
+		for (File file : fromDir.listFiles()) {
+			if (file.isFile()) {
+				Files.copy(file.toPath(), new File(toDir, file.getName()).toPath());
+			}
+		}
+	}
+
+	private static void deleteTree(File file) {
+		File[] files = file.listFiles();
+		if (files != null) {
+			for (File child : files) {
+				deleteTree(child);
+			}
+		}
+		file.delete();
+	}
+
+	private static List<String> runClient(File cacheDir, String cacheName, String layout, int port, String expected) throws Exception {
+		List<String> command = java(cacheDir.getPath(), cacheName, "-XX:+UseJITServer", "-XX:JITServerPort=" + port);
+		command.addAll(Arrays.asList(CLIENT_OPTIONS));
+		List<String> output = run(workload(command, layout));
+		if (!contains(output, expected)) {
+			throw new IllegalStateException("client of " + cacheDir + " " + cacheName + ": expected " + expected);
+		}
+		return output;
+	}
+
+	private static void runDifferentLayouts(File cacheDir, int port, String expected, List<String> serverOutput) throws Exception {
+		for (String layout : new String[] { "A", "B" }) {
+			/* store the classes only, in the order given by the layout */
+			run(workload(java(cacheDir.getPath(), "jitserverAOT" + layout, "-Xint"), layout));
+		}
+		for (String layout : new String[] { "A", "B" }) {
+			runClient(cacheDir, "jitserverAOT" + layout, layout, port, expected);
+		}
+
+		if (!contains(serverOutput, "stored AOT body of")) {
+			throw new IllegalStateException("the first client did not populate the AOT cache");
+		}
+		if (contains(serverOutput, "from the AOT cache")) {
+			throw new IllegalStateException("a client with a different shared cache layout was answered from the AOT cache");
+		}
+	}
+
+	private static void runIdenticalClients(File cacheDir, int port, String expected, List<String> serverOutput) throws Exception {
+		/* the caches have the same name in different directories, so the copy is identical */
+		File firstDir = new File(cacheDir, "first");
+		File secondDir = new File(cacheDir, "second");
+		firstDir.mkdir();
+		secondDir.mkdir();
+		run(workload(java(firstDir.getPath(), "jitserverAOT", "-Xint"), "A"));
+		copyFiles(firstDir, secondDir);
+
+		runClient(firstDir, "jitserverAOT", "A", port, expected);
+		if (!contains(serverOutput, "stored AOT body of")) {
+			throw new IllegalStateException("the first client did not populate the AOT cache");
+		}
+		if (contains(serverOutput, "from the AOT cache")) {
+			throw new IllegalStateException("the first client was answered from the AOT cache");
+		}
+
+		runClient(secondDir, "jitserverAOT", "A", port, expected);
+		if (!contains(serverOutput, "from the AOT cache")) {
+			throw new IllegalStateException("the second client was not answered from the AOT cache");
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		String scenario = args[0];
+		String expected = "RESULT " + AOTCacheWorkload.run();
+		File cacheDir = File.createTempFile("jitserverAOTCache", "");
+		cacheDir.delete();
+		cacheDir.mkdir();
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+
+		ProcessBuilder serverBuilder = new ProcessBuilder(findExecutable("jitserver"),
+				"-XX:JITServerPort=" + port, "-Xjit:verbose={JITServer}").redirectErrorStream(true);
+		serverBuilder.environment().put("TR_EnableJITServerAOTCache", "1");
+		Process server = serverBuilder.start();
+		List<String> serverOutput = startOutput(server);
+		boolean passed = false;
+		try {
+			waitFor(serverOutput, "Started JITServer listener thread", TimeUnit.MINUTES.toMillis(2));
+
+			if ("layouts".equals(scenario)) {
+				runDifferentLayouts(cacheDir, port, expected, serverOutput);
+			} else if ("identical".equals(scenario)) {
+				runIdenticalClients(cacheDir, port, expected, serverOutput);
+			} else {
+				throw new IllegalArgumentException("unknown scenario " + scenario);
+			}
+			passed = true;
+		} finally {
+			server.destroy();
+			server.waitFor();
+			synchronized (serverOutput) {
+				for (String line : serverOutput) {
+					System.out.println("server: " + line);
+				}
+			}
+			for (File dir : new File[] { cacheDir, new File(cacheDir, "first"), new File(cacheDir, "second") }) {
+				if (dir.isDirectory()) {
+					try {
+						run(Arrays.asList(findExecutable("java"), "-Xshareclasses:cacheDir=" + dir.getPath() + ",destroyAll"));
+					} catch (IllegalStateException e) {
+						/* destroyAll exits with a non-zero value */
+					}
+				}
+			}
+			deleteTree(cacheDir);
+			System.out.println(passed ? "TEST PASSED" : "TEST FAILED");
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+/**
+ * The program run by the JITServer clients. The first argument selects the
+ * classes loaded before the workload, and so the layout of the shared class cache.
+ */
+public class AOTCacheWorkload {
+
+	static class PaddingA1 {
+	}
+
+	static class PaddingA2 {
+	}
+
+	static class PaddingA3 {
+	}
+
+	static class PaddingB1 {
+	}
+
+	static long compute(int count) {
+		long sum = 0;
+		for (int i = 0; i < count; i++) {
+			sum += (i * 31L) ^ (sum >>> 7);
+		}
+		return sum;
+	}
+
+	static long run() {
+		long result = 0;
+		for (int i = 0; i < 2000; i++) {
+			result ^= compute(1000 + (i % 10));
+		}
+		return result;
+	}
+
+	public static void main(String[] args) throws ClassNotFoundException {
+		if ("A".equals(args[0])) {
+			Class.forName("AOTCacheWorkload$PaddingA1");
+			Class.forName("AOTCacheWorkload$PaddingA2");
+			Class.forName("AOTCacheWorkload$PaddingA3");
+		} else {
+			Class.forName("AOTCacheWorkload$PaddingB1");
+		}
+		System.out.println("RESULT " + run());
+	}
+}
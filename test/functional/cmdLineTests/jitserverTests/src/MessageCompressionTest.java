@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a JITServer client against a JITServer with TR_JITServerCompressMessages
+ * set on both sides, and checks the message statistics the client prints at
+ * shutdown with TR_PrintJITServerMsgStats:
+ * <ul>
+ * <li>the traffic is reported as compressed;</li>
+ * <li>the CHTable updates and the VM info of the first request were fetched
+ * in one batchedQueries exchange;</li>
+ * <li>the bytes of the compilation requests and of the compiled code were
+ * counted under their own message types.</li>
+ * </ul>
+ */
+public class MessageCompressionTest {
+
+	private static String javaHome = System.getProperty("java.home");
+
+	private static String findExecutable(String name) {
+		File executable = new File(javaHome, "bin" + File.separator + name);
+		if (!executable.exists()) {
+			/* Java 8: java.home is the jre directory */
+			executable = new File(new File(javaHome).getParentFile(), "bin" + File.separator + name);
+		}
+		return executable.getPath();
+	}
+
+	private static List<String> startOutput(final Process process) {
+		final List<String> lines = new ArrayList<String>();
+		Thread reader = new Thread(new Runnable() {
+			public void run() {
+				try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+					for (String line; (line = in.readLine()) != null;) {
+						synchronized (lines) {
+							lines.add(line);
+							lines.notifyAll();
+						}
+					}
+				} catch (IOException e) {
+					// the process was destroyed
+				}
+			}
+		});
+		reader.setDaemon(true);
+		reader.start();
+		return lines;
+	}
+
+	private static boolean contains(List<String> lines, String text) {
+		synchronized (lines) {
+			for (String line : lines) {
+				if (line.contains(text)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static void waitFor(List<String> lines, String text, long timeoutMillis) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		synchronized (lines) {
+			while (!contains(lines, text)) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					throw new IllegalStateException("timed out waiting for \"" + text + "\"");
+				}
+				lines.wait(remaining);
+			}
+		}
+	}
+
+	/**
+	 * Find the row of a message type in the traffic statistics, formatted as
+	 * "#type bytesSent bytesReceived roundTrips avgLatency typeName".
+	 *
+	 * @return the bytes sent and received for the type, or null if the type has no row
+	 */
+	private static long[] traffic(List<String> lines, String typeName) {
+		boolean inTraffic = false;
+		for (String line : lines) {
+			if (line.startsWith("JITServer Message Traffic Statistics")) {
+				inTraffic = true;
+			} else if (inTraffic && line.startsWith("#")) {
+				String[] fields = line.trim().split("\\s+");
+				if ((fields.length == 6) && fields[5].equals(typeName)) {
+					return new long[] { Long.parseLong(fields[1]), Long.parseLong(fields[2]) };
+				}
+			}
+		}
+		return null;
+	}
+
+	private static void checkTraffic(List<String> lines, String typeName, boolean sent, boolean received) {
+		long[] bytes = traffic(lines, typeName);
+		if (bytes == null) {
+			throw new IllegalStateException("no traffic statistics for " + typeName);
+		}
+		if ((sent && (bytes[0] <= 0)) || (received && (bytes[1] <= 0))) {
+			throw new IllegalStateException("unexpected traffic for " + typeName + ": sent " + bytes[0] + ", received " + bytes[1]);
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		String expected = "RESULT " + AOTCacheWorkload.run();
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+
+		ProcessBuilder serverBuilder = new ProcessBuilder(findExecutable("jitserver"), "-XX:JITServerPort=" + port,
+				"-Xjit:verbose={JITServer}").redirectErrorStream(true);
+		serverBuilder.environment().put("TR_JITServerCompressMessages", "1");
+		Process server = serverBuilder.start();
+		List<String> serverOutput = startOutput(server);
+		boolean passed = false;
+		try {
+			waitFor(serverOutput, "Started JITServer listener thread", TimeUnit.MINUTES.toMillis(2));
+
+			ProcessBuilder clientBuilder = new ProcessBuilder(findExecutable("java"), "-XX:+UseJITServer",
+					"-XX:JITServerPort=" + port, "-Xjit:count=0", "-cp", System.getProperty("java.class.path"),
+					"AOTCacheWorkload", "A").redirectErrorStream(true);
+			clientBuilder.environment().put("TR_JITServerCompressMessages", "1");
+			clientBuilder.environment().put("TR_PrintJITServerMsgStats", "1");
+			System.out.println("Running " + clientBuilder.command());
+			Process client = clientBuilder.start();
+			List<String> clientOutput = startOutput(client);
+			if (!client.waitFor(5, TimeUnit.MINUTES)) {
+				client.destroy();
+				throw new IllegalStateException("timed out running the client");
+			}
+			/* let the reader drain the output */
+			Thread.sleep(100);
+			synchronized (clientOutput) {
+				for (String line : clientOutput) {
+					System.out.println("  " + line);
+				}
+				if (client.exitValue() != 0) {
+					throw new IllegalStateException("exit value " + client.exitValue() + " from the client");
+				}
+				if (!contains(clientOutput, expected)) {
+					throw new IllegalStateException("the client did not print " + expected);
+				}
+				if (!contains(clientOutput, "JITServer Message Traffic Statistics (compressed):")) {
+					throw new IllegalStateException("the client did not report compressed traffic");
+				}
+				/* the client receives the batch of queries and sends all the answers back at once */
+				checkTraffic(clientOutput, "batchedQueries", true, true);
+				checkTraffic(clientOutput, "compilationRequest", true, false);
+				checkTraffic(clientOutput, "compilationCode", false, true);
+			}
+			passed = true;
+		} finally {
+			server.destroy();
+			server.waitFor();
+			synchronized (serverOutput) {
+				for (String line : serverOutput) {
+					System.out.println("server: " + line);
+				}
+			}
+			System.out.println(passed ? "TEST PASSED" : "TEST FAILED");
+		}
+	}
+}